@@ -16,9 +16,12 @@
 
 package com.epam.ta.reportportal.auth;
 
+import com.epam.ta.reportportal.auth.TokenAuthenticationCache.CachedToken;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.dao.OAuth2AccessTokenRepository;
 import com.epam.ta.reportportal.entity.user.StoredAccessToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.oauth2.common.OAuth2AccessToken;
@@ -30,6 +33,8 @@ import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.Nullable;
+
 /**
  * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
  */
@@ -37,12 +42,26 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class CombinedTokenStore extends JwtTokenStore {
 
+	private static final String READ_TIMER = "rp.auth.token.read";
+	private static final String CACHE_TAG = "cache";
+	private static final String HIT = "hit";
+	private static final String MISS = "miss";
+
 	@Autowired
 	private OAuth2AccessTokenRepository oAuth2AccessTokenRepository;
 
 	@Autowired
 	private UserDetailsService userDetailsService;
 
+	@Autowired
+	private TokenAuthenticationCache tokenAuthenticationCache;
+
+	@Autowired
+	private TokenSnapshotMigration tokenSnapshotMigration;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Autowired
 	public CombinedTokenStore(JwtAccessTokenConverter jwtTokenEnhancer) {
 		super(jwtTokenEnhancer);
@@ -62,13 +81,11 @@ public class CombinedTokenStore extends JwtTokenStore {
 		try {
 			return super.readAuthentication(tokenId);
 		} catch (InvalidTokenException e) {
-			StoredAccessToken accessToken = oAuth2AccessTokenRepository.findByTokenId(tokenId);
-			ReportPortalUser userDetails = (ReportPortalUser) userDetailsService.loadUserByUsername(accessToken.getUserName());
-			OAuth2Authentication authentication = SerializationUtils.deserialize(accessToken.getAuthentication());
-			ReportPortalUser reportPortalUser = (ReportPortalUser) authentication.getPrincipal();
-			reportPortalUser.setProjectDetails(userDetails.getProjectDetails());
-			reportPortalUser.setUserRole(userDetails.getUserRole());
-			return authentication;
+			CachedToken token = getStoredToken(tokenId);
+			if (token == null) {
+				throw e;
+			}
+			return token.getAuthentication();
 		}
 	}
 
@@ -77,11 +94,67 @@ public class CombinedTokenStore extends JwtTokenStore {
 		try {
 			return super.readAccessToken(tokenValue);
 		} catch (InvalidTokenException e) {
-			StoredAccessToken token = oAuth2AccessTokenRepository.findByTokenId(tokenValue);
+			CachedToken token = getStoredToken(tokenValue);
 			if (token == null) {
 				return null; //let spring security handle the invalid token
 			}
-			return SerializationUtils.deserialize(token.getToken());
+			return token.getAccessToken();
+		}
+	}
+
+	@Override
+	public void removeAccessToken(OAuth2AccessToken token) {
+		tokenAuthenticationCache.evict(token.getValue());
+		super.removeAccessToken(token);
+	}
+
+	/**
+	 * Resolves the API token with the actual role and project details of its user, resolved tokens are cached
+	 * by {@link TokenAuthenticationCache}, so the token and user aren't loaded and deserialized on every request.
+	 * Tokens stored as {@link TokenSnapshot} are read without Java deserialization
+	 *
+	 * @param tokenId Token value
+	 * @return {@link CachedToken} or 'null' if there is no such token
+	 */
+	@Nullable
+	private CachedToken getStoredToken(String tokenId) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		CachedToken token = tokenAuthenticationCache.get(tokenId);
+		String cache = HIT;
+		if (token == null) {
+			cache = MISS;
+			token = loadStoredToken(tokenId);
+		}
+		sample.stop(meterRegistry.timer(READ_TIMER, CACHE_TAG, cache));
+		return token;
+	}
+
+	@Nullable
+	private CachedToken loadStoredToken(String tokenId) {
+		long loadVersion = tokenAuthenticationCache.version();
+		StoredAccessToken accessToken = oAuth2AccessTokenRepository.findByTokenId(tokenId);
+		if (accessToken == null) {
+			return null;
+		}
+		ReportPortalUser userDetails = (ReportPortalUser) userDetailsService.loadUserByUsername(accessToken.getUserName());
+		CachedToken token;
+		if (TokenSnapshotCodec.isSnapshot(accessToken.getAuthentication())) {
+			token = TokenSnapshotCodec.toCachedToken(tokenId, TokenSnapshotCodec.decode(accessToken.getAuthentication()), userDetails);
+		} else {
+			OAuth2Authentication authentication = SerializationUtils.deserialize(accessToken.getAuthentication());
+			ReportPortalUser reportPortalUser = (ReportPortalUser) authentication.getPrincipal();
+			reportPortalUser.setProjectDetails(userDetails.getProjectDetails());
+			reportPortalUser.setUserRole(userDetails.getUserRole());
+
+			token = new CachedToken(SerializationUtils.deserialize(accessToken.getToken()), authentication);
+			if (tokenSnapshotMigration.isEnabled()) {
+				tokenSnapshotMigration.migrate(tokenId,
+						accessToken.getAuthentication(),
+						TokenSnapshotCodec.toSnapshot(token.getAccessToken(), authentication)
+				);
+			}
 		}
+		tokenAuthenticationCache.put(tokenId, token, loadVersion);
+		return token;
 	}
 }
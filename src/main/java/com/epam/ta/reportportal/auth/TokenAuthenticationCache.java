@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.auth;
+
+import com.epam.ta.reportportal.auth.event.UserAccessChangedEvent;
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Resolved authentications of the API tokens stored in the database: token id -> access token and authentication
+ * with the actual role and project details of the user.
+ * <p>
+ * Entries expire shortly, so the token revoked by another service stops working in at most the TTL,
+ * and are evicted right away when the token is removed by this service or the access of its user is changed.
+ * A token loaded concurrently with an eviction is not cached, see {@link #put(String, CachedToken, long)}.
+ */
+@Component
+public class TokenAuthenticationCache {
+
+	private final Cache<String, CachedToken> cache;
+
+	/**
+	 * Incremented on each eviction
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	@Autowired
+	public TokenAuthenticationCache(@Value("${rp.auth.token.cache.size:10000}") long maximumSize,
+			@Value("${rp.auth.token.cache.ttl:30}") long ttlSeconds) {
+		this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build();
+	}
+
+	@Nullable
+	public CachedToken get(String tokenId) {
+		return cache.getIfPresent(tokenId);
+	}
+
+	/**
+	 * @return Current version, taken before the token is loaded and passed to {@link #put(String, CachedToken, long)}
+	 */
+	public long version() {
+		return version.get();
+	}
+
+	/**
+	 * The version is incremented before the eviction, so a token loaded before the eviction is either removed by it
+	 * or dropped here
+	 *
+	 * @param tokenId     Token value
+	 * @param token       {@link CachedToken}
+	 * @param loadVersion {@link #version()} taken before the token was loaded
+	 */
+	public void put(String tokenId, CachedToken token, long loadVersion) {
+		cache.put(tokenId, token);
+		if (version.get() != loadVersion) {
+			cache.invalidate(tokenId);
+		}
+	}
+
+	public void evict(String tokenId) {
+		version.incrementAndGet();
+		cache.invalidate(tokenId);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserAccessChanged(UserAccessChangedEvent event) {
+		Set<String> logins = event.getLogins().stream().filter(Objects::nonNull).map(String::toLowerCase).collect(Collectors.toSet());
+		version.incrementAndGet();
+		cache.asMap().values().removeIf(token -> logins.contains(token.login));
+	}
+
+	public static class CachedToken {
+
+		private final String login;
+
+		private final OAuth2AccessToken accessToken;
+
+		private final OAuth2Authentication authentication;
+
+		public CachedToken(OAuth2AccessToken accessToken, OAuth2Authentication authentication) {
+			this.login = ((ReportPortalUser) authentication.getPrincipal()).getUsername().toLowerCase();
+			this.accessToken = accessToken;
+			this.authentication = authentication;
+		}
+
+		public OAuth2AccessToken getAccessToken() {
+			return accessToken;
+		}
+
+		/**
+		 * Spring Security sets request details to the authentication, so a new instance
+		 * sharing the immutable request and user authentication is returned on every call
+		 *
+		 * @return {@link OAuth2Authentication}
+		 */
+		public OAuth2Authentication getAuthentication() {
+			return new OAuth2Authentication(authentication.getOAuth2Request(), authentication.getUserAuthentication());
+		}
+	}
+}
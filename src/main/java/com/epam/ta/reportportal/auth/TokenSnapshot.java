@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.auth;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Set;
+
+/**
+ * Compact snapshot of the stored API token: identity of the user and the client details of the token.
+ * Stored as JSON instead of the Java-serialized authentication, see {@link TokenSnapshotCodec}.
+ * Role and project memberships aren't stored, they are loaded with the user on each read of the token,
+ * so a snapshot can't grant more access than the user actually has.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenSnapshot {
+
+	@JsonProperty("v")
+	private int version;
+
+	@JsonProperty
+	private Long userId;
+
+	@JsonProperty
+	private String login;
+
+	@JsonProperty
+	private String clientId;
+
+	@JsonProperty
+	private Set<String> scopes;
+
+	@JsonProperty
+	private Long expiration;
+
+	public int getVersion() {
+		return version;
+	}
+
+	public void setVersion(int version) {
+		this.version = version;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public String getLogin() {
+		return login;
+	}
+
+	public void setLogin(String login) {
+		this.login = login;
+	}
+
+	public String getClientId() {
+		return clientId;
+	}
+
+	public void setClientId(String clientId) {
+		this.clientId = clientId;
+	}
+
+	public Set<String> getScopes() {
+		return scopes;
+	}
+
+	public void setScopes(Set<String> scopes) {
+		this.scopes = scopes;
+	}
+
+	public Long getExpiration() {
+		return expiration;
+	}
+
+	public void setExpiration(Long expiration) {
+		this.expiration = expiration;
+	}
+}
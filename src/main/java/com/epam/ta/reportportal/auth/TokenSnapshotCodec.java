@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.auth;
+
+import com.epam.ta.reportportal.auth.TokenAuthenticationCache.CachedToken;
+import com.epam.ta.reportportal.auth.util.AuthUtils;
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.*;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Reads and writes {@link TokenSnapshot} of the stored API token.
+ * <p>
+ * Snapshot is a JSON object, so it's told apart from the Java-serialized authentication of the legacy tokens
+ * (which starts with the serialization stream magic) by the first byte.
+ */
+public final class TokenSnapshotCodec {
+
+	/**
+	 * Version 1 snapshots also held the role and memberships of the user, they are ignored on read
+	 */
+	static final int VERSION = 2;
+
+	/**
+	 * Own mapper, so the stored format doesn't depend on the configuration of the REST API mapper
+	 */
+	private static final ObjectMapper MAPPER = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+	private TokenSnapshotCodec() {
+		//statics only
+	}
+
+	public static boolean isSnapshot(@Nullable byte[] data) {
+		return data != null && data.length > 0 && data[0] == '{';
+	}
+
+	public static byte[] encode(TokenSnapshot snapshot) {
+		try {
+			return MAPPER.writeValueAsBytes(snapshot);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Unable to write token snapshot", e);
+		}
+	}
+
+	public static TokenSnapshot decode(byte[] data) {
+		TokenSnapshot snapshot;
+		try {
+			snapshot = MAPPER.readValue(data, TokenSnapshot.class);
+		} catch (IOException e) {
+			throw new InvalidTokenException("Unable to read token snapshot", e);
+		}
+		if (snapshot.getVersion() > VERSION) {
+			throw new InvalidTokenException("Unsupported token snapshot version: " + snapshot.getVersion());
+		}
+		return snapshot;
+	}
+
+	/**
+	 * @param accessToken    Access token of the legacy stored token
+	 * @param authentication Authentication of the legacy stored token
+	 * @return {@link TokenSnapshot}
+	 */
+	public static TokenSnapshot toSnapshot(OAuth2AccessToken accessToken, OAuth2Authentication authentication) {
+		ReportPortalUser user = (ReportPortalUser) authentication.getPrincipal();
+		TokenSnapshot snapshot = new TokenSnapshot();
+		snapshot.setVersion(VERSION);
+		snapshot.setUserId(user.getUserId());
+		snapshot.setLogin(user.getUsername());
+		snapshot.setClientId(authentication.getOAuth2Request().getClientId());
+		snapshot.setScopes(accessToken.getScope());
+		snapshot.setExpiration(ofNullable(accessToken.getExpiration()).map(Date::getTime).orElse(null));
+		return snapshot;
+	}
+
+	/**
+	 * Restores the access token and the authentication of the stored token from the snapshot
+	 *
+	 * @param tokenValue Value of the stored token
+	 * @param snapshot   {@link TokenSnapshot}
+	 * @param user       Actual {@link ReportPortalUser} loaded by the login of the snapshot
+	 * @return {@link CachedToken}
+	 */
+	public static CachedToken toCachedToken(String tokenValue, TokenSnapshot snapshot, ReportPortalUser user) {
+		if (!Objects.equals(snapshot.getUserId(), user.getUserId())) {
+			throw new InvalidTokenException("Token owner doesn't match the user: " + snapshot.getLogin());
+		}
+		List<GrantedAuthority> authorities = AuthUtils.AS_AUTHORITIES.apply(user.getUserRole());
+
+		ReportPortalUser principal = ReportPortalUser.userBuilder()
+				.withUserName(user.getUsername())
+				.withPassword("")
+				.withAuthorities(authorities)
+				.withUserId(user.getUserId())
+				.withEmail(user.getEmail())
+				.withUserRole(user.getUserRole())
+				.withProjectDetails(user.getProjectDetails())
+				.build();
+
+		Set<String> scopes = ofNullable(snapshot.getScopes()).orElseGet(Collections::emptySet);
+		OAuth2Request request = new OAuth2Request(Collections.emptyMap(),
+				snapshot.getClientId(),
+				authorities,
+				true,
+				scopes,
+				Collections.emptySet(),
+				null,
+				Collections.emptySet(),
+				Collections.emptyMap()
+		);
+
+		DefaultOAuth2AccessToken accessToken = new DefaultOAuth2AccessToken(tokenValue);
+		accessToken.setScope(scopes);
+		ofNullable(snapshot.getExpiration()).map(Date::new).ifPresent(accessToken::setExpiration);
+
+		return new CachedToken(accessToken,
+				new OAuth2Authentication(request, new UsernamePasswordAuthenticationToken(principal, null, authorities))
+		);
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Migration of the stored API tokens from the Java-serialized authentication to {@link TokenSnapshot}.
+ * <p>
+ * Legacy tokens are rewritten on the first read when 'rp.auth.token.snapshot.migrate' is enabled.
+ * It's disabled by default: enable it once every service reading the tokens storage understands the snapshot format.
+ */
+@Component
+public class TokenSnapshotMigration {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TokenSnapshotMigration.class);
+
+	private static final String UPDATE_AUTHENTICATION = "UPDATE oauth_access_token SET authentication = :authentication "
+			+ "WHERE token_id = :tokenId AND authentication = :legacyAuthentication";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final boolean enabled;
+
+	@Autowired
+	public TokenSnapshotMigration(NamedParameterJdbcTemplate jdbcTemplate,
+			@Value("${rp.auth.token.snapshot.migrate:false}") boolean enabled) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Replaces the Java-serialized authentication of the token with the snapshot, only if the stored authentication
+	 * is still the one the snapshot was made of, so a token rewritten or reissued meanwhile is kept as is.
+	 * Failure doesn't affect authentication, the token is migrated on the next read then.
+	 *
+	 * @param tokenId              Token value
+	 * @param legacyAuthentication Java-serialized authentication the snapshot was made of
+	 * @param snapshot             {@link TokenSnapshot} of the token
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void migrate(String tokenId, byte[] legacyAuthentication, TokenSnapshot snapshot) {
+		try {
+			jdbcTemplate.update(UPDATE_AUTHENTICATION,
+					new MapSqlParameterSource("authentication", TokenSnapshotCodec.encode(snapshot)).addValue("tokenId", tokenId)
+							.addValue("legacyAuthentication", legacyAuthentication)
+			);
+		} catch (RuntimeException e) {
+			LOGGER.warn("Unable to migrate stored token of user '{}'", snapshot.getLogin(), e);
+		}
+	}
+}
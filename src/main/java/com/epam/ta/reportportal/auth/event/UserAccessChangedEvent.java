@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.auth.event;
+
+import com.google.common.collect.Sets;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Role or project membership of the users has been changed, so their cached authentications are stale
+ */
+public class UserAccessChangedEvent {
+
+	private final Set<String> logins;
+
+	public UserAccessChangedEvent(Collection<String> logins) {
+		this.logins = Sets.newHashSet(logins);
+	}
+
+	public UserAccessChangedEvent(String login) {
+		this(Collections.singleton(login));
+	}
+
+	public Set<String> getLogins() {
+		return logins;
+	}
+}
@@ -24,6 +24,8 @@ import com.epam.ta.reportportal.ws.model.analyzer.AnalyzedItemRs;
 import com.epam.ta.reportportal.ws.model.analyzer.IndexLaunch;
 import com.epam.ta.reportportal.ws.model.analyzer.SearchRq;
 import com.rabbitmq.http.client.domain.ExchangeInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -32,8 +34,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.*;
+import static com.epam.ta.reportportal.core.configs.MetricsConfiguration.*;
 import static java.util.stream.Collectors.toList;
 
 @Service
@@ -46,11 +50,14 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
 
 	private final RabbitTemplate rabbitTemplate;
 
+	private final MeterRegistry meterRegistry;
+
 	@Autowired
 	public AnalyzerServiceClientImpl(RabbitMqManagementClient rabbitMqManagementClient,
-			@Qualifier("analyzerRabbitTemplate") RabbitTemplate rabbitTemplate) {
+			@Qualifier("analyzerRabbitTemplate") RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry) {
 		this.rabbitMqManagementClient = rabbitMqManagementClient;
 		this.rabbitTemplate = rabbitTemplate;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@Override
@@ -82,27 +89,47 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
 			);
 		}
 		ExchangeInfo prioritizedExchange = Collections.min(analyzerExchanges, Comparator.comparingInt(EXCHANGE_PRIORITY));
-		return rabbitTemplate.convertSendAndReceiveAsType(prioritizedExchange.getName(),
+		return timed(prioritizedExchange, SEARCH_ROUTE, () -> rabbitTemplate.convertSendAndReceiveAsType(prioritizedExchange.getName(),
 				SEARCH_ROUTE,
 				rq,
 				new ParameterizedTypeReference<List<Long>>() {
 				}
-		);
+		));
 	}
 
 	private void analyze(IndexLaunch rq, Map<String, List<AnalyzedItemRs>> resultMap, ExchangeInfo exchangeInfo) {
-		List<AnalyzedItemRs> result = rabbitTemplate.convertSendAndReceiveAsType(exchangeInfo.getName(),
+		List<AnalyzedItemRs> result = timed(exchangeInfo, ANALYZE_ROUTE, () -> rabbitTemplate.convertSendAndReceiveAsType(exchangeInfo.getName(),
 				ANALYZE_ROUTE,
 				Collections.singletonList(rq),
 				new ParameterizedTypeReference<List<AnalyzedItemRs>>() {
 				}
-		);
+		));
 		if (!CollectionUtils.isEmpty(result)) {
 			resultMap.put((String) exchangeInfo.getArguments().getOrDefault(ANALYZER_KEY, exchangeInfo.getName()), result);
 			removeAnalyzedFromRq(rq, result);
 		}
 	}
 
+	/**
+	 * Records latency of the analyzer request. No reply within the reply timeout is recorded as the 'timeout' outcome
+	 */
+	private <T> T timed(ExchangeInfo exchangeInfo, String route, Supplier<T> request) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = FAILURE;
+		try {
+			T result = request.get();
+			outcome = result == null ? "timeout" : SUCCESS;
+			return result;
+		} finally {
+			sample.stop(Timer.builder("rp.analyzer.request")
+					.description("Latency of the analyzer requests")
+					.tag("analyzer", (String) exchangeInfo.getArguments().getOrDefault(ANALYZER_KEY, exchangeInfo.getName()))
+					.tag("operation", route)
+					.tag(OUTCOME_TAG, outcome)
+					.register(meterRegistry));
+		}
+	}
+
 	/**
 	 * Removes form rq analyzed items to make rq for the next analyzer.
 	 *
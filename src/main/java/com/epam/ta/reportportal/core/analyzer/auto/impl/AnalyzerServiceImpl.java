@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.analyzer.auto.impl;
 
 import com.epam.ta.reportportal.core.analyzer.auto.AnalyzerService;
 import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
+import com.epam.ta.reportportal.core.events.ActivityEvent;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.ItemIssueTypeDefinedEvent;
 import com.epam.ta.reportportal.core.events.activity.LinkTicketEvent;
@@ -47,6 +48,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -181,7 +183,8 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 	 * @return List of updated items
 	 */
 	private List<TestItem> updateTestItems(String analyzerInstance, List<AnalyzedItemRs> rs, List<TestItem> testItems, Long projectId) {
-		return rs.stream().map(analyzed -> {
+		List<ActivityEvent> activities = new ArrayList<>();
+		List<TestItem> updated = rs.stream().map(analyzed -> {
 			Optional<TestItem> toUpdate = testItems.stream().filter(item -> item.getItemId().equals(analyzed.getItemId())).findAny();
 			toUpdate.ifPresent(testItem -> {
 				LOGGER.info("Analysis has found a match: {}", analyzed);
@@ -192,8 +195,8 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 					TestItemActivityResource after = TO_ACTIVITY_RESOURCE.apply(testItem, projectId);
 
 					testItemRepository.save(testItem);
-					messageBus.publishActivity(new ItemIssueTypeDefinedEvent(before, after, analyzerInstance, relevantItemInfo));
-					ofNullable(after.getTickets()).ifPresent(it -> messageBus.publishActivity(new LinkTicketEvent(before,
+					activities.add(new ItemIssueTypeDefinedEvent(before, after, analyzerInstance, relevantItemInfo));
+					ofNullable(after.getTickets()).ifPresent(it -> activities.add(new LinkTicketEvent(before,
 							after,
 							analyzerInstance,
 							ActivityAction.LINK_ISSUE_AA
@@ -202,6 +205,8 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 			});
 			return toUpdate;
 		}).filter(Optional::isPresent).map(Optional::get).collect(toList());
+		messageBus.publishActivities(activities);
+		return updated;
 	}
 
 	/**
@@ -84,7 +84,10 @@ public class AnalyzerUtils {
 	}
 
 	public static AnalyzerConfig getAnalyzerConfig(Project project) {
-		Map<String, String> configParameters = ProjectUtils.getConfigParameters(project.getProjectAttributes());
+		return getAnalyzerConfig(ProjectUtils.getConfigParameters(project.getProjectAttributes()));
+	}
+
+	public static AnalyzerConfig getAnalyzerConfig(Map<String, String> configParameters) {
 		AnalyzerConfig analyzerConfig = new AnalyzerConfig();
 		analyzerConfig.setIsAutoAnalyzerEnabled(BooleanUtils.toBoolean(configParameters.get(AUTO_ANALYZER_ENABLED.getAttribute())));
 		analyzerConfig.setMinShouldMatch(Integer.valueOf(ofNullable(configParameters.get(MIN_SHOULD_MATCH.getAttribute())).orElse(
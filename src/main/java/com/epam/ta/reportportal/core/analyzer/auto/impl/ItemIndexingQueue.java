@@ -0,0 +1,193 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.impl;
+
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigProvider;
+import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Coalesces logs indexing of the finished items. Item ids are buffered per launch and
+ * sent to the analyzer in a single request when the launch buffer reaches the batch size
+ * or on the next scheduled flush, so that bulk updates of the items don't produce an
+ * analyzer request per item.
+ */
+@Component
+public class ItemIndexingQueue {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ItemIndexingQueue.class);
+
+	private final ProjectConfigProvider projectConfigProvider;
+
+	private final LogIndexer logIndexer;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+
+	private final int capacity;
+
+	private final Object lock = new Object();
+
+	private final Map<LaunchKey, Set<Long>> pending = new LinkedHashMap<>();
+
+	private int size;
+
+	private final DistributionSummary batchSizeSummary;
+
+	private final Counter failuresCounter;
+
+	@Autowired
+	public ItemIndexingQueue(ProjectConfigProvider projectConfigProvider, LogIndexer logIndexer,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+			@Value("${rp.analyzer.index.batch.size:100}") int batchSize, @Value("${rp.analyzer.index.queue.capacity:10000}") int capacity) {
+		this.projectConfigProvider = projectConfigProvider;
+		this.logIndexer = logIndexer;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.batchSize = batchSize;
+		this.capacity = capacity;
+		Gauge.builder("rp.analyzer.index.queue.size", this, ItemIndexingQueue::size)
+				.description("Count of finished items waiting for logs indexing")
+				.register(meterRegistry);
+		batchSizeSummary = DistributionSummary.builder("rp.analyzer.index.batch.size")
+				.description("Count of items in a single indexing request")
+				.register(meterRegistry);
+		failuresCounter = Counter.builder("rp.analyzer.index.batch.failures")
+				.description("Count of failed indexing requests")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Adds an item to the indexing queue. The launch batch is indexed in the calling thread
+	 * if it reaches the batch size, the whole queue - if it exceeds its capacity.
+	 *
+	 * @param projectId Project id
+	 * @param launchId  Launch id
+	 * @param itemId    Finished item id
+	 */
+	public void add(Long projectId, Long launchId, Long itemId) {
+		Map<LaunchKey, List<Long>> ready = new LinkedHashMap<>();
+		synchronized (lock) {
+			LaunchKey key = new LaunchKey(projectId, launchId);
+			Set<Long> itemIds = pending.computeIfAbsent(key, k -> new LinkedHashSet<>());
+			if (itemIds.add(itemId)) {
+				size++;
+			}
+			if (size > capacity) {
+				ready.putAll(drainAll());
+			} else if (itemIds.size() >= batchSize) {
+				ready.put(key, drain(key));
+			}
+		}
+		ready.forEach(this::index);
+	}
+
+	@Scheduled(fixedDelayString = "${rp.analyzer.index.flush.interval:2000}")
+	public void flush() {
+		Map<LaunchKey, List<Long>> ready;
+		synchronized (lock) {
+			ready = drainAll();
+		}
+		ready.forEach(this::index);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flush();
+	}
+
+	public int size() {
+		synchronized (lock) {
+			return size;
+		}
+	}
+
+	private Map<LaunchKey, List<Long>> drainAll() {
+		Map<LaunchKey, List<Long>> ready = new LinkedHashMap<>();
+		new ArrayList<>(pending.keySet()).forEach(key -> ready.put(key, drain(key)));
+		return ready;
+	}
+
+	private List<Long> drain(LaunchKey key) {
+		List<Long> itemIds = new ArrayList<>(pending.remove(key));
+		size -= itemIds.size();
+		return itemIds;
+	}
+
+	private void index(LaunchKey key, List<Long> itemIds) {
+		batchSizeSummary.record(itemIds.size());
+		try {
+			AnalyzerConfig analyzerConfig = projectConfigProvider.get(key.projectId).getAnalyzerConfig();
+			transactionTemplate.execute(status -> logIndexer.indexItemsLogs(key.projectId, key.launchId, itemIds, analyzerConfig));
+		} catch (Exception e) {
+			failuresCounter.increment();
+			LOGGER.error("Unable to index logs of {} items of the launch with id = '{}'", itemIds.size(), key.launchId, e);
+		}
+	}
+
+	private static final class LaunchKey {
+
+		private final Long projectId;
+
+		private final Long launchId;
+
+		private LaunchKey(Long projectId, Long launchId) {
+			this.projectId = projectId;
+			this.launchId = launchId;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			LaunchKey launchKey = (LaunchKey) o;
+			return Objects.equals(projectId, launchKey.projectId) && Objects.equals(launchId, launchKey.launchId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(projectId, launchId);
+		}
+	}
+}
@@ -17,22 +17,28 @@
 package com.epam.ta.reportportal.core.analyzer.auto.impl;
 
 import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.LogLevel;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.ws.model.analyzer.IndexLaunch;
 import com.epam.ta.reportportal.ws.model.analyzer.IndexTestItem;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
+import com.google.common.collect.Iterators;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.epam.ta.reportportal.util.Predicates.ITEM_CAN_BE_INDEXED;
 import static com.epam.ta.reportportal.util.Predicates.LAUNCH_CAN_BE_INDEXED;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -41,11 +47,22 @@ import static java.util.stream.Collectors.toList;
 @Service
 public class LaunchPreparerService {
 
+	/**
+	 * Count of items processed at once in the streaming mode
+	 */
+	private static final int STREAMING_BATCH_SIZE = 500;
+
 	private final LogRepository logRepository;
 
+	private final TestItemRepository testItemRepository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	@Autowired
-	public LaunchPreparerService(LogRepository logRepository) {
+	public LaunchPreparerService(LogRepository logRepository, TestItemRepository testItemRepository) {
 		this.logRepository = logRepository;
+		this.testItemRepository = testItemRepository;
 	}
 
 	public Optional<IndexLaunch> prepare(Launch launch, List<TestItem> testItems, AnalyzerConfig analyzerConfig) {
@@ -58,6 +75,39 @@ public class LaunchPreparerService {
 		return Optional.empty();
 	}
 
+	/**
+	 * Prepares launch for indexing in streaming mode: items are read and prepared in bounded batches,
+	 * each batch is passed to the consumer as a separate {@link IndexLaunch} and detached afterwards,
+	 * so the whole launch is never held in memory.
+	 *
+	 * @param launch         {@link Launch} to prepare
+	 * @param analyzerConfig {@link AnalyzerConfig}
+	 * @param consumer       Consumer of the prepared batches
+	 * @return count of prepared test items
+	 */
+	public long prepare(Launch launch, AnalyzerConfig analyzerConfig, Consumer<IndexLaunch> consumer) {
+		if (!LAUNCH_CAN_BE_INDEXED.test(launch)) {
+			return 0;
+		}
+		long prepared = 0;
+		try (Stream<Long> ids = testItemRepository.streamTestItemIdsByLaunchId(launch.getId())) {
+			Iterator<List<Long>> batches = Iterators.partition(ids.iterator(), STREAMING_BATCH_SIZE);
+			while (batches.hasNext()) {
+				List<TestItem> testItems = testItemRepository.findAllById(batches.next());
+				List<TestItem> suitableItems = testItems.stream().filter(ITEM_CAN_BE_INDEXED).collect(toList());
+				Map<Long, List<Log>> logs = findLogsForIndexing(suitableItems);
+				List<IndexTestItem> rqTestItems = prepareItemsForIndexing(suitableItems, logs);
+				if (!CollectionUtils.isEmpty(rqTestItems)) {
+					prepared += rqTestItems.size();
+					consumer.accept(createIndexLaunch(launch.getProjectId(), launch.getId(), launch.getName(), analyzerConfig, rqTestItems));
+				}
+				logs.values().forEach(it -> it.forEach(entityManager::detach));
+				testItems.forEach(entityManager::detach);
+			}
+		}
+		return prepared;
+	}
+
 	private IndexLaunch createIndexLaunch(Long projectId, Long launchId, String name, AnalyzerConfig analyzerConfig,
 			List<IndexTestItem> rqTestItems) {
 		IndexLaunch rqLaunch = new IndexLaunch();
@@ -77,14 +127,29 @@ public class LaunchPreparerService {
 	 * @return Prepared list of {@link IndexTestItem} for indexing
 	 */
 	private List<IndexTestItem> prepareItemsForIndexing(List<TestItem> testItems) {
+		List<TestItem> suitableItems = testItems.stream().filter(ITEM_CAN_BE_INDEXED).collect(toList());
+		return prepareItemsForIndexing(suitableItems, findLogsForIndexing(suitableItems));
+	}
+
+	private List<IndexTestItem> prepareItemsForIndexing(List<TestItem> testItems, Map<Long, List<Log>> logs) {
 		return testItems.stream()
-				.filter(ITEM_CAN_BE_INDEXED)
-				.map(it -> AnalyzerUtils.fromTestItem(it,
-						logRepository.findAllByTestItemItemIdInAndLogLevelIsGreaterThanEqual(Collections.singletonList(it.getItemId()),
-								LogLevel.ERROR.toInt()
-						)
-				))
+				.map(it -> AnalyzerUtils.fromTestItem(it, logs.getOrDefault(it.getItemId(), Collections.emptyList())))
 				.filter(it -> !CollectionUtils.isEmpty(it.getLogs()))
 				.collect(toList());
 	}
+
+	/**
+	 * Loads logs of all provided items with one query
+	 *
+	 * @param testItems Test items to load logs for
+	 * @return Logs greater than {@link LogLevel#ERROR} grouped by {@link TestItem#getItemId()}
+	 */
+	private Map<Long, List<Log>> findLogsForIndexing(List<TestItem> testItems) {
+		if (testItems.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return logRepository.findAllByTestItemItemIdInAndLogLevelIsGreaterThanEqual(testItems.stream()
+				.map(TestItem::getItemId)
+				.collect(toList()), LogLevel.ERROR.toInt()).stream().collect(groupingBy(it -> it.getTestItem().getItemId()));
+	}
 }
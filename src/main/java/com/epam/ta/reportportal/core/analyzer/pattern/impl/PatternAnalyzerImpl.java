@@ -44,6 +44,7 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.Predicates.not;
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_LAUNCH_ID;
@@ -101,13 +102,12 @@ public class PatternAnalyzerImpl implements PatternAnalyzer {
 
 						PatternTemplateActivityResource patternTemplateActivityResource = PatternTemplateConverter.TO_ACTIVITY_RESOURCE.apply(
 								patternTemplate);
-						patternTemplateTestItems.forEach(patternItem -> {
-							PatternMatchedEvent patternMatchedEvent = new PatternMatchedEvent(patternItem.getPatternTemplateId(),
-									patternItem.getTestItemId(),
-									patternTemplateActivityResource
-							);
-							messageBus.publishActivity(patternMatchedEvent);
-						});
+						messageBus.publishActivities(patternTemplateTestItems.stream()
+								.map(patternItem -> new PatternMatchedEvent(patternItem.getPatternTemplateId(),
+										patternItem.getTestItemId(),
+										patternTemplateActivityResource
+								))
+								.collect(Collectors.toList()));
 
 					}));
 		} catch (Exception e) {
@@ -18,9 +18,14 @@ package com.epam.ta.reportportal.core.configs;
 
 import com.epam.ta.reportportal.core.logging.HttpLoggingAspect;
 import com.epam.ta.reportportal.core.logging.RabbitMessageLoggingAspect;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * @author Konstantin Antipin
@@ -30,8 +35,24 @@ public class AspectConfig {
 
     @Bean
     @ConditionalOnProperty(name = "rp.requestLogging", havingValue = "true")
-    HttpLoggingAspect httpLoggingAspect() {
-        return new HttpLoggingAspect();
+    HttpLoggingAspect httpLoggingAspect(ObjectMapper objectMapper, @Qualifier("httpLoggingTaskExecutor") TaskExecutor executor,
+            @Value("${rp.requestLoggingSampling:1.0}") double samplingRate, @Value("${rp.requestLoggingBodyLimit:4096}") int bodyLimit) {
+        return new HttpLoggingAspect(objectMapper, executor, samplingRate, bodyLimit);
+    }
+
+    /**
+     * Writes request logs in order of the requests, records are dropped when the queue is full
+     */
+    @Bean(name = "httpLoggingTaskExecutor")
+    @ConditionalOnProperty(name = "rp.requestLogging", havingValue = "true")
+    TaskExecutor httpLoggingTaskExecutor(@Value("${rp.requestLoggingQueueSize:10000}") int queueSize) {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(1);
+        threadPoolTaskExecutor.setMaxPoolSize(1);
+        threadPoolTaskExecutor.setQueueCapacity(queueSize);
+        threadPoolTaskExecutor.setThreadNamePrefix("http-logging-exec");
+        threadPoolTaskExecutor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.DiscardPolicy());
+        return threadPoolTaskExecutor;
     }
 
     @Bean
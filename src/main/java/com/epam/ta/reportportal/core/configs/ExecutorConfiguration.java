@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.configs;
 
 import com.epam.ta.reportportal.core.log.impl.SaveLogBinaryDataTask;
 import com.epam.ta.reportportal.core.log.impl.SaveLogBinaryDataTaskAsync;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -100,4 +101,94 @@ public class ExecutorConfiguration {
 		return threadPoolTaskExecutor;
 	}
 
+	/**
+	 * Tasks are dispatched by {@link com.epam.ta.reportportal.core.imprt.impl.ImportScheduler}
+	 * no more than pool size at a time, so the queue only absorbs hand-over between workers
+	 */
+	@Bean(name = "importTaskExecutor")
+	public ThreadPoolTaskExecutor importTaskExecutor(@Value("${rp.import.pool.size:5}") int poolSize) {
+		ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+		threadPoolTaskExecutor.setCorePoolSize(poolSize);
+		threadPoolTaskExecutor.setMaxPoolSize(poolSize);
+		threadPoolTaskExecutor.setQueueCapacity(poolSize);
+		threadPoolTaskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+		threadPoolTaskExecutor.setAwaitTerminationSeconds(60);
+		threadPoolTaskExecutor.setThreadNamePrefix("import-exec");
+		return threadPoolTaskExecutor;
+	}
+
+	/**
+	 * Exports are rejected when the queue is full, so rendering can't exhaust the memory and the disk
+	 */
+	@Bean(name = "exportTaskExecutor")
+	public ThreadPoolTaskExecutor exportTaskExecutor(@Value("${rp.export.jobs.pool.size:3}") int poolSize,
+			@Value("${rp.export.jobs.queue.size:20}") int queueSize) {
+		ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+		threadPoolTaskExecutor.setCorePoolSize(poolSize);
+		threadPoolTaskExecutor.setMaxPoolSize(poolSize);
+		threadPoolTaskExecutor.setQueueCapacity(queueSize);
+		threadPoolTaskExecutor.setThreadNamePrefix("export-exec");
+		return threadPoolTaskExecutor;
+	}
+
+	/**
+	 * Deletions are rejected when the queue is full, every task deletes launches or projects of one request
+	 */
+	@Bean(name = "deletionTaskExecutor")
+	public ThreadPoolTaskExecutor deletionTaskExecutor(@Value("${rp.deletion.jobs.pool.size:2}") int poolSize,
+			@Value("${rp.deletion.jobs.queue.size:50}") int queueSize) {
+		ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+		threadPoolTaskExecutor.setCorePoolSize(poolSize);
+		threadPoolTaskExecutor.setMaxPoolSize(poolSize);
+		threadPoolTaskExecutor.setQueueCapacity(queueSize);
+		threadPoolTaskExecutor.setThreadNamePrefix("deletion-exec");
+		return threadPoolTaskExecutor;
+	}
+
+	/**
+	 * Limits count of concurrent requests to the data store, the caller runs the deletion when the queue is full
+	 */
+	@Bean(name = "fileDeletionTaskExecutor")
+	public TaskExecutor fileDeletionTaskExecutor(@Value("${rp.attachment.deletion.parallelism:10}") int parallelism) {
+		ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+		threadPoolTaskExecutor.setCorePoolSize(parallelism);
+		threadPoolTaskExecutor.setMaxPoolSize(parallelism);
+		threadPoolTaskExecutor.setQueueCapacity(parallelism * 100);
+		threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
+		threadPoolTaskExecutor.setThreadNamePrefix("file-delete-exec");
+		threadPoolTaskExecutor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+		return threadPoolTaskExecutor;
+	}
+
+	/**
+	 * Emails are sent by {@link com.epam.ta.reportportal.util.email.EmailDispatcher}, one task per email integration at a time.
+	 * Tasks are rejected when the queue is full, so the sending with its retries never runs on the caller thread
+	 */
+	@Bean(name = "emailSenderTaskExecutor")
+	public TaskExecutor emailSenderTaskExecutor(@Value("${rp.email.send.pool.size:2}") int poolSize) {
+		ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+		threadPoolTaskExecutor.setCorePoolSize(poolSize);
+		threadPoolTaskExecutor.setMaxPoolSize(poolSize);
+		threadPoolTaskExecutor.setQueueCapacity(100);
+		threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
+		threadPoolTaskExecutor.setThreadNamePrefix("email-send-exec");
+		threadPoolTaskExecutor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.AbortPolicy());
+		return threadPoolTaskExecutor;
+	}
+
+	/**
+	 * Runs {@link com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriber}s, each one in its own task
+	 */
+	@Bean(name = "launchFinishedTaskExecutor")
+	public ThreadPoolTaskExecutor launchFinishedTaskExecutor(@Value("${rp.launch.finished.pool.size:10}") int poolSize,
+			@Value("${rp.launch.finished.queue.size:500}") int queueSize) {
+		ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+		threadPoolTaskExecutor.setCorePoolSize(poolSize);
+		threadPoolTaskExecutor.setMaxPoolSize(poolSize);
+		threadPoolTaskExecutor.setQueueCapacity(queueSize);
+		threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
+		threadPoolTaskExecutor.setThreadNamePrefix("launch-finish-exec");
+		return threadPoolTaskExecutor;
+	}
+
 }
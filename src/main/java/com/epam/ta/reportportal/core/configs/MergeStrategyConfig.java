@@ -21,11 +21,11 @@ import com.epam.ta.reportportal.core.item.impl.merge.strategy.*;
 import com.epam.ta.reportportal.core.item.merge.LaunchMergeStrategy;
 import com.epam.ta.reportportal.core.item.merge.StatisticsCalculationStrategy;
 import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.google.common.collect.ImmutableMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import java.util.Map;
 
@@ -37,16 +37,16 @@ import static java.util.Collections.singletonMap;
 @Configuration
 public class MergeStrategyConfig {
 
-	private final TestItemRepository testItemRepository;
+	private final NamedParameterJdbcTemplate jdbcTemplate;
 
 	private final LaunchRepository launchRepository;
 
 	private final TestItemUniqueIdGenerator testItemUniqueIdGenerator;
 
 	@Autowired
-	public MergeStrategyConfig(TestItemRepository testItemRepository, LaunchRepository launchRepository,
+	public MergeStrategyConfig(NamedParameterJdbcTemplate jdbcTemplate, LaunchRepository launchRepository,
 			TestItemUniqueIdGenerator testItemUniqueIdGenerator) {
-		this.testItemRepository = testItemRepository;
+		this.jdbcTemplate = jdbcTemplate;
 		this.launchRepository = launchRepository;
 		this.testItemUniqueIdGenerator = testItemUniqueIdGenerator;
 	}
@@ -61,17 +61,16 @@ public class MergeStrategyConfig {
 		return new StatisticsCalculationFactory(statisticsCalculationStrategyMaping());
 	}
 
+	@Bean
+	public LaunchMergeItemsUpdater launchMergeItemsUpdater() {
+		return new LaunchMergeItemsUpdater(jdbcTemplate, testItemUniqueIdGenerator);
+	}
+
 	@Bean
 	public Map<MergeStrategyType, LaunchMergeStrategy> launchMergeStrategyMapping() {
 		return ImmutableMap.<MergeStrategyType, LaunchMergeStrategy>builder().put(MergeStrategyType.BASIC,
-				new BasicLaunchMergeStrategy(testItemRepository,
-						testItemUniqueIdGenerator,
-						launchRepository,
-						statisticsCalculationFactory()
-				)
-		)
-				.put(MergeStrategyType.DEEP, new DeepLaunchMergeStrategy(testItemRepository, testItemUniqueIdGenerator, launchRepository))
-				.build();
+				new BasicLaunchMergeStrategy(launchMergeItemsUpdater(), launchRepository, statisticsCalculationFactory())
+		).put(MergeStrategyType.DEEP, new DeepLaunchMergeStrategy(launchMergeItemsUpdater(), launchRepository)).build();
 	}
 
 	@Bean
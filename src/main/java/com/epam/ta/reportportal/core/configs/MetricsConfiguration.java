@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.configs;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Common settings of the service meters
+ */
+@Configuration
+public class MetricsConfiguration {
+
+	/**
+	 * Tag of the project, the meter was recorded for
+	 */
+	public static final String PROJECT_TAG = "project";
+
+	/**
+	 * Tag of the operation result: success, failure, etc.
+	 */
+	public static final String OUTCOME_TAG = "outcome";
+
+	public static final String SUCCESS = "success";
+
+	public static final String FAILURE = "failure";
+
+	/**
+	 * Count of projects is unbounded, so meters are tagged by project only when it's enabled explicitly
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "rp.metrics.project.enabled", havingValue = "false", matchIfMissing = true)
+	public MeterFilter ignoreProjectTagMeterFilter() {
+		return MeterFilter.ignoreTags(PROJECT_TAG);
+	}
+}
@@ -56,6 +56,9 @@ public class SchedulerConfiguration {
 	@Autowired
 	private DataSource dataSource;
 
+	@Autowired
+	private JobMetricsListener jobMetricsListener;
+
 	@Bean
 	@Primary
 	public SchedulerFactoryBean schedulerFactoryBean() {
@@ -67,6 +70,7 @@ public class SchedulerConfiguration {
 		scheduler.setAutoStartup(true);  // to not automatically start after startup
 		scheduler.setWaitForJobsToCompleteOnShutdown(true);
 		scheduler.setJobFactory(beanJobFactory());
+		scheduler.setGlobalJobListeners(jobMetricsListener);
 
 		// Here we will set all the trigger beans we have defined.
 		if (null != listOfTrigger && !listOfTrigger.isEmpty()) {
@@ -47,6 +47,13 @@ public class InternalConfiguration {
 	public static final String QUEUE_ACTIVITY = "activity";
 	public static final String QUEUE_ACTIVITY_KEY = "activity.#";
 	public static final String QUEUE_ATTACHMENT_DELETE = "attachment.delete";
+	public static final String QUEUE_ATTACHMENT_DELETE_RETRY = "attachment.delete.retry";
+	public static final String QUEUE_ATTACHMENT_DELETE_DLQ = "attachment.delete.dlq";
+
+	/**
+	 * Delay of the failed attachments deletion retry
+	 */
+	public static final long ATTACHMENT_DELETE_RETRY_DELAY_MILLIS = 600_000L;
 
 	public static final String QUEUE_QUERY_RQ = "query-rq";
 
@@ -93,6 +100,26 @@ public class InternalConfiguration {
 		return new Queue(QUEUE_ATTACHMENT_DELETE);
 	}
 
+	/**
+	 * Failed deletions wait here and then are dead-lettered back to the {@link #deleteAttachmentQueue()}
+	 */
+	@Bean
+	public Queue deleteAttachmentRetryQueue() {
+		return QueueBuilder.durable(QUEUE_ATTACHMENT_DELETE_RETRY)
+				.withArgument("x-dead-letter-exchange", EXCHANGE_ATTACHMENT)
+				.withArgument("x-dead-letter-routing-key", QUEUE_ATTACHMENT_DELETE)
+				.withArgument("x-message-ttl", ATTACHMENT_DELETE_RETRY_DELAY_MILLIS)
+				.build();
+	}
+
+	/**
+	 * Deletions failed on every retry are kept here to be inspected and re-queued manually
+	 */
+	@Bean
+	public Queue deleteAttachmentDlq() {
+		return QueueBuilder.durable(QUEUE_ATTACHMENT_DELETE_DLQ).build();
+	}
+
 	@Bean
 	public Queue queryQueue() {
 		return new Queue(QUEUE_QUERY_RQ);
@@ -117,4 +144,14 @@ public class InternalConfiguration {
 		return BindingBuilder.bind(deleteAttachmentQueue()).to(attachmentExchange()).with(QUEUE_ATTACHMENT_DELETE);
 	}
 
+	@Bean
+	public Binding attachmentDeleteRetryBinding() {
+		return BindingBuilder.bind(deleteAttachmentRetryQueue()).to(attachmentExchange()).with(QUEUE_ATTACHMENT_DELETE_RETRY);
+	}
+
+	@Bean
+	public Binding attachmentDeleteDlqBinding() {
+		return BindingBuilder.bind(deleteAttachmentDlq()).to(attachmentExchange()).with(QUEUE_ATTACHMENT_DELETE_DLQ);
+	}
+
 }
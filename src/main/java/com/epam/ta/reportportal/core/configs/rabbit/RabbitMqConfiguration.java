@@ -36,6 +36,7 @@ import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 
 import java.net.URI;
+import java.util.Date;
 
 /**
  * @author Pavel Bortnik
@@ -67,6 +68,13 @@ public class RabbitMqConfiguration {
 	public RabbitTemplate rabbitTemplate(@Autowired @Qualifier("connectionFactory") ConnectionFactory connectionFactory) {
 		RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
 		rabbitTemplate.setMessageConverter(jsonMessageConverter());
+		// publish time is used to measure the queue lag on the consumer side
+		rabbitTemplate.setBeforePublishPostProcessors(message -> {
+			if (message.getMessageProperties().getTimestamp() == null) {
+				message.getMessageProperties().setTimestamp(new Date());
+			}
+			return message;
+		});
 		return rabbitTemplate;
 	}
 
@@ -82,4 +90,26 @@ public class RabbitMqConfiguration {
 		return factory;
 	}
 
+	/**
+	 * Consumes activities in batches of up to the given size. A batch is delivered to the listener
+	 * when it is full or when no more messages were received during the timeout.
+	 */
+	@Bean
+	public SimpleRabbitListenerContainerFactory activityListenerContainerFactory(
+			@Autowired @Qualifier("connectionFactory") ConnectionFactory connectionFactory,
+			@Value("${rp.amqp.activity.batch.size:500}") int batchSize, @Value("${rp.amqp.activity.batch.timeout:1000}") long timeout) {
+		SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+		factory.setConnectionFactory(connectionFactory);
+		factory.setDefaultRequeueRejected(false);
+		factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+		factory.setAutoStartup(true);
+		factory.setMessageConverter(jsonMessageConverter());
+		factory.setBatchListener(true);
+		factory.setConsumerBatchEnabled(true);
+		factory.setBatchSize(batchSize);
+		factory.setPrefetchCount(batchSize);
+		factory.setReceiveTimeout(timeout);
+		return factory;
+	}
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.deletion;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletion of launches or projects running in background. Progress is updated after every deleted chunk,
+ * so it can be polled while the job is in progress. State of the job is stored in the data store,
+ * so it is available on every node.
+ */
+public class DeletionJob {
+
+	public enum Status {
+		IN_PROGRESS,
+		FINISHED,
+		FAILED
+	}
+
+	public enum Target {
+		LAUNCH,
+		PROJECT
+	}
+
+	@JsonProperty
+	private final String id;
+
+	@JsonProperty
+	private final Long ownerId;
+
+	@JsonProperty
+	private final Target target;
+
+	@JsonProperty
+	private final List<Long> entityIds;
+
+	@JsonProperty
+	private final Instant createdAt;
+
+	private final AtomicInteger deletedEntities;
+
+	private final AtomicLong deletedItems;
+
+	private final AtomicLong deletedLogs;
+
+	/**
+	 * Entity id - reason of the failure
+	 */
+	@JsonProperty
+	private final Map<Long, String> failed;
+
+	@JsonProperty
+	private volatile Status status;
+
+	@JsonProperty
+	private volatile Instant finishedAt;
+
+	/**
+	 * Time of the last stored progress of the job in progress
+	 */
+	@JsonProperty
+	private volatile Instant updatedAt;
+
+	DeletionJob(Long ownerId, Target target, List<Long> entityIds) {
+		this(UUID.randomUUID().toString(), ownerId, target, entityIds, Instant.now(), 0, 0L, 0L, null, Status.IN_PROGRESS, null, null);
+	}
+
+	@JsonCreator
+	DeletionJob(@JsonProperty("id") String id, @JsonProperty("ownerId") Long ownerId, @JsonProperty("target") Target target,
+			@JsonProperty("entityIds") List<Long> entityIds, @JsonProperty("createdAt") Instant createdAt,
+			@JsonProperty("deletedEntities") int deletedEntities, @JsonProperty("deletedItems") long deletedItems,
+			@JsonProperty("deletedLogs") long deletedLogs, @JsonProperty("failed") Map<Long, String> failed,
+			@JsonProperty("status") Status status, @JsonProperty("finishedAt") Instant finishedAt,
+			@JsonProperty("updatedAt") Instant updatedAt) {
+		this.id = id;
+		this.ownerId = ownerId;
+		this.target = target;
+		this.entityIds = Collections.unmodifiableList(new ArrayList<>(entityIds));
+		this.createdAt = createdAt;
+		this.deletedEntities = new AtomicInteger(deletedEntities);
+		this.deletedItems = new AtomicLong(deletedItems);
+		this.deletedLogs = new AtomicLong(deletedLogs);
+		this.failed = failed == null ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(failed);
+		this.status = status;
+		this.finishedAt = finishedAt;
+		this.updatedAt = updatedAt == null ? createdAt : updatedAt;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public Long getOwnerId() {
+		return ownerId;
+	}
+
+	public Target getTarget() {
+		return target;
+	}
+
+	public List<Long> getEntityIds() {
+		return entityIds;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public int getDeletedEntities() {
+		return deletedEntities.get();
+	}
+
+	public long getDeletedItems() {
+		return deletedItems.get();
+	}
+
+	public long getDeletedLogs() {
+		return deletedLogs.get();
+	}
+
+	public Map<Long, String> getFailed() {
+		return Collections.unmodifiableMap(failed);
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public Instant getFinishedAt() {
+		return finishedAt;
+	}
+
+	public Instant getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void addDeletedItems(long count) {
+		deletedItems.addAndGet(count);
+	}
+
+	public void addDeletedLogs(long count) {
+		deletedLogs.addAndGet(count);
+	}
+
+	void entityDeleted() {
+		deletedEntities.incrementAndGet();
+	}
+
+	void entityFailed(Long entityId, String message) {
+		failed.put(entityId, String.valueOf(message));
+	}
+
+	void finish() {
+		finishedAt = Instant.now();
+		status = failed.isEmpty() ? Status.FINISHED : Status.FAILED;
+	}
+
+	void updated() {
+		updatedAt = Instant.now();
+	}
+
+	/**
+	 * The job in progress whose progress wasn't stored since the provided time is left by a stopped node
+	 */
+	void abandon(Instant updatedBefore) {
+		if (status == Status.IN_PROGRESS && updatedAt.isBefore(updatedBefore)) {
+			finishedAt = updatedAt;
+			status = Status.FAILED;
+		}
+	}
+
+	boolean isExpired(Instant expiredBefore) {
+		return finishedAt != null && finishedAt.isBefore(expiredBefore);
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.deletion;
+
+import com.epam.ta.reportportal.ws.model.ErrorRS;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of the {@link DeletionJob}. Entities that were not found or failed the validation
+ * are returned only in the response of the job submission.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeletionJobRS {
+
+	@JsonProperty
+	private String id;
+
+	@JsonProperty
+	private String status;
+
+	@JsonProperty
+	private String target;
+
+	@JsonProperty
+	private List<Long> entities;
+
+	@JsonProperty
+	private Integer deletedEntities;
+
+	@JsonProperty
+	private Long deletedItems;
+
+	@JsonProperty
+	private Long deletedLogs;
+
+	@JsonProperty
+	private Map<Long, String> failed;
+
+	@JsonProperty
+	private List<Long> notFound;
+
+	@JsonProperty
+	private List<ErrorRS> errors;
+
+	@JsonProperty
+	private Date createdAt;
+
+	@JsonProperty
+	private Date finishedAt;
+
+	public static DeletionJobRS of(DeletionJob job) {
+		DeletionJobRS rs = new DeletionJobRS();
+		rs.setId(job.getId());
+		rs.setStatus(job.getStatus().name());
+		rs.setTarget(job.getTarget().name());
+		rs.setEntities(job.getEntityIds());
+		rs.setDeletedEntities(job.getDeletedEntities());
+		rs.setDeletedItems(job.getDeletedItems());
+		rs.setDeletedLogs(job.getDeletedLogs());
+		if (!job.getFailed().isEmpty()) {
+			rs.setFailed(job.getFailed());
+		}
+		rs.setCreatedAt(Date.from(job.getCreatedAt()));
+		if (job.getFinishedAt() != null) {
+			rs.setFinishedAt(Date.from(job.getFinishedAt()));
+		}
+		return rs;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public String getTarget() {
+		return target;
+	}
+
+	public void setTarget(String target) {
+		this.target = target;
+	}
+
+	public List<Long> getEntities() {
+		return entities;
+	}
+
+	public void setEntities(List<Long> entities) {
+		this.entities = entities;
+	}
+
+	public Integer getDeletedEntities() {
+		return deletedEntities;
+	}
+
+	public void setDeletedEntities(Integer deletedEntities) {
+		this.deletedEntities = deletedEntities;
+	}
+
+	public Long getDeletedItems() {
+		return deletedItems;
+	}
+
+	public void setDeletedItems(Long deletedItems) {
+		this.deletedItems = deletedItems;
+	}
+
+	public Long getDeletedLogs() {
+		return deletedLogs;
+	}
+
+	public void setDeletedLogs(Long deletedLogs) {
+		this.deletedLogs = deletedLogs;
+	}
+
+	public Map<Long, String> getFailed() {
+		return failed;
+	}
+
+	public void setFailed(Map<Long, String> failed) {
+		this.failed = failed;
+	}
+
+	public List<Long> getNotFound() {
+		return notFound;
+	}
+
+	public void setNotFound(List<Long> notFound) {
+		this.notFound = notFound;
+	}
+
+	public List<ErrorRS> getErrors() {
+		return errors;
+	}
+
+	public void setErrors(List<ErrorRS> errors) {
+		this.errors = errors;
+	}
+
+	public Date getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(Date createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public Date getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void setFinishedAt(Date finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+}
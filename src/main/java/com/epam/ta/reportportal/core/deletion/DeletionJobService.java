@@ -0,0 +1,311 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.deletion;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.filesystem.DataStore;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static com.epam.ta.reportportal.commons.Predicates.equalTo;
+import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
+import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs deletions of launches and projects on the bounded executor, so request threads return as soon as
+ * the entities are marked as pending deletion. Every entity is deleted in its own short transactions:
+ * content is removed by the provided chunked deleter, then the entity itself is removed in a separate transaction.
+ * <p>
+ * State of the job and the pending marks of its entities are kept in the {@link DataStore}, so they are available
+ * on every node. The job in progress stores its state periodically, the job that didn't store it during the lease
+ * is left by a stopped node: it is reported as failed and its entities are no longer pending.
+ */
+@Service
+public class DeletionJobService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DeletionJobService.class);
+
+	private static final String STORE_DIRECTORY = "deletion/";
+
+	private static final String JOB_SUFFIX = ".json";
+
+	private final ThreadPoolTaskExecutor executor;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final DataStore dataStore;
+
+	private final ObjectMapper objectMapper;
+
+	private final Duration ttl;
+
+	private final Duration lease;
+
+	/**
+	 * Jobs run on this node that aren't removed from the data store yet
+	 */
+	private final Map<String, DeletionJob> jobs = new ConcurrentHashMap<>();
+
+	/**
+	 * Entities pending deletion by the jobs of this node
+	 */
+	private final Map<DeletionJob.Target, Set<Long>> pending = new EnumMap<>(DeletionJob.Target.class);
+
+	@Autowired
+	public DeletionJobService(@Qualifier("deletionTaskExecutor") ThreadPoolTaskExecutor executor,
+			PlatformTransactionManager transactionManager, DataStore dataStore, ObjectMapper objectMapper,
+			@Value("${rp.deletion.jobs.ttl:60}") long ttlMinutes, @Value("${rp.deletion.lease:10}") long leaseMinutes) {
+		this.executor = executor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.dataStore = dataStore;
+		this.objectMapper = objectMapper;
+		this.ttl = Duration.ofMinutes(ttlMinutes);
+		this.lease = Duration.ofMinutes(leaseMinutes);
+		for (DeletionJob.Target target : DeletionJob.Target.values()) {
+			pending.put(target, ConcurrentHashMap.newKeySet());
+		}
+	}
+
+	/**
+	 * @param target {@link DeletionJob.Target}
+	 * @param id     Id of the entity
+	 * @return 'true' if the entity is scheduled for the deletion on any node and isn't deleted yet
+	 */
+	public boolean isPending(DeletionJob.Target target, Long id) {
+		if (pending.get(target).contains(id)) {
+			return true;
+		}
+		String markPath = markPath(target, id);
+		if (!dataStore.exists(markPath)) {
+			return false;
+		}
+		String jobId;
+		try (InputStream inputStream = dataStore.load(markPath)) {
+			jobId = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.UNABLE_TO_LOAD_BINARY_DATA, e.getMessage());
+		}
+		DeletionJob job = load(jobId);
+		return job != null && job.getStatus() == DeletionJob.Status.IN_PROGRESS && job.getUpdatedAt()
+				.isAfter(Instant.now().minus(lease)) && job.getEntityIds().contains(id);
+	}
+
+	/**
+	 * Marks entities as pending deletion and submits their deletion. Entities that are already pending
+	 * deletion by another job of this node are skipped.
+	 *
+	 * @param user           Owner of the job
+	 * @param target         {@link DeletionJob.Target}
+	 * @param ids            Ids of the validated entities
+	 * @param contentDeleter Deletes content of the entity in chunks, every chunk in its own transaction
+	 * @param entityDeleter  Deletes the entity itself, runs in a transaction
+	 * @return New {@link DeletionJob}
+	 */
+	public DeletionJob submit(ReportPortalUser user, DeletionJob.Target target, List<Long> ids,
+			BiConsumer<Long, DeletionJob> contentDeleter, Consumer<Long> entityDeleter) {
+		Set<Long> pendingIds = pending.get(target);
+		DeletionJob job = new DeletionJob(user.getUserId(), target, ids.stream().distinct().filter(pendingIds::add).collect(toList()));
+		jobs.put(job.getId(), job);
+		if (job.getEntityIds().isEmpty()) {
+			job.finish();
+			storeState(job);
+			return job;
+		}
+		try {
+			store(job);
+			job.getEntityIds().forEach(id -> save(markPath(target, id), job.getId().getBytes(StandardCharsets.UTF_8)));
+			executor.execute(() -> run(job, contentDeleter, entityDeleter));
+		} catch (TaskRejectedException e) {
+			cancel(job);
+			throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Too many deletions are in progress. Please try again later.");
+		} catch (RuntimeException e) {
+			cancel(job);
+			throw e;
+		}
+		return job;
+	}
+
+	/**
+	 * @param user  Requesting user, only the owner and administrators have access to the job
+	 * @param jobId Id of the job submitted on any node
+	 * @return {@link DeletionJob}
+	 */
+	public DeletionJob getJob(ReportPortalUser user, String jobId) {
+		DeletionJob job = jobs.get(jobId);
+		if (job == null) {
+			job = load(jobId);
+			if (job != null) {
+				job.abandon(Instant.now().minus(lease));
+			}
+		}
+		expect(job != null && !job.isExpired(Instant.now().minus(ttl)) && (job.getOwnerId().equals(user.getUserId())
+				|| user.getUserRole() == UserRole.ADMINISTRATOR), equalTo(true)).verify(ErrorType.BAD_REQUEST_ERROR,
+				formattedSupplier("Deletion job with id = '{}' not found", jobId)
+		);
+		return job;
+	}
+
+	/**
+	 * Stores the progress of the jobs in progress on this node, so they aren't taken as abandoned by other nodes
+	 */
+	@Scheduled(fixedDelayString = "${rp.deletion.jobs.heartbeat:60000}")
+	public void storeProgress() {
+		jobs.values().stream().filter(job -> job.getStatus() == DeletionJob.Status.IN_PROGRESS).forEach(this::storeState);
+	}
+
+	@Scheduled(fixedDelayString = "${rp.deletion.jobs.cleanup:60000}")
+	public void removeExpired() {
+		Instant expiredBefore = Instant.now().minus(ttl);
+		jobs.values().stream().filter(job -> job.isExpired(expiredBefore)).forEach(this::remove);
+	}
+
+	private void run(DeletionJob job, BiConsumer<Long, DeletionJob> contentDeleter, Consumer<Long> entityDeleter) {
+		Set<Long> pendingIds = pending.get(job.getTarget());
+		for (Long id : job.getEntityIds()) {
+			try {
+				contentDeleter.accept(id, job);
+				transactionTemplate.execute(status -> {
+					entityDeleter.accept(id);
+					return null;
+				});
+				job.entityDeleted();
+			} catch (Exception e) {
+				LOGGER.error("Deletion job '{}' is unable to delete {} with id = '{}'", job.getId(), job.getTarget(), id, e);
+				job.entityFailed(id, e.getMessage());
+			} finally {
+				pendingIds.remove(id);
+				deleteMark(job, id);
+				storeState(job);
+			}
+		}
+		job.finish();
+		storeState(job);
+	}
+
+	private void store(DeletionJob job) {
+		job.updated();
+		try {
+			save(jobPath(job.getId()), objectMapper.writeValueAsBytes(job));
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.BINARY_DATA_CANNOT_BE_SAVED, e.getMessage());
+		}
+	}
+
+	/**
+	 * Failure to store the progress is logged only: the job keeps running and stores it again on the next update
+	 */
+	private void storeState(DeletionJob job) {
+		try {
+			store(job);
+		} catch (Exception e) {
+			LOGGER.error("Unable to store state of the deletion job '{}'", job.getId(), e);
+		}
+	}
+
+	private void save(String path, byte[] content) {
+		dataStore.save(path, new ByteArrayInputStream(content));
+	}
+
+	/**
+	 * @return Stored job or 'null' if there is no job with such id
+	 */
+	private DeletionJob load(String jobId) {
+		if (!isValidId(jobId) || !dataStore.exists(jobPath(jobId))) {
+			return null;
+		}
+		try (InputStream inputStream = dataStore.load(jobPath(jobId))) {
+			return objectMapper.readValue(inputStream, DeletionJob.class);
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.UNABLE_TO_LOAD_BINARY_DATA, e.getMessage());
+		}
+	}
+
+	/**
+	 * Releases entities of the job that wasn't started
+	 */
+	private void cancel(DeletionJob job) {
+		pending.get(job.getTarget()).removeAll(job.getEntityIds());
+		job.getEntityIds().forEach(id -> deleteMark(job, id));
+		remove(job);
+	}
+
+	private void remove(DeletionJob job) {
+		jobs.remove(job.getId());
+		try {
+			dataStore.delete(jobPath(job.getId()));
+		} catch (Exception e) {
+			LOGGER.warn("Unable to delete deletion job '{}' from the data store", job.getId(), e);
+		}
+	}
+
+	private void deleteMark(DeletionJob job, Long id) {
+		try {
+			dataStore.delete(markPath(job.getTarget(), id));
+		} catch (Exception e) {
+			LOGGER.warn("Unable to delete pending mark of {} with id = '{}' from the data store", job.getTarget(), id, e);
+		}
+	}
+
+	/**
+	 * Id is a part of the data store path, so only ids generated by {@link DeletionJob} are accepted
+	 */
+	private static boolean isValidId(String jobId) {
+		try {
+			return UUID.fromString(jobId).toString().equals(jobId);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private static String jobPath(String jobId) {
+		return STORE_DIRECTORY + jobId + JOB_SUFFIX;
+	}
+
+	private static String markPath(DeletionJob.Target target, Long id) {
+		return STORE_DIRECTORY + target.name().toLowerCase() + "-" + id;
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.deletion;
+
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Deletes logs and test items of the launches in bounded chunks, every chunk in its own short transaction,
+ * so neither the transaction nor the ids of the removed logs grow with the size of the launch.
+ * The launch being deleted is marked with a system attribute refreshed by every chunk.
+ */
+@Component
+public class LaunchContentDeleter {
+
+	private static final String DELETE_LOGS = "DELETE FROM log WHERE id IN (SELECT l.id FROM log l "
+			+ "JOIN test_item ti ON l.item_id = ti.item_id WHERE ti.launch_id = :launchId LIMIT :limit) RETURNING id";
+
+	/**
+	 * Items are walked from the newest id to the oldest one, so descendants mostly go before their parents
+	 * and every chunk starts where the previous one stopped instead of sorting the remaining items again
+	 */
+	private static final String DELETE_ITEMS = "DELETE FROM test_item WHERE item_id IN (SELECT item_id FROM test_item "
+			+ "WHERE launch_id = :launchId AND item_id < :lastId ORDER BY item_id DESC LIMIT :limit) RETURNING item_id";
+
+	/**
+	 * System attribute of the launch holding the time of the last progress of its deletion
+	 */
+	private static final String PENDING_KEY = "deletion.pending";
+
+	private static final String SELECT_PENDING = "SELECT value FROM item_attribute WHERE launch_id = :launchId AND key = :key AND system";
+
+	private static final String UPDATE_PENDING = "UPDATE item_attribute SET value = :value WHERE launch_id = :launchId AND key = :key "
+			+ "AND system";
+
+	private static final String INSERT_PENDING = "INSERT INTO item_attribute (key, value, launch_id, system) "
+			+ "VALUES (:key, :value, :launchId, TRUE)";
+
+	private static final String DELETE_PENDING = "DELETE FROM item_attribute WHERE launch_id = :launchId AND key = :key AND system";
+
+	private static final String SELECT_PROJECT_LAUNCHES = "SELECT id FROM launch WHERE project_id = :projectId ORDER BY id";
+
+	private static final String DELETE_LAUNCH = "DELETE FROM launch WHERE id = :launchId";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * Pending marks are committed on their own, so they are visible to other nodes before the deletion starts
+	 */
+	private final TransactionTemplate markTransactionTemplate;
+
+	private final LogIndexer logIndexer;
+
+	private final int chunkSize;
+
+	private final Duration lease;
+
+	@Autowired
+	public LaunchContentDeleter(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+			LogIndexer logIndexer, @Value("${rp.deletion.chunk.size:1000}") int chunkSize,
+			@Value("${rp.deletion.lease:10}") long leaseMinutes) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.markTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.markTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.logIndexer = logIndexer;
+		this.chunkSize = chunkSize;
+		this.lease = Duration.ofMinutes(leaseMinutes);
+	}
+
+	/**
+	 * Persists the pending deletion of the launch, so it is visible to every node and outlives the node running the job
+	 *
+	 * @param launchId Id of the launch
+	 */
+	public void markPending(Long launchId) {
+		markTransactionTemplate.execute(status -> {
+			MapSqlParameterSource params = pendingParams(launchId).addValue("value", String.valueOf(Instant.now().toEpochMilli()));
+			return jdbcTemplate.update(UPDATE_PENDING, params) > 0 ? 0 : jdbcTemplate.update(INSERT_PENDING, params);
+		});
+	}
+
+	/**
+	 * Removes the pending deletion mark of the launch that isn't going to be deleted
+	 *
+	 * @param launchId Id of the launch
+	 */
+	public void unmarkPending(Long launchId) {
+		markTransactionTemplate.execute(status -> jdbcTemplate.update(DELETE_PENDING, pendingParams(launchId)));
+	}
+
+	/**
+	 * The mark is refreshed by every deleted chunk. The mark that wasn't refreshed during the lease is left
+	 * by a stopped job, so the deletion of such launch can be started again.
+	 *
+	 * @param launchId Id of the launch
+	 * @return 'true' if the deletion of the launch is in progress on any node
+	 */
+	public boolean isPending(Long launchId) {
+		long expiredBefore = Instant.now().minus(lease).toEpochMilli();
+		return jdbcTemplate.queryForList(SELECT_PENDING, pendingParams(launchId), String.class)
+				.stream()
+				.anyMatch(value -> Long.parseLong(value) > expiredBefore);
+	}
+
+	/**
+	 * Deletes logs and test items of the launch, the launch itself is kept
+	 *
+	 * @param projectId  Id of the launch project
+	 * @param launchId   Id of the launch
+	 * @param cleanIndex if 'true' removed logs are removed from the analyzer index chunk by chunk
+	 * @param job        {@link DeletionJob} to report progress to
+	 */
+	public void deleteContent(Long projectId, Long launchId, boolean cleanIndex, DeletionJob job) {
+		MapSqlParameterSource params = new MapSqlParameterSource("launchId", launchId).addValue("limit", chunkSize);
+
+		List<Long> logIds;
+		do {
+			logIds = inTransaction(() -> {
+				refreshPending(launchId);
+				return jdbcTemplate.queryForList(DELETE_LOGS, params, Long.class);
+			});
+			job.addDeletedLogs(logIds.size());
+			if (cleanIndex && !logIds.isEmpty()) {
+				logIndexer.cleanIndex(projectId, logIds);
+			}
+		} while (logIds.size() == chunkSize);
+
+		List<Long> itemIds;
+		long lastId = Long.MAX_VALUE;
+		do {
+			params.addValue("lastId", lastId);
+			itemIds = inTransaction(() -> {
+				refreshPending(launchId);
+				return jdbcTemplate.queryForList(DELETE_ITEMS, params, Long.class);
+			});
+			job.addDeletedItems(itemIds.size());
+			lastId = itemIds.stream().mapToLong(Long::longValue).min().orElse(lastId);
+		} while (itemIds.size() == chunkSize);
+	}
+
+	/**
+	 * Deletes launches of the project one by one with their content. The analyzer index isn't cleaned,
+	 * as the whole index of the project is removed with the project.
+	 *
+	 * @param projectId Id of the project
+	 * @param job       {@link DeletionJob} to report progress to
+	 */
+	public void deleteProjectLaunches(Long projectId, DeletionJob job) {
+		List<Long> launchIds = jdbcTemplate.queryForList(SELECT_PROJECT_LAUNCHES,
+				new MapSqlParameterSource("projectId", projectId),
+				Long.class
+		);
+		launchIds.forEach(launchId -> {
+			deleteContent(projectId, launchId, false, job);
+			inTransaction(() -> jdbcTemplate.update(DELETE_LAUNCH, new MapSqlParameterSource("launchId", launchId)));
+		});
+	}
+
+	private void refreshPending(Long launchId) {
+		jdbcTemplate.update(UPDATE_PENDING, pendingParams(launchId).addValue("value", String.valueOf(Instant.now().toEpochMilli())));
+	}
+
+	private static MapSqlParameterSource pendingParams(Long launchId) {
+		return new MapSqlParameterSource("launchId", launchId).addValue("key", PENDING_KEY);
+	}
+
+	private <T> T inTransaction(Supplier<T> action) {
+		return transactionTemplate.execute(status -> action.get());
+	}
+}
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.events;
 
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
 
+import java.util.Collection;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -51,6 +52,14 @@ public interface MessageBus {
 	 */
 	void publishActivity(ActivityEvent o);
 
+	/**
+	 * Sends activities in a single batch. Intended for bulk producers,
+	 * such as analyzers, that emit an activity per item.
+	 *
+	 * @param events Payloads
+	 */
+	void publishActivities(Collection<? extends ActivityEvent> events);
+
 	/**
 	 * Publish event to remove {@link com.epam.ta.reportportal.entity.attachment.Attachment}
 	 * from the database and {@link com.epam.ta.reportportal.filesystem.DataStore}
@@ -59,4 +68,18 @@ public interface MessageBus {
 	 */
 	void publishDeleteAttachmentEvent(DeleteAttachmentEvent event);
 
+	/**
+	 * Publish event with the attachments that were not deleted, so their deletion is retried after a delay
+	 *
+	 * @param event {@link DeleteAttachmentEvent}
+	 */
+	void publishDeleteAttachmentRetry(DeleteAttachmentEvent event);
+
+	/**
+	 * Publish event with the attachments that were not deleted on the last retry to the dead letter queue
+	 *
+	 * @param event {@link DeleteAttachmentEvent}
+	 */
+	void publishFailedAttachmentDeletion(DeleteAttachmentEvent event);
+
 }
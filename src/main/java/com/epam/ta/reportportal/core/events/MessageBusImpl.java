@@ -19,6 +19,12 @@ package com.epam.ta.reportportal.core.events;
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
 import com.epam.ta.reportportal.entity.activity.Activity;
 import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.*;
 
@@ -55,15 +61,51 @@ public class MessageBusImpl implements MessageBus {
 	public void publishActivity(ActivityEvent event) {
 		final Activity activity = event.toActivity();
 		if (activity != null) {
-			String key = "activity." + activity.getProjectId() + "." + activity.getActivityEntityType() + "." + activity.getAction();
-			this.amqpTemplate.convertAndSend(EXCHANGE_ACTIVITY, key, activity);
+			send(amqpTemplate, activity);
 		}
 	}
 
+	/**
+	 * Publishes activities through a single channel, so that bulk producers don't
+	 * acquire a channel from the connection cache per activity
+	 *
+	 * @param events Activity events to be converted to Activity objects
+	 */
+	@Override
+	public void publishActivities(Collection<? extends ActivityEvent> events) {
+		List<Activity> activities = events.stream().map(ActivityEvent::toActivity).filter(Objects::nonNull).collect(Collectors.toList());
+		if (activities.isEmpty()) {
+			return;
+		}
+		if (amqpTemplate instanceof RabbitOperations) {
+			((RabbitOperations) amqpTemplate).invoke(operations -> {
+				activities.forEach(activity -> send(operations, activity));
+				return null;
+			});
+		} else {
+			activities.forEach(activity -> send(amqpTemplate, activity));
+		}
+	}
+
+	private static void send(AmqpTemplate template, Activity activity) {
+		String key = "activity." + activity.getProjectId() + "." + activity.getActivityEntityType() + "." + activity.getAction();
+		template.convertAndSend(EXCHANGE_ACTIVITY, key, activity);
+	}
+
 	@Override
 	public void publishDeleteAttachmentEvent(DeleteAttachmentEvent event) {
 
 		amqpTemplate.convertAndSend(EXCHANGE_ATTACHMENT, QUEUE_ATTACHMENT_DELETE, event);
 
 	}
+
+	@Override
+	public void publishDeleteAttachmentRetry(DeleteAttachmentEvent event) {
+		amqpTemplate.convertAndSend(EXCHANGE_ATTACHMENT, QUEUE_ATTACHMENT_DELETE_RETRY, event);
+	}
+
+	@Override
+	public void publishFailedAttachmentDeletion(DeleteAttachmentEvent event) {
+		amqpTemplate.convertAndSend(EXCHANGE_ATTACHMENT, QUEUE_ATTACHMENT_DELETE_DLQ, event);
+	}
 }
@@ -29,6 +29,12 @@ public class DeleteAttachmentEvent {
 	@JsonProperty(value = "ids")
 	private List<Long> ids;
 
+	/**
+	 * Count of the failed deletion attempts
+	 */
+	@JsonProperty(value = "round")
+	private int round;
+
 	public DeleteAttachmentEvent() {
 		ids = Lists.newArrayList();
 	}
@@ -37,6 +43,11 @@ public class DeleteAttachmentEvent {
 		this.ids = ids;
 	}
 
+	public DeleteAttachmentEvent(List<Long> ids, int round) {
+		this.ids = ids;
+		this.round = round;
+	}
+
 	public List<Long> getIds() {
 		return ids;
 	}
@@ -44,4 +55,12 @@ public class DeleteAttachmentEvent {
 	public void setIds(List<Long> ids) {
 		this.ids = ids;
 	}
+
+	public int getRound() {
+		return round;
+	}
+
+	public void setRound(int round) {
+		this.round = round;
+	}
 }
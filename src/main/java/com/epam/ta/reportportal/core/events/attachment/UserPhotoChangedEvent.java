@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.attachment;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Photo of the user has been uploaded or deleted, so the cached files of the previous photo are stale
+ */
+public class UserPhotoChangedEvent {
+
+	private final List<String> fileIds;
+
+	public UserPhotoChangedEvent(String... fileIds) {
+		this.fileIds = Arrays.stream(fileIds).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	public List<String> getFileIds() {
+		return fileIds;
+	}
+}
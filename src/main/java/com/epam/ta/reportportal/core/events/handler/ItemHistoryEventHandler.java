@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.handler;
+
+import com.epam.ta.reportportal.core.events.item.ItemHistoryAddedEvent;
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
+import com.epam.ta.reportportal.core.events.item.ItemRetryEvent;
+import com.epam.ta.reportportal.core.item.impl.history.index.TestItemHistoryIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+
+/**
+ * Keeps {@link TestItemHistoryIndex} consistent with the committed changes
+ */
+@Component
+public class ItemHistoryEventHandler {
+
+	private final TestItemHistoryIndex historyIndex;
+
+	@Autowired
+	public ItemHistoryEventHandler(TestItemHistoryIndex historyIndex) {
+		this.historyIndex = historyIndex;
+	}
+
+	@TransactionalEventListener
+	public void onItemAdded(ItemHistoryAddedEvent event) {
+		historyIndex.addItem(event.getProjectId(),
+				event.getLaunchName(),
+				event.getLaunchId(),
+				event.getTestCaseHash(),
+				event.getItemId(),
+				event.getStartTime()
+		);
+	}
+
+	@TransactionalEventListener
+	public void onItemsRemoved(ItemHistoryRemovedEvent event) {
+		if (event.getLaunchIds().isPresent()) {
+			historyIndex.invalidateLaunches(event.getLaunchIds().get());
+		} else {
+			historyIndex.invalidateProject(event.getProjectId());
+		}
+	}
+
+	/**
+	 * Previous attempt of the retried item is excluded from the history
+	 */
+	@TransactionalEventListener
+	public void onItemRetry(ItemRetryEvent event) {
+		historyIndex.invalidateLaunches(Collections.singletonList(event.getLaunchId()));
+	}
+}
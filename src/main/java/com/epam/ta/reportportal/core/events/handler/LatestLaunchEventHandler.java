@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.handler;
+
+import com.epam.ta.reportportal.core.events.launch.LatestLaunchAddedEvent;
+import com.epam.ta.reportportal.core.events.launch.LaunchesDeletedEvent;
+import com.epam.ta.reportportal.core.events.launch.LaunchesMergedEvent;
+import com.epam.ta.reportportal.core.launch.index.LatestLaunchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps {@link LatestLaunchIndex} consistent with the committed changes.
+ * Only names of the deleted and merged launches are invalidated.
+ */
+@Component
+public class LatestLaunchEventHandler {
+
+	private final LatestLaunchIndex latestLaunchIndex;
+
+	@Autowired
+	public LatestLaunchEventHandler(LatestLaunchIndex latestLaunchIndex) {
+		this.latestLaunchIndex = latestLaunchIndex;
+	}
+
+	@TransactionalEventListener
+	public void onLaunchAdded(LatestLaunchAddedEvent event) {
+		latestLaunchIndex.addLaunch(event.getProjectId(), event.getLaunchName(), event.getLaunchId(), event.getNumber());
+	}
+
+	@TransactionalEventListener
+	public void onLaunchesDeleted(LaunchesDeletedEvent event) {
+		latestLaunchIndex.invalidateNames(event.getProjectId(), event.getLaunchNames());
+	}
+
+	@TransactionalEventListener
+	public void onLaunchesMerged(LaunchesMergedEvent event) {
+		latestLaunchIndex.invalidateNames(event.getProjectId(), event.getLaunchNames());
+	}
+}
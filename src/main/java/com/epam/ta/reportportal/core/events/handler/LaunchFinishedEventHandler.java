@@ -17,47 +17,33 @@
 package com.epam.ta.reportportal.core.events.handler;
 
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
-import com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriber;
+import com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriberExecutor;
 import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
 import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
  */
 @Component
 public class LaunchFinishedEventHandler {
 
-	private final ProjectRepository projectRepository;
 	private final LaunchRepository launchRepository;
-	private final List<LaunchFinishedEventSubscriber> launchFinishedEventSubscribers;
+	private final LaunchFinishedEventSubscriberExecutor subscriberExecutor;
 
 	@Autowired
-	public LaunchFinishedEventHandler(ProjectRepository projectRepository, LaunchRepository launchRepository,
-			List<LaunchFinishedEventSubscriber> launchFinishedEventSubscribers) {
-		this.projectRepository = projectRepository;
+	public LaunchFinishedEventHandler(LaunchRepository launchRepository, LaunchFinishedEventSubscriberExecutor subscriberExecutor) {
 		this.launchRepository = launchRepository;
-		this.launchFinishedEventSubscribers = launchFinishedEventSubscribers.stream()
-				.sorted(Comparator.comparingInt(LaunchFinishedEventSubscriber::getOrder))
-				.collect(Collectors.toList());
+		this.subscriberExecutor = subscriberExecutor;
 	}
 
 	@Async
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	@TransactionalEventListener
 	public void onApplicationEvent(LaunchFinishedEvent event) {
 		Launch launch = launchRepository.findById(event.getLaunchActivityResource().getId())
@@ -66,10 +52,8 @@ public class LaunchFinishedEventHandler {
 		if (LaunchModeEnum.DEBUG == launch.getMode()) {
 			return;
 		}
-		Project project = projectRepository.findById(launch.getProjectId())
-				.orElseThrow(() -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, launch.getProjectId()));
 
-		launchFinishedEventSubscribers.forEach(subscriber -> subscriber.handleEvent(event, project, launch));
+		subscriberExecutor.execute(event, launch.getId(), launch.getProjectId());
 
 	}
 
@@ -17,14 +17,38 @@
 package com.epam.ta.reportportal.core.events.handler.subscriber;
 
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.core.project.config.ProjectConfig;
 import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.project.Project;
 import org.springframework.core.Ordered;
 
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
 public interface LaunchFinishedEventSubscriber extends Ordered {
 
-	void handleEvent(LaunchFinishedEvent launchFinishedEvent, Project project, Launch launch);
+	/**
+	 * @param launchFinishedEvent {@link LaunchFinishedEvent}
+	 * @param projectConfig       Cached {@link ProjectConfig} of the launch project
+	 * @param launch              Finished {@link Launch}
+	 */
+	void handleEvent(LaunchFinishedEvent launchFinishedEvent, ProjectConfig projectConfig, Launch launch);
+
+	/**
+	 * Subscribers without dependencies between each other are executed in parallel
+	 *
+	 * @return Types of the subscribers that should be finished before this one
+	 */
+	default Set<Class<? extends LaunchFinishedEventSubscriber>> getDependencies() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * @return Execution timeout in milliseconds, {@code 0} to use the default one
+	 */
+	default long getTimeout() {
+		return 0;
+	}
 }
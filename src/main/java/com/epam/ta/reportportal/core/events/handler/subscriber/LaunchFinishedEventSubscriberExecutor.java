@@ -0,0 +1,205 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.handler.subscriber;
+
+import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.core.project.config.ProjectConfig;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigProvider;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Executes {@link LaunchFinishedEventSubscriber}s of the finished launch. Every subscriber runs
+ * in its own transaction on the {@code launchFinishedTaskExecutor}, so a slow or failed subscriber
+ * doesn't block the others. A subscriber starts after all its {@link LaunchFinishedEventSubscriber#getDependencies()}
+ * are finished, successfully or not.
+ */
+@Component
+public class LaunchFinishedEventSubscriberExecutor {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LaunchFinishedEventSubscriberExecutor.class);
+
+	private static final String SUCCESS = "success";
+	private static final String FAILURE = "failure";
+	private static final String TIMEOUT = "timeout";
+
+	private final AsyncTaskExecutor executor;
+
+	private final TaskScheduler taskScheduler;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ProjectConfigProvider projectConfigProvider;
+
+	private final LaunchRepository launchRepository;
+
+	private final MeterRegistry meterRegistry;
+
+	private final long timeout;
+
+	/**
+	 * Subscribers sorted so that dependencies go first
+	 */
+	private final List<LaunchFinishedEventSubscriber> subscribers;
+
+	@Autowired
+	public LaunchFinishedEventSubscriberExecutor(@Qualifier("launchFinishedTaskExecutor") AsyncTaskExecutor executor,
+			TaskScheduler taskScheduler, PlatformTransactionManager transactionManager, ProjectConfigProvider projectConfigProvider,
+			LaunchRepository launchRepository, MeterRegistry meterRegistry, List<LaunchFinishedEventSubscriber> subscribers,
+			@Value("${rp.launch.finished.subscriber.timeout:1800000}") long timeout) {
+		this.executor = executor;
+		this.taskScheduler = taskScheduler;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.projectConfigProvider = projectConfigProvider;
+		this.launchRepository = launchRepository;
+		this.meterRegistry = meterRegistry;
+		this.timeout = timeout;
+		this.subscribers = sort(subscribers);
+	}
+
+	/**
+	 * Starts execution of the subscribers
+	 *
+	 * @param event     {@link LaunchFinishedEvent}
+	 * @param launchId  Id of the finished launch
+	 * @param projectId Id of the launch project
+	 * @return {@link CompletableFuture} completed when all the subscribers are finished
+	 */
+	public CompletableFuture<Void> execute(LaunchFinishedEvent event, Long launchId, Long projectId) {
+		Map<LaunchFinishedEventSubscriber, CompletableFuture<Void>> futures = new HashMap<>();
+		subscribers.forEach(subscriber -> {
+			CompletableFuture<?>[] dependencies = dependenciesOf(subscriber, subscribers).stream()
+					.map(futures::get)
+					.toArray(CompletableFuture[]::new);
+			futures.put(subscriber,
+					CompletableFuture.allOf(dependencies)
+							.handle((result, e) -> null)
+							.thenCompose(ignored -> submit(subscriber, event, launchId, projectId))
+			);
+		});
+		return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).handle((result, e) -> null);
+	}
+
+	private CompletableFuture<Void> submit(LaunchFinishedEventSubscriber subscriber, LaunchFinishedEvent event, Long launchId,
+			Long projectId) {
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		AtomicBoolean finished = new AtomicBoolean();
+		String name = subscriber.getClass().getSimpleName();
+		long start = System.nanoTime();
+		try {
+			Future<?> task = executor.submit(() -> {
+				try {
+					transactionTemplate.execute(status -> {
+						Launch launch = launchRepository.findById(launchId)
+								.orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, launchId));
+						ProjectConfig projectConfig = projectConfigProvider.get(projectId);
+						subscriber.handleEvent(event, projectConfig, launch);
+						return null;
+					});
+					if (finished.compareAndSet(false, true)) {
+						record(name, SUCCESS, start);
+						result.complete(null);
+					}
+				} catch (Exception e) {
+					if (finished.compareAndSet(false, true)) {
+						record(name, FAILURE, start);
+						LOGGER.error("Subscriber '{}' failed on launch '{}'", name, launchId, e);
+						result.completeExceptionally(e);
+					}
+				}
+			});
+			long subscriberTimeout = subscriber.getTimeout() > 0 ? subscriber.getTimeout() : timeout;
+			ScheduledFuture<?> timer = taskScheduler.schedule(() -> {
+				if (finished.compareAndSet(false, true)) {
+					task.cancel(true);
+					record(name, TIMEOUT, start);
+					LOGGER.error("Subscriber '{}' timed out on launch '{}' after {} ms", name, launchId, subscriberTimeout);
+					result.completeExceptionally(new TimeoutException());
+				}
+			}, new Date(System.currentTimeMillis() + subscriberTimeout));
+			result.whenComplete((r, e) -> timer.cancel(false));
+		} catch (Exception e) {
+			LOGGER.error("Unable to execute subscriber '{}' on launch '{}'", name, launchId, e);
+			result.completeExceptionally(e);
+		}
+		return result;
+	}
+
+	private void record(String subscriber, String outcome, long start) {
+		Timer.builder("rp.launch.finished.subscriber")
+				.description("Execution time of the launch finished event subscribers")
+				.tag("subscriber", subscriber)
+				.tag("outcome", outcome)
+				.register(meterRegistry)
+				.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
+	private static List<LaunchFinishedEventSubscriber> dependenciesOf(LaunchFinishedEventSubscriber subscriber,
+			Collection<LaunchFinishedEventSubscriber> candidates) {
+		return candidates.stream()
+				.filter(candidate -> candidate != subscriber && subscriber.getDependencies()
+						.stream()
+						.anyMatch(dependency -> dependency.isInstance(candidate)))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Sorts subscribers by {@link LaunchFinishedEventSubscriber#getOrder()}, moving a subscriber after its dependencies
+	 */
+	private static List<LaunchFinishedEventSubscriber> sort(List<LaunchFinishedEventSubscriber> subscribers) {
+		List<LaunchFinishedEventSubscriber> remaining = subscribers.stream()
+				.sorted(Comparator.comparingInt(LaunchFinishedEventSubscriber::getOrder))
+				.collect(Collectors.toCollection(LinkedList::new));
+		List<LaunchFinishedEventSubscriber> sorted = new ArrayList<>(remaining.size());
+		while (!remaining.isEmpty()) {
+			LaunchFinishedEventSubscriber next = remaining.stream()
+					.filter(subscriber -> sorted.containsAll(dependenciesOf(subscriber, subscribers)))
+					.findFirst()
+					.orElseThrow(() -> new IllegalStateException("Cyclic dependencies between subscribers: " + remaining.stream()
+							.map(it -> it.getClass().getSimpleName())
+							.collect(Collectors.joining(", "))));
+			remaining.remove(next);
+			sorted.add(next);
+		}
+		return sorted;
+	}
+}
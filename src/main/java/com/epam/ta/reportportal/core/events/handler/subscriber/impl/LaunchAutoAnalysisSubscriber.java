@@ -18,13 +18,12 @@ package com.epam.ta.reportportal.core.events.handler.subscriber.impl;
 
 import com.epam.ta.reportportal.core.analyzer.auto.AnalyzerServiceAsync;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
-import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeCollectorFactory;
 import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeItemsMode;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriber;
+import com.epam.ta.reportportal.core.project.config.ProjectConfig;
 import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,18 +51,18 @@ public class LaunchAutoAnalysisSubscriber implements LaunchFinishedEventSubscrib
 	}
 
 	@Override
-	public void handleEvent(LaunchFinishedEvent launchFinishedEvent, Project project, Launch launch) {
-		AnalyzerConfig analyzerConfig = AnalyzerUtils.getAnalyzerConfig(project);
+	public void handleEvent(LaunchFinishedEvent launchFinishedEvent, ProjectConfig projectConfig, Launch launch) {
+		AnalyzerConfig analyzerConfig = projectConfig.getAnalyzerConfig();
 		if (BooleanUtils.isTrue(analyzerConfig.getIsAutoAnalyzerEnabled()) && analyzerServiceAsync.hasAnalyzers()) {
 			List<Long> itemIds = analyzeCollectorFactory.getCollector(AnalyzeItemsMode.TO_INVESTIGATE)
-					.collectItems(project.getId(), launch.getId(), launchFinishedEvent.getUser());
-			logIndexer.indexLaunchLogs(project.getId(), launch.getId(), analyzerConfig).join();
+					.collectItems(launch.getProjectId(), launch.getId(), launchFinishedEvent.getUser());
+			logIndexer.indexLaunchLogs(launch.getProjectId(), launch.getId(), analyzerConfig).join();
 			analyzerServiceAsync.analyze(launch, itemIds, analyzerConfig).join();
 
 			//TODO provide executor
-			CompletableFuture.supplyAsync(() -> logIndexer.indexItemsLogs(project.getId(), launch.getId(), itemIds, analyzerConfig));
+			CompletableFuture.supplyAsync(() -> logIndexer.indexItemsLogs(launch.getProjectId(), launch.getId(), itemIds, analyzerConfig));
 		} else {
-			logIndexer.indexLaunchLogs(project.getId(), launch.getId(), analyzerConfig);
+			logIndexer.indexLaunchLogs(launch.getProjectId(), launch.getId(), analyzerConfig);
 		}
 	}
 
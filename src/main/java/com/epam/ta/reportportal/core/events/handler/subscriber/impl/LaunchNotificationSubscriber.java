@@ -19,7 +19,9 @@ package com.epam.ta.reportportal.core.events.handler.subscriber.impl;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriber;
 import com.epam.ta.reportportal.core.integration.GetIntegrationHandler;
+import com.epam.ta.reportportal.core.project.config.ProjectConfig;
 import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
 import com.epam.ta.reportportal.entity.enums.IntegrationGroupEnum;
 import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
@@ -31,8 +33,8 @@ import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.entity.project.ProjectUtils;
 import com.epam.ta.reportportal.entity.project.email.LaunchAttributeRule;
 import com.epam.ta.reportportal.entity.project.email.SenderCase;
-import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.util.email.EmailDispatcher;
 import com.epam.ta.reportportal.util.email.EmailService;
 import com.epam.ta.reportportal.util.email.MailServiceFactory;
 import com.epam.ta.reportportal.ws.converter.converters.NotificationConfigConverter;
@@ -40,19 +42,21 @@ import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributeResource;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.lang3.BooleanUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
+import javax.mail.internet.MimeMessage;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.core.statistics.StatisticsHelper.extractStatisticsCount;
 import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+import static java.util.Optional.ofNullable;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -62,82 +66,120 @@ public class LaunchNotificationSubscriber implements LaunchFinishedEventSubscrib
 
 	public static final Logger LOGGER = LoggerFactory.getLogger(LaunchNotificationSubscriber.class);
 
+	private static final String SELECT_EMAILS = "SELECT login, email FROM users WHERE login IN (:logins)";
+
 	private final GetIntegrationHandler getIntegrationHandler;
 	private final MailServiceFactory mailServiceFactory;
 	private final LaunchRepository launchRepository;
 	private final UserRepository userRepository;
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final EmailDispatcher emailDispatcher;
+	private final ProjectRepository projectRepository;
 
 	@Autowired
 	public LaunchNotificationSubscriber(GetIntegrationHandler getIntegrationHandler, MailServiceFactory mailServiceFactory,
-			LaunchRepository launchRepository, UserRepository userRepository) {
+			LaunchRepository launchRepository, UserRepository userRepository, NamedParameterJdbcTemplate jdbcTemplate,
+			EmailDispatcher emailDispatcher, ProjectRepository projectRepository) {
 		this.getIntegrationHandler = getIntegrationHandler;
 		this.mailServiceFactory = mailServiceFactory;
 		this.launchRepository = launchRepository;
 		this.userRepository = userRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.emailDispatcher = emailDispatcher;
+		this.projectRepository = projectRepository;
 	}
 
 	@Override
-	public void handleEvent(LaunchFinishedEvent launchFinishedEvent, Project project, Launch launch) {
+	public void handleEvent(LaunchFinishedEvent launchFinishedEvent, ProjectConfig projectConfig, Launch launch) {
 
-		boolean isNotificationsEnabled = BooleanUtils.toBoolean(ProjectUtils.getConfigParameters(project.getProjectAttributes())
-				.get(ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getAttribute()));
+		boolean isNotificationsEnabled = projectConfig.isEnabled(ProjectAttributeEnum.NOTIFICATIONS_ENABLED);
 
 		if (isNotificationsEnabled) {
-			Integration emailIntegration = getIntegrationHandler.getEnabledByProjectIdOrGlobalAndIntegrationGroup(project.getId(),
+			Integration emailIntegration = getIntegrationHandler.getEnabledByProjectIdOrGlobalAndIntegrationGroup(launch.getProjectId(),
 					IntegrationGroupEnum.NOTIFICATION
 			).orElseThrow(() -> new ReportPortalException(ErrorType.INTEGRATION_NOT_FOUND, "EMAIL"));
 			Optional<EmailService> emailService = mailServiceFactory.getDefaultEmailService(emailIntegration);
 			emailService.ifPresent(it -> {
+				Project project = projectRepository.findById(launch.getProjectId())
+						.orElseThrow(() -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, launch.getProjectId()));
 				launchRepository.refresh(launch);
-				sendEmail(launch, project, it, launchFinishedEvent.getBaseUrl());
+				emailDispatcher.send(emailIntegration.getId(), it, createEmails(launch, project, it, launchFinishedEvent.getBaseUrl()));
 			});
 		}
 
 	}
 
 	/**
-	 * Try to send email when it is needed
+	 * Creates emails of the matched sender cases. The rules are evaluated and the letter is rendered
+	 * in the current transaction, the emails are sent later by {@link EmailDispatcher}
 	 *
 	 * @param launch       Launch to be used
 	 * @param project      Project
 	 * @param emailService Mail Service
+	 * @return Emails to send
 	 */
-	private void sendEmail(Launch launch, Project project, EmailService emailService, String baseUrl) {
-
-		project.getSenderCases().stream().filter(SenderCase::isEnabled).forEach(ec -> {
-			SendCase sendCase = ec.getSendCase();
-			boolean successRate = isSuccessRateEnough(launch, sendCase);
-			boolean matchedNames = isLaunchNameMatched(launch, ec);
-			boolean matchedTags = isAttributesMatched(launch, ec.getLaunchAttributeRules());
-
-			Set<String> recipients = ec.getRecipients();
-			if (successRate && matchedNames && matchedTags) {
-				String[] recipientsArray = findRecipients(userRepository.findLoginById(launch.getUserId())
-						.orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, launch.getUserId())), recipients);
-				try {
-					emailService.sendLaunchFinishNotification(recipientsArray,
-							String.format("%s/ui/#%s", baseUrl, project.getName()),
-							project,
-							launch
-					);
-				} catch (Exception e) {
-					LOGGER.error("Unable to send email. Error: \n{}", e);
-				}
+	private List<MimeMessage> createEmails(Launch launch, Project project, EmailService emailService, String baseUrl) {
+		List<Set<String>> matchedRecipients = project.getSenderCases()
+				.stream()
+				.filter(SenderCase::isEnabled)
+				.filter(ec -> isSuccessRateEnough(launch, ec.getSendCase()) && isLaunchNameMatched(launch, ec)
+						&& isAttributesMatched(launch, ec.getLaunchAttributeRules()))
+				.map(SenderCase::getRecipients)
+				.collect(Collectors.toList());
+		if (matchedRecipients.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Map<String, String> emails = findEmails(launch, matchedRecipients);
+		String subject = emailService.getLaunchFinishSubject(project, launch);
+		String text = emailService.mergeFinishLaunchText(String.format("%s/ui/#%s", baseUrl, project.getName()),
+				launch,
+				project.getProjectIssueTypes()
+		);
+
+		List<MimeMessage> messages = new ArrayList<>(matchedRecipients.size());
+		matchedRecipients.forEach(recipients -> {
+			String[] recipientsArray = recipients.stream()
+					.map(recipient -> recipient.contains("@") ? recipient : emails.get(recipient))
+					.filter(Objects::nonNull)
+					.distinct()
+					.toArray(String[]::new);
+			try {
+				messages.add(emailService.createLaunchFinishNotification(recipientsArray, subject, text));
+			} catch (Exception e) {
+				LOGGER.error("Unable to create email. Error: \n{}", e);
 			}
 		});
-
+		return messages;
 	}
 
-	private String[] findRecipients(String owner, Set<String> recipients) {
-		return recipients.stream().map(recipient -> {
-			if (recipient.contains("@")) {
-				return recipient;
-			} else {
-				String toFind = recipient.equals(ProjectUtils.getOwner()) ? owner : recipient;
-				Optional<User> user = userRepository.findByLogin(toFind);
-				return user.map(User::getEmail).orElse(null);
-			}
-		}).filter(Objects::nonNull).distinct().toArray(String[]::new);
+	/**
+	 * Resolves emails of all the recipients, specified by login, with a single query
+	 *
+	 * @return Recipient - email. The owner recipient is resolved to the email of the launch owner
+	 */
+	private Map<String, String> findEmails(Launch launch, List<Set<String>> recipients) {
+		Set<String> logins = recipients.stream()
+				.flatMap(Set::stream)
+				.filter(recipient -> !recipient.contains("@"))
+				.collect(Collectors.toSet());
+		if (logins.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		String owner = null;
+		if (logins.remove(ProjectUtils.getOwner())) {
+			owner = userRepository.findLoginById(launch.getUserId())
+					.orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, launch.getUserId()));
+			logins.add(owner);
+		}
+
+		Map<String, String> emails = new HashMap<>();
+		jdbcTemplate.query(SELECT_EMAILS,
+				new MapSqlParameterSource("logins", logins),
+				(RowCallbackHandler) rs -> emails.put(rs.getString("login"), rs.getString("email"))
+		);
+		ofNullable(owner).map(emails::get).ifPresent(email -> emails.put(ProjectUtils.getOwner(), email));
+		return emails;
 	}
 
 	/**
@@ -217,6 +259,11 @@ public class LaunchNotificationSubscriber implements LaunchFinishedEventSubscrib
 						.collect(Collectors.toSet()));
 	}
 
+	@Override
+	public Set<Class<? extends LaunchFinishedEventSubscriber>> getDependencies() {
+		return Collections.singleton(LaunchAutoAnalysisSubscriber.class);
+	}
+
 	@Override
 	public int getOrder() {
 		return 2;
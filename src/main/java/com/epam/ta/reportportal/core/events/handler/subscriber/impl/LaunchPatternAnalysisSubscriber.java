@@ -20,15 +20,14 @@ import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeItems
 import com.epam.ta.reportportal.core.analyzer.pattern.PatternAnalyzer;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriber;
+import com.epam.ta.reportportal.core.project.config.ProjectConfig;
 import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
 import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.project.Project;
-import com.epam.ta.reportportal.entity.project.ProjectUtils;
-import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
+import java.util.Set;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -44,16 +43,20 @@ public class LaunchPatternAnalysisSubscriber implements LaunchFinishedEventSubsc
 	}
 
 	@Override
-	public void handleEvent(LaunchFinishedEvent launchFinishedEvent, Project project, Launch launch) {
+	public void handleEvent(LaunchFinishedEvent launchFinishedEvent, ProjectConfig projectConfig, Launch launch) {
 
-		boolean isPatternAnalysisEnabled = BooleanUtils.toBoolean(ProjectUtils.getConfigParameters(project.getProjectAttributes())
-				.get(ProjectAttributeEnum.AUTO_PATTERN_ANALYZER_ENABLED.getAttribute()));
+		boolean isPatternAnalysisEnabled = projectConfig.isEnabled(ProjectAttributeEnum.AUTO_PATTERN_ANALYZER_ENABLED);
 
 		if (isPatternAnalysisEnabled) {
 			patternAnalyzer.analyzeTestItems(launch, Collections.singleton(AnalyzeItemsMode.TO_INVESTIGATE));
 		}
 	}
 
+	@Override
+	public Set<Class<? extends LaunchFinishedEventSubscriber>> getDependencies() {
+		return Collections.singleton(LaunchAutoAnalysisSubscriber.class);
+	}
+
 	@Override
 	public int getOrder() {
 		return 3;
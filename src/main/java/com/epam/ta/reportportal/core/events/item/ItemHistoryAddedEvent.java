@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.events.item;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when item that is a part of the test case history is finished
+ */
+public class ItemHistoryAddedEvent {
+
+	private final Long projectId;
+
+	private final Long launchId;
+
+	private final String launchName;
+
+	private final Integer testCaseHash;
+
+	private final Long itemId;
+
+	private final LocalDateTime startTime;
+
+	public ItemHistoryAddedEvent(Long projectId, Long launchId, String launchName, Integer testCaseHash, Long itemId,
+			LocalDateTime startTime) {
+		this.projectId = projectId;
+		this.launchId = launchId;
+		this.launchName = launchName;
+		this.testCaseHash = testCaseHash;
+		this.itemId = itemId;
+		this.startTime = startTime;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public Long getLaunchId() {
+		return launchId;
+	}
+
+	public String getLaunchName() {
+		return launchName;
+	}
+
+	public Integer getTestCaseHash() {
+		return testCaseHash;
+	}
+
+	public Long getItemId() {
+		return itemId;
+	}
+
+	public LocalDateTime getStartTime() {
+		return startTime;
+	}
+}
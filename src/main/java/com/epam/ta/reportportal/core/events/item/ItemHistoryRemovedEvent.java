@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.events.item;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Published when the test case history of the project is changed not by the item finish:
+ * with launches ids when the launches or their items are deleted, without ids when the whole project history is affected
+ * (e.g. launches merge, retention cleanup or items finished in bulk)
+ */
+public class ItemHistoryRemovedEvent {
+
+	private final Long projectId;
+
+	private final Collection<Long> launchIds;
+
+	private ItemHistoryRemovedEvent(Long projectId, Collection<Long> launchIds) {
+		this.projectId = projectId;
+		this.launchIds = launchIds;
+	}
+
+	public static ItemHistoryRemovedEvent ofLaunches(Long projectId, Collection<Long> launchIds) {
+		return new ItemHistoryRemovedEvent(projectId, Collections.unmodifiableCollection(launchIds));
+	}
+
+	public static ItemHistoryRemovedEvent ofProject(Long projectId) {
+		return new ItemHistoryRemovedEvent(projectId, null);
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public Optional<Collection<Long>> getLaunchIds() {
+		return Optional.ofNullable(launchIds);
+	}
+}
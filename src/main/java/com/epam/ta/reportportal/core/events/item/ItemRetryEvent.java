@@ -23,10 +23,13 @@ public class ItemRetryEvent {
 
 	private Long projectId;
 
+	private Long launchId;
+
 	private Long itemId;
 
-	public ItemRetryEvent(Long projectId, Long itemId) {
+	public ItemRetryEvent(Long projectId, Long launchId, Long itemId) {
 		this.projectId = projectId;
+		this.launchId = launchId;
 		this.itemId = itemId;
 	}
 
@@ -34,6 +37,10 @@ public class ItemRetryEvent {
 		return projectId;
 	}
 
+	public Long getLaunchId() {
+		return launchId;
+	}
+
 	public Long getItemId() {
 		return itemId;
 	}
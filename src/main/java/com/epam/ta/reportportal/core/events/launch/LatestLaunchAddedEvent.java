@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.launch;
+
+/**
+ * Published when a new launch is started, it becomes the latest launch with such name in the project
+ */
+public class LatestLaunchAddedEvent {
+
+	private final Long projectId;
+
+	private final String launchName;
+
+	private final Long launchId;
+
+	private final Long number;
+
+	public LatestLaunchAddedEvent(Long projectId, String launchName, Long launchId, Long number) {
+		this.projectId = projectId;
+		this.launchName = launchName;
+		this.launchId = launchId;
+		this.number = number;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public String getLaunchName() {
+		return launchName;
+	}
+
+	public Long getLaunchId() {
+		return launchId;
+	}
+
+	public Long getNumber() {
+		return number;
+	}
+}
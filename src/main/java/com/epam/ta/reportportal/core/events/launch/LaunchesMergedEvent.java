@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.launch;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Published when launches are merged: the merged launches are deleted and the new one is created,
+ * so the latest launches with the names of both may be changed
+ */
+public class LaunchesMergedEvent {
+
+	private final Long projectId;
+
+	private final Collection<String> launchNames;
+
+	public LaunchesMergedEvent(Long projectId, Collection<String> launchNames) {
+		this.projectId = projectId;
+		this.launchNames = Collections.unmodifiableCollection(launchNames);
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public Collection<String> getLaunchNames() {
+		return launchNames;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV writer
+ */
+public class CsvReportWriter implements TabularReportWriter {
+
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+	private static final String LINE_SEPARATOR = "\r\n";
+
+	private final Writer writer;
+
+	public CsvReportWriter(OutputStream outputStream) {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public void writeRow(List<?> values) throws IOException {
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				writer.write(SEPARATOR);
+			}
+			writeValue(values.get(i));
+		}
+		writer.write(LINE_SEPARATOR);
+	}
+
+	private void writeValue(Object value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		String text = String.valueOf(value);
+		if (requiresQuoting(text)) {
+			writer.write(QUOTE);
+			writer.write(text.replace("\"", "\"\""));
+			writer.write(QUOTE);
+		} else {
+			writer.write(text);
+		}
+	}
+
+	private static boolean requiresQuoting(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Flushes the buffered rows. The underlying stream is owned by the caller and stays open.
+	 */
+	@Override
+	public void close() throws IOException {
+		writer.flush();
+	}
+}
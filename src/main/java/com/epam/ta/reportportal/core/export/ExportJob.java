@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.export;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Export rendered in background. State of the job and its result are stored in the data store until they expire,
+ * so they are available on every node.
+ */
+public class ExportJob {
+
+	public enum Status {
+		IN_PROGRESS,
+		FINISHED,
+		FAILED
+	}
+
+	@JsonProperty
+	private final String id;
+
+	@JsonProperty
+	private final String key;
+
+	@JsonProperty
+	private final Long ownerId;
+
+	@JsonProperty
+	private final String fileName;
+
+	@JsonProperty
+	private final String contentType;
+
+	@JsonProperty
+	private final Instant createdAt;
+
+	@JsonProperty
+	private volatile Status status;
+
+	@JsonProperty
+	private volatile Instant finishedAt;
+
+	@JsonProperty
+	private volatile String message;
+
+	ExportJob(String key, Long ownerId, String fileName, String contentType) {
+		this(UUID.randomUUID().toString(), key, ownerId, fileName, contentType, Instant.now(), Status.IN_PROGRESS, null, null);
+	}
+
+	@JsonCreator
+	ExportJob(@JsonProperty("id") String id, @JsonProperty("key") String key, @JsonProperty("ownerId") Long ownerId,
+			@JsonProperty("fileName") String fileName, @JsonProperty("contentType") String contentType,
+			@JsonProperty("createdAt") Instant createdAt, @JsonProperty("status") Status status,
+			@JsonProperty("finishedAt") Instant finishedAt, @JsonProperty("message") String message) {
+		this.id = id;
+		this.key = key;
+		this.ownerId = ownerId;
+		this.fileName = fileName;
+		this.contentType = contentType;
+		this.createdAt = createdAt;
+		this.status = status;
+		this.finishedAt = finishedAt;
+		this.message = message;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	String getKey() {
+		return key;
+	}
+
+	public Long getOwnerId() {
+		return ownerId;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public Instant getFinishedAt() {
+		return finishedAt;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	void finish() {
+		finishedAt = Instant.now();
+		status = Status.FINISHED;
+	}
+
+	void fail(String message) {
+		this.message = message;
+		finishedAt = Instant.now();
+		status = Status.FAILED;
+	}
+
+	boolean isExpired(Instant expiredBefore) {
+		return finishedAt != null && finishedAt.isBefore(expiredBefore);
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.export;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Date;
+
+/**
+ * State of the {@link ExportJob}
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExportJobRS {
+
+	@JsonProperty
+	private String id;
+
+	@JsonProperty
+	private String status;
+
+	@JsonProperty
+	private String fileName;
+
+	@JsonProperty
+	private Date createdAt;
+
+	@JsonProperty
+	private Date finishedAt;
+
+	@JsonProperty
+	private String message;
+
+	public static ExportJobRS of(ExportJob job) {
+		ExportJobRS rs = new ExportJobRS();
+		rs.setId(job.getId());
+		rs.setStatus(job.getStatus().name());
+		rs.setFileName(job.getFileName());
+		rs.setCreatedAt(Date.from(job.getCreatedAt()));
+		if (job.getFinishedAt() != null) {
+			rs.setFinishedAt(Date.from(job.getFinishedAt()));
+		}
+		rs.setMessage(job.getMessage());
+		return rs;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	public Date getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(Date createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public Date getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void setFinishedAt(Date finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public void setMessage(String message) {
+		this.message = message;
+	}
+}
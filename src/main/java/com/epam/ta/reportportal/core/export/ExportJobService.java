@@ -0,0 +1,271 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.export;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.filesystem.DataStore;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StreamUtils;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static com.epam.ta.reportportal.commons.Predicates.equalTo;
+import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
+import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
+
+/**
+ * Renders exports on the bounded executor, so request threads are not blocked for the rendering time.
+ * Results are spooled to the local temporary file while rendered and then moved to the {@link DataStore} with the state of the job,
+ * so status and result of the job are available on every node. Identical requests of the same user share a single job
+ * while it is in progress on this node. Finished results are never reused, so the new request always gets the actual data.
+ */
+@Service
+public class ExportJobService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExportJobService.class);
+
+	private static final String STORE_DIRECTORY = "export/";
+
+	private static final String JOB_SUFFIX = ".json";
+
+	private final ThreadPoolTaskExecutor executor;
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	private final DataStore dataStore;
+
+	private final ObjectMapper objectMapper;
+
+	private final Path directory;
+
+	private final Duration ttl;
+
+	/**
+	 * Jobs run on this node that aren't removed from the data store yet
+	 */
+	private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+	private final Map<String, ExportJob> jobsByKey = new ConcurrentHashMap<>();
+
+	@Autowired
+	public ExportJobService(@Qualifier("exportTaskExecutor") ThreadPoolTaskExecutor executor, EntityManagerFactory entityManagerFactory,
+			DataStore dataStore, ObjectMapper objectMapper,
+			@Value("${rp.export.jobs.directory:${java.io.tmpdir}/reportportal/export}") String directory,
+			@Value("${rp.export.jobs.ttl:60}") long ttlMinutes) throws IOException {
+		this.executor = executor;
+		this.entityManagerFactory = entityManagerFactory;
+		this.dataStore = dataStore;
+		this.objectMapper = objectMapper;
+		this.directory = Files.createDirectories(Paths.get(directory));
+		this.ttl = Duration.ofMinutes(ttlMinutes);
+	}
+
+	/**
+	 * @param user        Owner of the job
+	 * @param key         Unique representation of the export request, e.g. URI with the query
+	 * @param fileName    Name of the result file
+	 * @param contentType Content type of the result
+	 * @param exporter    Writes export to the provided stream
+	 * @return New {@link ExportJob} or the one with the same key that is in progress
+	 */
+	public ExportJob submit(ReportPortalUser user, String key, String fileName, String contentType, Consumer<OutputStream> exporter) {
+		ExportJob created = new ExportJob(key, user.getUserId(), fileName, contentType);
+		ExportJob job = jobsByKey.compute(keyOf(created),
+				(k, existing) -> existing != null && existing.getStatus() == ExportJob.Status.IN_PROGRESS ? existing : created
+		);
+		if (job != created) {
+			return job;
+		}
+
+		jobs.put(job.getId(), job);
+		try {
+			store(job);
+			executor.execute(() -> run(job, exporter));
+		} catch (TaskRejectedException e) {
+			remove(job);
+			throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Too many exports are in progress. Please try again later.");
+		} catch (RuntimeException e) {
+			remove(job);
+			throw e;
+		}
+		return job;
+	}
+
+	/**
+	 * @param user  Requesting user, only the owner and administrators have access to the job
+	 * @param jobId Id of the job submitted on any node
+	 * @return {@link ExportJob}
+	 */
+	public ExportJob getJob(ReportPortalUser user, String jobId) {
+		ExportJob job = load(jobId);
+		expect(job != null && !job.isExpired(Instant.now().minus(ttl)) && (job.getOwnerId().equals(user.getUserId())
+				|| user.getUserRole() == UserRole.ADMINISTRATOR), equalTo(true)).verify(ErrorType.ATTACHMENT_NOT_FOUND, jobId);
+		return job;
+	}
+
+	/**
+	 * Writes result of the finished job to the stream
+	 */
+	public void writeResult(ExportJob job, OutputStream outputStream) {
+		expect(job.getStatus(), equalTo(ExportJob.Status.FINISHED)).verify(ErrorType.BAD_REQUEST_ERROR,
+				formattedSupplier("Export job with id = '{}' is not finished", job.getId())
+		);
+		try (InputStream result = dataStore.load(resultPath(job.getId()))) {
+			StreamUtils.copy(result, outputStream);
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.UNABLE_TO_LOAD_BINARY_DATA, e.getMessage());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${rp.export.jobs.cleanup:60000}")
+	public void removeExpired() {
+		Instant expiredBefore = Instant.now().minus(ttl);
+		jobs.values().stream().filter(job -> job.isExpired(expiredBefore)).forEach(this::remove);
+	}
+
+	/**
+	 * Entity manager is kept open for the job the same way as for the web request, so entities can be lazily loaded
+	 * while each query runs in its own short transaction and no transaction is held for the rendering time
+	 */
+	private void run(ExportJob job, Consumer<OutputStream> exporter) {
+		EntityManagerHolder entityManagerHolder = new EntityManagerHolder(entityManagerFactory.createEntityManager());
+		TransactionSynchronizationManager.bindResource(entityManagerFactory, entityManagerHolder);
+		Path file = directory.resolve(job.getId());
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(file)) {
+				exporter.accept(outputStream);
+			}
+			try (InputStream inputStream = new FileInputStream(file.toFile())) {
+				dataStore.save(resultPath(job.getId()), inputStream);
+			}
+			job.finish();
+		} catch (Exception e) {
+			LOGGER.error("Export job '{}' has failed", job.getId(), e);
+			job.fail(e.getMessage());
+		} finally {
+			TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+			EntityManagerFactoryUtils.closeEntityManager(entityManagerHolder.getEntityManager());
+			deleteFile(job, file);
+			storeState(job);
+			jobsByKey.remove(keyOf(job), job);
+		}
+	}
+
+	private void store(ExportJob job) {
+		try {
+			dataStore.save(jobPath(job.getId()), new ByteArrayInputStream(objectMapper.writeValueAsBytes(job)));
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.BINARY_DATA_CANNOT_BE_SAVED, e.getMessage());
+		}
+	}
+
+	/**
+	 * Failure to store the final state is logged only: the job stays in progress for the other nodes until it expires
+	 */
+	private void storeState(ExportJob job) {
+		try {
+			store(job);
+		} catch (Exception e) {
+			LOGGER.error("Unable to store state of the export job '{}'", job.getId(), e);
+		}
+	}
+
+	/**
+	 * @return Stored job or 'null' if there is no job with such id
+	 */
+	private ExportJob load(String jobId) {
+		if (!isValidId(jobId) || !dataStore.exists(jobPath(jobId))) {
+			return null;
+		}
+		try (InputStream inputStream = dataStore.load(jobPath(jobId))) {
+			return objectMapper.readValue(inputStream, ExportJob.class);
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.UNABLE_TO_LOAD_BINARY_DATA, e.getMessage());
+		}
+	}
+
+	private void remove(ExportJob job) {
+		jobs.remove(job.getId());
+		jobsByKey.remove(keyOf(job), job);
+		try {
+			dataStore.delete(resultPath(job.getId()));
+			dataStore.delete(jobPath(job.getId()));
+		} catch (Exception e) {
+			LOGGER.warn("Unable to delete export job '{}' from the data store", job.getId(), e);
+		}
+	}
+
+	private void deleteFile(ExportJob job, Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to delete temporary result of the export job '{}'", job.getId(), e);
+		}
+	}
+
+	/**
+	 * Id is a part of the data store path, so only ids generated by {@link ExportJob} are accepted
+	 */
+	private static boolean isValidId(String jobId) {
+		try {
+			return UUID.fromString(jobId).toString().equals(jobId);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private static String keyOf(ExportJob job) {
+		return job.getOwnerId() + ":" + job.getKey();
+	}
+
+	private static String jobPath(String jobId) {
+		return STORE_DIRECTORY + jobId + JOB_SUFFIX;
+	}
+
+	private static String resultPath(String jobId) {
+		return STORE_DIRECTORY + jobId;
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.export;
+
+import com.epam.ta.reportportal.entity.jasper.ReportFormat;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Report formats which are written row by row without Jasper rendering
+ */
+public enum TabularFormat {
+
+	CSV(ReportFormat.CSV, "csv", "text/csv", CsvReportWriter::new),
+	XLSX(ReportFormat.XLS, "xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", XlsxReportWriter::new);
+
+	private final ReportFormat reportFormat;
+
+	private final String extension;
+
+	private final String contentType;
+
+	private final Function<OutputStream, TabularReportWriter> writerFactory;
+
+	TabularFormat(ReportFormat reportFormat, String extension, String contentType,
+			Function<OutputStream, TabularReportWriter> writerFactory) {
+		this.reportFormat = reportFormat;
+		this.extension = extension;
+		this.contentType = contentType;
+		this.writerFactory = writerFactory;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public TabularReportWriter createWriter(OutputStream outputStream) {
+		return writerFactory.apply(outputStream);
+	}
+
+	public static Optional<TabularFormat> of(ReportFormat reportFormat) {
+		return Arrays.stream(values()).filter(it -> it.reportFormat == reportFormat).findFirst();
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.export;
+
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.job.PageUtil;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Streams filtered entities to the tabular report page by page,
+ * so only a single page of entities is kept in memory regardless of the report size.
+ */
+@Component
+public class TabularReportExporter {
+
+	private final int pageSize;
+
+	public TabularReportExporter(@Value("${rp.export.pageSize:500}") int pageSize) {
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * @param format       {@link TabularFormat}
+	 * @param outputStream Stream report should be written to
+	 * @param columns      Report columns, used as header row
+	 * @param sort         Unique sort to keep pages consistent
+	 * @param pageSupplier Loads page of the entities
+	 * @param converter    Converts entity to the {@link Map} with column name as KEY and cell as VALUE
+	 * @param <T>          Type of the exported entity
+	 */
+	public <T> void export(TabularFormat format, OutputStream outputStream, List<String> columns, Sort sort,
+			Function<Pageable, Page<T>> pageSupplier, Function<T, Map<String, ?>> converter) {
+		try (TabularReportWriter writer = format.createWriter(outputStream)) {
+			writer.writeRow(columns);
+			PageUtil.iterateOverPages(pageSize,
+					pageable -> pageSupplier.apply(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)),
+					entities -> entities.forEach(entity -> writeRow(writer, columns, converter.apply(entity)))
+			);
+		} catch (IOException | UncheckedIOException e) {
+			throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Unable to write data to the response.");
+		}
+	}
+
+	/**
+	 * @param format       {@link TabularFormat}
+	 * @param outputStream Stream report should be written to
+	 * @param columns      Report columns, used as header row
+	 * @param entities     Lazily loaded entities
+	 * @param converter    Converts entity to the {@link Map} with column name as KEY and cell as VALUE
+	 * @param <T>          Type of the exported entity
+	 */
+	public <T> void export(TabularFormat format, OutputStream outputStream, List<String> columns, Iterator<T> entities,
+			Function<T, Map<String, ?>> converter) {
+		try (TabularReportWriter writer = format.createWriter(outputStream)) {
+			writer.writeRow(columns);
+			entities.forEachRemaining(entity -> writeRow(writer, columns, converter.apply(entity)));
+		} catch (IOException | UncheckedIOException e) {
+			throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Unable to write data to the response.");
+		}
+	}
+
+	private static void writeRow(TabularReportWriter writer, List<String> columns, Map<String, ?> row) {
+		List<Object> values = new ArrayList<>(columns.size());
+		columns.forEach(column -> values.add(row.get(column)));
+		try {
+			writer.writeRow(values);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes report rows directly to the output without keeping them in memory
+ */
+public interface TabularReportWriter extends Closeable {
+
+	/**
+	 * Appends row to the report
+	 *
+	 * @param values Cell values in the order of columns
+	 * @throws IOException if the row can't be written to the output
+	 */
+	void writeRow(List<?> values) throws IOException;
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.export;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * XLSX writer based on the streaming {@link SXSSFWorkbook}: only the last rows window is kept in memory,
+ * the rest are flushed to the temporary file and copied to the output on close.
+ */
+public class XlsxReportWriter implements TabularReportWriter {
+
+	private static final int ROWS_WINDOW = 100;
+
+	//xlsx limitation
+	private static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+	private final OutputStream outputStream;
+
+	private final SXSSFWorkbook workbook;
+
+	private Sheet sheet;
+
+	private int rowNumber;
+
+	public XlsxReportWriter(OutputStream outputStream) {
+		this.outputStream = outputStream;
+		this.workbook = new SXSSFWorkbook(ROWS_WINDOW);
+		this.workbook.setCompressTempFiles(true);
+		this.sheet = workbook.createSheet();
+	}
+
+	@Override
+	public void writeRow(List<?> values) {
+		if (rowNumber == MAX_ROWS_PER_SHEET) {
+			sheet = workbook.createSheet();
+			rowNumber = 0;
+		}
+		Row row = sheet.createRow(rowNumber++);
+		for (int i = 0; i < values.size(); i++) {
+			Object value = values.get(i);
+			if (value == null) {
+				continue;
+			}
+			Cell cell = row.createCell(i);
+			if (value instanceof Number) {
+				cell.setCellValue(((Number) value).doubleValue());
+			} else {
+				cell.setCellValue(String.valueOf(value));
+			}
+		}
+	}
+
+	/**
+	 * Writes the workbook to the output and removes temporary files.
+	 * The underlying stream is owned by the caller and stays open.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			workbook.write(outputStream);
+			outputStream.flush();
+		} finally {
+			workbook.dispose();
+			workbook.close();
+		}
+	}
+}
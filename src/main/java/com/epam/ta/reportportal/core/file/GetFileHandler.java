@@ -16,6 +16,7 @@
 package com.epam.ta.reportportal.core.file;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.epam.ta.reportportal.entity.attachment.BinaryData;
 
 import java.io.InputStream;
@@ -50,4 +51,22 @@ public interface GetFileHandler {
 	 * @return {@link InputStream}
 	 */
 	BinaryData loadFileById(Long fileId, ReportPortalUser.ProjectDetails projectDetails);
+
+	/**
+	 * Returns {@link Attachment} with the specified id, that belongs to the project.
+	 * Loaded without a transaction, so no connection is held while the file is streamed
+	 *
+	 * @param attachmentId   Id of the attachment to get
+	 * @param projectDetails Project details
+	 * @return {@link Attachment}
+	 */
+	Attachment getAttachment(Long attachmentId, ReportPortalUser.ProjectDetails projectDetails);
+
+	/**
+	 * Returns thumbnail of the attachment
+	 *
+	 * @param attachment {@link Attachment} with thumbnail
+	 * @return {@link BinaryData}
+	 */
+	BinaryData loadThumbnail(Attachment attachment);
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.binary.DataStoreService;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.filesystem.DataEncoder;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
+
+/**
+ * Resolves content of the stored files. Files of the file system data store are resolved
+ * to the {@link Path}, so they can be served with ranges and without copying through the heap.
+ */
+@Component
+public class AttachmentFileResolver {
+
+	private static final String FILESYSTEM_TYPE = "filesystem";
+
+	private final DataStoreService dataStoreService;
+
+	private final DataEncoder dataEncoder = new DataEncoder();
+
+	private final Path root;
+
+	private final boolean local;
+
+	@Autowired
+	public AttachmentFileResolver(@Qualifier("attachmentDataStoreService") DataStoreService dataStoreService,
+			@Value("${rp.binarystore.type:filesystem}") String type, @Value("${rp.binarystore.path:/data/storage}") String path) {
+		this.dataStoreService = dataStoreService;
+		this.root = Paths.get(path).toAbsolutePath().normalize();
+		this.local = FILESYSTEM_TYPE.equalsIgnoreCase(type);
+	}
+
+	/**
+	 * @param fileId Id of the stored file
+	 * @return Readable file of the file system data store
+	 */
+	public Optional<Path> resolveLocalFile(String fileId) {
+		if (!local) {
+			return Optional.empty();
+		}
+		try {
+			Path file = root.resolve(dataEncoder.decode(fileId)).normalize();
+			return file.startsWith(root) && Files.isRegularFile(file) && Files.isReadable(file) ? Optional.of(file) : Optional.empty();
+		} catch (RuntimeException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * @param fileId Id of the stored file
+	 * @return Content of the file from the data store
+	 */
+	public InputStream load(String fileId) {
+		return dataStoreService.load(fileId)
+				.orElseThrow(() -> new ReportPortalException(ErrorType.UNABLE_TO_LOAD_BINARY_DATA,
+						formattedSupplier("File with id = '{}' not found", fileId).get()
+				));
+	}
+}
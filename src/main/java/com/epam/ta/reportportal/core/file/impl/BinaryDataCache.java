@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.core.events.attachment.UserPhotoChangedEvent;
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.apache.commons.io.IOUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Size-bounded in-memory cache of the small immutable files (thumbnails) keyed by file id.
+ * Files larger than the max entry size are passed through without caching. Entries expire after the ttl,
+ * so a file that was replaced without the cache being notified is not served for longer than that.
+ */
+@Component
+public class BinaryDataCache {
+
+	private final Cache<String, CachedBinaryData> cache;
+
+	private final int maxEntrySize;
+
+	private final AtomicLong weight = new AtomicLong();
+
+	@Autowired
+	public BinaryDataCache(MeterRegistry meterRegistry, @Value("${rp.binarystore.cache.size:33554432}") long size,
+			@Value("${rp.binarystore.cache.entry:262144}") int maxEntrySize, @Value("${rp.binarystore.cache.ttl:60}") long ttlMinutes) {
+		this.maxEntrySize = maxEntrySize;
+		this.cache = CacheBuilder.newBuilder()
+				.maximumWeight(size)
+				.expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+				.weigher((String key, CachedBinaryData value) -> value.getContent().length)
+				.removalListener(notification -> weight.addAndGet(-notification.getValue().getContent().length))
+				.recordStats()
+				.build();
+		GuavaCacheMetrics.monitor(meterRegistry, cache, "binaryData");
+		Gauge.builder("rp.binarystore.cache.bytes", weight, AtomicLong::get)
+				.description("Size of the cached files in bytes")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Returns cached file or loads it
+	 *
+	 * @param fileId File id
+	 * @param loader Loads file if it isn't cached
+	 * @return {@link BinaryData}, {@link CachedBinaryData} if the file is cached
+	 */
+	public BinaryData get(String fileId, Supplier<BinaryData> loader) {
+		CachedBinaryData cached = cache.getIfPresent(fileId);
+		if (cached != null) {
+			return cached.copy();
+		}
+		BinaryData binaryData = loader.get();
+		if (binaryData.getInputStream() == null) {
+			return binaryData;
+		}
+		try {
+			byte[] head = new byte[maxEntrySize + 1];
+			int read = IOUtils.read(binaryData.getInputStream(), head);
+			if (read > maxEntrySize) {
+				return new BinaryData(binaryData.getContentType(),
+						binaryData.getLength(),
+						new SequenceInputStream(new ByteArrayInputStream(head, 0, read), binaryData.getInputStream())
+				);
+			}
+			binaryData.getInputStream().close();
+			CachedBinaryData loaded = new CachedBinaryData(binaryData.getContentType(), Arrays.copyOf(head, read));
+			cache.put(fileId, loaded);
+			weight.addAndGet(read);
+			return loaded.copy();
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.UNABLE_TO_LOAD_BINARY_DATA, e.getMessage());
+		}
+	}
+
+	/**
+	 * Invalidated after the commit, so a concurrent request can't cache the previous photo again
+	 * while the transaction that replaces it is still in progress
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserPhotoChanged(UserPhotoChangedEvent event) {
+		event.getFileIds().forEach(cache::invalidate);
+	}
+
+	/**
+	 * {@link BinaryData} with the content held in memory. The hash of the content is used as the strong entity tag,
+	 * so the tag changes with the content even if the file is replaced under the same id.
+	 */
+	public static class CachedBinaryData extends BinaryData {
+
+		private final String eTag;
+
+		private final byte[] content;
+
+		CachedBinaryData(String contentType, byte[] content) {
+			this(contentType, content, "\"" + Hashing.sha256().hashBytes(content) + "\"");
+		}
+
+		private CachedBinaryData(String contentType, byte[] content, String eTag) {
+			super(contentType, (long) content.length, new ByteArrayInputStream(content));
+			this.eTag = eTag;
+			this.content = content;
+		}
+
+		public String getETag() {
+			return eTag;
+		}
+
+		byte[] getContent() {
+			return content;
+		}
+
+		CachedBinaryData copy() {
+			return new CachedBinaryData(getContentType(), content, eTag);
+		}
+	}
+}
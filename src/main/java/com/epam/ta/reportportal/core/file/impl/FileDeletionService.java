@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.binary.DataStoreService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes files from the {@link com.epam.ta.reportportal.filesystem.DataStore} in parallel.
+ * Every file is retried with an exponential backoff, ids of the files that still can't be deleted
+ * are returned to the caller.
+ */
+@Service
+public class FileDeletionService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FileDeletionService.class);
+
+	private final DataStoreService dataStoreService;
+
+	private final TaskExecutor executor;
+
+	private final int attempts;
+
+	private final long backoff;
+
+	@Autowired
+	public FileDeletionService(@Qualifier("attachmentDataStoreService") DataStoreService dataStoreService,
+			@Qualifier("fileDeletionTaskExecutor") TaskExecutor executor, @Value("${rp.attachment.deletion.attempts:3}") int attempts,
+			@Value("${rp.attachment.deletion.backoff:500}") long backoff) {
+		this.dataStoreService = dataStoreService;
+		this.executor = executor;
+		this.attempts = attempts;
+		this.backoff = backoff;
+	}
+
+	/**
+	 * Deletes files and waits for the deletion to be completed
+	 *
+	 * @param fileIds Ids of the files to delete
+	 * @return Ids of the files that were not deleted
+	 */
+	public Set<String> delete(Collection<String> fileIds) {
+		Map<String, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+		fileIds.forEach(fileId -> futures.computeIfAbsent(fileId,
+				id -> CompletableFuture.supplyAsync(() -> deleteWithRetry(id), executor)
+		));
+		CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+		return futures.entrySet().stream().filter(it -> !it.getValue().join()).map(Map.Entry::getKey).collect(Collectors.toSet());
+	}
+
+	private boolean deleteWithRetry(String fileId) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				dataStoreService.delete(fileId);
+				return true;
+			} catch (Exception e) {
+				if (attempt >= attempts) {
+					LOGGER.warn("Unable to delete file with id = '{}': {}", fileId, e.getMessage());
+					return false;
+				}
+			}
+			try {
+				Thread.sleep(backoff << (attempt - 1));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+	}
+}
@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.binary.UserBinaryDataService;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.file.GetFileHandler;
 import com.epam.ta.reportportal.dao.UserRepository;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.epam.ta.reportportal.entity.attachment.BinaryData;
 import com.epam.ta.reportportal.entity.project.ProjectUtils;
 import com.epam.ta.reportportal.entity.user.User;
@@ -27,9 +28,15 @@ import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.util.ProjectExtractor;
 import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.apache.tika.Tika;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.function.Predicate;
 
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
@@ -41,6 +48,11 @@ import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSup
 @Service
 public class GetFileHandlerImpl implements GetFileHandler {
 
+	private static final Tika TIKA = new Tika();
+
+	private static final String SELECT_ATTACHMENT =
+			"SELECT id, file_id, thumbnail_id, content_type, project_id FROM attachment WHERE id = :id";
+
 	private final UserRepository userRepository;
 
 	private final UserBinaryDataService userDataStoreService;
@@ -49,20 +61,30 @@ public class GetFileHandlerImpl implements GetFileHandler {
 
 	private final ProjectExtractor projectExtractor;
 
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final BinaryDataCache binaryDataCache;
+
+	private final AttachmentFileResolver attachmentFileResolver;
+
 	@Autowired
 	public GetFileHandlerImpl(UserRepository userRepository, UserBinaryDataService userDataStoreService,
-			AttachmentBinaryDataService attachmentBinaryDataService, ProjectExtractor projectExtractor) {
+			AttachmentBinaryDataService attachmentBinaryDataService, ProjectExtractor projectExtractor,
+			NamedParameterJdbcTemplate jdbcTemplate, BinaryDataCache binaryDataCache, AttachmentFileResolver attachmentFileResolver) {
 		this.userRepository = userRepository;
 		this.userDataStoreService = userDataStoreService;
 		this.attachmentBinaryDataService = attachmentBinaryDataService;
 		this.projectExtractor = projectExtractor;
+		this.jdbcTemplate = jdbcTemplate;
+		this.binaryDataCache = binaryDataCache;
+		this.attachmentFileResolver = attachmentFileResolver;
 	}
 
 	@Override
 	public BinaryData getUserPhoto(ReportPortalUser loggedInUser, boolean loadThumbnail) {
 		User user = userRepository.findByLogin(loggedInUser.getUsername())
 				.orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, loggedInUser.getUsername()));
-		return userDataStoreService.loadUserPhoto(user, loadThumbnail);
+		return loadUserPhoto(user, loadThumbnail);
 	}
 
 	@Override
@@ -75,11 +97,60 @@ public class GetFileHandlerImpl implements GetFileHandler {
 					Predicate.isEqual(true)
 			).verify(ErrorType.ACCESS_DENIED, formattedSupplier("You are not assigned to project '{}'", projectDetails.getProjectName()));
 		}
-		return userDataStoreService.loadUserPhoto(user, loadThumbnail);
+		return loadUserPhoto(user, loadThumbnail);
 	}
 
 	@Override
 	public BinaryData loadFileById(Long fileId, ReportPortalUser.ProjectDetails projectDetails) {
 		return attachmentBinaryDataService.load(fileId, projectDetails);
 	}
+
+	@Override
+	public Attachment getAttachment(Long attachmentId, ReportPortalUser.ProjectDetails projectDetails) {
+		Attachment attachment = jdbcTemplate.query(SELECT_ATTACHMENT, new MapSqlParameterSource("id", attachmentId), (rs, rowNum) -> {
+			Attachment it = new Attachment();
+			it.setId(rs.getLong("id"));
+			it.setFileId(rs.getString("file_id"));
+			it.setThumbnailId(rs.getString("thumbnail_id"));
+			it.setContentType(rs.getString("content_type"));
+			it.setProjectId(rs.getLong("project_id"));
+			return it;
+		})
+				.stream()
+				.findFirst()
+				.orElseThrow(() -> new ReportPortalException(ErrorType.UNABLE_TO_LOAD_BINARY_DATA,
+						formattedSupplier("Attachment with id = '{}' not found", attachmentId).get()
+				));
+		expect(attachment.getProjectId(), Predicate.isEqual(projectDetails.getProjectId())).verify(ErrorType.ACCESS_DENIED,
+				formattedSupplier("You are not assigned to project '{}'", projectDetails.getProjectName())
+		);
+		return attachment;
+	}
+
+	/**
+	 * Thumbnail is stored in the image format of its own, so its content type is detected
+	 * from the content instead of the content type of the attachment
+	 */
+	@Override
+	public BinaryData loadThumbnail(Attachment attachment) {
+		return binaryDataCache.get(attachment.getThumbnailId(), () -> {
+			InputStream thumbnail = new BufferedInputStream(attachmentFileResolver.load(attachment.getThumbnailId()));
+			try {
+				return new BinaryData(TIKA.detect(thumbnail), null, thumbnail);
+			} catch (IOException e) {
+				throw new ReportPortalException(ErrorType.UNABLE_TO_LOAD_BINARY_DATA, e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * Thumbnails are served from the {@link BinaryDataCache}. Default photo of the user without
+	 * an uploaded one is not cached.
+	 */
+	private BinaryData loadUserPhoto(User user, boolean loadThumbnail) {
+		String fileId = loadThumbnail ? user.getAttachmentThumbnail() : null;
+		return fileId == null ?
+				userDataStoreService.loadUserPhoto(user, loadThumbnail) :
+				binaryDataCache.get(fileId, () -> userDataStoreService.loadUserPhoto(user, true));
+	}
 }
@@ -19,6 +19,8 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 /**
  * @author Pavel_Bortnik
  */
@@ -34,4 +36,22 @@ public interface ImportLaunchHandler {
 	 * @return OperationCompletionRS
 	 */
 	OperationCompletionRS importLaunch(ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user, String format, MultipartFile file, String baseUrl);
+
+	/**
+	 * Get progress of the imports running in the project
+	 *
+	 * @param projectDetails Project Details
+	 * @return List of {@link ImportProgressRS}
+	 */
+	List<ImportProgressRS> getImports(ReportPortalUser.ProjectDetails projectDetails);
+
+	/**
+	 * Cancel running import. Files which are not parsed yet are skipped and the launch is interrupted.
+	 *
+	 * @param projectDetails Project Details
+	 * @param user           user
+	 * @param importId       id of the import
+	 * @return OperationCompletionRS
+	 */
+	OperationCompletionRS cancelImport(ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user, String importId);
 }
\ No newline at end of file
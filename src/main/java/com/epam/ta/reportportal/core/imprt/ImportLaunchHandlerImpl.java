@@ -15,13 +15,17 @@
  */
 package com.epam.ta.reportportal.core.imprt;
 
+import com.epam.ta.reportportal.commons.EntityUtils;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.ImportFinishedEvent;
 import com.epam.ta.reportportal.core.events.activity.ImportStartedEvent;
+import com.epam.ta.reportportal.core.imprt.impl.ImportJob;
+import com.epam.ta.reportportal.core.imprt.impl.ImportScheduler;
 import com.epam.ta.reportportal.core.imprt.impl.ImportStrategy;
 import com.epam.ta.reportportal.core.imprt.impl.ImportStrategyFactory;
 import com.epam.ta.reportportal.core.imprt.impl.ImportType;
+import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
@@ -32,22 +36,29 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.Predicates.notNull;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
+import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
 import static com.epam.ta.reportportal.core.imprt.FileExtensionConstant.XML_EXTENSION;
 import static com.epam.ta.reportportal.core.imprt.FileExtensionConstant.ZIP_EXTENSION;
+import static com.epam.ta.reportportal.entity.project.ProjectRole.PROJECT_MANAGER;
 import static com.epam.ta.reportportal.ws.model.ErrorType.INCORRECT_REQUEST;
 
 @Service
 public class ImportLaunchHandlerImpl implements ImportLaunchHandler {
 	private ImportStrategyFactory importStrategyFactory;
 	private MessageBus messageBus;
+	private ImportScheduler importScheduler;
 
 	@Autowired
-	public ImportLaunchHandlerImpl(ImportStrategyFactory importStrategyFactory, MessageBus messageBus) {
+	public ImportLaunchHandlerImpl(ImportStrategyFactory importStrategyFactory, MessageBus messageBus, ImportScheduler importScheduler) {
 		this.importStrategyFactory = importStrategyFactory;
 		this.messageBus = messageBus;
+		this.importScheduler = importScheduler;
 	}
 
 	@Override
@@ -75,6 +86,42 @@ public class ImportLaunchHandlerImpl implements ImportLaunchHandler {
 		return new OperationCompletionRS("Launch with id = " + launchId + " is successfully imported.");
 	}
 
+	@Override
+	public List<ImportProgressRS> getImports(ReportPortalUser.ProjectDetails projectDetails) {
+		return importScheduler.getProjectImports(projectDetails.getProjectId())
+				.stream()
+				.map(ImportLaunchHandlerImpl::toProgressResource)
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public OperationCompletionRS cancelImport(ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user, String importId) {
+		ImportJob importJob = importScheduler.getImport(importId)
+				.filter(it -> it.getProjectId().equals(projectDetails.getProjectId()))
+				.orElseThrow(() -> new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+						formattedSupplier("Import with id = '{}' is not in progress", importId)
+				));
+		if (!UserRole.ADMINISTRATOR.equals(user.getUserRole()) && projectDetails.getProjectRole().lowerThan(PROJECT_MANAGER)) {
+			expect(user.getUserId(), Predicate.isEqual(importJob.getUserId())).verify(ErrorType.ACCESS_DENIED, "You are not import owner.");
+		}
+		importScheduler.cancel(importJob);
+		return new OperationCompletionRS("Import with id = " + importId + " is cancelled.");
+	}
+
+	private static ImportProgressRS toProgressResource(ImportJob importJob) {
+		ImportProgressRS resource = new ImportProgressRS();
+		resource.setId(importJob.getId());
+		resource.setFileName(importJob.getFileName());
+		resource.setOwner(importJob.getUser());
+		resource.setLaunchId(importJob.getLaunchId());
+		resource.setStartTime(EntityUtils.TO_DATE.apply(importJob.getStartTime()));
+		resource.setFilesTotal(importJob.getFilesTotal());
+		resource.setFilesParsed(importJob.getFilesParsed());
+		resource.setItemsCreated(importJob.getItemsCreated());
+		resource.setCancelled(importJob.isCancelled());
+		return resource;
+	}
+
 	private void validate(MultipartFile file) {
 		expect(file.getOriginalFilename(), notNull()).verify(ErrorType.INCORRECT_REQUEST, "File name should be not empty.");
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.imprt;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Date;
+
+/**
+ * Progress of the import in progress
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportProgressRS {
+
+	@JsonProperty
+	private String id;
+
+	@JsonProperty
+	private String fileName;
+
+	@JsonProperty
+	private String owner;
+
+	@JsonProperty
+	private String launchId;
+
+	@JsonProperty
+	private Date startTime;
+
+	@JsonProperty
+	private int filesTotal;
+
+	@JsonProperty
+	private int filesParsed;
+
+	@JsonProperty
+	private long itemsCreated;
+
+	@JsonProperty
+	private boolean cancelled;
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	public String getOwner() {
+		return owner;
+	}
+
+	public void setOwner(String owner) {
+		this.owner = owner;
+	}
+
+	public String getLaunchId() {
+		return launchId;
+	}
+
+	public void setLaunchId(String launchId) {
+		this.launchId = launchId;
+	}
+
+	public Date getStartTime() {
+		return startTime;
+	}
+
+	public void setStartTime(Date startTime) {
+		this.startTime = startTime;
+	}
+
+	public int getFilesTotal() {
+		return filesTotal;
+	}
+
+	public void setFilesTotal(int filesTotal) {
+		this.filesTotal = filesTotal;
+	}
+
+	public int getFilesParsed() {
+		return filesParsed;
+	}
+
+	public void setFilesParsed(int filesParsed) {
+		this.filesParsed = filesParsed;
+	}
+
+	public long getItemsCreated() {
+		return itemsCreated;
+	}
+
+	public void setItemsCreated(long itemsCreated) {
+		this.itemsCreated = itemsCreated;
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	public void setCancelled(boolean cancelled) {
+		this.cancelled = cancelled;
+	}
+}
@@ -16,6 +16,8 @@
 package com.epam.ta.reportportal.core.imprt.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.imprt.impl.junit.XunitBulkParseJob;
+import com.epam.ta.reportportal.core.imprt.impl.junit.XunitParseJob;
 import com.epam.ta.reportportal.core.launch.FinishLaunchHandler;
 import com.epam.ta.reportportal.core.launch.StartLaunchHandler;
 import com.epam.ta.reportportal.dao.LaunchRepository;
@@ -29,14 +31,16 @@ import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.inject.Provider;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -45,7 +49,6 @@ import java.util.concurrent.Executors;
 public abstract class AbstractImportStrategy implements ImportStrategy {
 	protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractImportStrategy.class);
 	private static final Date initialStartTime = new Date(0);
-	protected static final ExecutorService service = Executors.newFixedThreadPool(5);
 
 	private StartLaunchHandler startLaunchHandler;
 
@@ -53,6 +56,18 @@ public abstract class AbstractImportStrategy implements ImportStrategy {
 
 	private LaunchRepository launchRepository;
 
+	protected ImportScheduler importScheduler;
+
+	private Provider<XunitParseJob> xmlParseJobProvider;
+
+	private Provider<XunitBulkParseJob> xmlBulkParseJobProvider;
+
+	/**
+	 * Persist parsed items with batched inserts instead of reporting them one by one
+	 */
+	@Value("${rp.import.bulk:false}")
+	private boolean bulkMode;
+
 	@Autowired
 	public void setStartLaunchHandler(StartLaunchHandler startLaunchHandler) {
 		this.startLaunchHandler = startLaunchHandler;
@@ -68,11 +83,44 @@ public abstract class AbstractImportStrategy implements ImportStrategy {
 		this.launchRepository = launchRepository;
 	}
 
+	@Autowired
+	public void setImportScheduler(ImportScheduler importScheduler) {
+		this.importScheduler = importScheduler;
+	}
+
+	@Autowired
+	public void setXmlParseJobProvider(Provider<XunitParseJob> xmlParseJobProvider) {
+		this.xmlParseJobProvider = xmlParseJobProvider;
+	}
+
+	@Autowired
+	public void setXmlBulkParseJobProvider(Provider<XunitBulkParseJob> xmlBulkParseJobProvider) {
+		this.xmlBulkParseJobProvider = xmlBulkParseJobProvider;
+	}
+
+	/**
+	 * Creates parse job for the single xml report according to the import mode
+	 *
+	 * @param projectDetails {@link ReportPortalUser.ProjectDetails}
+	 * @param launchId       {@link Launch#getUuid()}
+	 * @param user           {@link ReportPortalUser}
+	 * @param xmlStream      Report stream
+	 * @return Parse job
+	 */
+	protected Supplier<ParseResults> createParseJob(ReportPortalUser.ProjectDetails projectDetails, String launchId,
+			ReportPortalUser user, InputStream xmlStream) {
+		if (bulkMode) {
+			return xmlBulkParseJobProvider.get().withParameters(projectDetails, launchId, user, xmlStream)::call;
+		}
+		return xmlParseJobProvider.get().withParameters(projectDetails, launchId, user, xmlStream)::call;
+	}
+
 	protected ParseResults processResults(CompletableFuture... futures) {
 		ParseResults results = new ParseResults();
 		Arrays.stream(futures).map(it -> (ParseResults) it.join()).forEach(res -> {
 			results.checkAndSetStartLaunchTime(res.getStartTime());
 			results.increaseDuration(res.getDuration());
+			results.increaseItemsCount(res.getItemsCount());
 		});
 		return results;
 	}
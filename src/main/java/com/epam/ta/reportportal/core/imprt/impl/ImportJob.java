@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.imprt.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single running import registered in the {@link ImportScheduler}.
+ * Holds the own queue of parse tasks and the progress of the import.
+ */
+public class ImportJob {
+
+	private final String id = UUID.randomUUID().toString();
+
+	private final Long projectId;
+
+	private final Long userId;
+
+	private final String user;
+
+	private final String fileName;
+
+	private final LocalDateTime startTime = LocalDateTime.now();
+
+	/**
+	 * Max count of the parse tasks of this import executed simultaneously
+	 */
+	private final int budget;
+
+	private final AtomicInteger filesTotal = new AtomicInteger();
+
+	private final AtomicInteger filesParsed = new AtomicInteger();
+
+	private final AtomicLong itemsCreated = new AtomicLong();
+
+	private volatile String launchId;
+
+	private volatile boolean cancelled;
+
+	//guarded by the scheduler lock
+	private final Deque<Runnable> pending = new ArrayDeque<>();
+
+	//guarded by the scheduler lock
+	private int running;
+
+	ImportJob(Long projectId, Long userId, String user, String fileName, int budget) {
+		this.projectId = projectId;
+		this.userId = userId;
+		this.user = user;
+		this.fileName = fileName;
+		this.budget = budget;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public String getUser() {
+		return user;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public LocalDateTime getStartTime() {
+		return startTime;
+	}
+
+	public String getLaunchId() {
+		return launchId;
+	}
+
+	void setLaunchId(String launchId) {
+		this.launchId = launchId;
+	}
+
+	public int getFilesTotal() {
+		return filesTotal.get();
+	}
+
+	public int getFilesParsed() {
+		return filesParsed.get();
+	}
+
+	public long getItemsCreated() {
+		return itemsCreated.get();
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	void cancel() {
+		this.cancelled = true;
+	}
+
+	void fileSubmitted() {
+		filesTotal.incrementAndGet();
+	}
+
+	void fileParsed(long items) {
+		filesParsed.incrementAndGet();
+		itemsCreated.addAndGet(items);
+	}
+
+	Deque<Runnable> getPending() {
+		return pending;
+	}
+
+	boolean canRunMore() {
+		return !pending.isEmpty() && running < budget;
+	}
+
+	void taskStarted() {
+		running++;
+	}
+
+	void taskFinished() {
+		running--;
+	}
+}
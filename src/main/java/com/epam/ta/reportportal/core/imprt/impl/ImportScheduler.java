@@ -0,0 +1,289 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.imprt.impl;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Dispatches parse tasks of the running imports to the shared import executor.
+ * Tasks are taken round-robin across projects and across imports of the same project,
+ * so a large archive can't occupy the pool ahead of other imports.
+ * Each import runs no more than {@code rp.import.parallelism} tasks at a time.
+ */
+@Component
+public class ImportScheduler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ImportScheduler.class);
+
+	private final ThreadPoolTaskExecutor executor;
+
+	private final int poolSize;
+
+	private final int importBudget;
+
+	private final Map<String, ImportJob> imports = new ConcurrentHashMap<>();
+
+	private final Object lock = new Object();
+
+	//guarded by lock
+	private final Deque<Long> projects = new ArrayDeque<>();
+
+	//guarded by lock
+	private final Map<Long, Deque<ImportJob>> projectImports = new HashMap<>();
+
+	//guarded by lock
+	private int running;
+
+	//guarded by lock
+	private int queued;
+
+	private final Counter filesCounter;
+
+	private final Counter itemsCounter;
+
+	@Autowired
+	public ImportScheduler(@Qualifier("importTaskExecutor") ThreadPoolTaskExecutor executor, MeterRegistry meterRegistry,
+			@Value("${rp.import.parallelism:3}") int importBudget) {
+		this.executor = executor;
+		this.poolSize = executor.getMaxPoolSize();
+		this.importBudget = Math.max(1, Math.min(importBudget, poolSize));
+		Gauge.builder("rp.import.queue.size", this, ImportScheduler::getQueueDepth)
+				.description("Count of parse tasks waiting for the import executor")
+				.register(meterRegistry);
+		Gauge.builder("rp.import.tasks.running", this, ImportScheduler::getRunningTasks)
+				.description("Count of parse tasks executed at the moment")
+				.register(meterRegistry);
+		Gauge.builder("rp.import.active", imports, Map::size).description("Count of imports in progress").register(meterRegistry);
+		filesCounter = Counter.builder("rp.import.files").description("Count of parsed files").register(meterRegistry);
+		itemsCounter = Counter.builder("rp.import.items").description("Count of created items").register(meterRegistry);
+	}
+
+	/**
+	 * Registers a new import. It should be completed with {@link #complete(ImportJob)} when finished.
+	 *
+	 * @param projectDetails {@link ReportPortalUser.ProjectDetails}
+	 * @param user           {@link ReportPortalUser}
+	 * @param fileName       Name of the imported file
+	 * @return {@link ImportJob}
+	 */
+	public ImportJob register(ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user, String fileName) {
+		ImportJob job = new ImportJob(projectDetails.getProjectId(), user.getUserId(), user.getUsername(), fileName, importBudget);
+		imports.put(job.getId(), job);
+		synchronized (lock) {
+			projectImports.computeIfAbsent(job.getProjectId(), id -> {
+				projects.add(id);
+				return new ArrayDeque<>();
+			}).add(job);
+		}
+		return job;
+	}
+
+	/**
+	 * Enqueues parse task of the import. Future of the cancelled import completes with {@link CancellationException}
+	 *
+	 * @param job  {@link ImportJob}
+	 * @param task Parse task
+	 * @return {@link CompletableFuture} of the task results
+	 */
+	public CompletableFuture<ParseResults> submit(ImportJob job, Supplier<ParseResults> task) {
+		CompletableFuture<ParseResults> future = new CompletableFuture<>();
+		Runnable runnable = () -> {
+			if (job.isCancelled()) {
+				future.completeExceptionally(new CancellationException("Import '" + job.getFileName() + "' was cancelled"));
+				return;
+			}
+			try {
+				ParseResults results = task.get();
+				job.fileParsed(results.getItemsCount());
+				filesCounter.increment();
+				itemsCounter.increment(results.getItemsCount());
+				future.complete(results);
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		};
+		job.fileSubmitted();
+		synchronized (lock) {
+			job.getPending().add(runnable);
+			queued++;
+		}
+		if (job.isCancelled()) {
+			drain(job);
+		} else {
+			dispatch();
+		}
+		return future;
+	}
+
+	/**
+	 * Cancels the import: queued tasks are discarded, running ones are completed.
+	 *
+	 * @param job {@link ImportJob}
+	 */
+	public void cancel(ImportJob job) {
+		job.cancel();
+		drain(job);
+	}
+
+	/**
+	 * Unregisters finished import
+	 *
+	 * @param job {@link ImportJob}
+	 */
+	public void complete(ImportJob job) {
+		//an import can be finished by failure of one of it's files, the rest of them are not needed anymore
+		job.cancel();
+		imports.remove(job.getId());
+		List<Runnable> rest;
+		synchronized (lock) {
+			Deque<ImportJob> jobs = projectImports.get(job.getProjectId());
+			if (jobs != null) {
+				jobs.remove(job);
+				if (jobs.isEmpty()) {
+					projectImports.remove(job.getProjectId());
+					projects.remove(job.getProjectId());
+				}
+			}
+			rest = drainPending(job);
+		}
+		rest.forEach(Runnable::run);
+	}
+
+	public Optional<ImportJob> getImport(String id) {
+		return Optional.ofNullable(imports.get(id));
+	}
+
+	public List<ImportJob> getProjectImports(Long projectId) {
+		return imports.values().stream().filter(it -> it.getProjectId().equals(projectId)).collect(Collectors.toList());
+	}
+
+	public int getQueueDepth() {
+		synchronized (lock) {
+			return queued;
+		}
+	}
+
+	public int getRunningTasks() {
+		synchronized (lock) {
+			return running;
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		imports.values().forEach(this::cancel);
+	}
+
+	private void drain(ImportJob job) {
+		List<Runnable> rest;
+		synchronized (lock) {
+			rest = drainPending(job);
+		}
+		rest.forEach(Runnable::run);
+	}
+
+	private List<Runnable> drainPending(ImportJob job) {
+		List<Runnable> rest = new ArrayList<>(job.getPending());
+		queued -= rest.size();
+		job.getPending().clear();
+		return rest;
+	}
+
+	private void dispatch() {
+		List<Runnable> tasks = new ArrayList<>();
+		synchronized (lock) {
+			while (running < poolSize) {
+				Runnable next = pollNext();
+				if (next == null) {
+					break;
+				}
+				running++;
+				queued--;
+				tasks.add(next);
+			}
+		}
+		tasks.forEach(this::execute);
+	}
+
+	/**
+	 * Round-robin over the projects and then over the imports of the project
+	 */
+	private Runnable pollNext() {
+		for (int i = 0; i < projects.size(); i++) {
+			Long projectId = projects.poll();
+			projects.add(projectId);
+			Deque<ImportJob> jobs = projectImports.get(projectId);
+			for (int j = 0; j < jobs.size(); j++) {
+				ImportJob job = jobs.poll();
+				jobs.add(job);
+				if (job.canRunMore()) {
+					job.taskStarted();
+					Runnable task = job.getPending().poll();
+					return () -> {
+						try {
+							task.run();
+						} finally {
+							release(job);
+						}
+					};
+				}
+			}
+		}
+		return null;
+	}
+
+	private void execute(Runnable task) {
+		try {
+			executor.execute(task);
+		} catch (TaskRejectedException e) {
+			LOGGER.error("Import task was rejected by executor, running it in the caller thread", e);
+			task.run();
+		}
+	}
+
+	private void release(ImportJob job) {
+		synchronized (lock) {
+			running--;
+			job.taskFinished();
+		}
+		dispatch();
+	}
+}
@@ -27,6 +27,8 @@ public class ParseResults {
 
 	private long duration;
 
+	private long itemsCount;
+
 	ParseResults() {
 		startTime = LocalDateTime.now();
 	}
@@ -36,6 +38,11 @@ public class ParseResults {
 		this.duration = duration;
 	}
 
+	public ParseResults(LocalDateTime startTime, long duration, long itemsCount) {
+		this(startTime, duration);
+		this.itemsCount = itemsCount;
+	}
+
 	public LocalDateTime getStartTime() {
 		return startTime;
 	}
@@ -44,6 +51,10 @@ public class ParseResults {
 		return duration;
 	}
 
+	public long getItemsCount() {
+		return itemsCount;
+	}
+
 	void checkAndSetStartLaunchTime(LocalDateTime startSuiteTime) {
 		if (this.startTime.isAfter(startSuiteTime)) {
 			this.startTime = startSuiteTime;
@@ -54,6 +65,10 @@ public class ParseResults {
 		this.duration += duration;
 	}
 
+	void increaseItemsCount(long itemsCount) {
+		this.itemsCount += itemsCount;
+	}
+
 	public Date getEndTime() {
 		return EntityUtils.TO_DATE.apply(startTime.plus(duration, ChronoUnit.MILLIS));
 	}
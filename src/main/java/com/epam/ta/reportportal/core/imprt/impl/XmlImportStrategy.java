@@ -16,13 +16,10 @@
 package com.epam.ta.reportportal.core.imprt.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.ta.reportportal.core.imprt.impl.junit.XunitParseJob;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import javax.inject.Provider;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
@@ -36,9 +33,6 @@ import static java.util.Optional.ofNullable;
 @Service
 public class XmlImportStrategy extends AbstractImportStrategy {
 
-	@Autowired
-	private Provider<XunitParseJob> xmlParseJobProvider;
-
 	@Override
 	public String importLaunch(ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user, File file, String baseUrl) {
 		try {
@@ -55,16 +49,20 @@ public class XmlImportStrategy extends AbstractImportStrategy {
 	private String processXmlFile(File xml, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user, String baseUrl) {
 		//copy of the launch's id to use it in catch block if something goes wrong
 		String savedLaunchId = null;
+		ImportJob importJob = importScheduler.register(projectDetails, user, xml.getName());
 		try (InputStream xmlStream = new FileInputStream(xml)) {
 			String launchId = startLaunch(projectDetails, user, xml.getName().substring(0, xml.getName().indexOf("." + XML_EXTENSION)));
 			savedLaunchId = launchId;
-			XunitParseJob job = xmlParseJobProvider.get().withParameters(projectDetails, launchId, user, xmlStream);
-			ParseResults parseResults = job.call();
+			importJob.setLaunchId(launchId);
+			ParseResults parseResults = importScheduler.submit(importJob, createParseJob(projectDetails, launchId, user, xmlStream))
+					.join();
 			finishLaunch(launchId, projectDetails, user, parseResults, baseUrl);
 			return launchId;
 		} catch (Exception e) {
 			updateBrokenLaunch(savedLaunchId);
 			throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, cleanMessage(e));
+		} finally {
+			importScheduler.complete(importJob);
 		}
 	}
 }
@@ -16,18 +16,16 @@
 package com.epam.ta.reportportal.core.imprt.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.ta.reportportal.core.imprt.impl.junit.XunitParseJob;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import javax.inject.Provider;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -43,9 +41,6 @@ public class ZipImportStrategy extends AbstractImportStrategy {
 	private static final Predicate<ZipEntry> isFile = zipEntry -> !zipEntry.isDirectory();
 	private static final Predicate<ZipEntry> isXml = zipEntry -> zipEntry.getName().endsWith(XML_EXTENSION);
 
-	@Autowired
-	private Provider<XunitParseJob> xmlParseJobProvider;
-
 	@Override
 	public String importLaunch(ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user, File file, String baseUrl) {
 		try {
@@ -62,13 +57,14 @@ public class ZipImportStrategy extends AbstractImportStrategy {
 	private String processZipFile(File zip, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user, String baseUrl) {
 		//copy of the launch's id to use it in catch block if something goes wrong
 		String savedLaunchId = null;
+		ImportJob importJob = importScheduler.register(projectDetails, user, zip.getName());
 		try (ZipFile zipFile = new ZipFile(zip)) {
 			String launchId = startLaunch(projectDetails, user, zip.getName().substring(0, zip.getName().indexOf("." + ZIP_EXTENSION)));
 			savedLaunchId = launchId;
+			importJob.setLaunchId(launchId);
 			CompletableFuture[] futures = zipFile.stream().filter(isFile.and(isXml)).map(zipEntry -> {
-				XunitParseJob job = xmlParseJobProvider.get()
-						.withParameters(projectDetails, launchId, user, getEntryStream(zipFile, zipEntry));
-				return CompletableFuture.supplyAsync(job::call, service);
+				Supplier<ParseResults> job = createParseJob(projectDetails, launchId, user, getEntryStream(zipFile, zipEntry));
+				return importScheduler.submit(importJob, job);
 			}).toArray(CompletableFuture[]::new);
 			ParseResults parseResults = processResults(futures);
 			finishLaunch(launchId, projectDetails, user, parseResults, baseUrl);
@@ -76,6 +72,8 @@ public class ZipImportStrategy extends AbstractImportStrategy {
 		} catch (Exception e) {
 			updateBrokenLaunch(savedLaunchId);
 			throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, cleanMessage(e));
+		} finally {
+			importScheduler.complete(importJob);
 		}
 	}
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.imprt.impl.junit;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.imprt.impl.ParseResults;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Bulk alternative of {@link XunitParseJob}: the report is parsed into the items tree first
+ * and then persisted at once by {@link XunitBulkWriter}, bypassing the reporting handlers.
+ */
+@Component
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+public class XunitBulkParseJob implements Callable<ParseResults> {
+
+	@Autowired
+	private XunitBulkWriter writer;
+
+	@Autowired
+	private LaunchRepository launchRepository;
+
+	private String launchUuid;
+
+	private InputStream xmlInputStream;
+
+	@Override
+	public ParseResults call() {
+		XunitStaxParser parser = new XunitStaxParser();
+		List<XunitItem> roots = parser.parse(xmlInputStream);
+		Launch launch = launchRepository.findByUuid(launchUuid)
+				.orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, launchUuid));
+		writer.write(launch, roots);
+		return new ParseResults(parser.getStartSuiteTime(), parser.getCommonDuration(), parser.getItemsCount());
+	}
+
+	public XunitBulkParseJob withParameters(ReportPortalUser.ProjectDetails projectDetails, String launchId, ReportPortalUser user,
+			InputStream xmlInputStream) {
+		this.launchUuid = launchId;
+		this.xmlInputStream = xmlInputStream;
+		return this;
+	}
+}
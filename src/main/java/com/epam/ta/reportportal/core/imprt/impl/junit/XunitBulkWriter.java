@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.imprt.impl.junit;
+
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
+import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
+import com.epam.ta.reportportal.core.item.impl.TestItemUniqueIdGenerator;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.item.issue.IssueType;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.google.common.collect.Lists;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+
+import static com.epam.ta.reportportal.entity.enums.TestItemIssueGroup.TO_INVESTIGATE;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Persists parsed xunit items of the single report with batched inserts in one transaction.
+ * Paths and unique ids are calculated in memory and item statuses are resolved once for the whole tree,
+ * so items are finished without the finish handler. Statistics are still calculated by the database triggers
+ * for every finished item result.
+ */
+@Component
+public class XunitBulkWriter {
+
+	private static final int BATCH_SIZE = 500;
+
+	private static final String SELECT_ITEM_IDS = "SELECT nextval('test_item_item_id_seq') FROM generate_series(1, :count)";
+
+	private static final String INSERT_ITEM =
+			"INSERT INTO test_item (item_id, uuid, name, type, start_time, last_modified, path, unique_id, test_case_hash, has_children, "
+					+ "has_retries, has_stats, parent_id, launch_id) VALUES (:itemId, :uuid, :name, CAST(:type AS TEST_ITEM_TYPE_ENUM), "
+					+ ":startTime, :lastModified, CAST(:path AS LTREE), :uniqueId, :testCaseHash, :hasChildren, FALSE, TRUE, :parentId, :launchId)";
+
+	private static final String INSERT_RESULT = "INSERT INTO test_item_results (result_id, status) VALUES (:itemId, CAST(:status AS STATUS_ENUM))";
+
+	private static final String INSERT_ISSUE = "INSERT INTO issue (issue_id, issue_type, auto_analyzed, ignore_analyzer) "
+			+ "VALUES (:itemId, :issueType, FALSE, FALSE)";
+
+	private static final String INSERT_LOG = "INSERT INTO log (uuid, log_time, log_message, item_id, last_modified, log_level) "
+			+ "VALUES (:uuid, :logTime, :message, :itemId, :lastModified, :level)";
+
+	private static final String UPDATE_RESULT = "UPDATE test_item_results SET status = CAST(:status AS STATUS_ENUM), end_time = :endTime, "
+			+ "duration = :duration WHERE result_id = :itemId";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final TestItemUniqueIdGenerator identifierGenerator;
+
+	private final IssueTypeHandler issueTypeHandler;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	public XunitBulkWriter(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+			TestItemUniqueIdGenerator identifierGenerator, IssueTypeHandler issueTypeHandler, ApplicationEventPublisher eventPublisher) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.identifierGenerator = identifierGenerator;
+		this.issueTypeHandler = issueTypeHandler;
+		this.eventPublisher = eventPublisher;
+	}
+
+	/**
+	 * Persist items with their results, issues and logs
+	 *
+	 * @param launch {@link Launch} to import items into
+	 * @param roots  Root items of the report
+	 * @return count of created items
+	 */
+	int write(Launch launch, List<XunitItem> roots) {
+		List<XunitItem> items = new ArrayList<>();
+		roots.forEach(root -> collect(root, items));
+		if (items.isEmpty()) {
+			return 0;
+		}
+		return ofNullable(transactionTemplate.execute(status -> {
+			assignIds(items);
+			roots.forEach(root -> {
+				prepare(root, null, Collections.emptyList(), launch);
+				root.resolveStatus();
+			});
+
+			LocalDateTime now = LocalDateTime.now();
+			batchUpdate(INSERT_ITEM, items, it -> itemParameters(it, launch.getId(), now));
+			batchUpdate(INSERT_RESULT,
+					items,
+					it -> new MapSqlParameterSource("itemId", it.getItemId()).addValue("status", StatusEnum.IN_PROGRESS.name())
+			);
+
+			List<XunitItem> issueItems = items.stream().filter(this::isIssueRequired).collect(toList());
+			if (!issueItems.isEmpty()) {
+				IssueType toInvestigate = issueTypeHandler.defineIssueType(launch.getProjectId(), TO_INVESTIGATE.getLocator());
+				batchUpdate(INSERT_ISSUE,
+						issueItems,
+						it -> new MapSqlParameterSource("itemId", it.getItemId()).addValue("issueType", toInvestigate.getId())
+				);
+			}
+
+			List<SqlParameterSource> logs = new ArrayList<>();
+			items.forEach(item -> item.getLogs()
+					.forEach(log -> logs.add(new MapSqlParameterSource("uuid", UUID.randomUUID().toString()).addValue("logTime",
+							Timestamp.valueOf(log.getTime())
+					)
+							.addValue("message", log.getMessage())
+							.addValue("itemId", item.getItemId())
+							.addValue("lastModified", Timestamp.valueOf(now))
+							.addValue("level", log.getLevel().toInt()))));
+			Lists.partition(logs, BATCH_SIZE).forEach(batch -> jdbcTemplate.batchUpdate(INSERT_LOG, batch.toArray(new SqlParameterSource[0])));
+
+			//descendants should be finished before their parents
+			List<XunitItem> finishOrder = Lists.reverse(items);
+			batchUpdate(UPDATE_RESULT, finishOrder, this::finishParameters);
+
+			//items are finished bypassing the finish handler, so they aren't added to the indexed history one by one
+			eventPublisher.publishEvent(ItemHistoryRemovedEvent.ofProject(launch.getProjectId()));
+			return items.size();
+		})).orElse(0);
+	}
+
+	/**
+	 * Collects items of the tree in pre-order, so parents are always inserted before their descendants
+	 */
+	private void collect(XunitItem item, List<XunitItem> items) {
+		items.add(item);
+		item.getChildren().forEach(child -> collect(child, items));
+	}
+
+	private void assignIds(List<XunitItem> items) {
+		List<Long> ids = jdbcTemplate.queryForList(SELECT_ITEM_IDS, new MapSqlParameterSource("count", items.size()), Long.class);
+		Iterator<Long> idIterator = ids.iterator();
+		items.forEach(it -> it.setItemId(idIterator.next()));
+	}
+
+	private void prepare(XunitItem item, String parentPath, List<String> pathNames, Launch launch) {
+		item.setPath(parentPath == null ? String.valueOf(item.getItemId()) : parentPath + "." + item.getItemId());
+		item.setUniqueId(identifierGenerator.generate(item.getName(), pathNames, Collections.emptyList(), launch));
+		if (item.hasChildren()) {
+			List<String> childPathNames = new ArrayList<>(pathNames);
+			childPathNames.add(item.getName());
+			item.getChildren().forEach(child -> prepare(child, item.getPath(), childPathNames, launch));
+		}
+	}
+
+	private boolean isIssueRequired(XunitItem item) {
+		return !item.hasChildren() && (StatusEnum.FAILED == item.getStatus() || StatusEnum.SKIPPED == item.getStatus());
+	}
+
+	private SqlParameterSource itemParameters(XunitItem item, Long launchId, LocalDateTime now) {
+		return new MapSqlParameterSource("itemId", item.getItemId()).addValue("uuid", UUID.randomUUID().toString())
+				.addValue("name", item.getName())
+				.addValue("type", item.getType().name())
+				.addValue("startTime", Timestamp.valueOf(item.getStartTime()))
+				.addValue("lastModified", Timestamp.valueOf(now))
+				.addValue("path", item.getPath())
+				.addValue("uniqueId", item.getUniqueId())
+				.addValue("testCaseHash", item.getUniqueId().hashCode())
+				.addValue("hasChildren", item.hasChildren())
+				.addValue("parentId", parentId(item), Types.BIGINT)
+				.addValue("launchId", launchId);
+	}
+
+	private SqlParameterSource finishParameters(XunitItem item) {
+		LocalDateTime endTime = ofNullable(item.getEndTime()).orElse(item.getStartTime());
+		return new MapSqlParameterSource("itemId", item.getItemId()).addValue("status", item.getStatus().name())
+				.addValue("endTime", Timestamp.valueOf(endTime))
+				.addValue("duration", ChronoUnit.MILLIS.between(item.getStartTime(), endTime) / 1000d);
+	}
+
+	private static Long parentId(XunitItem item) {
+		String path = item.getPath();
+		int lastDot = path.lastIndexOf('.');
+		if (lastDot < 0) {
+			return null;
+		}
+		String parentPath = path.substring(0, lastDot);
+		return Long.valueOf(parentPath.substring(parentPath.lastIndexOf('.') + 1));
+	}
+
+	private void batchUpdate(String sql, List<XunitItem> items, Function<XunitItem, SqlParameterSource> mapper) {
+		Lists.partition(items, BATCH_SIZE)
+				.forEach(batch -> jdbcTemplate.batchUpdate(sql, batch.stream().map(mapper).toArray(SqlParameterSource[]::new)));
+	}
+}
@@ -81,6 +81,8 @@ public class XunitImportHandler extends DefaultHandler {
 	private long commonDuration;
 	private long currentDuration;
 
+	private long itemsCount;
+
 	//items structure ids
 	private Deque<String> itemUuids;
 	private StatusEnum status;
@@ -92,6 +94,7 @@ public class XunitImportHandler extends DefaultHandler {
 		itemUuids = new ArrayDeque<>();
 		message = new StringBuilder();
 		startSuiteTime = LocalDateTime.now();
+		itemsCount = 0;
 	}
 
 	@Override
@@ -184,6 +187,7 @@ public class XunitImportHandler extends DefaultHandler {
 		StartTestItemRQ rq = buildStartTestRq(name);
 		String id = startTestItemHandler.startRootItem(user, projectDetails, rq).getId();
 		itemUuids.push(id);
+		itemsCount++;
 	}
 
 	private LocalDateTime parseTimeStamp(String timestamp) {
@@ -209,6 +213,7 @@ public class XunitImportHandler extends DefaultHandler {
 		StartTestItemRQ rq = buildStartTestRq(name);
 		String id = startTestItemHandler.startChildItem(user, projectDetails, rq, itemUuids.peek()).getId();
 		itemUuids.push(id);
+		itemsCount++;
 	}
 
 	private void startStepItem(String name, String duration) {
@@ -221,6 +226,7 @@ public class XunitImportHandler extends DefaultHandler {
 		currentDuration = toMillis(duration);
 		currentItemUuid = id;
 		itemUuids.push(id);
+		itemsCount++;
 	}
 
 	private void finishRootItem() {
@@ -275,4 +281,8 @@ public class XunitImportHandler extends DefaultHandler {
 	long getCommonDuration() {
 		return commonDuration;
 	}
+
+	long getItemsCount() {
+		return itemsCount;
+	}
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.imprt.impl.junit;
+
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory representation of the test item parsed from the xunit report,
+ * used by the bulk import mode. Identifiers are assigned before persisting.
+ */
+class XunitItem {
+
+	private final String name;
+
+	private final TestItemTypeEnum type;
+
+	private final LocalDateTime startTime;
+
+	private LocalDateTime endTime;
+
+	private StatusEnum status;
+
+	private final List<XunitItem> children = new ArrayList<>();
+
+	private final List<XunitLog> logs = new ArrayList<>();
+
+	private Long itemId;
+
+	private String path;
+
+	private String uniqueId;
+
+	XunitItem(String name, TestItemTypeEnum type, LocalDateTime startTime) {
+		this.name = name;
+		this.type = type;
+		this.startTime = startTime;
+	}
+
+	String getName() {
+		return name;
+	}
+
+	TestItemTypeEnum getType() {
+		return type;
+	}
+
+	LocalDateTime getStartTime() {
+		return startTime;
+	}
+
+	LocalDateTime getEndTime() {
+		return endTime;
+	}
+
+	void setEndTime(LocalDateTime endTime) {
+		this.endTime = endTime;
+	}
+
+	StatusEnum getStatus() {
+		return status;
+	}
+
+	void setStatus(StatusEnum status) {
+		this.status = status;
+	}
+
+	List<XunitItem> getChildren() {
+		return children;
+	}
+
+	List<XunitLog> getLogs() {
+		return logs;
+	}
+
+	Long getItemId() {
+		return itemId;
+	}
+
+	void setItemId(Long itemId) {
+		this.itemId = itemId;
+	}
+
+	String getPath() {
+		return path;
+	}
+
+	void setPath(String path) {
+		this.path = path;
+	}
+
+	String getUniqueId() {
+		return uniqueId;
+	}
+
+	void setUniqueId(String uniqueId) {
+		this.uniqueId = uniqueId;
+	}
+
+	boolean hasChildren() {
+		return !children.isEmpty();
+	}
+
+	/**
+	 * Resolves status of the item with descendants the same way as it's done on item finish:
+	 * item is passed only when all it's descendants are passed
+	 *
+	 * @return Resolved {@link StatusEnum}
+	 */
+	StatusEnum resolveStatus() {
+		if (status == null) {
+			boolean passed = true;
+			for (XunitItem child : children) {
+				passed &= StatusEnum.PASSED == child.resolveStatus();
+			}
+			status = passed ? StatusEnum.PASSED : StatusEnum.FAILED;
+		}
+		return status;
+	}
+
+	static class XunitLog {
+
+		private final LogLevel level;
+
+		private final LocalDateTime time;
+
+		private final String message;
+
+		XunitLog(LogLevel level, LocalDateTime time, String message) {
+			this.level = level;
+			this.time = time;
+			this.message = message;
+		}
+
+		LogLevel getLevel() {
+			return level;
+		}
+
+		LocalDateTime getTime() {
+			return time;
+		}
+
+		String getMessage() {
+			return message;
+		}
+	}
+}
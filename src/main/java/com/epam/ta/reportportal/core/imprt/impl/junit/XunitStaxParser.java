@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.imprt.impl.junit;
+
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.base.Strings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import static com.epam.ta.reportportal.core.imprt.impl.DateUtils.toMillis;
+
+/**
+ * Streaming (StAX) parser of the xunit report into the tree of {@link XunitItem}.
+ * Items timing is calculated the same way as in {@link XunitImportHandler}.
+ */
+class XunitStaxParser {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(XunitStaxParser.class);
+
+	private static final String NO_NAME = "no_name";
+
+	private final List<XunitItem> roots = new ArrayList<>();
+
+	private final Deque<XunitItem> items = new ArrayDeque<>();
+
+	private LocalDateTime startSuiteTime;
+
+	private LocalDateTime startItemTime;
+
+	private long commonDuration;
+
+	private long currentDuration;
+
+	//need to know current step to attach System.out/System.err logs
+	private XunitItem currentItem;
+
+	private StatusEnum status;
+
+	private StringBuilder message;
+
+	private int itemsCount;
+
+	/**
+	 * @param xmlInputStream Xunit report
+	 * @return Root items of the report with their descendants
+	 */
+	List<XunitItem> parse(InputStream xmlInputStream) {
+		startSuiteTime = LocalDateTime.now();
+		message = new StringBuilder();
+		XMLStreamReader reader = null;
+		try {
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+			reader = factory.createXMLStreamReader(xmlInputStream);
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+					case XMLStreamConstants.START_ELEMENT:
+						startElement(reader);
+						break;
+					case XMLStreamConstants.END_ELEMENT:
+						endElement(reader.getLocalName());
+						break;
+					case XMLStreamConstants.CHARACTERS:
+					case XMLStreamConstants.CDATA:
+						message.append(reader.getText());
+						break;
+					default:
+						break;
+				}
+			}
+		} catch (XMLStreamException e) {
+			throw new ReportPortalException(ErrorType.PARSING_XML_ERROR, e.getMessage());
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException e) {
+					LOGGER.warn("Unable to close xml reader", e);
+				}
+			}
+		}
+		return roots;
+	}
+
+	private void startElement(XMLStreamReader reader) {
+		switch (XunitReportTag.fromString(reader.getLocalName())) {
+			case TESTSUITE:
+				if (items.isEmpty()) {
+					startRootItem(attribute(reader, XunitReportTag.ATTR_NAME), attribute(reader, XunitReportTag.TIMESTAMP));
+				} else {
+					startItem(attribute(reader, XunitReportTag.ATTR_NAME), TestItemTypeEnum.TEST);
+				}
+				break;
+			case TESTCASE:
+				startItem(attribute(reader, XunitReportTag.ATTR_NAME), TestItemTypeEnum.STEP);
+				currentDuration = toMillis(attribute(reader, XunitReportTag.ATTR_TIME));
+				currentItem = items.peek();
+				break;
+			case ERROR:
+			case FAILURE:
+				message = new StringBuilder();
+				status = StatusEnum.FAILED;
+				break;
+			case SKIPPED:
+				message = new StringBuilder();
+				status = StatusEnum.SKIPPED;
+				break;
+			case SYSTEM_OUT:
+			case SYSTEM_ERR:
+			case WARNING:
+				message = new StringBuilder();
+				break;
+			case UNKNOWN:
+			default:
+				LOGGER.warn("Unknown tag: {}", reader.getLocalName());
+				break;
+		}
+	}
+
+	private void endElement(String name) {
+		switch (XunitReportTag.fromString(name)) {
+			case TESTSUITE:
+				finishSuite();
+				break;
+			case TESTCASE:
+				finishStep();
+				break;
+			case SKIPPED:
+			case ERROR:
+			case FAILURE:
+			case SYSTEM_ERR:
+				attachLog(LogLevel.ERROR);
+				break;
+			case SYSTEM_OUT:
+				attachLog(LogLevel.INFO);
+				break;
+			case WARNING:
+				attachLog(LogLevel.WARN);
+				break;
+			case UNKNOWN:
+			default:
+				LOGGER.warn("Unknown tag: {}", name);
+				break;
+		}
+	}
+
+	private void startRootItem(String name, String timestamp) {
+		if (null != timestamp) {
+			startItemTime = parseTimeStamp(timestamp);
+			if (startSuiteTime.isAfter(startItemTime)) {
+				startSuiteTime = LocalDateTime.of(startItemTime.toLocalDate(), startItemTime.toLocalTime());
+			}
+		} else {
+			startItemTime = LocalDateTime.now();
+		}
+		XunitItem item = new XunitItem(Strings.isNullOrEmpty(name) ? NO_NAME : name.trim(), TestItemTypeEnum.TEST, startItemTime);
+		roots.add(item);
+		items.push(item);
+		itemsCount++;
+	}
+
+	private void startItem(String name, TestItemTypeEnum type) {
+		XunitItem item = new XunitItem(Strings.isNullOrEmpty(name) ? NO_NAME : name.trim(), type, startItemTime);
+		XunitItem parent = items.peek();
+		if (parent != null) {
+			parent.getChildren().add(item);
+		} else {
+			roots.add(item);
+		}
+		items.push(item);
+		itemsCount++;
+	}
+
+	private void finishSuite() {
+		XunitItem item = items.poll();
+		if (item != null) {
+			item.setEndTime(startItemTime);
+		}
+		status = null;
+	}
+
+	private void finishStep() {
+		startItemTime = startItemTime.plus(currentDuration, ChronoUnit.MILLIS);
+		commonDuration += currentDuration;
+		currentItem = items.poll();
+		if (currentItem != null) {
+			currentItem.setEndTime(startItemTime);
+			currentItem.setStatus(Optional.ofNullable(status).orElse(StatusEnum.PASSED));
+		}
+		status = null;
+	}
+
+	private void attachLog(LogLevel logLevel) {
+		if (null != currentItem && null != message && message.length() != 0) {
+			currentItem.getLogs().add(new XunitItem.XunitLog(logLevel, startItemTime, message.toString().trim()));
+		}
+	}
+
+	private LocalDateTime parseTimeStamp(String timestamp) {
+		LocalDateTime localDateTime = null;
+		try {
+			localDateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(timestamp)), ZoneId.systemDefault());
+		} catch (NumberFormatException ignored) {
+			//ignored
+		}
+		if (null == localDateTime) {
+			DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendOptional(DateTimeFormatter.RFC_1123_DATE_TIME)
+					.appendOptional(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+					.optionalStart()
+					.appendZoneId()
+					.optionalEnd()
+					.toFormatter();
+			localDateTime = LocalDateTime.parse(timestamp, formatter);
+		}
+		return localDateTime;
+	}
+
+	private static String attribute(XMLStreamReader reader, XunitReportTag attribute) {
+		return reader.getAttributeValue(null, attribute.getValue());
+	}
+
+	LocalDateTime getStartSuiteTime() {
+		return startSuiteTime;
+	}
+
+	long getCommonDuration() {
+		return commonDuration;
+	}
+
+	int getItemsCount() {
+		return itemsCount;
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import com.epam.ta.reportportal.dao.TicketRepository;
+import com.epam.ta.reportportal.entity.bts.Ticket;
+import com.epam.ta.reportportal.ws.converter.converters.TicketConverter;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import org.apache.commons.collections.CollectionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Resolves {@link Ticket} entities of the external system issues in bulk.
+ * Existing tickets are loaded with a single query and the missing ones are created once
+ * per ticket id, however many test items they are linked to.
+ */
+@Service
+public class ExternalTicketHandler {
+
+	private final TicketRepository ticketRepository;
+
+	@Autowired
+	public ExternalTicketHandler(TicketRepository ticketRepository) {
+		this.ticketRepository = ticketRepository;
+	}
+
+	/**
+	 * Loads existing tickets of the external issues with a single query
+	 *
+	 * @param externalIssues {@link com.epam.ta.reportportal.ws.model.issue.Issue.ExternalSystemIssue}
+	 * @return Existing tickets by {@link Ticket#getTicketId()}
+	 */
+	public Map<String, Ticket> findTickets(Collection<Issue.ExternalSystemIssue> externalIssues) {
+		if (CollectionUtils.isEmpty(externalIssues)) {
+			return new HashMap<>();
+		}
+		List<String> ticketIds = externalIssues.stream().map(Issue.ExternalSystemIssue::getTicketId).distinct().collect(toList());
+		return ticketRepository.findByTicketIdIn(ticketIds)
+				.stream()
+				.collect(Collectors.toMap(Ticket::getTicketId, it -> it, (first, second) -> first));
+	}
+
+	/**
+	 * Converts external issues to tickets. Tickets are taken from the preloaded ones as is, new tickets
+	 * are added to the preloaded ones, so the ticket used by several items is created once and
+	 * the submitter of the existing ticket isn't overwritten by the one who links it again.
+	 *
+	 * @param externalIssues {@link com.epam.ta.reportportal.ws.model.issue.Issue.ExternalSystemIssue}
+	 * @param username       {@link com.epam.ta.reportportal.entity.user.User#login}
+	 * @param ticketsById    Preloaded tickets by {@link Ticket#getTicketId()}
+	 * @return {@link Set} of the {@link Ticket}
+	 */
+	public Set<Ticket> collectTickets(Collection<Issue.ExternalSystemIssue> externalIssues, String username,
+			Map<String, Ticket> ticketsById) {
+		if (CollectionUtils.isEmpty(externalIssues)) {
+			return Collections.emptySet();
+		}
+		Set<Ticket> tickets = new LinkedHashSet<>(externalIssues.size());
+		externalIssues.forEach(it -> {
+			Ticket ticket = ticketsById.computeIfAbsent(it.getTicketId(), ticketId -> {
+				Ticket created = TicketConverter.TO_TICKET.apply(it);
+				created.setSubmitter(username);
+				created.setSubmitDate(ofNullable(it.getSubmitDate()).map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(millis),
+						ZoneOffset.UTC
+				)).orElse(LocalDateTime.now()));
+				return created;
+			});
+			tickets.add(ticket);
+		});
+		return tickets;
+	}
+
+	/**
+	 * Resolves tickets of the external issues with a single query and saves the new ones in one batch,
+	 * so they can be linked to any number of test items.
+	 *
+	 * @param externalIssues {@link com.epam.ta.reportportal.ws.model.issue.Issue.ExternalSystemIssue}
+	 * @param username       {@link com.epam.ta.reportportal.entity.user.User#login}
+	 * @return {@link Set} of the {@link Ticket}
+	 */
+	public Set<Ticket> resolveTickets(Collection<Issue.ExternalSystemIssue> externalIssues, String username) {
+		Set<Ticket> tickets = collectTickets(externalIssues, username, findTickets(externalIssues));
+		List<Ticket> newTickets = tickets.stream().filter(it -> it.getId() == null).collect(toList());
+		if (!newTickets.isEmpty()) {
+			ticketRepository.saveAll(newTickets);
+		}
+		return tickets;
+	}
+}
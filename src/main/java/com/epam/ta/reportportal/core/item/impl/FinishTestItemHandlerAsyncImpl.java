@@ -67,6 +67,7 @@ public class FinishTestItemHandlerAsyncImpl implements FinishTestItemHandler {
 					headers.put(MessageHeaders.REQUEST_TYPE, RequestType.FINISH_TEST);
 					headers.put(MessageHeaders.USERNAME, user.getUsername());
 					headers.put(MessageHeaders.PROJECT_NAME, projectDetails.getProjectName());
+					headers.put(MessageHeaders.PROJECT_ID, projectDetails.getProjectId());
 					headers.put(MessageHeaders.ITEM_ID, testItemId);
 					return message;
 				}
@@ -19,6 +19,8 @@ import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.events.item.ItemFinishedEvent;
+import com.epam.ta.reportportal.core.events.item.ItemHistoryAddedEvent;
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
 import com.epam.ta.reportportal.core.hierarchy.FinishHierarchyHandler;
 import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
 import com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler;
@@ -27,6 +29,7 @@ import com.epam.ta.reportportal.dao.IssueEntityRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.item.TestItemResults;
@@ -122,7 +125,15 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 		TestItem testItem = testItemRepository.findByUuid(testItemId)
 				.orElseThrow(() -> new ReportPortalException(TEST_ITEM_NOT_FOUND, testItemId));
 
-		TestItemResults testItemResults = processItemResults(user, projectDetails, testItem, finishExecutionRQ, testItem.isHasChildren());
+		Launch launch = retrieveLaunch(testItem);
+
+		TestItemResults testItemResults = processItemResults(user,
+				projectDetails,
+				launch,
+				testItem,
+				finishExecutionRQ,
+				testItem.isHasChildren()
+		);
 
 		testItem = new TestItemBuilder(testItem).addDescription(finishExecutionRQ.getDescription())
 				.addAttributes(finishExecutionRQ.getAttributes())
@@ -130,6 +141,16 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 				.get();
 
 		testItemRepository.save(testItem);
+
+		if (isHistoryItem(testItem, launch)) {
+			eventPublisher.publishEvent(new ItemHistoryAddedEvent(launch.getProjectId(),
+					launch.getId(),
+					launch.getName(),
+					testItem.getTestCaseHash(),
+					testItem.getItemId(),
+					testItem.getStartTime()
+			));
+		}
 		return new OperationCompletionRS("TestItem with ID = '" + testItemId + "' successfully finished.");
 	}
 
@@ -138,14 +159,13 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 	 * When status provided, no matter test item has or not descendants, test
 	 * item status is resolved to provided
 	 *
+	 * @param launch           {@link Launch} of the item
 	 * @param testItem         {@link TestItem}
 	 * @param finishTestItemRQ {@link FinishTestItemRQ}
 	 * @return TestItemResults {@link TestItemResults}
 	 */
-	private TestItemResults processItemResults(ReportPortalUser user, ReportPortalUser.ProjectDetails projectDetails, TestItem testItem,
-			FinishTestItemRQ finishTestItemRQ, boolean hasChildren) {
-
-		Launch launch = retrieveLaunch(testItem);
+	private TestItemResults processItemResults(ReportPortalUser user, ReportPortalUser.ProjectDetails projectDetails, Launch launch,
+			TestItem testItem, FinishTestItemRQ finishTestItemRQ, boolean hasChildren) {
 
 		validateRoles(user, projectDetails, launch);
 		verifyTestItem(testItem, fromValue(finishTestItemRQ.getStatus()), testItem.isHasChildren());
@@ -160,6 +180,14 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 		return testItemResults;
 	}
 
+	/**
+	 * Only items that are shown in the test case history are indexed
+	 */
+	private boolean isHistoryItem(TestItem testItem, Launch launch) {
+		return testItem.isHasStats() && testItem.getRetryOf() == null && testItem.getTestCaseHash() != null
+				&& LaunchModeEnum.DEFAULT == launch.getMode();
+	}
+
 	private Launch retrieveLaunch(TestItem testItem) {
 
 		return ofNullable(testItem.getRetryOf()).map(retryParentId -> {
@@ -266,6 +294,8 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 			ReportPortalUser.ProjectDetails projectDetails) {
 		if (testItemRepository.hasItemsInStatusByParent(testItem.getItemId(), testItem.getPath(), StatusEnum.IN_PROGRESS.name())) {
 			finishHierarchyHandler.finishDescendants(testItem, status, endTime, user, projectDetails);
+			//descendants are finished bypassing the handler, so they aren't added to the indexed history one by one
+			eventPublisher.publishEvent(ItemHistoryRemovedEvent.ofProject(projectDetails.getProjectId()));
 		}
 	}
 
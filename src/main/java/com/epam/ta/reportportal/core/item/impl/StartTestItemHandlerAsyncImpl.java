@@ -61,6 +61,7 @@ class StartTestItemHandlerAsyncImpl implements StartTestItemHandler {
 					headers.put(MessageHeaders.REQUEST_TYPE, RequestType.START_TEST);
 					headers.put(MessageHeaders.USERNAME, user.getUsername());
 					headers.put(MessageHeaders.PROJECT_NAME, projectDetails.getProjectName());
+					headers.put(MessageHeaders.PROJECT_ID, projectDetails.getProjectId());
 					headers.put(MessageHeaders.PARENT_ITEM_ID, "");
 					return message;
 				}
@@ -86,6 +87,7 @@ class StartTestItemHandlerAsyncImpl implements StartTestItemHandler {
 					headers.put(MessageHeaders.REQUEST_TYPE, RequestType.START_TEST);
 					headers.put(MessageHeaders.USERNAME, user.getUsername());
 					headers.put(MessageHeaders.PROJECT_NAME, projectDetails.getProjectName());
+					headers.put(MessageHeaders.PROJECT_ID, projectDetails.getProjectId());
 					headers.put(MessageHeaders.PARENT_ITEM_ID, parentId);
 					return message;
 				}
@@ -28,8 +28,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
@@ -44,7 +44,7 @@ import java.util.stream.Collectors;
 @Service
 public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
 
-	private static final String TRAIT = "auto:";
+	public static final String TRAIT = "auto:";
 
 	private TestItemRepository testItemRepository;
 
@@ -59,23 +59,39 @@ public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
 		return TRAIT + DigestUtils.md5Hex(forEncoding);
 	}
 
+	/**
+	 * Generates the unique identifier using already resolved path names,
+	 * so no additional query is required per item. Used by bulk operations.
+	 *
+	 * @param itemName   {@link TestItem#getName()}
+	 * @param pathNames  Names of the item's ancestors ordered from the root
+	 * @param parameters {@link TestItem#getParameters()}
+	 * @param launch     {@link Launch} that item belongs to
+	 * @return unique id
+	 */
+	public String generate(String itemName, List<String> pathNames, Collection<Parameter> parameters, Launch launch) {
+		return TRAIT + DigestUtils.md5Hex(prepareForEncoding(itemName, pathNames, parameters, launch));
+	}
+
 	@Override
 	public boolean validate(String encoded) {
 		return !Strings.isNullOrEmpty(encoded) && encoded.startsWith(TRAIT);
 	}
 
 	private String prepareForEncoding(TestItem testItem, Launch launch) {
+		List<String> pathNames = new ArrayList<>(testItemRepository.selectPathNames(testItem.getPath()).values());
+		return prepareForEncoding(testItem.getName(), pathNames, testItem.getParameters(), launch);
+	}
+
+	private String prepareForEncoding(String itemName, List<String> pathNames, Collection<Parameter> parameters, Launch launch) {
 		Long projectId = launch.getProjectId();
 		String launchName = launch.getName();
-		List<String> pathNames = new ArrayList<>(testItemRepository.selectPathNames(testItem.getPath()).values());
-		String itemName = testItem.getName();
 		StringJoiner joiner = new StringJoiner(";");
 		joiner.add(projectId.toString()).add(launchName);
 		if (!CollectionUtils.isEmpty(pathNames)) {
 			joiner.add(String.join(";", pathNames));
 		}
 		joiner.add(itemName);
-		Set<Parameter> parameters = testItem.getParameters();
 		if (!CollectionUtils.isEmpty(parameters)) {
 			joiner.add(parameters.stream()
 					.map(parameter -> (!Strings.isNullOrEmpty(parameter.getKey()) ? parameter.getKey() + "=" : "") + parameter.getValue())
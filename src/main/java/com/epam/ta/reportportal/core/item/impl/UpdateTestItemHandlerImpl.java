@@ -46,7 +46,6 @@ import com.epam.ta.reportportal.ws.converter.builders.IssueEntityBuilder;
 import com.epam.ta.reportportal.ws.converter.builders.TestItemBuilder;
 import com.epam.ta.reportportal.ws.converter.converters.IssueConverter;
 import com.epam.ta.reportportal.ws.converter.converters.ItemAttributeConverter;
-import com.epam.ta.reportportal.ws.converter.converters.TicketConverter;
 import com.epam.ta.reportportal.ws.model.BulkInfoUpdateRQ;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
@@ -65,9 +64,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -101,7 +97,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
 	private final LogRepository logRepository;
 
-	private final TicketRepository ticketRepository;
+	private final ExternalTicketHandler externalTicketHandler;
 
 	private final IssueTypeHandler issueTypeHandler;
 
@@ -115,14 +111,14 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
 	@Autowired
 	public UpdateTestItemHandlerImpl(ProjectRepository projectRepository, LaunchRepository launchRepository,
-			TestItemRepository testItemRepository, LogRepository logRepository, TicketRepository ticketRepository,
+			TestItemRepository testItemRepository, LogRepository logRepository, ExternalTicketHandler externalTicketHandler,
 			IssueTypeHandler issueTypeHandler, MessageBus messageBus, LogIndexer logIndexer, IssueEntityRepository issueEntityRepository,
 			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping) {
 		this.projectRepository = projectRepository;
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.logRepository = logRepository;
-		this.ticketRepository = ticketRepository;
+		this.externalTicketHandler = externalTicketHandler;
 		this.issueTypeHandler = issueTypeHandler;
 		this.messageBus = messageBus;
 		this.logIndexer = logIndexer;
@@ -140,18 +136,30 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		List<String> errors = new ArrayList<>();
 		List<IssueDefinition> definitions = defineIssue.getIssues();
 		expect(CollectionUtils.isEmpty(definitions), equalTo(false)).verify(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION);
-		List<Issue> updated = new ArrayList<>(defineIssue.getIssues().size());
-		List<ItemIssueTypeDefinedEvent> events = new ArrayList<>();
+		List<Issue> updated = new ArrayList<>(definitions.size());
+		List<ItemIssueTypeDefinedEvent> events = new ArrayList<>(definitions.size());
+		List<IssueEntity> issueEntities = new ArrayList<>(definitions.size());
+		List<TestItem> testItems = new ArrayList<>(definitions.size());
 
 		// key - launch id, value - list of item ids
 		Map<Long, List<Long>> logsToReindexMap = new HashMap<>();
-		List<Long> logIdsToCleanIndex = new ArrayList<>();
+		List<Long> itemIdsToCleanIndex = new ArrayList<>();
+
+		Map<Long, TestItem> itemsById = testItemRepository.findAllById(definitions.stream().map(IssueDefinition::getId).collect(toSet()))
+				.stream()
+				.collect(Collectors.toMap(TestItem::getItemId, it -> it));
+		Map<String, IssueType> issueTypesByLocator = new HashMap<>();
+		Map<String, Ticket> ticketsById = externalTicketHandler.findTickets(definitions.stream()
+				.map(IssueDefinition::getIssue)
+				.map(Issue::getExternalSystemIssues)
+				.filter(Objects::nonNull)
+				.flatMap(Collection::stream)
+				.collect(toList()));
 
 		definitions.forEach(issueDefinition -> {
 			try {
-				TestItem testItem = testItemRepository.findById(issueDefinition.getId())
-						.orElseThrow(() -> new BusinessRuleViolationException(Suppliers.formattedSupplier(
-								"Cannot update issue type for test item '{}', cause it is not found.",
+				TestItem testItem = ofNullable(itemsById.get(issueDefinition.getId())).orElseThrow(() -> new BusinessRuleViolationException(
+						Suppliers.formattedSupplier("Cannot update issue type for test item '{}', cause it is not found.",
 								issueDefinition.getId()
 						).get()));
 
@@ -159,7 +167,9 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 				TestItemActivityResource before = TO_ACTIVITY_RESOURCE.apply(testItem, projectDetails.getProjectId());
 
 				Issue issue = issueDefinition.getIssue();
-				IssueType issueType = issueTypeHandler.defineIssueType(projectDetails.getProjectId(), issue.getIssueType());
+				IssueType issueType = issueTypesByLocator.computeIfAbsent(issue.getIssueType(),
+						locator -> issueTypeHandler.defineIssueType(projectDetails.getProjectId(), locator)
+				);
 
 				IssueEntity issueEntity = new IssueEntityBuilder(testItem.getItemResults().getIssue()).addIssueType(issueType)
 						.addDescription(issue.getComment())
@@ -168,30 +178,21 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 						.get();
 
 				ofNullable(issueDefinition.getIssue().getExternalSystemIssues()).ifPresent(issues -> {
-					Set<Ticket> tickets = collectTickets(issues, user.getUsername());
+					Set<Ticket> tickets = externalTicketHandler.collectTickets(issues, user.getUsername(), ticketsById);
 					issueEntity.getTickets().removeIf(it -> !tickets.contains(it));
 					issueEntity.getTickets().addAll(tickets);
 					tickets.stream().filter(it -> CollectionUtils.isEmpty(it.getIssues())).forEach(it -> it.getIssues().add(issueEntity));
 				});
 
 				issueEntity.setTestItemResults(testItem.getItemResults());
-				issueEntityRepository.save(issueEntity);
 				testItem.getItemResults().setIssue(issueEntity);
-
-				testItemRepository.save(testItem);
+				issueEntities.add(issueEntity);
+				testItems.add(testItem);
 
 				if (ITEM_CAN_BE_INDEXED.test(testItem)) {
-					Long launchId = testItem.getLaunchId();
-					Long itemId = testItem.getItemId();
-					if (logsToReindexMap.containsKey(launchId)) {
-						logsToReindexMap.get(launchId).add(itemId);
-					} else {
-						List<Long> itemIds = Lists.newArrayList();
-						itemIds.add(itemId);
-						logsToReindexMap.put(launchId, itemIds);
-					}
+					logsToReindexMap.computeIfAbsent(testItem.getLaunchId(), launchId -> Lists.newArrayList()).add(testItem.getItemId());
 				} else {
-					logIdsToCleanIndex.addAll(logRepository.findIdsByTestItemId(testItem.getItemId()));
+					itemIdsToCleanIndex.add(testItem.getItemId());
 				}
 
 				updated.add(IssueConverter.TO_MODEL.apply(issueEntity));
@@ -204,13 +205,20 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 			}
 		});
 		expect(errors.isEmpty(), equalTo(TRUE)).verify(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, errors.toString());
+
+		issueEntityRepository.saveAll(issueEntities);
+		testItemRepository.saveAll(testItems);
+
 		if (!logsToReindexMap.isEmpty()) {
 			logsToReindexMap.forEach((key, value) -> logIndexer.indexItemsLogs(project.getId(), key, value, analyzerConfig));
 		}
-		if (!logIdsToCleanIndex.isEmpty()) {
-			logIndexer.cleanIndex(project.getId(), logIdsToCleanIndex);
+		if (!itemIdsToCleanIndex.isEmpty()) {
+			List<Long> logIdsToCleanIndex = logRepository.findIdsByTestItemIds(itemIdsToCleanIndex);
+			if (!logIdsToCleanIndex.isEmpty()) {
+				logIndexer.cleanIndex(project.getId(), logIdsToCleanIndex);
+			}
 		}
-		events.forEach(messageBus::publishActivity);
+		messageBus.publishActivities(events);
 		return updated;
 	}
 
@@ -246,15 +254,13 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		List<String> errors = new ArrayList<>();
 
 		List<TestItem> testItems = testItemRepository.findAllById(request.getTestItemIds());
-		List<TestItemActivityResource> before = testItems.stream()
-				.map(it -> TO_ACTIVITY_RESOURCE.apply(it, projectDetails.getProjectId()))
-				.collect(Collectors.toList());
+		Map<Long, TestItemActivityResource> before = testItems.stream()
+				.collect(Collectors.toMap(TestItem::getItemId, it -> TO_ACTIVITY_RESOURCE.apply(it, projectDetails.getProjectId())));
 
 		if (request.getClass().equals(LinkExternalIssueRQ.class)) {
 			LinkExternalIssueRQ linkRequest = (LinkExternalIssueRQ) request;
-			List<Ticket> existedTickets = collectExistedTickets(linkRequest.getIssues());
-			Set<Ticket> ticketsFromRq = collectTickets(linkRequest.getIssues(), user.getUsername());
-			linkIssues(testItems, existedTickets, ticketsFromRq, errors);
+			Set<Ticket> tickets = externalTicketHandler.resolveTickets(linkRequest.getIssues(), user.getUsername());
+			linkIssues(testItems, tickets, errors);
 		}
 
 		if (request.getClass().equals(UnlinkExternalIssueRQ.class)) {
@@ -262,16 +268,15 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		}
 		expect(errors.isEmpty(), equalTo(TRUE)).verify(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, errors.toString());
 		testItemRepository.saveAll(testItems);
-		List<TestItemActivityResource> after = testItems.stream()
-				.map(it -> TO_ACTIVITY_RESOURCE.apply(it, projectDetails.getProjectId()))
-				.collect(Collectors.toList());
-
-		before.forEach(it -> messageBus.publishActivity(new LinkTicketEvent(it,
-				after.stream().filter(t -> t.getId().equals(it.getId())).findFirst().get(),
-				user.getUserId(),
-				user.getUsername(),
-				ActivityAction.LINK_ISSUE
-		)));
+
+		messageBus.publishActivities(testItems.stream()
+				.map(it -> new LinkTicketEvent(before.get(it.getItemId()),
+						TO_ACTIVITY_RESOURCE.apply(it, projectDetails.getProjectId()),
+						user.getUserId(),
+						user.getUsername(),
+						ActivityAction.LINK_ISSUE
+				))
+				.collect(toList()));
 		return testItems.stream()
 				.map(testItem -> new OperationCompletionRS("TestItem with ID = '" + testItem.getItemId() + "' successfully updated."))
 				.collect(toList());
@@ -292,13 +297,12 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		}
 	}
 
-	private void linkIssues(List<TestItem> items, List<Ticket> existedTickets, Set<Ticket> ticketsFromRq, List<String> errors) {
+	private void linkIssues(List<TestItem> items, Set<Ticket> tickets, List<String> errors) {
 		items.forEach(testItem -> {
 			try {
 				verifyTestItem(testItem, testItem.getItemId());
 				IssueEntity issue = testItem.getItemResults().getIssue();
-				issue.getTickets().addAll(existedTickets);
-				issue.getTickets().addAll(ticketsFromRq);
+				issue.getTickets().addAll(tickets);
 				issue.setAutoAnalyzed(false);
 			} catch (Exception e) {
 				errors.add(e.getMessage());
@@ -379,54 +383,6 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		return new OperationCompletionRS("Attributes successfully updated");
 	}
 
-	/**
-	 * Finds tickets that are existed in db and removes them from request.
-	 *
-	 * @param externalIssues {@link com.epam.ta.reportportal.ws.model.issue.Issue.ExternalSystemIssue}
-	 * @return List of existed tickets in db.
-	 */
-	private List<Ticket> collectExistedTickets(Collection<Issue.ExternalSystemIssue> externalIssues) {
-		if (CollectionUtils.isEmpty(externalIssues)) {
-			return Collections.emptyList();
-		}
-		List<Ticket> existedTickets = ticketRepository.findByTicketIdIn(externalIssues.stream()
-				.map(Issue.ExternalSystemIssue::getTicketId)
-				.collect(toList()));
-		List<String> existedTicketsIds = existedTickets.stream().map(Ticket::getTicketId).collect(toList());
-		externalIssues.removeIf(it -> existedTicketsIds.contains(it.getTicketId()));
-		return existedTickets;
-	}
-
-	/**
-	 * TODO document this
-	 *
-	 * @param externalIssues {@link com.epam.ta.reportportal.ws.model.issue.Issue.ExternalSystemIssue}
-	 * @param username       {@link com.epam.ta.reportportal.entity.user.User#login}
-	 * @return {@link Set} of the {@link Ticket}
-	 */
-	private Set<Ticket> collectTickets(Collection<Issue.ExternalSystemIssue> externalIssues, String username) {
-		if (CollectionUtils.isEmpty(externalIssues)) {
-			return Collections.emptySet();
-		}
-		return externalIssues.stream().map(it -> {
-			Ticket ticket;
-			Optional<Ticket> ticketOptional = ticketRepository.findByTicketId(it.getTicketId());
-			if (ticketOptional.isPresent()) {
-				ticket = ticketOptional.get();
-				ticket.setUrl(it.getUrl());
-				ticket.setBtsProject(it.getBtsProject());
-				ticket.setBtsUrl(it.getBtsUrl());
-			} else {
-				ticket = TicketConverter.TO_TICKET.apply(it);
-			}
-			ticket.setSubmitter(username);
-			ticket.setSubmitDate(ofNullable(it.getSubmitDate()).map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(millis),
-					ZoneOffset.UTC
-			)).orElse(LocalDateTime.now()));
-			return ticket;
-		}).collect(toSet());
-	}
-
 	/**
 	 * Validates test item access ability.
 	 *
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.core.item.impl.history.index;
+
+import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.item.history.TestItemHistory;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.ws.model.ValidationConstraints.MAX_HISTORY_DEPTH_BOUND;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Index of the recent test items history of the project: {@link TestItem#getTestCaseHash()} -> ids of the latest items
+ * with such hash, the most recent first. History of the items of launches with the same name ('line' history) is indexed separately.
+ * <p>
+ * Missing hashes are loaded with a single query per request and kept up to date by
+ * {@link #addItem(Long, String, Long, Integer, Long, LocalDateTime)} when items are finished,
+ * {@link #invalidateLaunches(Collection)} when items of the launches are deleted or retried and
+ * {@link #invalidateProject(Long)} when items are moved or created bypassing the finish handler,
+ * so paging through the history doesn't scan the test item table on every request.
+ * Statuses aren't indexed, items are always loaded for the response, so they are never stale.
+ * <p>
+ * Size of the index is limited by the total count of the indexed items.
+ * Items finished while the history of their hash is being loaded are merged into the loaded history.
+ * History loaded concurrently with an invalidation isn't kept, so the index never keeps items of the already invalidated launches.
+ */
+@Component
+public class TestItemHistoryIndex {
+
+	private static final String SELECT_HISTORY =
+			"SELECT test_case_hash, item_id, launch_id, start_time FROM (SELECT ti.test_case_hash, ti.item_id, ti.launch_id, ti.start_time, "
+					+ "ROW_NUMBER() OVER (PARTITION BY ti.test_case_hash ORDER BY ti.start_time DESC, ti.item_id DESC) AS position "
+					+ "FROM test_item ti JOIN launch l ON ti.launch_id = l.id WHERE l.project_id = :projectId AND l.mode = 'DEFAULT' %s "
+					+ "AND ti.test_case_hash IN (:hashes) AND ti.has_stats AND ti.retry_of IS NULL) history "
+					+ "WHERE position <= :depth ORDER BY test_case_hash, position";
+
+	private static final String LAUNCH_NAME_CONDITION = "AND l.name = :launchName";
+
+	/**
+	 * Max history depth that can be requested
+	 */
+	static final int CAPACITY = MAX_HISTORY_DEPTH_BOUND;
+
+	private static final Comparator<Entry> RECENT_FIRST = Comparator.comparing((Entry entry) -> entry.startTime)
+			.thenComparing(entry -> entry.itemId)
+			.reversed();
+
+	private final TestItemRepository testItemRepository;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final Cache<HistoryKey, List<Entry>> index;
+
+	/**
+	 * Launch id -> keys of the history with items of the launch. Expires not earlier than the keys themselves,
+	 * keys that are already evicted are just skipped on invalidation. Keys of the evicted launch are evicted with it,
+	 * so the history is never kept without its links.
+	 */
+	private final Cache<Long, Set<HistoryKey>> keysByLaunch;
+
+	/**
+	 * Items finished while the history of their hash wasn't indexed. They are merged into the history
+	 * that is put after being loaded concurrently with the finish, so such load doesn't miss them.
+	 */
+	private final Cache<HistoryKey, List<Entry>> recentItems;
+
+	/**
+	 * Project id -> generation of the project keys, incremented to drop the whole project history at once
+	 */
+	private final ConcurrentMap<Long, Long> generations = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented on each launches invalidation
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	@Autowired
+	public TestItemHistoryIndex(TestItemRepository testItemRepository, NamedParameterJdbcTemplate jdbcTemplate,
+			@Value("${rp.item.history.index.maxItems:1000000}") long maxItems,
+			@Value("${rp.item.history.index.ttl:30}") long ttlMinutes,
+			@Value("${rp.item.history.index.recent.ttl:60}") long recentTtlSeconds) {
+		this.testItemRepository = testItemRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.index = CacheBuilder.newBuilder()
+				.maximumWeight(maxItems)
+				.weigher((HistoryKey key, List<Entry> history) -> history.size() + 1)
+				.expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+				.build();
+		this.keysByLaunch = CacheBuilder.newBuilder()
+				.maximumSize(maxItems)
+				.expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+				.removalListener((RemovalNotification<Long, Set<HistoryKey>> notification) -> {
+					if (notification.wasEvicted()) {
+						index.invalidateAll(notification.getValue());
+					}
+				})
+				.build();
+		this.recentItems = CacheBuilder.newBuilder()
+				.maximumSize(maxItems)
+				.expireAfterWrite(recentTtlSeconds, TimeUnit.SECONDS)
+				.build();
+	}
+
+	/**
+	 * Replacement of the {@link TestItemRepository#loadItemsHistoryPage(Queryable, Pageable, Long, int)}:
+	 * the page of the baseline items is selected by the filter, history of their hashes is taken from the index.
+	 *
+	 * @param filter       {@link Queryable} to select baseline items
+	 * @param pageable     {@link Pageable}
+	 * @param projectId    {@link com.epam.ta.reportportal.entity.project.Project#getId()}
+	 * @param launchName   Name of the launches history is built on, or 'null' for all launches of the project
+	 * @param historyDepth Max count of the items in the history of each hash
+	 * @return {@link Page} with {@link TestItemHistory} content
+	 */
+	public Page<TestItemHistory> loadHistoryPage(Queryable filter, Pageable pageable, Long projectId, @Nullable String launchName,
+			int historyDepth) {
+		Page<TestItem> baseline = testItemRepository.findByFilter(filter, pageable);
+		Set<Integer> hashes = baseline.getContent()
+				.stream()
+				.map(TestItem::getTestCaseHash)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+
+		Map<Integer, List<Long>> history = getHistory(projectId, launchName, hashes, historyDepth);
+		List<TestItemHistory> content = hashes.stream()
+				.map(hash -> new TestItemHistory(hash, history.getOrDefault(hash, Collections.emptyList())))
+				.collect(Collectors.toList());
+		return PageableExecutionUtils.getPage(content, pageable, baseline::getTotalElements);
+	}
+
+	/**
+	 * @param projectId    {@link com.epam.ta.reportportal.entity.project.Project#getId()}
+	 * @param launchName   Name of the launches history is built on, or 'null' for all launches of the project
+	 * @param hashes       Test case hashes
+	 * @param historyDepth Max count of the items in the history of each hash
+	 * @return Ids of the latest items by test case hash, the most recent first
+	 */
+	public Map<Integer, List<Long>> getHistory(Long projectId, @Nullable String launchName, Collection<Integer> hashes, int historyDepth) {
+		Map<Integer, List<Entry>> entries = new HashMap<>(hashes.size());
+		List<Integer> missing = new ArrayList<>();
+		long generation = generations.getOrDefault(projectId, 0L);
+		hashes.forEach(hash -> {
+			List<Entry> cached = index.getIfPresent(new HistoryKey(projectId, generation, launchName, hash));
+			if (cached == null) {
+				missing.add(hash);
+			} else {
+				entries.put(hash, cached);
+			}
+		});
+		if (!missing.isEmpty()) {
+			long loadVersion = version.get();
+			Map<Integer, List<Entry>> loaded = load(projectId, launchName, missing);
+			missing.forEach(hash -> {
+				List<Entry> history = loaded.getOrDefault(hash, Collections.emptyList());
+				put(new HistoryKey(projectId, generation, launchName, hash), history, loadVersion);
+				entries.put(hash, history);
+			});
+		}
+		return entries.entrySet()
+				.stream()
+				.collect(Collectors.toMap(Map.Entry::getKey,
+						it -> it.getValue().stream().limit(historyDepth).map(entry -> entry.itemId).collect(Collectors.toList())
+				));
+	}
+
+	/**
+	 * Adds finished item to the already indexed history of its hash.
+	 * Not indexed hashes are skipped, they are loaded with the item on the next request.
+	 */
+	public void addItem(Long projectId, String launchName, Long launchId, Integer testCaseHash, Long itemId, LocalDateTime startTime) {
+		Entry entry = new Entry(itemId, launchId, startTime);
+		long generation = generations.getOrDefault(projectId, 0L);
+		add(new HistoryKey(projectId, generation, null, testCaseHash), entry);
+		add(new HistoryKey(projectId, generation, launchName, testCaseHash), entry);
+	}
+
+	/**
+	 * Removes history that contains items of the launches
+	 */
+	public void invalidateLaunches(Collection<Long> launchIds) {
+		version.incrementAndGet();
+		launchIds.forEach(launchId -> ofNullable(keysByLaunch.asMap().remove(launchId)).ifPresent(index::invalidateAll));
+	}
+
+	/**
+	 * Removes the whole history of the project
+	 */
+	public void invalidateProject(Long projectId) {
+		generations.merge(projectId, 1L, Long::sum);
+	}
+
+	/**
+	 * The key is linked to the launches after the history is put, so an invalidation that misses the key
+	 * has already changed the version and the history loaded before it is removed.
+	 * Items recorded by {@link #add(HistoryKey, Entry)} before the history is put are merged here,
+	 * the ones recorded later find the history and are merged by the add itself.
+	 */
+	private void put(HistoryKey key, List<Entry> history, long loadVersion) {
+		if (index.asMap().putIfAbsent(key, history) == null) {
+			link(key, history);
+			ofNullable(recentItems.getIfPresent(key)).ifPresent(recent -> recent.forEach(entry -> merge(key, entry)));
+			if (version.get() != loadVersion) {
+				index.invalidate(key);
+			}
+		}
+	}
+
+	/**
+	 * Links are refreshed on each write of the history, so they never expire earlier than the history itself
+	 */
+	private void link(HistoryKey key, List<Entry> history) {
+		history.stream().map(entry -> entry.launchId).distinct().forEach(launchId -> link(launchId, key));
+	}
+
+	private void link(Long launchId, HistoryKey key) {
+		keysByLaunch.asMap().compute(launchId, (id, keys) -> {
+			Set<HistoryKey> result = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+			result.add(key);
+			return result;
+		});
+	}
+
+	private void add(HistoryKey key, Entry entry) {
+		if (!merge(key, entry)) {
+			recentItems.asMap().merge(key, Collections.singletonList(entry), (present, added) -> {
+				List<Entry> result = new ArrayList<>(present.size() + added.size());
+				result.addAll(present);
+				result.addAll(added);
+				return Collections.unmodifiableList(result);
+			});
+			merge(key, entry);
+		}
+	}
+
+	/**
+	 * @return 'true' if the history of the key is indexed
+	 */
+	private boolean merge(HistoryKey key, Entry entry) {
+		return ofNullable(index.asMap().computeIfPresent(key, (k, history) -> {
+			if (history.stream().anyMatch(it -> it.itemId.equals(entry.itemId))) {
+				return history;
+			}
+			List<Entry> updated = new ArrayList<>(history.size() + 1);
+			updated.addAll(history);
+			updated.add(entry);
+			updated.sort(RECENT_FIRST);
+			return Collections.unmodifiableList(updated.size() > CAPACITY ? new ArrayList<>(updated.subList(0, CAPACITY)) : updated);
+		})).map(history -> {
+			link(key, history);
+			return true;
+		}).orElse(false);
+	}
+
+	private Map<Integer, List<Entry>> load(Long projectId, @Nullable String launchName, List<Integer> hashes) {
+		Map<Integer, List<Entry>> history = new HashMap<>(hashes.size());
+		jdbcTemplate.query(String.format(SELECT_HISTORY, launchName == null ? "" : LAUNCH_NAME_CONDITION),
+				new MapSqlParameterSource("projectId", projectId).addValue("launchName", launchName)
+						.addValue("hashes", hashes)
+						.addValue("depth", CAPACITY),
+				rs -> {
+					history.computeIfAbsent(rs.getInt("test_case_hash"), hash -> new ArrayList<>())
+							.add(new Entry(rs.getLong("item_id"), rs.getLong("launch_id"), rs.getTimestamp("start_time").toLocalDateTime()));
+				}
+		);
+		history.replaceAll((hash, entries) -> Collections.unmodifiableList(entries));
+		return history;
+	}
+
+	private static final class HistoryKey {
+
+		private final Long projectId;
+
+		private final long generation;
+
+		private final String launchName;
+
+		private final Integer testCaseHash;
+
+		private HistoryKey(Long projectId, long generation, String launchName, Integer testCaseHash) {
+			this.projectId = projectId;
+			this.generation = generation;
+			this.launchName = launchName;
+			this.testCaseHash = testCaseHash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			HistoryKey that = (HistoryKey) o;
+			return generation == that.generation && projectId.equals(that.projectId) && Objects.equals(launchName, that.launchName)
+					&& testCaseHash.equals(that.testCaseHash);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(projectId, generation, launchName, testCaseHash);
+		}
+	}
+
+	private static final class Entry {
+
+		private final Long itemId;
+
+		private final Long launchId;
+
+		private final LocalDateTime startTime;
+
+		private Entry(Long itemId, Long launchId, LocalDateTime startTime) {
+			this.itemId = itemId;
+			this.launchId = launchId;
+			this.startTime = startTime;
+		}
+	}
+}
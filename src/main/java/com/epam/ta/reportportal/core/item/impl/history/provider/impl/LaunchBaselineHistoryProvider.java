@@ -19,9 +19,9 @@ package com.epam.ta.reportportal.core.item.impl.history.provider.impl;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.core.item.impl.LaunchAccessValidator;
+import com.epam.ta.reportportal.core.item.impl.history.index.TestItemHistoryIndex;
 import com.epam.ta.reportportal.core.item.impl.history.provider.HistoryProvider;
 import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.history.TestItemHistory;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.exception.ReportPortalException;
@@ -41,13 +41,13 @@ public class LaunchBaselineHistoryProvider implements HistoryProvider {
 
 	private final LaunchRepository launchRepository;
 	private final LaunchAccessValidator launchAccessValidator;
-	private final TestItemRepository testItemRepository;
+	private final TestItemHistoryIndex historyIndex;
 
 	public LaunchBaselineHistoryProvider(LaunchRepository launchRepository, LaunchAccessValidator launchAccessValidator,
-			TestItemRepository testItemRepository) {
+			TestItemHistoryIndex historyIndex) {
 		this.launchRepository = launchRepository;
 		this.launchAccessValidator = launchAccessValidator;
-		this.testItemRepository = testItemRepository;
+		this.historyIndex = historyIndex;
 	}
 
 	@Override
@@ -58,19 +58,15 @@ public class LaunchBaselineHistoryProvider implements HistoryProvider {
 					.orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, launchId));
 			launchAccessValidator.validate(launch.getId(), projectDetails, user);
 
-			return historyRequestParams.getHistoryType()
-					.filter(HistoryRequestParams.HistoryTypeEnum.LINE::equals)
-					.map(type -> testItemRepository.loadItemsHistoryPage(filter,
-							pageable,
-							projectDetails.getProjectId(),
-							launch.getName(),
-							historyRequestParams.getHistoryDepth()
-					))
-					.orElseGet(() -> testItemRepository.loadItemsHistoryPage(filter,
-							pageable,
-							projectDetails.getProjectId(),
-							historyRequestParams.getHistoryDepth()
-					));
+			return historyIndex.loadHistoryPage(filter,
+					pageable,
+					projectDetails.getProjectId(),
+					historyRequestParams.getHistoryType()
+							.filter(HistoryRequestParams.HistoryTypeEnum.LINE::equals)
+							.map(type -> launch.getName())
+							.orElse(null),
+					historyRequestParams.getHistoryDepth()
+			);
 		}).orElseGet(() -> Page.empty(pageable));
 	}
 
@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.item.impl.LaunchAccessValidator;
+import com.epam.ta.reportportal.core.item.impl.history.index.TestItemHistoryIndex;
 import com.epam.ta.reportportal.core.item.impl.history.provider.HistoryProvider;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.TestItem;
@@ -44,13 +45,15 @@ public class TestItemBaselineHistoryProvider implements HistoryProvider {
 	private final TestItemService testItemService;
 	private final LaunchAccessValidator launchAccessValidator;
 	private final TestItemRepository testItemRepository;
+	private final TestItemHistoryIndex historyIndex;
 
 	@Autowired
 	public TestItemBaselineHistoryProvider(TestItemService testItemService, LaunchAccessValidator launchAccessValidator,
-			TestItemRepository testItemRepository) {
+			TestItemRepository testItemRepository, TestItemHistoryIndex historyIndex) {
 		this.testItemService = testItemService;
 		this.launchAccessValidator = launchAccessValidator;
 		this.testItemRepository = testItemRepository;
+		this.historyIndex = historyIndex;
 	}
 
 	@Override
@@ -71,19 +74,15 @@ public class TestItemBaselineHistoryProvider implements HistoryProvider {
 		Launch launch = testItemService.getEffectiveLaunch(testItem);
 		launchAccessValidator.validate(launch.getId(), projectDetails, user);
 
-		return historyRequestParams.getHistoryType()
-				.filter(HistoryRequestParams.HistoryTypeEnum.LINE::equals)
-				.map(type -> testItemRepository.loadItemsHistoryPage(filter,
-						pageable,
-						projectDetails.getProjectId(),
-						launch.getName(),
-						historyRequestParams.getHistoryDepth()
-				))
-				.orElseGet(() -> testItemRepository.loadItemsHistoryPage(filter,
-						pageable,
-						projectDetails.getProjectId(),
-						historyRequestParams.getHistoryDepth()
-				));
+		return historyIndex.loadHistoryPage(filter,
+				pageable,
+				projectDetails.getProjectId(),
+				historyRequestParams.getHistoryType()
+						.filter(HistoryRequestParams.HistoryTypeEnum.LINE::equals)
+						.map(type -> launch.getName())
+						.orElse(null),
+				historyRequestParams.getHistoryDepth()
+		);
 
 	}
 }
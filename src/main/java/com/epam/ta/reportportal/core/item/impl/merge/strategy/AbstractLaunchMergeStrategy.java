@@ -18,14 +18,9 @@ package com.epam.ta.reportportal.core.item.impl.merge.strategy;
 
 import com.epam.ta.reportportal.commons.EntityUtils;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.ta.reportportal.commons.validation.Suppliers;
-import com.epam.ta.reportportal.core.item.impl.TestItemUniqueIdGenerator;
 import com.epam.ta.reportportal.core.item.merge.LaunchMergeStrategy;
 import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.ItemAttribute;
-import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
-import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.exception.ReportPortalException;
@@ -38,7 +33,6 @@ import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import com.google.common.collect.Sets;
 
 import java.util.*;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
@@ -46,23 +40,18 @@ import static com.epam.ta.reportportal.entity.enums.StatusEnum.IN_PROGRESS;
 import static com.epam.ta.reportportal.ws.converter.converters.ItemAttributeConverter.FROM_RESOURCE;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
 public abstract class AbstractLaunchMergeStrategy implements LaunchMergeStrategy {
 
-	private final TestItemRepository testItemRepository;
-
-	private final TestItemUniqueIdGenerator identifierGenerator;
+	private final LaunchMergeItemsUpdater itemsUpdater;
 
 	protected final LaunchRepository launchRepository;
 
-	public AbstractLaunchMergeStrategy(TestItemRepository testItemRepository, TestItemUniqueIdGenerator identifierGenerator,
-			LaunchRepository launchRepository) {
-		this.testItemRepository = testItemRepository;
-		this.identifierGenerator = identifierGenerator;
+	public AbstractLaunchMergeStrategy(LaunchMergeItemsUpdater itemsUpdater, LaunchRepository launchRepository) {
+		this.itemsUpdater = itemsUpdater;
 		this.launchRepository = launchRepository;
 	}
 
@@ -151,7 +140,8 @@ public abstract class AbstractLaunchMergeStrategy implements LaunchMergeStrategy
 	}
 
 	/**
-	 * Update test-items of specified launches with new LaunchID
+	 * Update test-items of specified launches with new LaunchID.
+	 * Items are updated with set-based statements without loading them into memory.
 	 *
 	 * @param newLaunch         {@link Launch}
 	 * @param launches          {@link Set} of the {@link Launch}
@@ -159,25 +149,15 @@ public abstract class AbstractLaunchMergeStrategy implements LaunchMergeStrategy
 	 * @param isNameChanged     launch name change indicator
 	 */
 	private void updateChildrenOfLaunches(Launch newLaunch, Set<Long> launches, boolean extendDescription, boolean isNameChanged) {
-		List<TestItem> testItems = launches.stream().flatMap(id -> {
+		launches.forEach(id -> {
 			Launch launch = launchRepository.findById(id).orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, id));
-			return testItemRepository.findTestItemsByLaunchId(launch.getId()).stream().peek(testItem -> {
-				testItem.setLaunchId(newLaunch.getId());
-				if (isNameChanged && identifierGenerator.validate(testItem.getUniqueId())) {
-					testItem.setUniqueId(identifierGenerator.generate(testItem, newLaunch));
-				}
-				if (testItem.getType().sameLevel(TestItemTypeEnum.SUITE)) {
-					// Add launch reference description for top level items
-					Supplier<String> newDescription = Suppliers.formattedSupplier(((null != testItem.getDescription()) ? testItem.getDescription() : "") + (extendDescription ?
-									"\r\n@launch '{} #{}'" :
-									""),
-							launch.getName(),
-							launch.getNumber()
-					);
-					testItem.setDescription(newDescription.get());
-				}
-			});
-		}).collect(toList());
-		testItemRepository.saveAll(testItems);
+			if (isNameChanged) {
+				itemsUpdater.regenerateUniqueIds(launch.getId(), newLaunch);
+			}
+			if (extendDescription) {
+				itemsUpdater.extendSuitesDescription(launch);
+			}
+		});
+		itemsUpdater.moveItems(launches, newLaunch.getId());
 	}
 }
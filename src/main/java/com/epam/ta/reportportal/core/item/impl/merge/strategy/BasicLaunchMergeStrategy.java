@@ -17,9 +17,7 @@
 package com.epam.ta.reportportal.core.item.impl.merge.strategy;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.ta.reportportal.core.item.impl.TestItemUniqueIdGenerator;
 import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.ws.model.launch.MergeLaunchesRQ;
 
@@ -32,9 +30,9 @@ public class BasicLaunchMergeStrategy extends AbstractLaunchMergeStrategy {
 
 	private final StatisticsCalculationFactory statisticsCalculationFactory;
 
-	public BasicLaunchMergeStrategy(TestItemRepository testItemRepository, TestItemUniqueIdGenerator identifierGenerator,
-			LaunchRepository launchRepository, StatisticsCalculationFactory statisticsCalculationFactory) {
-		super(testItemRepository, identifierGenerator, launchRepository);
+	public BasicLaunchMergeStrategy(LaunchMergeItemsUpdater itemsUpdater, LaunchRepository launchRepository,
+			StatisticsCalculationFactory statisticsCalculationFactory) {
+		super(itemsUpdater, launchRepository);
 		this.statisticsCalculationFactory = statisticsCalculationFactory;
 	}
 
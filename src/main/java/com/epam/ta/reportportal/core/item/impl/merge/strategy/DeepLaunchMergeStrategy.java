@@ -17,9 +17,7 @@
 package com.epam.ta.reportportal.core.item.impl.merge.strategy;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.ta.reportportal.core.item.impl.TestItemUniqueIdGenerator;
 import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.ws.model.launch.MergeLaunchesRQ;
 
@@ -30,9 +28,8 @@ import java.util.List;
  */
 public class DeepLaunchMergeStrategy extends AbstractLaunchMergeStrategy {
 
-	public DeepLaunchMergeStrategy(TestItemRepository testItemRepository, TestItemUniqueIdGenerator identifierGenerator,
-			LaunchRepository launchRepository) {
-		super(testItemRepository, identifierGenerator, launchRepository);
+	public DeepLaunchMergeStrategy(LaunchMergeItemsUpdater itemsUpdater, LaunchRepository launchRepository) {
+		super(itemsUpdater, launchRepository);
 	}
 
 	@Override
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.merge.strategy;
+
+import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.item.impl.TestItemUniqueIdGenerator;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+import com.epam.ta.reportportal.entity.item.Parameter;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.google.common.collect.Maps;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.*;
+
+import static com.epam.ta.reportportal.util.ItemPathUtils.parseAncestors;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Performs set-based updates of the test items of merged launches.
+ * Items are never loaded as entities: launch reference and description are updated
+ * with single statements, auto-generated unique ids are recalculated in bounded chunks
+ * with path names of the whole chunk resolved by one query.
+ */
+public class LaunchMergeItemsUpdater {
+
+	static final int DEFAULT_CHUNK_SIZE = 1000;
+
+	private static final String UPDATE_DESCRIPTION = "UPDATE test_item SET description = coalesce(description, '') || :suffix "
+			+ "WHERE launch_id = :launchId AND CAST(type AS VARCHAR) IN (:types)";
+
+	private static final String SELECT_AUTO_UNIQUE_ID_ITEMS =
+			"SELECT item_id, name, CAST(path AS VARCHAR) AS path FROM test_item WHERE launch_id = :launchId "
+					+ "AND unique_id LIKE :prefix AND item_id > :lastId ORDER BY item_id LIMIT :limit";
+
+	private static final String SELECT_NAMES = "SELECT item_id, name FROM test_item WHERE item_id IN (:ids)";
+
+	private static final String SELECT_PARAMETERS = "SELECT item_id, key, value FROM parameter WHERE item_id IN (:ids)";
+
+	private static final String UPDATE_UNIQUE_ID = "UPDATE test_item SET unique_id = :uniqueId WHERE item_id = :itemId";
+
+	private static final String UPDATE_LAUNCH = "UPDATE test_item SET launch_id = :newLaunchId WHERE launch_id IN (:launchIds)";
+
+	private static final List<String> SUITE_LEVEL_TYPES = Arrays.stream(TestItemTypeEnum.values())
+			.filter(it -> it.sameLevel(TestItemTypeEnum.SUITE))
+			.map(Enum::name)
+			.collect(toList());
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final TestItemUniqueIdGenerator identifierGenerator;
+
+	private final int chunkSize;
+
+	public LaunchMergeItemsUpdater(NamedParameterJdbcTemplate jdbcTemplate, TestItemUniqueIdGenerator identifierGenerator) {
+		this(jdbcTemplate, identifierGenerator, DEFAULT_CHUNK_SIZE);
+	}
+
+	public LaunchMergeItemsUpdater(NamedParameterJdbcTemplate jdbcTemplate, TestItemUniqueIdGenerator identifierGenerator,
+			int chunkSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.identifierGenerator = identifierGenerator;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Add launch reference description for top level items of the launch
+	 *
+	 * @param launch {@link Launch} which items are merged
+	 */
+	public void extendSuitesDescription(Launch launch) {
+		String suffix = Suppliers.formattedSupplier("\r\n@launch '{} #{}'", launch.getName(), launch.getNumber()).get();
+		jdbcTemplate.update(UPDATE_DESCRIPTION,
+				new MapSqlParameterSource("suffix", suffix).addValue("launchId", launch.getId()).addValue("types", SUITE_LEVEL_TYPES)
+		);
+	}
+
+	/**
+	 * Recalculate automatically generated unique ids of the launch items
+	 * according to the resulted launch
+	 *
+	 * @param launchId  Id of the {@link Launch} which items are merged
+	 * @param newLaunch Resulted {@link Launch}
+	 * @return count of updated items
+	 */
+	public int regenerateUniqueIds(Long launchId, Launch newLaunch) {
+		int updated = 0;
+		long lastId = 0L;
+		List<ItemRow> chunk;
+		do {
+			chunk = jdbcTemplate.query(SELECT_AUTO_UNIQUE_ID_ITEMS,
+					new MapSqlParameterSource("launchId", launchId).addValue("prefix", TestItemUniqueIdGenerator.TRAIT + "%")
+							.addValue("lastId", lastId)
+							.addValue("limit", chunkSize),
+					(rs, rowNum) -> new ItemRow(rs.getLong("item_id"), rs.getString("name"), rs.getString("path"))
+			);
+			if (!chunk.isEmpty()) {
+				updated += updateUniqueIds(chunk, newLaunch);
+				lastId = chunk.get(chunk.size() - 1).itemId;
+			}
+		} while (chunk.size() == chunkSize);
+		return updated;
+	}
+
+	/**
+	 * Move all items of the launches to the resulted one
+	 *
+	 * @param launchIds   Ids of the merged launches
+	 * @param newLaunchId Id of the resulted launch
+	 * @return count of moved items
+	 */
+	public int moveItems(Collection<Long> launchIds, Long newLaunchId) {
+		return jdbcTemplate.update(UPDATE_LAUNCH,
+				new MapSqlParameterSource("newLaunchId", newLaunchId).addValue("launchIds", launchIds)
+		);
+	}
+
+	private int updateUniqueIds(List<ItemRow> chunk, Launch newLaunch) {
+		Map<Long, List<Long>> ancestors = Maps.newHashMapWithExpectedSize(chunk.size());
+		Set<Long> ancestorIds = new HashSet<>();
+		chunk.forEach(it -> {
+			List<Long> pathIds = parseAncestors(it.path);
+			ancestors.put(it.itemId, pathIds);
+			ancestorIds.addAll(pathIds);
+		});
+
+		Map<Long, String> names = new HashMap<>(ancestorIds.size());
+		if (!ancestorIds.isEmpty()) {
+			jdbcTemplate.query(SELECT_NAMES,
+					new MapSqlParameterSource("ids", ancestorIds),
+					rs -> {
+						names.put(rs.getLong("item_id"), rs.getString("name"));
+					}
+			);
+		}
+
+		Map<Long, List<Parameter>> parameters = new HashMap<>();
+		jdbcTemplate.query(SELECT_PARAMETERS, new MapSqlParameterSource("ids", chunk.stream().map(it -> it.itemId).collect(toList())), rs -> {
+			Parameter parameter = new Parameter();
+			parameter.setKey(rs.getString("key"));
+			parameter.setValue(rs.getString("value"));
+			parameters.computeIfAbsent(rs.getLong("item_id"), id -> new ArrayList<>()).add(parameter);
+		});
+
+		SqlParameterSource[] batch = chunk.stream().map(it -> {
+			List<String> pathNames = ancestors.get(it.itemId).stream().map(names::get).filter(Objects::nonNull).collect(toList());
+			String uniqueId = identifierGenerator.generate(it.name,
+					pathNames,
+					parameters.getOrDefault(it.itemId, Collections.emptyList()),
+					newLaunch
+			);
+			return new MapSqlParameterSource("uniqueId", uniqueId).addValue("itemId", it.itemId);
+		}).toArray(SqlParameterSource[]::new);
+		jdbcTemplate.batchUpdate(UPDATE_UNIQUE_ID, batch);
+		return batch.length;
+	}
+
+	private static class ItemRow {
+
+		private final Long itemId;
+
+		private final String name;
+
+		private final String path;
+
+		ItemRow(Long itemId, String name, String path) {
+			this.itemId = itemId;
+			this.name = name;
+			this.path = path;
+		}
+	}
+}
@@ -19,6 +19,7 @@ import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.statistics.Statistics;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -46,6 +47,48 @@ public class TestItemPojo {
 	private Integer systemIssue;
 	private Integer noDefect;
 	private Integer toInvestigate;
+	private String itemName;
+	private String path;
+	private String defectType;
+	private String defectComment;
+
+	/**
+	 * Creates POJO from the pre-loaded item data without loading of the {@link TestItem} entity
+	 *
+	 * @param type          Item type
+	 * @param itemName      Item name
+	 * @param description   Item description
+	 * @param depth         Level of the item in the launch tree, starting from 1 for the root items
+	 * @param path          Names of the item ancestors
+	 * @param status        Item status
+	 * @param duration      Duration in seconds
+	 * @param defectType    Name of the item issue type
+	 * @param defectComment Item issue comment
+	 * @param statistics    Item statistics counters by statistics field name
+	 */
+	public TestItemPojo(String type, String itemName, String description, int depth, String path, String status, Double duration,
+			String defectType, String defectComment, Map<String, Integer> statistics) {
+		this.type = type;
+		this.itemName = itemName;
+		this.path = path;
+		this.defectType = defectType;
+		this.defectComment = defectComment;
+		this.name = adjustName(itemName, depth) + ofNullable(description).map(it -> DESCRIPTION_PREFIX + it).orElse(EMPTY_STRING)
+				+ ofNullable(defectComment).map(it -> COMMENT_PREFIX + it).orElse(EMPTY_STRING);
+		this.status = status;
+		this.duration = duration;
+
+		this.total = statistics.getOrDefault(EXECUTIONS_TOTAL, 0);
+		this.passed = statistics.getOrDefault(EXECUTIONS_PASSED, 0);
+		this.failed = statistics.getOrDefault(EXECUTIONS_FAILED, 0);
+		this.skipped = statistics.getOrDefault(EXECUTIONS_SKIPPED, 0);
+
+		this.automationBug = statistics.getOrDefault(DEFECTS_AUTOMATION_BUG_TOTAL, 0);
+		this.productBug = statistics.getOrDefault(DEFECTS_PRODUCT_BUG_TOTAL, 0);
+		this.systemIssue = statistics.getOrDefault(DEFECTS_SYSTEM_ISSUE_TOTAL, 0);
+		this.noDefect = statistics.getOrDefault(DEFECTS_NO_DEFECT_TOTAL, 0);
+		this.toInvestigate = statistics.getOrDefault(DEFECTS_TO_INVESTIGATE_TOTAL, 0);
+	}
 
 	public TestItemPojo(TestItem input) {
 		this.type = input.getType().name();
@@ -184,6 +227,22 @@ public class TestItemPojo {
 		this.passed = passed;
 	}
 
+	public String getItemName() {
+		return itemName;
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	public String getDefectType() {
+		return defectType;
+	}
+
+	public String getDefectComment() {
+		return defectComment;
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder sb = new StringBuilder("TestItemPojo{");
@@ -16,6 +16,13 @@
 
 package com.epam.ta.reportportal.core.jasper.constants;
 
+import com.epam.ta.reportportal.core.export.TabularFormat;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+
+import java.util.List;
+import java.util.Set;
+
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
@@ -42,6 +49,49 @@ public final class LaunchReportConstants {
 
 	/* Data sets */
 	public final static String TEST_ITEMS = "TEST_ITEMS";
+	public final static String TEST_ITEMS_DATA_SOURCE = "TEST_ITEMS_DATA_SOURCE";
+
+	/* Columns of the tabular test items report */
+	public final static String ITEM_TYPE = "Type";
+	public final static String ITEM_NAME = "Name";
+	public final static String ITEM_PATH = "Path";
+	public final static String ITEM_STATUS = "Status";
+	public final static String ITEM_DURATION = "Duration";
+	public final static String ITEM_DEFECT_TYPE = "Defect type";
+	public final static String ITEM_DEFECT_COMMENT = "Defect comment";
+	public final static String ITEM_TOTAL = "Total";
+	public final static String ITEM_PASSED = "Passed";
+	public final static String ITEM_FAILED = "Failed";
+	public final static String ITEM_SKIPPED = "Skipped";
+	public final static String ITEM_PB = "Product bug";
+	public final static String ITEM_AB = "Automation bug";
+	public final static String ITEM_SI = "System issue";
+	public final static String ITEM_ND = "No defect";
+	public final static String ITEM_TI = "To investigate";
+
+	public final static List<String> ITEM_COLUMNS = ImmutableList.of(ITEM_TYPE,
+			ITEM_NAME,
+			ITEM_PATH,
+			ITEM_STATUS,
+			ITEM_DURATION,
+			ITEM_DEFECT_TYPE,
+			ITEM_DEFECT_COMMENT,
+			ITEM_TOTAL,
+			ITEM_PASSED,
+			ITEM_FAILED,
+			ITEM_SKIPPED,
+			ITEM_PB,
+			ITEM_AB,
+			ITEM_SI,
+			ITEM_ND,
+			ITEM_TI
+	);
+
+	/* Launch summary is rendered by Jasper only, so just CSV report is streamed as plain test item rows */
+	public final static Set<TabularFormat> TABULAR_FORMATS = Sets.immutableEnumSet(TabularFormat.CSV);
+
+	/* HSSF sheet holds 65,536 rows, some of them are taken by the launch summary */
+	public final static long XLS_MAX_ITEMS = 65_000;
 
 	public LaunchReportConstants() {
 
@@ -16,6 +16,10 @@
 
 package com.epam.ta.reportportal.core.jasper.constants;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
@@ -28,6 +32,11 @@ public final class ProjectReportConstants {
 	public static final String LAUNCHES = "Launches";
 	public static final String LAST_LAUNCH_DATE = "Last launch date";
 
+	/**
+	 * Columns in the order of the report template
+	 */
+	public static final List<String> COLUMNS = ImmutableList.of(PROJECT_NAME, PROJECT_TYPE, ORGANIZATION, MEMBERS, LAUNCHES, LAST_LAUNCH_DATE);
+
 	private ProjectReportConstants() {
 
 		//static only
@@ -16,6 +16,10 @@
 
 package com.epam.ta.reportportal.core.jasper.constants;
 
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
@@ -28,6 +32,11 @@ public final class UserReportConstants {
 	public static final String LAST_LOGIN = "Last login";
 	public static final String PROJECTS_AND_ROLES = "Projects and Roles";
 
+	/**
+	 * Columns in the order of the report template
+	 */
+	public static final List<String> COLUMNS = ImmutableList.of(FULL_NAME, TYPE, LOGIN, EMAIL, LAST_LOGIN, PROJECTS_AND_ROLES);
+
 	private UserReportConstants() {
 
 		//static only
@@ -55,7 +55,7 @@ public class LaunchJasperReportHandler extends AbstractJasperReportHandler<Launc
 	public LaunchJasperReportHandler(JasperReportRender reportRender) {
 		super(UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION);
 		this.reportRender = reportRender;
-		availableReportFormats = Sets.immutableEnumSet(ReportFormat.HTML, ReportFormat.PDF, ReportFormat.XLS);
+		availableReportFormats = Sets.immutableEnumSet(ReportFormat.HTML, ReportFormat.PDF, ReportFormat.XLS, ReportFormat.CSV);
 	}
 
 	@Override
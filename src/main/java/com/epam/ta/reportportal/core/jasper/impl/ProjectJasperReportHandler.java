@@ -53,7 +53,7 @@ public class ProjectJasperReportHandler extends AbstractJasperReportHandler<Proj
 	public ProjectJasperReportHandler(JasperReportRender reportRender) {
 		super(UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION);
 		this.reportRender = reportRender;
-		availableReportFormats = Sets.immutableEnumSet(ReportFormat.CSV);
+		availableReportFormats = Sets.immutableEnumSet(ReportFormat.CSV, ReportFormat.XLS);
 	}
 
 	@Override
@@ -55,7 +55,7 @@ public class UserJasperReportHandler extends AbstractJasperReportHandler<User> {
 	public UserJasperReportHandler(JasperReportRender reportRender) {
 		super(UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION);
 		this.reportRender = reportRender;
-		availableReportFormats = Sets.immutableEnumSet(ReportFormat.CSV);
+		availableReportFormats = Sets.immutableEnumSet(ReportFormat.CSV, ReportFormat.XLS);
 	}
 
 	@Override
@@ -47,8 +47,18 @@ public class ExportUtils {
 	 * @return updated test item name with shifted name
 	 */
 	public static String adjustName(TestItem input) {
-		/* Sync buffer instead builder! */
-		return new StringBuilder(StringUtils.repeat(SHIFT_PREFIX, input.getPath().split("\\.").length)).append(input.getName()).toString();
+		return adjustName(input.getName(), input.getPath().split("\\.").length);
+	}
+
+	/**
+	 * Add right shifting for child items depends on depth level
+	 *
+	 * @param name  - test item name
+	 * @param depth - count of the shifts
+	 * @return shifted name
+	 */
+	public static String adjustName(String name, int depth) {
+		return StringUtils.repeat(SHIFT_PREFIX, depth) + name;
 	}
 
 	/**
@@ -16,13 +16,17 @@
 package com.epam.ta.reportportal.core.jasper.util;
 
 import com.epam.ta.reportportal.core.jasper.TestItemPojo;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
+import net.sf.jasperreports.engine.JRDataSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -34,18 +38,46 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Service("jasperDataProvider")
 public class JasperDataProvider {
 
-	private TestItemRepository testItemRepository;
+	private static final String SELECT_ISSUE_TYPE_NAMES = "SELECT it.id, it.issue_name FROM issue_type it "
+			+ "JOIN issue_type_project itp ON it.id = itp.issue_type_id WHERE itp.project_id = :projectId";
+
+	private static final String COUNT_ITEMS = "SELECT count(*) FROM test_item WHERE launch_id = :launchId AND retry_of IS NULL";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final int chunkSize;
 
 	@Autowired
-	public JasperDataProvider(TestItemRepository testItemRepository) {
-		this.testItemRepository = checkNotNull(testItemRepository);
+	public JasperDataProvider(NamedParameterJdbcTemplate jdbcTemplate, @Value("${rp.export.chunkSize:1000}") int chunkSize) {
+		this.jdbcTemplate = checkNotNull(jdbcTemplate);
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Test items of the launch sorted by start time. Items are loaded lazily by chunks while iterating,
+	 * so the iterator should be consumed within the single request.
+	 *
+	 * @param launch {@link Launch}
+	 * @return {@link Iterator} of the {@link TestItemPojo}
+	 */
+	public Iterator<TestItemPojo> getTestItemsOfLaunch(Launch launch) {
+		Map<Long, String> issueTypeNames = new HashMap<>();
+		jdbcTemplate.query(SELECT_ISSUE_TYPE_NAMES, new MapSqlParameterSource("projectId", launch.getProjectId()), rs -> {
+			issueTypeNames.put(rs.getLong("id"), rs.getString("issue_name"));
+		});
+		return new LaunchTestItemsIterator(jdbcTemplate, launch.getId(), issueTypeNames, chunkSize);
+	}
+
+	/**
+	 * @param launch {@link Launch}
+	 * @return Count of the test items the launch report consists of
+	 */
+	public long countTestItemsOfLaunch(Launch launch) {
+		Long count = jdbcTemplate.queryForObject(COUNT_ITEMS, new MapSqlParameterSource("launchId", launch.getId()), Long.class);
+		return count == null ? 0 : count;
 	}
 
-	public List<TestItemPojo> getTestItemsOfLaunch(Launch launch) {
-		/* Get launch referred test items with SORT! */
-		return testItemRepository.findTestItemsByLaunchIdOrderByStartTimeAsc(launch.getId())
-				.stream()
-				.map(TestItemPojo::new)
-				.collect(Collectors.toList());
+	public JRDataSource getTestItemsDataSource(Launch launch) {
+		return new TestItemsDataSource(getTestItemsOfLaunch(launch));
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.jasper.util;
+
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates virtualizers for the report filling. Pages above the in-memory limit
+ * are swapped to the temporary file, so big reports don't exhaust the heap.
+ * Virtualizer should be used for the single report only and cleaned up after export.
+ */
+@Component
+public class JasperVirtualizerFactory {
+
+	private final int maxPages;
+
+	private final String swapDirectory;
+
+	private final int blockSize;
+
+	private final int minGrowCount;
+
+	public JasperVirtualizerFactory(@Value("${rp.export.virtualizer.maxPages:100}") int maxPages,
+			@Value("${rp.export.virtualizer.directory:${java.io.tmpdir}}") String swapDirectory,
+			@Value("${rp.export.virtualizer.blockSize:4096}") int blockSize,
+			@Value("${rp.export.virtualizer.minGrowCount:100}") int minGrowCount) {
+		this.maxPages = maxPages;
+		this.swapDirectory = swapDirectory;
+		this.blockSize = blockSize;
+		this.minGrowCount = minGrowCount;
+	}
+
+	public JRSwapFileVirtualizer createVirtualizer() {
+		return new JRSwapFileVirtualizer(maxPages, new JRSwapFile(swapDirectory, blockSize, minGrowCount), true);
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.jasper.util;
+
+import com.epam.ta.reportportal.core.jasper.TestItemPojo;
+import org.apache.commons.lang3.time.DateUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+import static com.epam.ta.reportportal.util.ItemPathUtils.parseAncestors;
+
+/**
+ * Reads test items of the launch ordered by start time in keyset chunks.
+ * Only the current chunk is kept in memory. Names of the ancestors and statistics
+ * of the chunk are resolved with a single query each, issue type names are resolved once.
+ */
+class LaunchTestItemsIterator implements Iterator<TestItemPojo> {
+
+	private static final String SELECT_ITEMS =
+			"SELECT ti.item_id, ti.name, ti.type, ti.description, CAST(ti.path AS VARCHAR) AS path, ti.start_time, tir.status, "
+					+ "tir.end_time, i.issue_type, i.issue_description FROM test_item ti "
+					+ "JOIN test_item_results tir ON ti.item_id = tir.result_id LEFT JOIN issue i ON ti.item_id = i.issue_id "
+					+ "WHERE ti.launch_id = :launchId AND ti.retry_of IS NULL %s ORDER BY ti.start_time, ti.item_id LIMIT :limit";
+
+	private static final String AFTER_LAST_ITEM = "AND (ti.start_time, ti.item_id) > (:startTime, :itemId)";
+
+	private static final String SELECT_NAMES = "SELECT item_id, name FROM test_item WHERE item_id IN (:ids)";
+
+	private static final String SELECT_STATISTICS = "SELECT s.item_id, sf.name, s.s_counter FROM statistics s "
+			+ "JOIN statistics_field sf ON s.statistics_field_id = sf.sf_id WHERE s.item_id IN (:ids) AND sf.name IN (:fields)";
+
+	private static final List<String> STATISTICS_FIELDS = Arrays.asList(EXECUTIONS_TOTAL,
+			EXECUTIONS_PASSED,
+			EXECUTIONS_FAILED,
+			EXECUTIONS_SKIPPED,
+			DEFECTS_AUTOMATION_BUG_TOTAL,
+			DEFECTS_PRODUCT_BUG_TOTAL,
+			DEFECTS_SYSTEM_ISSUE_TOTAL,
+			DEFECTS_NO_DEFECT_TOTAL,
+			DEFECTS_TO_INVESTIGATE_TOTAL
+	);
+
+	private static final String PATH_SEPARATOR = " / ";
+
+	//names of suites are requested by every chunk, the cache is reset when it grows too much
+	private static final int MAX_CACHED_NAMES = 10_000;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final Long launchId;
+
+	private final Map<Long, String> issueTypeNames;
+
+	private final int chunkSize;
+
+	private final Map<Long, String> ancestorNames = new HashMap<>();
+
+	private Iterator<TestItemPojo> chunk = Collections.emptyIterator();
+
+	private Timestamp lastStartTime;
+
+	private Long lastItemId;
+
+	private boolean exhausted;
+
+	LaunchTestItemsIterator(NamedParameterJdbcTemplate jdbcTemplate, Long launchId, Map<Long, String> issueTypeNames, int chunkSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.launchId = launchId;
+		this.issueTypeNames = issueTypeNames;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!chunk.hasNext() && !exhausted) {
+			chunk = loadChunk().iterator();
+		}
+		return chunk.hasNext();
+	}
+
+	@Override
+	public TestItemPojo next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return chunk.next();
+	}
+
+	private List<TestItemPojo> loadChunk() {
+		List<ItemRow> rows = jdbcTemplate.query(String.format(SELECT_ITEMS, lastItemId == null ? "" : AFTER_LAST_ITEM),
+				new MapSqlParameterSource("launchId", launchId).addValue("startTime", lastStartTime)
+						.addValue("itemId", lastItemId)
+						.addValue("limit", chunkSize),
+				(rs, rowNum) -> {
+					ItemRow row = new ItemRow();
+					row.itemId = rs.getLong("item_id");
+					row.name = rs.getString("name");
+					row.type = rs.getString("type");
+					row.description = rs.getString("description");
+					row.ancestors = parseAncestors(rs.getString("path"));
+					row.startTime = rs.getTimestamp("start_time");
+					row.status = rs.getString("status");
+					row.endTime = rs.getTimestamp("end_time");
+					long issueType = rs.getLong("issue_type");
+					row.issueType = rs.wasNull() ? null : issueType;
+					row.issueDescription = rs.getString("issue_description");
+					return row;
+				}
+		);
+		if (rows.size() < chunkSize) {
+			exhausted = true;
+		}
+		if (rows.isEmpty()) {
+			return Collections.emptyList();
+		}
+		ItemRow last = rows.get(rows.size() - 1);
+		lastStartTime = last.startTime;
+		lastItemId = last.itemId;
+
+		resolveAncestorNames(rows);
+		Map<Long, Map<String, Integer>> statistics = loadStatistics(rows);
+
+		return rows.stream().map(row -> toPojo(row, statistics.getOrDefault(row.itemId, Collections.emptyMap()))).collect(Collectors.toList());
+	}
+
+	private void resolveAncestorNames(List<ItemRow> rows) {
+		Set<Long> missing = rows.stream()
+				.flatMap(row -> row.ancestors.stream())
+				.filter(id -> !ancestorNames.containsKey(id))
+				.collect(Collectors.toCollection(HashSet::new));
+		if (missing.isEmpty()) {
+			return;
+		}
+		if (ancestorNames.size() + missing.size() > MAX_CACHED_NAMES) {
+			ancestorNames.clear();
+			rows.forEach(row -> missing.addAll(row.ancestors));
+		}
+		jdbcTemplate.query(SELECT_NAMES, new MapSqlParameterSource("ids", missing), rs -> {
+			ancestorNames.put(rs.getLong("item_id"), rs.getString("name"));
+		});
+	}
+
+	private Map<Long, Map<String, Integer>> loadStatistics(List<ItemRow> rows) {
+		Map<Long, Map<String, Integer>> statistics = new HashMap<>(rows.size());
+		jdbcTemplate.query(SELECT_STATISTICS,
+				new MapSqlParameterSource("ids", rows.stream().map(row -> row.itemId).collect(Collectors.toList())).addValue("fields",
+						STATISTICS_FIELDS
+				),
+				rs -> {
+					statistics.computeIfAbsent(rs.getLong("item_id"), id -> new HashMap<>()).put(rs.getString("name"), rs.getInt("s_counter"));
+				}
+		);
+		return statistics;
+	}
+
+	private TestItemPojo toPojo(ItemRow row, Map<String, Integer> statistics) {
+		String path = row.ancestors.stream().map(ancestorNames::get).filter(Objects::nonNull).collect(Collectors.joining(PATH_SEPARATOR));
+		Double duration = row.endTime == null ?
+				null :
+				Duration.between(row.startTime.toLocalDateTime(), row.endTime.toLocalDateTime()).toMillis()
+						/ (double) DateUtils.MILLIS_PER_SECOND;
+		return new TestItemPojo(row.type,
+				row.name,
+				row.description,
+				row.ancestors.size() + 1,
+				path,
+				row.status,
+				duration,
+				row.issueType == null ? null : issueTypeNames.get(row.issueType),
+				row.issueDescription,
+				statistics
+		);
+	}
+
+	private static class ItemRow {
+		private long itemId;
+		private String name;
+		private String type;
+		private String description;
+		private List<Long> ancestors;
+		private Timestamp startTime;
+		private String status;
+		private Timestamp endTime;
+		private Long issueType;
+		private String issueDescription;
+	}
+}
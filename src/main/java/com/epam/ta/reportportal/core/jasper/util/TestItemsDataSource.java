@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.jasper.util;
+
+import com.epam.ta.reportportal.core.jasper.TestItemPojo;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+import net.sf.jasperreports.engine.data.JRAbstractBeanDataSource;
+
+import java.util.Iterator;
+
+/**
+ * Forward-only {@link net.sf.jasperreports.engine.JRDataSource} over the lazily loaded test items,
+ * unlike {@link net.sf.jasperreports.engine.data.JRBeanCollectionDataSource} it doesn't require all items in memory.
+ */
+public class TestItemsDataSource extends JRAbstractBeanDataSource {
+
+	private final Iterator<TestItemPojo> iterator;
+
+	private TestItemPojo current;
+
+	public TestItemsDataSource(Iterator<TestItemPojo> iterator) {
+		super(false);
+		this.iterator = iterator;
+	}
+
+	@Override
+	public boolean next() {
+		if (iterator.hasNext()) {
+			current = iterator.next();
+			return true;
+		}
+		current = null;
+		return false;
+	}
+
+	@Override
+	public Object getFieldValue(JRField field) throws JRException {
+		return getFieldValue(current, field);
+	}
+
+	@Override
+	public void moveFirst() throws JRException {
+		throw new JRException("Test items data source can be iterated only once");
+	}
+}
@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.launch;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.deletion.DeletionJobRS;
 import com.epam.ta.reportportal.ws.model.DeleteBulkRQ;
 import com.epam.ta.reportportal.ws.model.DeleteBulkRS;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
@@ -49,4 +50,14 @@ public interface DeleteLaunchHandler {
 	 * @return DeleteLaunchesRS
 	 */
 	DeleteBulkRS deleteLaunches(DeleteBulkRQ deleteBulkRQ, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user);
-}
\ No newline at end of file
+
+	/**
+	 * Marks launches as pending deletion and deletes them with their items and logs in background.
+	 *
+	 * @param deleteBulkRQ   {@link DeleteBulkRQ}
+	 * @param projectDetails Project Details
+	 * @param user           User
+	 * @return {@link DeletionJobRS} to poll the progress of the deletion
+	 */
+	DeletionJobRS deleteLaunchesAsync(DeleteBulkRQ deleteBulkRQ, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user);
+}
@@ -18,9 +18,15 @@ package com.epam.ta.reportportal.core.launch.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.deletion.DeletionJob;
+import com.epam.ta.reportportal.core.deletion.DeletionJobRS;
+import com.epam.ta.reportportal.core.deletion.DeletionJobService;
+import com.epam.ta.reportportal.core.deletion.LaunchContentDeleter;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchDeletedEvent;
 import com.epam.ta.reportportal.core.events.attachment.DeleteLaunchAttachmentsEvent;
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
+import com.epam.ta.reportportal.core.events.launch.LaunchesDeletedEvent;
 import com.epam.ta.reportportal.core.launch.DeleteLaunchHandler;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
@@ -34,6 +40,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -67,14 +74,21 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 
 	private final ApplicationEventPublisher eventPublisher;
 
+	private final DeletionJobService deletionJobService;
+
+	private final LaunchContentDeleter launchContentDeleter;
+
 	@Autowired
 	public DeleteLaunchHandlerImpl(LaunchRepository launchRepository, LogRepository logRepository, MessageBus messageBus,
-			LogIndexer logIndexer, ApplicationEventPublisher eventPublisher) {
+			LogIndexer logIndexer, ApplicationEventPublisher eventPublisher, DeletionJobService deletionJobService,
+			LaunchContentDeleter launchContentDeleter) {
 		this.launchRepository = launchRepository;
 		this.logRepository = logRepository;
 		this.messageBus = messageBus;
 		this.logIndexer = logIndexer;
 		this.eventPublisher = eventPublisher;
+		this.deletionJobService = deletionJobService;
+		this.launchContentDeleter = launchContentDeleter;
 	}
 
 	public OperationCompletionRS deleteLaunch(Long launchId, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
@@ -85,6 +99,8 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 
 		launchRepository.delete(launch);
 
+		eventPublisher.publishEvent(ItemHistoryRemovedEvent.ofLaunches(launch.getProjectId(), Collections.singletonList(launch.getId())));
+		eventPublisher.publishEvent(new LaunchesDeletedEvent(launch.getProjectId(), Collections.singletonList(launch.getName())));
 		eventPublisher.publishEvent(new DeleteLaunchAttachmentsEvent(launch.getId()));
 		messageBus.publishActivity(new LaunchDeletedEvent(TO_ACTIVITY_RESOURCE.apply(launch), user.getUserId(), user.getUsername()));
 		return new OperationCompletionRS("Launch with ID = '" + launchId + "' successfully deleted.");
@@ -115,16 +131,83 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 		);
 
 		launchRepository.deleteAll(toDelete);
+		eventPublisher.publishEvent(ItemHistoryRemovedEvent.ofLaunches(projectDetails.getProjectId(),
+				toDelete.stream().map(Launch::getId).collect(Collectors.toList())
+		));
+		eventPublisher.publishEvent(new LaunchesDeletedEvent(projectDetails.getProjectId(),
+				toDelete.stream().map(Launch::getName).collect(Collectors.toSet())
+		));
 		toDelete.stream().map(TO_ACTIVITY_RESOURCE).forEach(it -> {
 			eventPublisher.publishEvent(new DeleteLaunchAttachmentsEvent(it.getId()));
 			messageBus.publishActivity(new LaunchDeletedEvent(it, user.getUserId(), user.getUsername()));
 		});
-		return new DeleteBulkRS(toDelete.stream().map(Launch::getId).collect(Collectors.toList()), notFound, exceptions.stream().map(ex -> {
+		return new DeleteBulkRS(toDelete.stream().map(Launch::getId).collect(Collectors.toList()), notFound, toErrors(exceptions));
+	}
+
+	@Override
+	public DeletionJobRS deleteLaunchesAsync(DeleteBulkRQ deleteBulkRQ, ReportPortalUser.ProjectDetails projectDetails,
+			ReportPortalUser user) {
+		List<Long> notFound = Lists.newArrayList();
+		List<ReportPortalException> exceptions = Lists.newArrayList();
+		List<Long> toDelete = Lists.newArrayList();
+
+		deleteBulkRQ.getIds().forEach(id -> {
+			Optional<Launch> optionalLaunch = launchRepository.findById(id);
+			if (optionalLaunch.isPresent()) {
+				try {
+					validate(optionalLaunch.get(), user, projectDetails);
+					toDelete.add(id);
+				} catch (ReportPortalException ex) {
+					exceptions.add(ex);
+				}
+			} else {
+				notFound.add(id);
+			}
+		});
+
+		toDelete.forEach(launchContentDeleter::markPending);
+		DeletionJob job;
+		try {
+			job = submitDeletion(toDelete, projectDetails, user);
+		} catch (ReportPortalException e) {
+			toDelete.forEach(launchContentDeleter::unmarkPending);
+			throw e;
+		}
+		DeletionJobRS response = DeletionJobRS.of(job);
+		response.setNotFound(notFound);
+		response.setErrors(toErrors(exceptions));
+		return response;
+	}
+
+	private DeletionJob submitDeletion(List<Long> toDelete, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
+		return deletionJobService.submit(user,
+				DeletionJob.Target.LAUNCH,
+				toDelete,
+				(launchId, deletionJob) -> launchContentDeleter.deleteContent(projectDetails.getProjectId(), launchId, true, deletionJob),
+				launchId -> launchRepository.findById(launchId).ifPresent(launch -> {
+					launchRepository.delete(launch);
+					eventPublisher.publishEvent(ItemHistoryRemovedEvent.ofLaunches(launch.getProjectId(),
+							Collections.singletonList(launchId)
+					));
+					eventPublisher.publishEvent(new LaunchesDeletedEvent(launch.getProjectId(),
+							Collections.singletonList(launch.getName())
+					));
+					eventPublisher.publishEvent(new DeleteLaunchAttachmentsEvent(launchId));
+					messageBus.publishActivity(new LaunchDeletedEvent(TO_ACTIVITY_RESOURCE.apply(launch),
+							user.getUserId(),
+							user.getUsername()
+					));
+				})
+		);
+	}
+
+	private static List<ErrorRS> toErrors(List<ReportPortalException> exceptions) {
+		return exceptions.stream().map(ex -> {
 			ErrorRS errorResponse = new ErrorRS();
 			errorResponse.setErrorType(ex.getErrorType());
 			errorResponse.setMessage(ex.getMessage());
 			return errorResponse;
-		}).collect(Collectors.toList()));
+		}).collect(Collectors.toList());
 	}
 
 	/**
@@ -138,6 +221,9 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 		expect(launch, not(l -> StatusEnum.IN_PROGRESS.equals(l.getStatus()))).verify(LAUNCH_IS_NOT_FINISHED,
 				formattedSupplier("Unable to delete launch '{}' in progress state", launch.getId())
 		);
+		expect(launchContentDeleter.isPending(launch.getId()) || deletionJobService.isPending(DeletionJob.Target.LAUNCH, launch.getId()),
+				equalTo(false)
+		).verify(FORBIDDEN_OPERATION, formattedSupplier("Launch '{}' is already being deleted", launch.getId()));
 		if (!UserRole.ADMINISTRATOR.equals(user.getUserRole())) {
 			expect(launch.getProjectId(), equalTo(projectDetails.getProjectId())).verify(FORBIDDEN_OPERATION,
 					formattedSupplier("Target launch '{}' not under specified project '{}'", launch.getId(), projectDetails.getProjectId())
@@ -56,6 +56,7 @@ public class FinishLaunchHandlerAsyncImpl implements FinishLaunchHandler {
 			headers.put(MessageHeaders.REQUEST_TYPE, RequestType.FINISH_LAUNCH);
 			headers.put(MessageHeaders.USERNAME, user.getUsername());
 			headers.put(MessageHeaders.PROJECT_NAME, projectDetails.getProjectName());
+			headers.put(MessageHeaders.PROJECT_ID, projectDetails.getProjectId());
 			headers.put(MessageHeaders.LAUNCH_ID, launchId);
 			headers.put(MessageHeaders.BASE_URL, baseUrl);
 			return message;
@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.launch.impl;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
 import com.epam.ta.reportportal.core.hierarchy.FinishHierarchyHandler;
 import com.epam.ta.reportportal.core.launch.FinishLaunchHandler;
 import com.epam.ta.reportportal.dao.LaunchRepository;
@@ -90,6 +91,7 @@ public class FinishLaunchHandlerImpl implements FinishLaunchHandler {
 					user,
 					projectDetails
 			);
+			eventPublisher.publishEvent(ItemHistoryRemovedEvent.ofProject(launch.getProjectId()));
 			launch.setStatus(launchRepository.hasRootItemsWithStatusNotEqual(id, StatusEnum.PASSED) ? FAILED : PASSED);
 		} else {
 			launch.setStatus(status.orElseGet(() -> launchRepository.hasRootItemsWithStatusNotEqual(id, StatusEnum.PASSED) ? FAILED : PASSED));
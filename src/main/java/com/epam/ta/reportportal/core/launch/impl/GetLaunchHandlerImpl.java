@@ -20,9 +20,13 @@ import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.*;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.export.TabularFormat;
+import com.epam.ta.reportportal.core.export.TabularReportExporter;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
+import com.epam.ta.reportportal.core.jasper.TestItemPojo;
 import com.epam.ta.reportportal.core.jasper.constants.LaunchReportConstants;
 import com.epam.ta.reportportal.core.jasper.util.JasperDataProvider;
+import com.epam.ta.reportportal.core.jasper.util.JasperVirtualizerFactory;
 import com.epam.ta.reportportal.core.launch.GetLaunchHandler;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
@@ -42,7 +46,9 @@ import com.epam.ta.reportportal.ws.model.launch.Mode;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import net.sf.jasperreports.engine.JREmptyDataSource;
+import net.sf.jasperreports.engine.JRParameter;
 import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
@@ -91,12 +97,14 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 	private final JasperDataProvider dataProvider;
 	private final GetJasperReportHandler<Launch> jasperReportHandler;
 	private final LaunchConverter launchConverter;
+	private final JasperVirtualizerFactory virtualizerFactory;
+	private final TabularReportExporter tabularReportExporter;
 
 	@Autowired
 	public GetLaunchHandlerImpl(LaunchRepository launchRepository, ItemAttributeRepository itemAttributeRepository,
 			ProjectRepository projectRepository, WidgetContentRepository widgetContentRepository, UserRepository userRepository,
 			JasperDataProvider dataProvider, @Qualifier("launchJasperReportHandler") GetJasperReportHandler<Launch> jasperReportHandler,
-			LaunchConverter launchConverter) {
+			LaunchConverter launchConverter, JasperVirtualizerFactory virtualizerFactory, TabularReportExporter tabularReportExporter) {
 		this.launchRepository = launchRepository;
 		this.itemAttributeRepository = itemAttributeRepository;
 		this.projectRepository = projectRepository;
@@ -105,6 +113,8 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 		this.dataProvider = Preconditions.checkNotNull(dataProvider);
 		this.jasperReportHandler = jasperReportHandler;
 		this.launchConverter = launchConverter;
+		this.virtualizerFactory = virtualizerFactory;
+		this.tabularReportExporter = tabularReportExporter;
 	}
 
 	@Override
@@ -260,14 +270,43 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 				.map(User::getFullName)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, user.getUserId()));
 
+		Optional<TabularFormat> tabularFormat = TabularFormat.of(reportFormat).filter(LaunchReportConstants.TABULAR_FORMATS::contains);
+		if (tabularFormat.isPresent()) {
+			tabularReportExporter.export(tabularFormat.get(),
+					outputStream,
+					LaunchReportConstants.ITEM_COLUMNS,
+					dataProvider.getTestItemsOfLaunch(launch),
+					GetLaunchHandlerImpl::toItemRow
+			);
+			return;
+		}
+
+		if (ReportFormat.XLS == reportFormat) {
+			long itemsCount = dataProvider.countTestItemsOfLaunch(launch);
+			expect(itemsCount, count -> count <= LaunchReportConstants.XLS_MAX_ITEMS).verify(ErrorType.BAD_REQUEST_ERROR,
+					Suppliers.formattedSupplier("Launch '{}' has {} test items, XLS report is limited to {} items. Use PDF or CSV format.",
+							launchId,
+							itemsCount,
+							LaunchReportConstants.XLS_MAX_ITEMS
+					)
+			);
+		}
+
 		Map<String, Object> params = jasperReportHandler.convertParams(launch);
 
 		fillWithAdditionalParams(params, launch, userFullName);
 
-		JasperPrint jasperPrint = jasperReportHandler.getJasperPrint(params, new JREmptyDataSource());
-
-		jasperReportHandler.writeReport(reportFormat, outputStream, jasperPrint);
+		/* Filled pages are swapped to the disk, so the whole report is never kept in memory */
+		JRSwapFileVirtualizer virtualizer = virtualizerFactory.createVirtualizer();
+		try {
+			params.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+			JasperPrint jasperPrint = jasperReportHandler.getJasperPrint(params, new JREmptyDataSource());
+			virtualizer.setReadOnly(true);
 
+			jasperReportHandler.writeReport(reportFormat, outputStream, jasperPrint);
+		} finally {
+			virtualizer.cleanup();
+		}
 	}
 
 	/**
@@ -316,7 +355,28 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 		/* Check if launch owner still in system if not - setup principal */
 		params.put(LaunchReportConstants.OWNER, owner.orElse(userFullName));
 
-		params.put(LaunchReportConstants.TEST_ITEMS, dataProvider.getTestItemsOfLaunch(launch));
+		params.put(LaunchReportConstants.TEST_ITEMS_DATA_SOURCE, dataProvider.getTestItemsDataSource(launch));
+	}
+
+	private static Map<String, ?> toItemRow(TestItemPojo item) {
+		Map<String, Object> row = new HashMap<>();
+		row.put(LaunchReportConstants.ITEM_TYPE, item.getType());
+		row.put(LaunchReportConstants.ITEM_NAME, item.getItemName());
+		row.put(LaunchReportConstants.ITEM_PATH, item.getPath());
+		row.put(LaunchReportConstants.ITEM_STATUS, item.getStatus());
+		row.put(LaunchReportConstants.ITEM_DURATION, item.getDuration());
+		row.put(LaunchReportConstants.ITEM_DEFECT_TYPE, item.getDefectType());
+		row.put(LaunchReportConstants.ITEM_DEFECT_COMMENT, item.getDefectComment());
+		row.put(LaunchReportConstants.ITEM_TOTAL, item.getTotal());
+		row.put(LaunchReportConstants.ITEM_PASSED, item.getPassed());
+		row.put(LaunchReportConstants.ITEM_FAILED, item.getFailed());
+		row.put(LaunchReportConstants.ITEM_SKIPPED, item.getSkipped());
+		row.put(LaunchReportConstants.ITEM_PB, item.getProductBug());
+		row.put(LaunchReportConstants.ITEM_AB, item.getAutomationBug());
+		row.put(LaunchReportConstants.ITEM_SI, item.getSystemIssue());
+		row.put(LaunchReportConstants.ITEM_ND, item.getNoDefect());
+		row.put(LaunchReportConstants.ITEM_TI, item.getToInvestigate());
+		return row;
 	}
 
 }
\ No newline at end of file
@@ -22,14 +22,14 @@ import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.LaunchPreparerService;
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
+import com.epam.ta.reportportal.core.events.launch.LaunchesMergedEvent;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.LaunchMergeFactory;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.MergeStrategyType;
 import com.epam.ta.reportportal.core.launch.MergeLaunchHandler;
 import com.epam.ta.reportportal.core.statistics.StatisticsHelper;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
-import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.entity.project.ProjectRole;
@@ -40,10 +40,13 @@ import com.epam.ta.reportportal.ws.model.launch.LaunchResource;
 import com.epam.ta.reportportal.ws.model.launch.MergeLaunchesRQ;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.Predicates.*;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
@@ -61,8 +64,6 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 
 	private final LaunchRepository launchRepository;
 
-	private final TestItemRepository testItemRepository;
-
 	private final ProjectRepository projectRepository;
 
 	private final LaunchMergeFactory launchMergeFactory;
@@ -73,17 +74,19 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 
 	private final LogIndexer logIndexer;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
-	public MergeLaunchHandlerImpl(LaunchRepository launchRepository, TestItemRepository testItemRepository,
-			ProjectRepository projectRepository, LaunchMergeFactory launchMergeFactory, LaunchConverter launchConverter,
-			LaunchPreparerService launchPreparerService, LogIndexer logIndexer) {
+	public MergeLaunchHandlerImpl(LaunchRepository launchRepository, ProjectRepository projectRepository,
+			LaunchMergeFactory launchMergeFactory, LaunchConverter launchConverter, LaunchPreparerService launchPreparerService,
+			LogIndexer logIndexer, ApplicationEventPublisher eventPublisher) {
 		this.launchRepository = launchRepository;
-		this.testItemRepository = testItemRepository;
 		this.projectRepository = projectRepository;
 		this.launchMergeFactory = launchMergeFactory;
 		this.launchConverter = launchConverter;
 		this.launchPreparerService = launchPreparerService;
 		this.logIndexer = logIndexer;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -116,10 +119,15 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 		newLaunch.setStatus(StatisticsHelper.getStatusFromStatistics(newLaunch.getStatistics()));
 
 		launchRepository.deleteAll(launchesList);
-
-		List<TestItem> newItems = testItemRepository.findTestItemsByLaunchId(newLaunch.getId());
-		launchPreparerService.prepare(newLaunch, newItems, AnalyzerUtils.getAnalyzerConfig(project))
-				.ifPresent(it -> logIndexer.indexPreparedLogs(project.getId(), it));
+		eventPublisher.publishEvent(ItemHistoryRemovedEvent.ofProject(project.getId()));
+		Set<String> launchNames = launchesList.stream().map(Launch::getName).collect(Collectors.toCollection(HashSet::new));
+		launchNames.add(newLaunch.getName());
+		eventPublisher.publishEvent(new LaunchesMergedEvent(project.getId(), launchNames));
+
+		launchPreparerService.prepare(newLaunch,
+				AnalyzerUtils.getAnalyzerConfig(project),
+				indexLaunch -> logIndexer.indexPreparedLogs(project.getId(), indexLaunch)
+		);
 
 		return launchConverter.TO_RESOURCE.apply(newLaunch);
 	}
@@ -59,6 +59,7 @@ public class StartLaunchHandlerAsyncImpl implements StartLaunchHandler {
 			headers.put(MessageHeaders.REQUEST_TYPE, RequestType.START_LAUNCH);
 			headers.put(MessageHeaders.USERNAME, user.getUsername());
 			headers.put(MessageHeaders.PROJECT_NAME, projectDetails.getProjectName());
+			headers.put(MessageHeaders.PROJECT_ID, projectDetails.getProjectId());
 			return message;
 		});
 
@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.launch.impl;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchStartedEvent;
+import com.epam.ta.reportportal.core.events.launch.LatestLaunchAddedEvent;
 import com.epam.ta.reportportal.core.launch.StartLaunchHandler;
 import com.epam.ta.reportportal.core.launch.rerun.RerunHandler;
 import com.epam.ta.reportportal.dao.LaunchRepository;
@@ -30,6 +31,7 @@ import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -50,14 +52,16 @@ class StartLaunchHandlerImpl implements StartLaunchHandler {
 	private final LaunchRepository launchRepository;
 	private final MessageBus messageBus;
 	private final RerunHandler rerunHandler;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Autowired
 	public StartLaunchHandlerImpl(UserRepository userRepository, LaunchRepository launchRepository, MessageBus messageBus,
-			RerunHandler rerunHandler) {
+			RerunHandler rerunHandler, ApplicationEventPublisher eventPublisher) {
 		this.userRepository = userRepository;
 		this.launchRepository = launchRepository;
 		this.messageBus = messageBus;
 		this.rerunHandler = rerunHandler;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -79,6 +83,11 @@ class StartLaunchHandlerImpl implements StartLaunchHandler {
 				.get();
 		launchRepository.save(launch);
 		launchRepository.refresh(launch);
+		eventPublisher.publishEvent(new LatestLaunchAddedEvent(launch.getProjectId(),
+				launch.getName(),
+				launch.getId(),
+				launch.getNumber()
+		));
 		messageBus.publishActivity(new LaunchStartedEvent(TO_ACTIVITY_RESOURCE.apply(launch), user.getUserId(), user.getUsername()));
 
 		StartLaunchRS response = new StartLaunchRS();
@@ -22,6 +22,7 @@ import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.LaunchPreparerService;
 import com.epam.ta.reportportal.core.analyzer.config.AnalyzerType;
 import com.epam.ta.reportportal.core.analyzer.strategy.LaunchAnalysisStrategy;
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
 import com.epam.ta.reportportal.core.launch.UpdateLaunchHandler;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
@@ -48,8 +49,10 @@ import com.epam.ta.reportportal.ws.model.launch.UpdateLaunchRQ;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -83,10 +86,12 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
 
 	private final Map<AnalyzerType, LaunchAnalysisStrategy> launchAnalysisStrategyMapping;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public UpdateLaunchHandlerImpl(LaunchRepository launchRepository, TestItemRepository testItemRepository, LogRepository logRepository,
 			ProjectRepository projectRepository, LogIndexer logIndexer, LaunchPreparerService launchPreparerService,
-			Map<AnalyzerType, LaunchAnalysisStrategy> launchAnalysisStrategyMapping) {
+			Map<AnalyzerType, LaunchAnalysisStrategy> launchAnalysisStrategyMapping, ApplicationEventPublisher eventPublisher) {
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.logRepository = logRepository;
@@ -94,6 +99,7 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
 		this.launchAnalysisStrategyMapping = launchAnalysisStrategyMapping;
 		this.logIndexer = logIndexer;
 		this.launchPreparerService = launchPreparerService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -104,11 +110,18 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
 		Launch launch = launchRepository.findById(launchId)
 				.orElseThrow(() -> new ReportPortalException(LAUNCH_NOT_FOUND, launchId.toString()));
 		validate(launch, user, projectDetails, rq.getMode());
+		LaunchModeEnum previousMode = launch.getMode();
 		launch = new LaunchBuilder(launch).addMode(rq.getMode())
 				.addDescription(rq.getDescription())
 				.overwriteAttributes(rq.getAttributes())
 				.get();
 		launchRepository.save(launch);
+		if (previousMode != launch.getMode()) {
+			/* Items of the debug launches aren't a part of the history, items of the launch moved back should be loaded */
+			eventPublisher.publishEvent(LaunchModeEnum.DEBUG == launch.getMode() ?
+					ItemHistoryRemovedEvent.ofLaunches(launch.getProjectId(), Collections.singletonList(launch.getId())) :
+					ItemHistoryRemovedEvent.ofProject(launch.getProjectId()));
+		}
 		reindexLogs(launch, AnalyzerUtils.getAnalyzerConfig(project), project.getId());
 		return new OperationCompletionRS("Launch with ID = '" + launch.getId() + "' successfully updated.");
 	}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.index;
+
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Index of the latest launches of the project: launch name -> id of the launch with the highest number.
+ * <p>
+ * Missing names are loaded with a single query and kept up to date by {@link #addLaunch(Long, String, Long, Long)}
+ * when launches are started and {@link #invalidateNames(Long, Collection)} when launches are deleted or merged,
+ * so the latest launch is resolved by the primary key instead of the 'DISTINCT ON' scan of the project launches.
+ * Entries also expire after a TTL, that bounds the staleness of launches started on the other nodes.
+ * Launches removed in bulk (retention cleanup, project deletion) aren't tracked: the name resolved to the missing launch
+ * is loaded again by {@link #findLatest(Long, String)}.
+ */
+@Component
+public class LatestLaunchIndex {
+
+	private static final String SELECT_LATEST = "SELECT l.id, l.number FROM launch l WHERE l.project_id = :projectId AND l.name = :name "
+			+ "ORDER BY l.number DESC, l.id DESC LIMIT 1";
+
+	private final LaunchRepository launchRepository;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final Cache<LaunchKey, Entry> index;
+
+	@Autowired
+	public LatestLaunchIndex(LaunchRepository launchRepository, NamedParameterJdbcTemplate jdbcTemplate,
+			@Value("${rp.launch.latest.index.size:100000}") long maximumSize,
+			@Value("${rp.launch.latest.index.ttl:10}") long ttlMinutes) {
+		this.launchRepository = launchRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.index = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttlMinutes, TimeUnit.MINUTES).build();
+	}
+
+	/**
+	 * Replacement of the {@link LaunchRepository#findLatestByFilter(com.epam.ta.reportportal.commons.querygen.Filter)}
+	 * for the filter by project and launch name only
+	 *
+	 * @param projectId  {@link com.epam.ta.reportportal.entity.project.Project#getId()}
+	 * @param launchName {@link Launch#getName()}
+	 * @return {@link Launch} with the highest number
+	 */
+	public Optional<Launch> findLatest(Long projectId, String launchName) {
+		LaunchKey key = new LaunchKey(projectId, launchName);
+		Entry cached = index.getIfPresent(key);
+		if (cached != null) {
+			Optional<Launch> launch = launchRepository.findById(cached.launchId);
+			if (launch.isPresent()) {
+				return launch;
+			}
+			/* Indexed launch was deleted on the other node, the name is resolved again */
+			index.asMap().remove(key, cached);
+		}
+		return load(key).flatMap(entry -> launchRepository.findById(entry.launchId));
+	}
+
+	/**
+	 * @param projectId  {@link com.epam.ta.reportportal.entity.project.Project#getId()}
+	 * @param launchName {@link Launch#getName()}
+	 * @return Id of the launch with the highest number
+	 */
+	public Optional<Long> getLatestId(Long projectId, String launchName) {
+		LaunchKey key = new LaunchKey(projectId, launchName);
+		Entry cached = index.getIfPresent(key);
+		if (cached != null) {
+			return Optional.of(cached.launchId);
+		}
+		return load(key).map(entry -> entry.launchId);
+	}
+
+	/**
+	 * Started launch has the highest number of the launches with the same name, so it replaces the indexed one.
+	 * Launches with lower numbers are skipped, so the order of the concurrent updates doesn't matter.
+	 */
+	public void addLaunch(Long projectId, String launchName, Long launchId, Long number) {
+		index.asMap().merge(new LaunchKey(projectId, launchName), new Entry(launchId, number), Entry::latest);
+	}
+
+	/**
+	 * Removes the names of the project, they are reloaded on the next request
+	 */
+	public void invalidateNames(Long projectId, Collection<String> launchNames) {
+		launchNames.forEach(name -> index.invalidate(new LaunchKey(projectId, name)));
+	}
+
+	private Optional<Entry> load(LaunchKey key) {
+		List<Entry> loaded = jdbcTemplate.query(SELECT_LATEST,
+				new MapSqlParameterSource("projectId", key.projectId).addValue("name", key.launchName),
+				(rs, rowNum) -> new Entry(rs.getLong("id"), rs.getLong("number"))
+		);
+		return loaded.stream().findFirst().map(entry -> index.asMap().merge(key, entry, Entry::latest));
+	}
+
+	private static final class LaunchKey {
+
+		private final Long projectId;
+
+		private final String launchName;
+
+		private LaunchKey(Long projectId, String launchName) {
+			this.projectId = projectId;
+			this.launchName = launchName;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			LaunchKey that = (LaunchKey) o;
+			return projectId.equals(that.projectId) && launchName.equals(that.launchName);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(projectId, launchName);
+		}
+	}
+
+	private static final class Entry {
+
+		private final Long launchId;
+
+		private final Long number;
+
+		private Entry(Long launchId, Long number) {
+			this.launchId = launchId;
+			this.number = number;
+		}
+
+		private static Entry latest(Entry first, Entry second) {
+			int byNumber = Long.compare(first.number, second.number);
+			if (byNumber == 0) {
+				return first.launchId >= second.launchId ? first : second;
+			}
+			return byNumber > 0 ? first : second;
+		}
+	}
+}
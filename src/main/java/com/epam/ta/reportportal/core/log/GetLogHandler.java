@@ -23,6 +23,7 @@ import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.ws.model.log.LogResource;
 import org.springframework.data.domain.Pageable;
 
+import javax.annotation.Nullable;
 import java.util.Map;
 
 /**
@@ -74,4 +75,19 @@ public interface GetLogHandler {
 	 */
 	Iterable<?> getNestedItems(Long parentId, ReportPortalUser.ProjectDetails projectDetails, Map<String, String> params,
 			Queryable queryable, Pageable pageable);
+
+	/**
+	 * Get logs and nested steps as one collection with keyset pagination: the slice starts right after the position
+	 * of the cursor and only log level and log time sorting are supported
+	 *
+	 * @param parentId       {@link Log#testItem} ID or {@link com.epam.ta.reportportal.entity.item.TestItem#parent} ID
+	 * @param projectDetails {@link com.epam.ta.reportportal.commons.ReportPortalUser.ProjectDetails}
+	 * @param params         Request params
+	 * @param cursor         {@link NestedItemsSliceRS#getNextCursor()} of the previous slice, 'null' for the first slice
+	 * @param queryable      {@link Queryable}
+	 * @param pageable       {@link Pageable}, only its size and log time sorting are taken into account
+	 * @return {@link NestedItemsSliceRS}
+	 */
+	NestedItemsSliceRS getNestedItemsSlice(Long parentId, ReportPortalUser.ProjectDetails projectDetails, Map<String, String> params,
+			@Nullable String cursor, Queryable queryable, Pageable pageable);
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Slice of the logs and nested steps of the parent item with the cursor of the next slice
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NestedItemsSliceRS {
+
+	@JsonProperty
+	private List<Object> content;
+
+	@JsonProperty
+	private String nextCursor;
+
+	public NestedItemsSliceRS() {
+	}
+
+	public NestedItemsSliceRS(List<Object> content, String nextCursor) {
+		this.content = content;
+		this.nextCursor = nextCursor;
+	}
+
+	public List<Object> getContent() {
+		return content;
+	}
+
+	public void setContent(List<Object> content) {
+		this.content = content;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+}
@@ -25,6 +25,8 @@ import com.epam.ta.reportportal.ws.model.EntryCreatedAsyncRS;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import com.epam.ta.reportportal.ws.rabbit.MessageHeaders;
 import com.epam.ta.reportportal.ws.rabbit.RequestType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -37,7 +39,9 @@ import javax.inject.Provider;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static com.epam.ta.reportportal.core.configs.MetricsConfiguration.*;
 import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.EXCHANGE_REPORTING;
 
 /**
@@ -69,6 +73,9 @@ public class CreateLogHandlerAsyncImpl implements CreateLogHandler {
 	@Qualifier(value = "rabbitTemplate")
 	AmqpTemplate amqpTemplate;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Override
 	@Nonnull
 	public EntryCreatedAsyncRS createLog(@Nonnull SaveLogRQ request, MultipartFile file, ReportPortalUser.ProjectDetails projectDetails) {
@@ -77,14 +84,17 @@ public class CreateLogHandlerAsyncImpl implements CreateLogHandler {
 
 		request.setUuid(UUID.randomUUID().toString());
 
+		long start = System.nanoTime();
 		if (file != null) {
 			CompletableFuture.supplyAsync(saveLogBinaryDataTask.get()
 					.withRequest(request)
 					.withFile(file)
 					.withProjectId(projectDetails.getProjectId()), taskExecutor)
-					.thenAccept(metaInfo -> sendMessage(request, metaInfo, projectDetails.getProjectId()));
+					.thenAccept(metaInfo -> sendMessage(request, metaInfo, projectDetails.getProjectId()))
+					.whenComplete((result, e) -> recordPublishing(true, e == null, projectDetails.getProjectId(), start));
 		} else {
 			sendMessage(request, null, projectDetails.getProjectId());
+			recordPublishing(false, true, projectDetails.getProjectId(), start);
 		}
 
 		EntryCreatedAsyncRS response = new EntryCreatedAsyncRS();
@@ -107,4 +117,17 @@ public class CreateLogHandlerAsyncImpl implements CreateLogHandler {
 		);
 
 	}
+
+	/**
+	 * Records time from the request to publishing of the log message, including saving of the attachment
+	 */
+	private void recordPublishing(boolean withAttachment, boolean published, Long projectId, long start) {
+		Timer.builder("rp.reporting.log.publish")
+				.description("Time to publish the log message, including saving of the attachment")
+				.tag("attachment", String.valueOf(withAttachment))
+				.tag(OUTCOME_TAG, published ? SUCCESS : FAILURE)
+				.tag(PROJECT_TAG, String.valueOf(projectId))
+				.register(meterRegistry)
+				.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
 }
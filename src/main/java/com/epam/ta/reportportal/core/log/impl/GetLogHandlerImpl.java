@@ -17,14 +17,18 @@
 package com.epam.ta.reportportal.core.log.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.commons.querygen.Condition;
+import com.epam.ta.reportportal.commons.querygen.ConvertibleCondition;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.log.GetLogHandler;
+import com.epam.ta.reportportal.core.log.NestedItemsSliceRS;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.dao.constant.LogRepositoryConstants;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.item.NestedItem;
 import com.epam.ta.reportportal.entity.item.NestedStep;
@@ -37,24 +41,36 @@ import com.epam.ta.reportportal.ws.converter.converters.LogConverter;
 import com.epam.ta.reportportal.ws.converter.converters.TestItemConverter;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.log.LogResource;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
 import static com.epam.ta.reportportal.commons.querygen.constant.LogCriteriaConstant.CRITERIA_ITEM_LAUNCH_ID;
+import static com.epam.ta.reportportal.commons.querygen.constant.LogCriteriaConstant.CRITERIA_LOG_LEVEL;
+import static com.epam.ta.reportportal.commons.querygen.constant.LogCriteriaConstant.CRITERIA_LOG_TIME;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
 import static com.epam.ta.reportportal.ws.model.ErrorType.FORBIDDEN_OPERATION;
+import static com.epam.ta.reportportal.ws.model.ErrorType.INCORRECT_FILTER_PARAMETERS;
 import static com.epam.ta.reportportal.ws.model.ErrorType.LOG_NOT_FOUND;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.groupingBy;
@@ -78,11 +94,25 @@ public class GetLogHandlerImpl implements GetLogHandler {
 
 	private final TestItemService testItemService;
 
+	private final NestedItemsKeysetLoader nestedItemsKeysetLoader;
+
+	/**
+	 * Page numbers of the already located logs, so jumping to the log page again doesn't run the window query
+	 */
+	private final Cache<PageNumberKey, Long> pageNumbers;
+
 	@Autowired
-	public GetLogHandlerImpl(LogRepository logRepository, TestItemRepository testItemRepository, TestItemService testItemService) {
+	public GetLogHandlerImpl(LogRepository logRepository, TestItemRepository testItemRepository, TestItemService testItemService,
+			NestedItemsKeysetLoader nestedItemsKeysetLoader, @Value("${rp.log.page.cache.size:10000}") long pageCacheSize,
+			@Value("${rp.log.page.cache.ttl:60}") long pageCacheTtlSeconds) {
 		this.logRepository = logRepository;
 		this.testItemRepository = testItemRepository;
 		this.testItemService = testItemService;
+		this.nestedItemsKeysetLoader = nestedItemsKeysetLoader;
+		this.pageNumbers = CacheBuilder.newBuilder()
+				.maximumSize(pageCacheSize)
+				.expireAfterWrite(pageCacheTtlSeconds, TimeUnit.SECONDS)
+				.build();
 	}
 
 	@Override
@@ -93,7 +123,14 @@ public class GetLogHandlerImpl implements GetLogHandler {
 
 	@Override
 	public long getPageNumber(Long logId, ReportPortalUser.ProjectDetails projectDetails, Filter filterable, Pageable pageable) {
-		return logRepository.getPageNumber(logId, filterable, pageable);
+		PageNumberKey key = new PageNumberKey(logId, projectDetails.getProjectId(), filterable, pageable);
+		Long cached = pageNumbers.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+		long pageNumber = logRepository.getPageNumber(logId, filterable, pageable);
+		pageNumbers.put(key, pageNumber);
+		return pageNumber;
 	}
 
 	@Override
@@ -127,8 +164,49 @@ public class GetLogHandlerImpl implements GetLogHandler {
 				pageable
 		);
 
-		List<NestedItem> content = nestedItems.getContent();
+		List<Object> resources = toResources(nestedItems.getContent(), launch, queryable, excludePassedLogs);
+		return PagedResourcesAssembler.pageConverter()
+				.apply(PageableExecutionUtils.getPage(resources, nestedItems.getPageable(), nestedItems::getTotalElements));
+	}
+
+	@Override
+	public NestedItemsSliceRS getNestedItemsSlice(Long parentId, ReportPortalUser.ProjectDetails projectDetails,
+			Map<String, String> params, @Nullable String cursor, Queryable queryable, Pageable pageable) {
 
+		TestItem parentItem = testItemRepository.findById(parentId)
+				.orElseThrow(() -> new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, parentId));
+		Launch launch = testItemService.getEffectiveLaunch(parentItem);
+		validate(launch, projectDetails);
+
+		Boolean excludeEmptySteps = ofNullable(params.get(EXCLUDE_EMPTY_STEPS)).map(BooleanUtils::toBoolean).orElse(false);
+		Boolean excludePassedLogs = ofNullable(params.get(EXCLUDE_PASSED_LOGS)).map(BooleanUtils::toBoolean).orElse(false);
+
+		int limit = pageable.getPageSize();
+		List<NestedItemPosition> positions = nestedItemsKeysetLoader.load(parentId,
+				excludeEmptySteps,
+				isLogsExclusionRequired(parentItem, excludePassedLogs),
+				getMinLogLevel(queryable),
+				ofNullable(cursor).map(NestedItemPosition::decode).orElse(null),
+				isDescending(pageable),
+				limit + 1
+		);
+
+		String nextCursor = null;
+		if (positions.size() > limit) {
+			positions = positions.subList(0, limit);
+			nextCursor = positions.get(limit - 1).encode();
+		}
+
+		List<NestedItem> content = positions.stream()
+				.map(position -> new NestedItem(position.getId(), position.getType(), null))
+				.collect(Collectors.toList());
+		return new NestedItemsSliceRS(toResources(content, launch, queryable, excludePassedLogs), nextCursor);
+	}
+
+	/**
+	 * Loads logs and nested steps of the page with a single query per type and converts them to resources in the order of the page
+	 */
+	private List<Object> toResources(List<NestedItem> content, Launch launch, Queryable queryable, boolean excludePassedLogs) {
 		Map<String, List<NestedItem>> result = content.stream().collect(groupingBy(NestedItem::getType));
 
 		Map<Long, Log> logMap = ofNullable(result.get(LogRepositoryConstants.LOG)).map(logs -> logRepository.findAllById(logs.stream()
@@ -152,8 +230,40 @@ public class GetLogHandlerImpl implements GetLogHandler {
 			}
 		});
 
-		return PagedResourcesAssembler.pageConverter()
-				.apply(PageableExecutionUtils.getPage(resources, nestedItems.getPageable(), nestedItems::getTotalElements));
+		return resources;
+	}
+
+	/**
+	 * Only the min log level condition can be applied to the keyset query
+	 *
+	 * @param queryable {@link Queryable}
+	 * @return Min {@link Log#getLogLevel()} or 'null' if logs of any level are requested
+	 */
+	@Nullable
+	private Integer getMinLogLevel(Queryable queryable) {
+		Integer minLevel = null;
+		List<FilterCondition> conditions = queryable.getFilterConditions()
+				.stream()
+				.map(ConvertibleCondition::getAllConditions)
+				.flatMap(Collection::stream)
+				.collect(Collectors.toList());
+		for (FilterCondition condition : conditions) {
+			expect(CRITERIA_LOG_LEVEL.equals(condition.getSearchCriteria()) && Condition.GREATER_THAN_OR_EQUALS == condition.getCondition()
+					&& !condition.isNegative(), equalTo(true)).verify(INCORRECT_FILTER_PARAMETERS,
+					formattedSupplier("Only '{}' filter by '{}' is supported with the cursor",
+							Condition.GREATER_THAN_OR_EQUALS.getMarker(),
+							CRITERIA_LOG_LEVEL
+					)
+			);
+			minLevel = NumberUtils.isDigits(condition.getValue()) ?
+					Integer.valueOf(condition.getValue()) :
+					LogLevel.toCustomLogLevel(condition.getValue());
+		}
+		return minLevel;
+	}
+
+	private boolean isDescending(Pageable pageable) {
+		return ofNullable(pageable.getSort().getOrderFor(CRITERIA_LOG_TIME)).map(Sort.Order::isDescending).orElse(false);
 	}
 
 	/**
@@ -216,4 +326,40 @@ public class GetLogHandlerImpl implements GetLogHandler {
 		}
 		return false;
 	}
+
+	private static class PageNumberKey {
+
+		private final Long logId;
+
+		private final Long projectId;
+
+		private final Filter filter;
+
+		private final Pageable pageable;
+
+		PageNumberKey(Long logId, Long projectId, Filter filter, Pageable pageable) {
+			this.logId = logId;
+			this.projectId = projectId;
+			this.filter = filter;
+			this.pageable = pageable;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			PageNumberKey that = (PageNumberKey) o;
+			return Objects.equals(logId, that.logId) && Objects.equals(projectId, that.projectId) && Objects.equals(filter, that.filter)
+					&& Objects.equals(pageable, that.pageable);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(logId, projectId, filter, pageable);
+		}
+	}
 }
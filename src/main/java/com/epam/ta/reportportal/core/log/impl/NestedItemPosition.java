@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.impl;
+
+import com.epam.ta.reportportal.dao.constant.LogRepositoryConstants;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the log or nested step in the sequence of the nested items of the parent item: (time, type, id).
+ * Serves as an opaque cursor of the keyset pagination, the full precision of the time is kept.
+ */
+class NestedItemPosition {
+
+	private static final String SEPARATOR = "_";
+
+	private final Timestamp time;
+
+	private final String type;
+
+	private final Long id;
+
+	NestedItemPosition(Timestamp time, String type, Long id) {
+		this.time = time;
+		this.type = type;
+		this.id = id;
+	}
+
+	Timestamp getTime() {
+		return time;
+	}
+
+	String getType() {
+		return type;
+	}
+
+	Long getId() {
+		return id;
+	}
+
+	String encode() {
+		String position = String.join(SEPARATOR,
+				String.valueOf(Math.floorDiv(time.getTime(), 1000L)),
+				String.valueOf(time.getNanos()),
+				type,
+				String.valueOf(id)
+		);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static NestedItemPosition decode(String cursor) {
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR);
+			if (parts.length == 4 && (LogRepositoryConstants.LOG.equals(parts[2]) || LogRepositoryConstants.ITEM.equals(parts[2]))) {
+				Timestamp time = new Timestamp(Long.parseLong(parts[0]) * 1000L);
+				time.setNanos(Integer.parseInt(parts[1]));
+				return new NestedItemPosition(time, parts[2], Long.parseLong(parts[3]));
+			}
+		} catch (IllegalArgumentException e) {
+			//invalid cursor, handled below
+		}
+		throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Invalid cursor '" + cursor + "'");
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		NestedItemPosition that = (NestedItemPosition) o;
+		return Objects.equals(time, that.time) && Objects.equals(type, that.type) && Objects.equals(id, that.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(time, type, id);
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.impl;
+
+import com.epam.ta.reportportal.dao.constant.LogRepositoryConstants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Loads positions of the logs and nested steps of the parent item with keyset pagination:
+ * the next page starts right after the last position of the previous one, so no rows are skipped with OFFSET
+ * and the cost of the page doesn't depend on its number.
+ */
+@Component
+class NestedItemsKeysetLoader {
+
+	private static final String SELECT_POSITIONS = "SELECT id, type, time FROM ("
+			+ "SELECT l.id, '" + LogRepositoryConstants.LOG + "' AS type, l.log_time AS time FROM log l WHERE l.item_id = :parentId %s "
+			+ "UNION ALL "
+			+ "SELECT ti.item_id, '" + LogRepositoryConstants.ITEM + "', ti.start_time FROM test_item ti "
+			+ "WHERE ti.parent_id = :parentId AND NOT ti.has_stats %s) nested %s "
+			+ "ORDER BY time %4$s, type %4$s, id %4$s LIMIT :limit";
+
+	private static final String EXCLUDE_LOGS = "AND FALSE";
+
+	private static final String LOG_LEVEL_CONDITION = "AND l.log_level >= :level";
+
+	private static final String EXCLUDE_EMPTY_STEPS = "AND (EXISTS (SELECT 1 FROM log WHERE log.item_id = ti.item_id) "
+			+ "OR EXISTS (SELECT 1 FROM test_item child WHERE child.parent_id = ti.item_id))";
+
+	private static final String AFTER_POSITION = "WHERE (time, type, id) %s (:time, :type, :id)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public NestedItemsKeysetLoader(NamedParameterJdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @param parentId          {@link com.epam.ta.reportportal.entity.item.TestItem#getItemId()} of the parent item
+	 * @param excludeEmptySteps if 'true' nested steps without logs and children are excluded
+	 * @param excludeLogs       if 'true' only nested steps are loaded
+	 * @param minLevel          Min {@link com.epam.ta.reportportal.entity.log.Log#getLogLevel()} of the loaded logs, 'null' for any level
+	 * @param after             Position the page starts after, 'null' for the first page
+	 * @param descending        if 'true' the latest items go first
+	 * @param limit             Max count of the loaded positions
+	 * @return Positions of the page in the requested order
+	 */
+	public List<NestedItemPosition> load(Long parentId, boolean excludeEmptySteps, boolean excludeLogs, @Nullable Integer minLevel,
+			@Nullable NestedItemPosition after, boolean descending, int limit) {
+		MapSqlParameterSource params = new MapSqlParameterSource("parentId", parentId).addValue("limit", limit);
+
+		String logCondition = "";
+		if (excludeLogs) {
+			logCondition = EXCLUDE_LOGS;
+		} else if (minLevel != null) {
+			logCondition = LOG_LEVEL_CONDITION;
+			params.addValue("level", minLevel);
+		}
+
+		String afterCondition = "";
+		if (after != null) {
+			afterCondition = String.format(AFTER_POSITION, descending ? "<" : ">");
+			params.addValue("time", after.getTime()).addValue("type", after.getType()).addValue("id", after.getId());
+		}
+
+		String query = String.format(SELECT_POSITIONS,
+				logCondition,
+				excludeEmptySteps ? EXCLUDE_EMPTY_STEPS : "",
+				afterCondition,
+				descending ? "DESC" : "ASC"
+		);
+		return jdbcTemplate.query(query,
+				params,
+				(rs, rowNum) -> new NestedItemPosition(rs.getTimestamp("time"), rs.getString("type"), rs.getLong("id"))
+		);
+	}
+}
@@ -23,6 +23,8 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import com.google.common.base.Preconditions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +33,8 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import static com.epam.ta.reportportal.core.configs.MetricsConfiguration.*;
+
 /**
  * Task to save log's binary data from MultipartFile for the use with queued RabbitMQ log saving.
  * Statefull, so cannot be a singleton bean.
@@ -44,6 +48,9 @@ public class SaveLogBinaryDataTaskAsync implements Supplier<BinaryDataMetaInfo>
 	@Autowired
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	private SaveLogRQ request;
 
 	private MultipartFile file;
@@ -52,11 +59,21 @@ public class SaveLogBinaryDataTaskAsync implements Supplier<BinaryDataMetaInfo>
 
 	@Override
 	public BinaryDataMetaInfo get() {
-		Optional<BinaryDataMetaInfo> maybeBinaryDataMetaInfo = attachmentBinaryDataService.saveAttachment(AttachmentMetaInfo.builder()
-				.withProjectId(projectId)
-				.withLaunchUuid(request.getLaunchUuid())
-				.withLogUuid(request.getUuid())
-				.build(), file);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		Optional<BinaryDataMetaInfo> maybeBinaryDataMetaInfo = Optional.empty();
+		try {
+			maybeBinaryDataMetaInfo = attachmentBinaryDataService.saveAttachment(AttachmentMetaInfo.builder()
+					.withProjectId(projectId)
+					.withLaunchUuid(request.getLaunchUuid())
+					.withLogUuid(request.getUuid())
+					.build(), file);
+		} finally {
+			sample.stop(Timer.builder("rp.datastore.save")
+					.description("Time to save the log attachment into the DataStore")
+					.tag(OUTCOME_TAG, maybeBinaryDataMetaInfo.isPresent() ? SUCCESS : FAILURE)
+					.tag(PROJECT_TAG, String.valueOf(projectId))
+					.register(meterRegistry));
+		}
 		return maybeBinaryDataMetaInfo.orElseGet(() -> {
 			LOGGER.error("Failed to save log content data into DataStore, projectId {}, itemId {} ", projectId, request.getItemUuid());
 			throw new ReportPortalException(ErrorType.BINARY_DATA_CANNOT_BE_SAVED);
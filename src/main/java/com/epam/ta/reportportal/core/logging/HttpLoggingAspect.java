@@ -16,15 +16,13 @@
 
 package com.epam.ta.reportportal.core.logging;
 
-import ch.qos.logback.classic.Logger;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -35,15 +33,25 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
+ * Logs requests and responses of the {@link HttpLogging} endpoints with the debug level of the controller logger.
+ * Only the {@code samplingRate} part of the requests is logged. Records are formatted in the request thread, so the bodies
+ * are serialized before they can be changed by the further processing, and written by the {@code executor}.
+ * Bodies are truncated to {@code bodyLimit} characters.
+ *
  * @author Konstantin Antipin
  */
 @Aspect
@@ -54,73 +62,99 @@ public class HttpLoggingAspect {
 	private static final String NEWLINE = "\n";
 	private static final String BODY_DENOMINATOR = "-- Body --";
 	private static final String BODY_BINARY_MARK = "<binary body>";
+	private static final String BODY_TRUNCATED_MARK = "<truncated>";
 
-	private static final AtomicLong COUNTER = new AtomicLong();
+	private final AtomicLong counter = new AtomicLong();
 
-	@Autowired
-	private ObjectMapper objectMapper;
+	private final Map<Method, MethodMetadata> methods = new ConcurrentHashMap<>();
 
-	@Around("execution(public * *(..)) && @annotation(annotation)")
-	public Object log(ProceedingJoinPoint joinPoint, HttpLogging annotation) throws Throwable {
+	private final ObjectMapper objectMapper;
 
-		Logger logger = (Logger) LoggerFactory.getLogger(joinPoint.getTarget().getClass());
+	private final Executor executor;
 
+	private final double samplingRate;
 
-		Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+	private final int bodyLimit;
 
-		HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-		Object requestBody = getBody(joinPoint, method);
+	public HttpLoggingAspect(ObjectMapper objectMapper, Executor executor, double samplingRate, int bodyLimit) {
+		this.objectMapper = objectMapper;
+		this.executor = executor;
+		this.samplingRate = samplingRate;
+		this.bodyLimit = bodyLimit;
+	}
 
-		String prefix = method.getName();
+	@Around("execution(public * *(..)) && @annotation(annotation)")
+	public Object log(ProceedingJoinPoint joinPoint, HttpLogging annotation) throws Throwable {
 
-		long requestCount = COUNTER.incrementAndGet();
+		MethodMetadata metadata = getMetadata(joinPoint);
 
-		if (logger.isDebugEnabled()) {
-			logger.debug(formatRequestRecord(requestCount, prefix, request, requestBody, annotation));
+		if (!metadata.logger.isDebugEnabled() || !isSampled()) {
+			try {
+				return joinPoint.proceed();
+			} catch (Throwable throwable) {
+				metadata.logger.error(metadata.prefix + " - Error", throwable);
+				throw throwable;
+			}
 		}
 
+		long requestCount = counter.incrementAndGet();
+
+		HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+		String requestRecord = formatRequestRecord(requestCount, metadata.prefix, request, getBody(joinPoint, metadata), annotation);
+		executor.execute(() -> metadata.logger.debug(requestRecord));
+
 		Object response;
 
 		long start = System.currentTimeMillis();
 		try {
 			response = joinPoint.proceed();
-			long executionTime = System.currentTimeMillis() - start;
-			if (logger.isDebugEnabled()) {
-				logger.debug(formatResponseRecord(requestCount, prefix, response, annotation, executionTime));
-			}
 		} catch (Throwable throwable) {
-			logger.error(" (" + requestCount + ") - Error", throwable);
+			metadata.logger.error(" (" + requestCount + ") - Error", throwable);
 			throw throwable;
 		}
+		long executionTime = System.currentTimeMillis() - start;
+
+		String responseRecord = formatResponseRecord(requestCount, metadata.prefix, response, annotation, executionTime);
+		executor.execute(() -> metadata.logger.debug(responseRecord));
 
 		return response;
 	}
 
-	protected Object getBody(ProceedingJoinPoint joinPoint, Method method) {
-		Object body = null;
+	private MethodMetadata getMetadata(ProceedingJoinPoint joinPoint) {
+		Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+		MethodMetadata metadata = methods.get(method);
+		if (metadata == null) {
+			metadata = methods.computeIfAbsent(method, it -> new MethodMetadata(joinPoint.getTarget().getClass(), it));
+		}
+		return metadata;
+	}
+
+	private boolean isSampled() {
+		return samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < samplingRate;
+	}
+
+	private Object getBody(ProceedingJoinPoint joinPoint, MethodMetadata metadata) {
 		Object[] args = joinPoint.getArgs();
-		Parameter[] parameters = method.getParameters();
-		for (int i = 0; i < parameters.length; i++) {
+		for (int i = 0; i < metadata.bodyTypes.length; i++) {
 			Object arg = args[i];
 
 			if (arg != null) {
-				if (arg instanceof MultipartHttpServletRequest) {
-					body = BODY_BINARY_MARK;
-					break;
-				} else if (parameters[i].isAnnotationPresent(RequestBody.class)) {
-					body = arg;
-					break;
-				}  else if (arg instanceof HttpEntity) {
-					body = ((HttpEntity) arg).getBody();
-					break;
+				switch (metadata.bodyTypes[i]) {
+					case MULTIPART:
+						return BODY_BINARY_MARK;
+					case REQUEST_BODY:
+						return arg;
+					case HTTP_ENTITY:
+						return ((HttpEntity) arg).getBody();
+					default:
 				}
 			}
 		}
-		return body;
+		return null;
 	}
 
-	protected String formatRequestRecord(long count, String prefix, HttpServletRequest request,
-			Object body, HttpLogging annotation) throws Exception {
+	protected String formatRequestRecord(long count, String prefix, HttpServletRequest request, Object body, HttpLogging annotation)
+			throws Exception {
 		StringBuilder record = new StringBuilder();
 
 		// uri
@@ -151,17 +185,16 @@ public class HttpLoggingAspect {
 		// body
 		if (body != null && annotation.logRequestBody()) {
 			try {
-				record.append(NEWLINE).append(' ').append(BODY_DENOMINATOR)
-						.append(NEWLINE).append(' ').append(objectMapper.writeValueAsString(body));
-			} catch (JsonProcessingException e) {
+				String value = writeValueAsString(body);
+				record.append(NEWLINE).append(' ').append(BODY_DENOMINATOR).append(NEWLINE).append(' ').append(value);
+			} catch (IOException e) {
 				// ignore
 			}
 		}
-
 		return record.toString();
 	}
 
-	protected String formatResponseRecord(long count, String prefix, Object response, HttpLogging annotation, long executionTime) throws Exception {
+	protected String formatResponseRecord(long count, String prefix, Object response, HttpLogging annotation, long executionTime) {
 		boolean binaryBody = false;
 		StringBuilder record = new StringBuilder();
 
@@ -199,8 +232,8 @@ public class HttpLoggingAspect {
 					record.append(NEWLINE).append(' ').append('"').append(BODY_BINARY_MARK).append('"');
 				} else {
 					try {
-						record.append(NEWLINE).append(' ').append(objectMapper.writeValueAsString(((ResponseEntity<?>) response).getBody()));
-					} catch (JsonProcessingException ex) {
+						record.append(NEWLINE).append(' ').append(writeValueAsString(((ResponseEntity<?>) response).getBody()));
+					} catch (IOException ex) {
 						record.append(NEWLINE).append(' ').append(((ResponseEntity<String>) response).getBody());
 					}
 				}
@@ -210,8 +243,8 @@ public class HttpLoggingAspect {
 				record.append(NEWLINE).append(' ').append("Status").append(" - ").append("OK (method return)");
 				record.append(NEWLINE).append(' ').append(BODY_DENOMINATOR);
 				try {
-					record.append(NEWLINE).append(' ').append(objectMapper.writeValueAsString(response));
-				} catch (JsonProcessingException ex) {
+					record.append(NEWLINE).append(' ').append(writeValueAsString(response));
+				} catch (IOException ex) {
 					// ignore
 				}
 			}
@@ -220,8 +253,97 @@ public class HttpLoggingAspect {
 		return record.toString();
 	}
 
+	/**
+	 * Serializes the value, skipping everything after {@code bodyLimit} characters
+	 */
+	private String writeValueAsString(Object value) throws IOException {
+		LimitedWriter writer = new LimitedWriter(bodyLimit);
+		try {
+			objectMapper.writeValue(writer, value);
+		} catch (IOException e) {
+			if (!writer.truncated) {
+				throw e;
+			}
+		}
+		return writer.toString();
+	}
+
 	protected boolean readableContent(String value) {
 		int idx = value.indexOf(';');
 		return READABLE_CONTENT_TYPES.contains(value.substring(0, idx > 0 ? idx : value.length()));
 	}
+
+	private enum BodyType {
+		NONE,
+		MULTIPART,
+		REQUEST_BODY,
+		HTTP_ENTITY
+	}
+
+	/**
+	 * Logger and body parameters of the {@link HttpLogging} method, resolved once per method
+	 */
+	private static final class MethodMetadata {
+
+		private final Logger logger;
+
+		private final String prefix;
+
+		private final BodyType[] bodyTypes;
+
+		private MethodMetadata(Class<?> targetClass, Method method) {
+			this.logger = LoggerFactory.getLogger(targetClass);
+			this.prefix = method.getName();
+			Class<?>[] types = method.getParameterTypes();
+			this.bodyTypes = new BodyType[types.length];
+			for (int i = 0; i < types.length; i++) {
+				if (MultipartHttpServletRequest.class.isAssignableFrom(types[i])) {
+					bodyTypes[i] = BodyType.MULTIPART;
+				} else if (method.getParameters()[i].isAnnotationPresent(RequestBody.class)) {
+					bodyTypes[i] = BodyType.REQUEST_BODY;
+				} else if (HttpEntity.class.isAssignableFrom(types[i])) {
+					bodyTypes[i] = BodyType.HTTP_ENTITY;
+				} else {
+					bodyTypes[i] = BodyType.NONE;
+				}
+			}
+		}
+	}
+
+	private static final class LimitedWriter extends Writer {
+
+		private final StringBuilder buffer = new StringBuilder();
+
+		private final int limit;
+
+		private boolean truncated;
+
+		private LimitedWriter(int limit) {
+			this.limit = limit;
+		}
+
+		@Override
+		public void write(char[] chars, int offset, int length) throws IOException {
+			if (limit <= 0 || buffer.length() + length <= limit) {
+				buffer.append(chars, offset, length);
+				return;
+			}
+			buffer.append(chars, offset, limit - buffer.length());
+			truncated = true;
+			throw new IOException("Body limit is reached");
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public String toString() {
+			return truncated ? buffer.append(' ').append(BODY_TRUNCATED_MARK).toString() : buffer.toString();
+		}
+	}
 }
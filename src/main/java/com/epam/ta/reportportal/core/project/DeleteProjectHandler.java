@@ -16,6 +16,8 @@
 
 package com.epam.ta.reportportal.core.project;
 
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.deletion.DeletionJobRS;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.DeleteBulkRQ;
 import com.epam.ta.reportportal.ws.model.DeleteBulkRS;
@@ -54,4 +56,13 @@ public interface DeleteProjectHandler {
 	 * @return The {@link List} of the {@link OperationCompletionRS}
 	 */
 	DeleteBulkRS deleteProjects(DeleteBulkRQ deleteBulkRQ);
-}
\ No newline at end of file
+
+	/**
+	 * Marks projects as pending deletion and deletes them with their launches in background.
+	 *
+	 * @param deleteBulkRQ Bulk request
+	 * @param user         User
+	 * @return {@link DeletionJobRS} to poll the progress of the deletion
+	 */
+	DeletionJobRS deleteProjectsAsync(DeleteBulkRQ deleteBulkRQ, ReportPortalUser user);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.config;
+
+import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
+import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.entity.project.ProjectUtils;
+import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
+import org.apache.commons.lang3.BooleanUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the project configuration parameters: attribute name -> value
+ */
+public class ProjectConfig {
+
+	private final Map<String, String> parameters;
+
+	private final AnalyzerConfig analyzerConfig;
+
+	private ProjectConfig(Map<String, String> parameters) {
+		this.parameters = Collections.unmodifiableMap(new HashMap<>(parameters));
+		this.analyzerConfig = AnalyzerUtils.getAnalyzerConfig(this.parameters);
+	}
+
+	public static ProjectConfig of(Map<String, String> parameters) {
+		return new ProjectConfig(parameters);
+	}
+
+	public static ProjectConfig of(Project project) {
+		return new ProjectConfig(ProjectUtils.getConfigParameters(project.getProjectAttributes()));
+	}
+
+	public Map<String, String> getParameters() {
+		return parameters;
+	}
+
+	public String getParameter(ProjectAttributeEnum attribute) {
+		return parameters.get(attribute.getAttribute());
+	}
+
+	public boolean isEnabled(ProjectAttributeEnum attribute) {
+		return BooleanUtils.toBoolean(getParameter(attribute));
+	}
+
+	/**
+	 * {@link AnalyzerConfig} is a mutable request model, so a copy is returned on every call
+	 *
+	 * @return {@link AnalyzerConfig}
+	 */
+	public AnalyzerConfig getAnalyzerConfig() {
+		AnalyzerConfig copy = new AnalyzerConfig();
+		copy.setIsAutoAnalyzerEnabled(analyzerConfig.getIsAutoAnalyzerEnabled());
+		copy.setMinShouldMatch(analyzerConfig.getMinShouldMatch());
+		copy.setNumberOfLogLines(analyzerConfig.getNumberOfLogLines());
+		copy.setIndexingRunning(analyzerConfig.isIndexingRunning());
+		copy.setAnalyzerMode(analyzerConfig.getAnalyzerMode());
+		return copy;
+	}
+}
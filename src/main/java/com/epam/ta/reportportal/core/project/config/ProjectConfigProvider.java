@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.config;
+
+import com.epam.ta.reportportal.core.events.project.ProjectConfigChangedEvent;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Snapshots of the project configuration: project id -> {@link ProjectConfig}.
+ * <p>
+ * A snapshot is loaded with a single query of the project attributes, so the hot paths (finished items indexing,
+ * launch finished subscribers) neither load the {@link com.epam.ta.reportportal.entity.project.Project} nor parse its attributes.
+ * Snapshots are evicted when the configuration is updated by this service and expire after a TTL,
+ * that bounds the staleness of the attributes updated by the other nodes or services (e.g. indexing status),
+ * so the checks that depend on the actual indexing status should still read the project.
+ * <p>
+ * Every invalidation increments the generation of the project, a snapshot loaded while the generation has changed
+ * is returned to the caller but not cached, so an invalidation concurrent with the load can't be lost.
+ */
+@Component
+public class ProjectConfigProvider {
+
+	private static final String SELECT_ATTRIBUTES =
+			"SELECT a.name, pa.value FROM project p LEFT JOIN project_attribute pa ON p.id = pa.project_id "
+					+ "LEFT JOIN attribute a ON pa.attribute_id = a.id WHERE p.id = :projectId";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final Cache<Long, ProjectConfig> cache;
+
+	private final ConcurrentMap<Long, Long> generations = new ConcurrentHashMap<>();
+
+	@Autowired
+	public ProjectConfigProvider(NamedParameterJdbcTemplate jdbcTemplate, @Value("${rp.project.config.cache.size:10000}") long maximumSize,
+			@Value("${rp.project.config.cache.ttl:5}") long ttlMinutes) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttlMinutes, TimeUnit.MINUTES).build();
+	}
+
+	/**
+	 * @param projectId {@link com.epam.ta.reportportal.entity.project.Project#getId()}
+	 * @return {@link ProjectConfig} of the project
+	 */
+	public ProjectConfig get(Long projectId) {
+		ProjectConfig cached = cache.getIfPresent(projectId);
+		if (cached != null) {
+			return cached;
+		}
+		long generation = generation(projectId);
+		ProjectConfig loaded = load(projectId);
+		if (generation != generation(projectId)) {
+			return loaded;
+		}
+		ProjectConfig present = cache.asMap().putIfAbsent(projectId, loaded);
+		if (present != null) {
+			return present;
+		}
+		if (generation != generation(projectId)) {
+			cache.asMap().remove(projectId, loaded);
+		}
+		return loaded;
+	}
+
+	public void invalidate(Long projectId) {
+		generations.merge(projectId, 1L, Long::sum);
+		cache.invalidate(projectId);
+	}
+
+	private long generation(Long projectId) {
+		return generations.getOrDefault(projectId, 0L);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onConfigChanged(ProjectConfigChangedEvent event) {
+		invalidate(event.getProjectId());
+	}
+
+	private ProjectConfig load(Long projectId) {
+		AtomicBoolean exists = new AtomicBoolean();
+		Map<String, String> parameters = new HashMap<>();
+		jdbcTemplate.query(SELECT_ATTRIBUTES, new MapSqlParameterSource("projectId", projectId), rs -> {
+			exists.set(true);
+			String name = rs.getString("name");
+			if (name != null) {
+				parameters.put(name, rs.getString("value"));
+			}
+		});
+		if (!exists.get()) {
+			throw new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, projectId);
+		}
+		return ProjectConfig.of(parameters);
+	}
+}
@@ -16,6 +16,7 @@
 
 package com.epam.ta.reportportal.core.project.impl;
 
+import com.epam.ta.reportportal.auth.event.UserAccessChangedEvent;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.project.CreateProjectHandler;
@@ -36,6 +37,7 @@ import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.project.CreateProjectRQ;
 import com.google.common.collect.Sets;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
@@ -61,13 +63,16 @@ public class CreateProjectHandlerImpl implements CreateProjectHandler {
 
 	private final IssueTypeRepository issueTypeRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public CreateProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository,
-			AttributeRepository attributeRepository, IssueTypeRepository issueTypeRepository) {
+			AttributeRepository attributeRepository, IssueTypeRepository issueTypeRepository, ApplicationEventPublisher eventPublisher) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.attributeRepository = attributeRepository;
 		this.issueTypeRepository = issueTypeRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -112,6 +117,7 @@ public class CreateProjectHandlerImpl implements CreateProjectHandler {
 		Set<ProjectUser> projectUsers = Sets.newHashSet(projectUser);
 		project.setUsers(projectUsers);
 		projectRepository.save(project);
+		eventPublisher.publishEvent(new UserAccessChangedEvent(dbUser.getLogin()));
 		return new EntryCreatedRS(project.getId());
 	}
 }
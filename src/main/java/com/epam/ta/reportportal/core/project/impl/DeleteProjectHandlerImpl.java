@@ -16,10 +16,16 @@
 
 package com.epam.ta.reportportal.core.project.impl;
 
+import com.epam.ta.reportportal.auth.event.UserAccessChangedEvent;
+import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
+import com.epam.ta.reportportal.core.deletion.DeletionJob;
+import com.epam.ta.reportportal.core.deletion.DeletionJobRS;
+import com.epam.ta.reportportal.core.deletion.DeletionJobService;
+import com.epam.ta.reportportal.core.deletion.LaunchContentDeleter;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.ProjectIndexEvent;
 import com.epam.ta.reportportal.core.events.attachment.DeleteProjectAttachmentsEvent;
@@ -45,7 +51,9 @@ import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static com.epam.ta.reportportal.commons.Predicates.equalTo;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
+import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
 import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.AUTO_ANALYZER_KEY;
 
 /**
@@ -70,10 +78,15 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 
 	private final IssueTypeRepository issueTypeRepository;
 
+	private final DeletionJobService deletionJobService;
+
+	private final LaunchContentDeleter launchContentDeleter;
+
 	@Autowired
 	public DeleteProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository, LogIndexer logIndexer,
 			AnalyzerServiceClient analyzerServiceClient, AnalyzerStatusCache analyzerStatusCache, MessageBus messageBus,
-			ApplicationEventPublisher eventPublisher, IssueTypeRepository issueTypeRepository) {
+			ApplicationEventPublisher eventPublisher, IssueTypeRepository issueTypeRepository, DeletionJobService deletionJobService,
+			LaunchContentDeleter launchContentDeleter) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.logIndexer = logIndexer;
@@ -82,12 +95,15 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 		this.messageBus = messageBus;
 		this.eventPublisher = eventPublisher;
 		this.issueTypeRepository = issueTypeRepository;
+		this.deletionJobService = deletionJobService;
+		this.launchContentDeleter = launchContentDeleter;
 	}
 
 	@Override
 	public OperationCompletionRS deleteProject(Long projectId) {
 		Project project = projectRepository.findById(projectId)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, projectId));
+		validateNotPending(projectId);
 		return deleteProject(project);
 	}
 
@@ -126,6 +142,7 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 			try {
 				Optional<Project> project = projectRepository.findById(projectId);
 				if (project.isPresent()) {
+					validateNotPending(projectId);
 					deleteProject(project.get());
 					deleted.add(projectId);
 				} else {
@@ -135,12 +152,52 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 				exceptions.add(ex);
 			}
 		});
-		return new DeleteBulkRS(deleted, notFound, exceptions.stream().map(ex -> {
+		return new DeleteBulkRS(deleted, notFound, toErrors(exceptions));
+	}
+
+	@Override
+	public DeletionJobRS deleteProjectsAsync(DeleteBulkRQ deleteBulkRQ, ReportPortalUser user) {
+		List<ReportPortalException> exceptions = Lists.newArrayList();
+		List<Long> notFound = Lists.newArrayList();
+		List<Long> toDelete = Lists.newArrayList();
+		deleteBulkRQ.getIds().forEach(projectId -> {
+			if (!projectRepository.existsById(projectId)) {
+				notFound.add(projectId);
+			} else {
+				try {
+					validateNotPending(projectId);
+					toDelete.add(projectId);
+				} catch (ReportPortalException ex) {
+					exceptions.add(ex);
+				}
+			}
+		});
+
+		DeletionJob job = deletionJobService.submit(user,
+				DeletionJob.Target.PROJECT,
+				toDelete,
+				launchContentDeleter::deleteProjectLaunches,
+				projectId -> projectRepository.findById(projectId).ifPresent(this::deleteProject)
+		);
+		DeletionJobRS response = DeletionJobRS.of(job);
+		response.setNotFound(notFound);
+		response.setErrors(toErrors(exceptions));
+		return response;
+	}
+
+	private void validateNotPending(Long projectId) {
+		expect(deletionJobService.isPending(DeletionJob.Target.PROJECT, projectId), equalTo(false)).verify(ErrorType.FORBIDDEN_OPERATION,
+				formattedSupplier("Project with id = '{}' is already being deleted", projectId)
+		);
+	}
+
+	private static List<ErrorRS> toErrors(List<ReportPortalException> exceptions) {
+		return exceptions.stream().map(ex -> {
 			ErrorRS errorResponse = new ErrorRS();
 			errorResponse.setErrorType(ex.getErrorType());
 			errorResponse.setMessage(ex.getMessage());
 			return errorResponse;
-		}).collect(Collectors.toList()));
+		}).collect(Collectors.toList());
 	}
 
 	private OperationCompletionRS deleteProject(Project project) {
@@ -153,8 +210,10 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 				.map(ProjectIssueType::getIssueType)
 				.filter(issueType -> !defaultIssueTypeIds.contains(issueType.getId()))
 				.collect(Collectors.toSet());
+		Set<String> projectUsers = project.getUsers().stream().map(it -> it.getUser().getLogin()).collect(Collectors.toSet());
 		projectRepository.delete(project);
 		issueTypeRepository.deleteAll(issueTypesToRemove);
+		eventPublisher.publishEvent(new UserAccessChangedEvent(projectUsers));
 		logIndexer.deleteIndex(project.getId());
 		eventPublisher.publishEvent(new DeleteProjectAttachmentsEvent(project.getId()));
 		return new OperationCompletionRS("Project with id = '" + project.getId() + "' has been successfully deleted.");
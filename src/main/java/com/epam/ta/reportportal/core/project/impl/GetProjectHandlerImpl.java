@@ -24,7 +24,10 @@ import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.export.TabularFormat;
+import com.epam.ta.reportportal.core.export.TabularReportExporter;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
+import com.epam.ta.reportportal.core.jasper.constants.ProjectReportConstants;
 import com.epam.ta.reportportal.core.project.GetProjectHandler;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
@@ -47,6 +50,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
@@ -54,8 +58,10 @@ import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_PROJECT_ID;
 import static com.epam.ta.reportportal.commons.querygen.constant.UserCriteriaConstant.*;
 import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils.getAnalyzerConfig;
@@ -74,14 +80,17 @@ public class GetProjectHandlerImpl implements GetProjectHandler {
 
 	private final ProjectConverter projectConverter;
 
+	private final TabularReportExporter tabularReportExporter;
+
 	@Autowired
 	public GetProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository,
 			@Qualifier("projectJasperReportHandler") GetJasperReportHandler<ProjectInfo> jasperReportHandler,
-			ProjectConverter projectConverter) {
+			ProjectConverter projectConverter, TabularReportExporter tabularReportExporter) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.jasperReportHandler = jasperReportHandler;
 		this.projectConverter = projectConverter;
+		this.tabularReportExporter = tabularReportExporter;
 	}
 
 	@Override
@@ -142,6 +151,18 @@ public class GetProjectHandlerImpl implements GetProjectHandler {
 	@Override
 	public void exportProjects(ReportFormat reportFormat, Queryable filter, OutputStream outputStream) {
 
+		Optional<TabularFormat> tabularFormat = TabularFormat.of(reportFormat);
+		if (tabularFormat.isPresent()) {
+			tabularReportExporter.export(tabularFormat.get(),
+					outputStream,
+					ProjectReportConstants.COLUMNS,
+					Sort.by(Sort.Direction.ASC, CRITERIA_ID),
+					pageable -> projectRepository.findProjectInfoByFilter(filter, pageable),
+					jasperReportHandler::convertParams
+			);
+			return;
+		}
+
 		List<ProjectInfo> projects = projectRepository.findProjectInfoByFilter(filter);
 
 		List<? extends Map<String, ?>> data = projects.stream().map(jasperReportHandler::convertParams).collect(Collectors.toList());
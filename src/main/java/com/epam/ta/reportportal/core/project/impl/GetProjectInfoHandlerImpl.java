@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.core.project.GetProjectInfoHandler;
+import com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.activity.Activity;
 import com.epam.ta.reportportal.entity.activity.ActivityAction;
@@ -40,6 +41,7 @@ import com.epam.ta.reportportal.ws.model.project.LaunchesPerUser;
 import com.epam.ta.reportportal.ws.model.project.ProjectInfoResource;
 import com.google.common.collect.Lists;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -97,12 +99,17 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 
 	private final TicketRepository ticketRepository;
 
+	private final LaunchGroupStatisticsLoader statisticsLoader;
+
+	private final boolean aggregateStatistics;
+
 	private DecimalFormat formatter = new DecimalFormat("###.##");
 
 	@Autowired
 	public GetProjectInfoHandlerImpl(ProjectRepository projectRepository, LaunchRepository launchRepository,
 			ActivityRepository activityRepository, ProjectInfoWidgetDataConverter dataConverter, LaunchConverter launchConverter,
-			UserRepository userRepository, TicketRepository ticketRepository) {
+			UserRepository userRepository, TicketRepository ticketRepository, LaunchGroupStatisticsLoader statisticsLoader,
+			@Value("${rp.project.info.aggregate:true}") boolean aggregateStatistics) {
 		this.projectRepository = projectRepository;
 		this.launchRepository = launchRepository;
 		this.activityRepository = activityRepository;
@@ -110,6 +117,8 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		this.launchConverter = launchConverter;
 		this.userRepository = userRepository;
 		this.ticketRepository = ticketRepository;
+		this.statisticsLoader = statisticsLoader;
+		this.aggregateStatistics = aggregateStatistics;
 	}
 
 	/**
@@ -201,25 +210,29 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		ProjectInfoWidget widgetType = ProjectInfoWidget.findByCode(widgetCode)
 				.orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, widgetCode));
 
-		List<Launch> launches = launchRepository.findByProjectIdAndStartTimeGreaterThanAndMode(project.getId(),
-				getStartIntervalDate(infoInterval),
-				LaunchModeEnum.DEFAULT
-		);
-
+		ProjectInfoGroup grouping = dataConverter.getGrouping(infoInterval);
 		Map<String, ?> result;
 
 		switch (widgetType) {
 			case INVESTIGATED:
-				result = dataConverter.getInvestigatedProjectInfo(launches, infoInterval);
+				result = aggregateStatistics ?
+						dataConverter.getInvestigatedProjectInfo(loadStatistics(project, infoInterval, grouping)) :
+						dataConverter.getInvestigatedProjectInfo(loadLaunches(project, infoInterval), infoInterval);
 				break;
 			case CASES_STATISTIC:
-				result = dataConverter.getTestCasesStatisticsProjectInfo(launches);
+				result = aggregateStatistics ?
+						dataConverter.getTestCasesStatisticsProjectInfo(loadStatistics(project, infoInterval, ProjectInfoGroup.BY_NAME)) :
+						dataConverter.getTestCasesStatisticsProjectInfo(loadLaunches(project, infoInterval));
 				break;
 			case LAUNCHES_QUANTITY:
-				result = dataConverter.getLaunchesQuantity(launches, infoInterval);
+				result = aggregateStatistics ?
+						dataConverter.getLaunchesQuantity(loadStatistics(project, infoInterval, grouping), infoInterval) :
+						dataConverter.getLaunchesQuantity(loadLaunches(project, infoInterval), infoInterval);
 				break;
 			case ISSUES_CHART:
-				result = dataConverter.getLaunchesIssues(launches, infoInterval);
+				result = aggregateStatistics ?
+						dataConverter.getLaunchesIssues(loadStatistics(project, infoInterval, grouping)) :
+						dataConverter.getLaunchesIssues(loadLaunches(project, infoInterval), infoInterval);
 				break;
 			case ACTIVITIES:
 				result = getActivities(project, infoInterval);
@@ -235,6 +248,23 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		return result;
 	}
 
+	/**
+	 * Loads statistics of the DEFAULT-mode launches of the interval grouped and summed by the database
+	 */
+	private Map<String, LaunchGroupStatistics> loadStatistics(Project project, InfoInterval infoInterval, ProjectInfoGroup criteria) {
+		return statisticsLoader.load(project.getId(), getStartIntervalDate(infoInterval), criteria);
+	}
+
+	/**
+	 * Loads all DEFAULT-mode launches of the interval, used when the statistics aggregation in the database is disabled
+	 */
+	private List<Launch> loadLaunches(Project project, InfoInterval infoInterval) {
+		return launchRepository.findByProjectIdAndStartTimeGreaterThanAndMode(project.getId(),
+				getStartIntervalDate(infoInterval),
+				LaunchModeEnum.DEFAULT
+		);
+	}
+
 	private Map<String, ?> getLastLaunchStatistics(Long projectId) {
 		Optional<Launch> launchOptional = launchRepository.findLastRun(projectId, Mode.DEFAULT.name());
 		return launchOptional.isPresent() ?
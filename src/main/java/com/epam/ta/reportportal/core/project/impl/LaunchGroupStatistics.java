@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.impl;
+
+import com.epam.ta.reportportal.entity.launch.Launch;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+
+import static com.epam.ta.reportportal.core.statistics.StatisticsHelper.extractStatisticsCount;
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+
+/**
+ * Summed statistics of the launches of one project info widget group: a day, a week or a launch name.
+ */
+public class LaunchGroupStatistics {
+
+	private final int launchesCount;
+
+	private final int productBug;
+
+	private final int automationBug;
+
+	private final int systemIssue;
+
+	private final int toInvestigate;
+
+	private final double executionsMin;
+
+	private final double executionsMax;
+
+	private final double executionsAvg;
+
+	public LaunchGroupStatistics(int launchesCount, int productBug, int automationBug, int systemIssue, int toInvestigate,
+			double executionsMin, double executionsMax, double executionsAvg) {
+		this.launchesCount = launchesCount;
+		this.productBug = productBug;
+		this.automationBug = automationBug;
+		this.systemIssue = systemIssue;
+		this.toInvestigate = toInvestigate;
+		this.executionsMin = executionsMin;
+		this.executionsMax = executionsMax;
+		this.executionsAvg = executionsAvg;
+	}
+
+	/**
+	 * Statistics of the group without launches, e.g. of the day between two launches
+	 *
+	 * @return {@link LaunchGroupStatistics}
+	 */
+	public static LaunchGroupStatistics empty() {
+		return new LaunchGroupStatistics(0, 0, 0, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Sums statistics of the loaded launches
+	 *
+	 * @param launches {@link Launch} entities of the group
+	 * @return {@link LaunchGroupStatistics}
+	 */
+	public static LaunchGroupStatistics of(List<Launch> launches) {
+		if (launches.isEmpty()) {
+			return empty();
+		}
+		int productBug = 0;
+		int automationBug = 0;
+		int systemIssue = 0;
+		int toInvestigate = 0;
+		DoubleSummaryStatistics executions = new DoubleSummaryStatistics();
+		for (Launch launch : launches) {
+			productBug += extractStatisticsCount(DEFECTS_PRODUCT_BUG_TOTAL, launch.getStatistics());
+			automationBug += extractStatisticsCount(DEFECTS_AUTOMATION_BUG_TOTAL, launch.getStatistics());
+			systemIssue += extractStatisticsCount(DEFECTS_SYSTEM_ISSUE_TOTAL, launch.getStatistics());
+			toInvestigate += extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, launch.getStatistics());
+			executions.accept(extractStatisticsCount(EXECUTIONS_TOTAL, launch.getStatistics()));
+		}
+		return new LaunchGroupStatistics(launches.size(),
+				productBug,
+				automationBug,
+				systemIssue,
+				toInvestigate,
+				executions.getMin(),
+				executions.getMax(),
+				executions.getAverage()
+		);
+	}
+
+	public int getLaunchesCount() {
+		return launchesCount;
+	}
+
+	public int getProductBug() {
+		return productBug;
+	}
+
+	public int getAutomationBug() {
+		return automationBug;
+	}
+
+	public int getSystemIssue() {
+		return systemIssue;
+	}
+
+	public int getToInvestigate() {
+		return toInvestigate;
+	}
+
+	public double getExecutionsMin() {
+		return executionsMin;
+	}
+
+	public double getExecutionsMax() {
+		return executionsMax;
+	}
+
+	public double getExecutionsAvg() {
+		return executionsAvg;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.impl;
+
+import com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+
+/**
+ * Loads statistics of the project launches already grouped by day, week or launch name and summed by the database,
+ * so project info widgets don't load every launch of the interval with its statistics.
+ */
+@Component
+class LaunchGroupStatisticsLoader {
+
+	private static final String SELECT_GROUP_STATISTICS = "SELECT %s AS group_key, count(l.id) AS launches_count, "
+			+ "coalesce(sum(s.product_bug), 0) AS product_bug, coalesce(sum(s.automation_bug), 0) AS automation_bug, "
+			+ "coalesce(sum(s.system_issue), 0) AS system_issue, coalesce(sum(s.to_investigate), 0) AS to_investigate, "
+			+ "min(coalesce(s.executions, 0)) AS executions_min, max(coalesce(s.executions, 0)) AS executions_max, "
+			+ "avg(coalesce(s.executions, 0)) AS executions_avg FROM launch l "
+			+ "LEFT JOIN LATERAL (SELECT sum(st.s_counter) FILTER (WHERE sf.name = :productBug) AS product_bug, "
+			+ "sum(st.s_counter) FILTER (WHERE sf.name = :automationBug) AS automation_bug, "
+			+ "sum(st.s_counter) FILTER (WHERE sf.name = :systemIssue) AS system_issue, "
+			+ "sum(st.s_counter) FILTER (WHERE sf.name = :toInvestigate) AS to_investigate, "
+			+ "sum(st.s_counter) FILTER (WHERE sf.name = :executions) AS executions "
+			+ "FROM statistics st JOIN statistics_field sf ON st.statistics_field_id = sf.sf_id WHERE st.launch_id = l.id) s ON TRUE "
+			+ "WHERE l.project_id = :projectId AND l.mode = 'DEFAULT' AND l.start_time > :from "
+			+ "GROUP BY group_key ORDER BY group_key";
+
+	private static final String BY_DAY_KEY = "date_trunc('day', l.start_time)";
+
+	private static final String BY_WEEK_KEY = "date_trunc('week', l.start_time)";
+
+	private static final String BY_NAME_KEY = "l.name";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public LaunchGroupStatisticsLoader(NamedParameterJdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @param projectId {@link com.epam.ta.reportportal.entity.project.Project#getId()}
+	 * @param from      Launches started after this time are included
+	 * @param criteria  {@link ProjectInfoGroup} of the launches
+	 * @return Statistics by formatted day, week or launch name. Days and weeks go in ascending order,
+	 * including the empty ones between the first and the last period with launches
+	 */
+	public Map<String, LaunchGroupStatistics> load(Long projectId, LocalDateTime from, ProjectInfoGroup criteria) {
+		MapSqlParameterSource params = new MapSqlParameterSource("projectId", projectId).addValue("from", Timestamp.valueOf(from))
+				.addValue("productBug", DEFECTS_PRODUCT_BUG_TOTAL)
+				.addValue("automationBug", DEFECTS_AUTOMATION_BUG_TOTAL)
+				.addValue("systemIssue", DEFECTS_SYSTEM_ISSUE_TOTAL)
+				.addValue("toInvestigate", DEFECTS_TO_INVESTIGATE_TOTAL)
+				.addValue("executions", EXECUTIONS_TOTAL);
+
+		if (criteria == ProjectInfoGroup.BY_NAME) {
+			Map<String, LaunchGroupStatistics> result = new LinkedHashMap<>();
+			jdbcTemplate.query(String.format(SELECT_GROUP_STATISTICS, BY_NAME_KEY),
+					params,
+					rs -> {
+						result.put(rs.getString("group_key"), toStatistics(rs));
+					}
+			);
+			return result;
+		}
+
+		Map<LocalDate, LaunchGroupStatistics> periods = new LinkedHashMap<>();
+		jdbcTemplate.query(String.format(SELECT_GROUP_STATISTICS, criteria == ProjectInfoGroup.BY_DAY ? BY_DAY_KEY : BY_WEEK_KEY),
+				params,
+				rs -> {
+					periods.put(rs.getTimestamp("group_key").toLocalDateTime().toLocalDate(), toStatistics(rs));
+				}
+		);
+		return ProjectInfoWidgetDataConverter.withEmptyPeriods(periods, criteria);
+	}
+
+	private static LaunchGroupStatistics toStatistics(ResultSet rs) throws SQLException {
+		return new LaunchGroupStatistics(rs.getInt("launches_count"),
+				rs.getInt("product_bug"),
+				rs.getInt("automation_bug"),
+				rs.getInt("system_issue"),
+				rs.getInt("to_investigate"),
+				rs.getDouble("executions_min"),
+				rs.getDouble("executions_max"),
+				rs.getDouble("executions_avg")
+		);
+	}
+}
@@ -18,7 +18,6 @@ package com.epam.ta.reportportal.core.project.impl;
 
 import com.epam.ta.reportportal.entity.enums.InfoInterval;
 import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.statistics.Statistics;
 import com.epam.ta.reportportal.ws.model.widget.ChartObject;
 import com.google.common.collect.Lists;
 import org.joda.time.DateTime;
@@ -38,8 +37,6 @@ import java.util.Map.Entry;
 
 import static com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup.BY_DAY;
 import static com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup.BY_NAME;
-import static com.epam.ta.reportportal.core.statistics.StatisticsHelper.extractStatisticsCount;
-import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.WEEKS;
 
@@ -69,6 +66,14 @@ public class ProjectInfoWidgetDataConverter {
 			.appendValue(IsoFields.WEEK_OF_WEEK_BASED_YEAR, 2)
 			.toFormatter();
 
+	/**
+	 * @param interval Project info interval
+	 * @return {@link ProjectInfoGroup} of the timeline widgets for the interval
+	 */
+	public ProjectInfoGroup getGrouping(InfoInterval interval) {
+		return grouping.get(interval);
+	}
+
 	/**
 	 * <b>Percentage Of Investigation</b> project info widget content
 	 *
@@ -77,31 +82,27 @@ public class ProjectInfoWidgetDataConverter {
 	 * @return
 	 */
 	public Map<String, List<ChartObject>> getInvestigatedProjectInfo(List<Launch> initial, InfoInterval interval) {
-		if (initial.isEmpty()) {
-			return new HashMap<>();
-		}
+		return getInvestigatedProjectInfo(aggregate(initial, grouping.get(interval)));
+	}
+
+	/**
+	 * <b>Percentage Of Investigation</b> project info widget content from the pre-aggregated statistics
+	 *
+	 * @param grouped Statistics by day or week
+	 * @return
+	 */
+	public Map<String, List<ChartObject>> getInvestigatedProjectInfo(Map<String, LaunchGroupStatistics> grouped) {
 		final DecimalFormat formatter = new DecimalFormat("###.##");
 		final String INV = "investigated";
 		final String TI = "toInvestigate";
 		Map<String, List<ChartObject>> result = new HashMap<>();
-		Map<String, List<Launch>> grouped = groupBy(initial, grouping.get(interval));
-		Iterator<Entry<String, List<Launch>>> iterator = grouped.entrySet().iterator();
-		while (iterator.hasNext()) {
-			Entry<String, List<Launch>> pair = iterator.next();
-			double investigated = 0;
-			double toInvestigate = 0;
-			List<Launch> group = pair.getValue();
+		for (Entry<String, LaunchGroupStatistics> pair : grouped.entrySet()) {
+			LaunchGroupStatistics group = pair.getValue();
+			double investigated = group.getProductBug() + group.getSystemIssue() + group.getAutomationBug();
+			double toInvestigate = group.getToInvestigate();
 			ChartObject currentGroup = new ChartObject();
 			currentGroup.setName(pair.getKey());
 			Map<String, String> values = new HashMap<>();
-			for (Launch one : group) {
-				investigated =
-						investigated + extractStatisticsCount(DEFECTS_PRODUCT_BUG_TOTAL, one.getStatistics()) + extractStatisticsCount(
-								DEFECTS_SYSTEM_ISSUE_TOTAL,
-								one.getStatistics()
-						) + extractStatisticsCount(DEFECTS_AUTOMATION_BUG_TOTAL, one.getStatistics());
-				toInvestigate = toInvestigate + extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, one.getStatistics());
-			}
 			if ((investigated + toInvestigate) > 0) {
 				double investigatedPercent = (investigated / (investigated + toInvestigate)) * 100;
 				double toInvestigatePercent = 100 - investigatedPercent;
@@ -113,7 +114,6 @@ public class ProjectInfoWidgetDataConverter {
 			}
 			currentGroup.setValues(values);
 			result.put(pair.getKey(), Collections.singletonList(currentGroup));
-			iterator.remove();
 		}
 		return result;
 	}
@@ -126,36 +126,37 @@ public class ProjectInfoWidgetDataConverter {
 	 * @return
 	 */
 	public Map<String, List<ChartObject>> getTestCasesStatisticsProjectInfo(List<Launch> initial) {
+		return getTestCasesStatisticsProjectInfo(aggregate(initial, BY_NAME));
+	}
+
+	/**
+	 * <b>Test-cases statistics in unique launches</b> project info widget
+	 * content from the pre-aggregated statistics
+	 *
+	 * @param grouped Statistics by launch name
+	 * @return
+	 */
+	public Map<String, List<ChartObject>> getTestCasesStatisticsProjectInfo(Map<String, LaunchGroupStatistics> grouped) {
 		DecimalFormat formatter = new DecimalFormat("#####.##");
 		final String MIN = "min";
 		final String MAX = "max";
 		final String AVG = "avg";
 		String globalAverageSeria = "Median value in all unique launches";
 
-		if (initial.isEmpty()) {
+		if (grouped.isEmpty()) {
 			return new HashMap<>();
 		}
 
 		Map<String, List<ChartObject>> result = new HashMap<>();
-		Map<String, List<Launch>> grouped = groupBy(initial, BY_NAME);
-		for (Entry<String, List<Launch>> pair : grouped.entrySet()) {
+		for (Entry<String, LaunchGroupStatistics> pair : grouped.entrySet()) {
 			ChartObject singleStat = new ChartObject();
 			singleStat.setName(pair.getKey());
 			Map<String, String> values = new HashMap<>();
-			List<Launch> group = pair.getValue();
-
-			DoubleSummaryStatistics statistics = group.stream()
-					.mapToDouble(launch -> launch.getStatistics()
-							.stream()
-							.filter(it -> it.getStatisticsField().getName().equalsIgnoreCase(EXECUTIONS_TOTAL))
-							.findFirst()
-							.orElse(new Statistics())
-							.getCounter())
-					.summaryStatistics();
+			LaunchGroupStatistics statistics = pair.getValue();
 
-			values.put(MIN, String.valueOf(statistics.getMin()));
-			values.put(MAX, String.valueOf(statistics.getMax()));
-			values.put(AVG, formatter.format(statistics.getAverage()));
+			values.put(MIN, String.valueOf(statistics.getExecutionsMin()));
+			values.put(MAX, String.valueOf(statistics.getExecutionsMax()));
+			values.put(AVG, formatter.format(statistics.getExecutionsAvg()));
 			singleStat.setValues(values);
 
 			result.put(pair.getKey(), Collections.singletonList(singleStat));
@@ -177,22 +178,27 @@ public class ProjectInfoWidgetDataConverter {
 	 * @return
 	 */
 	public Map<String, List<ChartObject>> getLaunchesQuantity(List<Launch> initial, InfoInterval interval) {
+		return getLaunchesQuantity(aggregate(initial, grouping.get(interval)), interval);
+	}
+
+	/**
+	 * <b>Quantity of Launches</b> project info widget content from the pre-aggregated statistics
+	 *
+	 * @param grouped  Statistics by day or week
+	 * @param interval
+	 * @return
+	 */
+	public Map<String, List<ChartObject>> getLaunchesQuantity(Map<String, LaunchGroupStatistics> grouped, InfoInterval interval) {
 		final String START_PERIOD = "start";
 		final String END_PERIOD = "end";
 		final String COUNT = "count";
 		final String INTERVAL = "interval";
 		HashMap<String, List<ChartObject>> result = new HashMap<>();
-		if (initial.isEmpty()) {
-			return result;
-		}
 		ProjectInfoGroup criteria = grouping.get(interval);
-		Map<String, List<Launch>> grouped = groupBy(initial, criteria);
-		for (Entry<String, List<Launch>> entry : grouped.entrySet()) {
-			List<Launch> launches = entry.getValue();
-			Integer count = null != launches ? launches.size() : 0;
+		for (Entry<String, LaunchGroupStatistics> entry : grouped.entrySet()) {
 			ChartObject group = new ChartObject();
 			Map<String, String> values = new HashMap<>();
-			values.put(COUNT, String.valueOf(count));
+			values.put(COUNT, String.valueOf(entry.getValue().getLaunchesCount()));
 			values.put(INTERVAL, interval.getInterval());
 			if (criteria != BY_DAY) {
 				DateTime parse = DateTime.parse(entry.getKey());
@@ -217,41 +223,73 @@ public class ProjectInfoWidgetDataConverter {
 	 * @return
 	 */
 	public Map<String, List<ChartObject>> getLaunchesIssues(List<Launch> initial, InfoInterval interval) {
+		return getLaunchesIssues(aggregate(initial, grouping.get(interval)));
+	}
+
+	/**
+	 * <b>Launch statistics line chart</b> project info widget content from the pre-aggregated statistics
+	 *
+	 * @param grouped Statistics by day or week
+	 * @return
+	 */
+	public Map<String, List<ChartObject>> getLaunchesIssues(Map<String, LaunchGroupStatistics> grouped) {
 		HashMap<String, List<ChartObject>> result = new HashMap<>();
-		if (initial.isEmpty()) {
-			return result;
-		}
 		final String PB = "productBug";
 		final String SI = "systemIssue";
 		final String AB = "automationBug";
 		final String TI = "toInvestigate";
 
-		ProjectInfoGroup criteria = grouping.get(interval);
-		Map<String, List<Launch>> grouped = groupBy(initial, criteria);
-		for (Entry<String, List<Launch>> entry : grouped.entrySet()) {
-			List<Launch> launches = entry.getValue();
-			Integer pbCount = 0;
-			Integer abCount = 0;
-			Integer siCount = 0;
-			Integer tiCount = 0;
-			for (Launch launch : launches) {
-				pbCount += extractStatisticsCount(DEFECTS_PRODUCT_BUG_TOTAL, launch.getStatistics());
-				abCount += extractStatisticsCount(DEFECTS_AUTOMATION_BUG_TOTAL, launch.getStatistics());
-				siCount += extractStatisticsCount(DEFECTS_SYSTEM_ISSUE_TOTAL, launch.getStatistics());
-				tiCount += extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, launch.getStatistics());
-			}
+		for (Entry<String, LaunchGroupStatistics> entry : grouped.entrySet()) {
+			LaunchGroupStatistics statistics = entry.getValue();
 			ChartObject object = new ChartObject();
 			Map<String, String> values = new HashMap<>();
-			values.put(PB, String.valueOf(pbCount));
-			values.put(SI, String.valueOf(siCount));
-			values.put(AB, String.valueOf(abCount));
-			values.put(TI, String.valueOf(tiCount));
+			values.put(PB, String.valueOf(statistics.getProductBug()));
+			values.put(SI, String.valueOf(statistics.getSystemIssue()));
+			values.put(AB, String.valueOf(statistics.getAutomationBug()));
+			values.put(TI, String.valueOf(statistics.getToInvestigate()));
 			object.setValues(values);
 			result.put(entry.getKey(), Collections.singletonList(object));
 		}
 		return result;
 	}
 
+	/**
+	 * Fallback for the loaded {@link Launch} entities: groups them and sums the statistics of every group in memory
+	 *
+	 * @param initial
+	 * @param criteria
+	 * @return
+	 */
+	private static Map<String, LaunchGroupStatistics> aggregate(List<Launch> initial, ProjectInfoGroup criteria) {
+		Map<String, LaunchGroupStatistics> result = new LinkedHashMap<>();
+		groupBy(initial, criteria).forEach((key, launches) -> result.put(key, LaunchGroupStatistics.of(launches)));
+		return result;
+	}
+
+	/**
+	 * Adds empty groups for the days or weeks without launches between the first and the last loaded ones,
+	 * the same way {@link #groupBy(List, ProjectInfoGroup)} does
+	 *
+	 * @param periods  Statistics by the first day of the period in ascending order
+	 * @param criteria {@link ProjectInfoGroup#BY_DAY} or {@link ProjectInfoGroup#BY_WEEK}
+	 * @return Statistics by formatted period
+	 */
+	static Map<String, LaunchGroupStatistics> withEmptyPeriods(Map<LocalDate, LaunchGroupStatistics> periods, ProjectInfoGroup criteria) {
+		Map<String, LaunchGroupStatistics> result = new LinkedHashMap<>();
+		LocalDate prevDate = null;
+		for (Entry<LocalDate, LaunchGroupStatistics> entry : periods.entrySet()) {
+			if (prevDate != null) {
+				while (prevDate.isBefore(entry.getKey())) {
+					result.putIfAbsent(formattedDate(criteria, prevDate), LaunchGroupStatistics.empty());
+					prevDate = prevDate.plus(1, criteria == BY_DAY ? DAYS : WEEKS);
+				}
+			}
+			result.put(formattedDate(criteria, entry.getKey()), entry.getValue());
+			prevDate = entry.getKey();
+		}
+		return result;
+	}
+
 	/**
 	 * Utility method for grouping input list of {@link Launch} by
 	 * {@link ProjectInfoGroup} criteria
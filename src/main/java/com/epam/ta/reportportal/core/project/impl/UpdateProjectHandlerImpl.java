@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.project.impl;
 
 import com.epam.ta.reportportal.auth.acl.ShareableObjectsHandler;
+import com.epam.ta.reportportal.auth.event.UserAccessChangedEvent;
 import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
@@ -29,6 +30,7 @@ import com.epam.ta.reportportal.core.events.activity.NotificationsConfigUpdatedE
 import com.epam.ta.reportportal.core.events.activity.ProjectAnalyzerConfigEvent;
 import com.epam.ta.reportportal.core.events.activity.ProjectIndexEvent;
 import com.epam.ta.reportportal.core.events.activity.ProjectUpdatedEvent;
+import com.epam.ta.reportportal.core.events.project.ProjectConfigChangedEvent;
 import com.epam.ta.reportportal.core.project.UpdateProjectHandler;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.AnalyzeMode;
@@ -63,6 +65,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.acls.domain.BasePermission;
 import org.springframework.stereotype.Service;
 
@@ -116,12 +119,14 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 
 	private final ProjectConverter projectConverter;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public UpdateProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository,
 			UserPreferenceRepository preferenceRepository, MessageBus messageBus, ProjectUserRepository projectUserRepository,
 			MailServiceFactory mailServiceFactory, LaunchRepository launchRepository, AnalyzerStatusCache analyzerStatusCache,
 			IndexerStatusCache indexerStatusCache, AnalyzerServiceClient analyzerServiceClient, LogIndexer logIndexer, ShareableObjectsHandler aclHandler,
-			ProjectConverter projectConverter) {
+			ProjectConverter projectConverter, ApplicationEventPublisher eventPublisher) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.preferenceRepository = preferenceRepository;
@@ -135,6 +140,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 		this.logIndexer = logIndexer;
 		this.aclHandler = aclHandler;
 		this.projectConverter = projectConverter;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -145,6 +151,10 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 		updateProjectConfiguration(updateProjectRQ.getConfiguration(), project);
 		updateProjectUserRoles(updateProjectRQ.getUserRoles(), project, user);
 		projectRepository.save(project);
+		eventPublisher.publishEvent(new ProjectConfigChangedEvent(project.getId()));
+		if (MapUtils.isNotEmpty(updateProjectRQ.getUserRoles())) {
+			eventPublisher.publishEvent(new UserAccessChangedEvent(updateProjectRQ.getUserRoles().keySet()));
+		}
 		ProjectAttributesActivityResource after = TO_ACTIVITY_RESOURCE.apply(project);
 
 		messageBus.publishActivity(new ProjectUpdatedEvent(before, after, user.getUserId(), user.getUsername()));
@@ -167,6 +177,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 				.filter(it -> it.getAttribute().getName().equalsIgnoreCase(ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getAttribute()))
 				.findAny()
 				.ifPresent(pa -> pa.setValue(String.valueOf(updateProjectNotificationConfigRQ.isEnabled())));
+		eventPublisher.publishEvent(new ProjectConfigChangedEvent(project.getId()));
 
 		messageBus.publishActivity(new NotificationsConfigUpdatedEvent(before,
 				updateProjectNotificationConfigRQ,
@@ -196,6 +207,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 		projectUserRepository.deleteAll(unassignedUsers);
 		ProjectUtils.excludeProjectRecipients(unassignedUsers.stream().map(ProjectUser::getUser).collect(Collectors.toSet()), project);
 		unassignedUsers.forEach(it -> preferenceRepository.removeByProjectIdAndUserId(project.getId(), it.getUser().getId()));
+		eventPublisher.publishEvent(new UserAccessChangedEvent(unassignUsersRQ.getUsernames()));
 
 		return new OperationCompletionRS(
 				"User(s) with username(s)='" + unassignUsersRQ.getUsernames() + "' was successfully un-assigned from project='"
@@ -233,6 +245,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 				assignUser(name, projectRole, assignedUsernames, project);
 			});
 		}
+		eventPublisher.publishEvent(new UserAccessChangedEvent(assignUsersRQ.getUserNames().keySet()));
 
 		return new OperationCompletionRS(
 				"User(s) with username='" + assignUsersRQ.getUserNames().keySet() + "' was successfully assigned to project='"
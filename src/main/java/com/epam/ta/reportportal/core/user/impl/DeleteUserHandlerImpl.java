@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.user.impl;
 
 import com.epam.ta.reportportal.auth.acl.ShareableObjectsHandler;
+import com.epam.ta.reportportal.auth.event.UserAccessChangedEvent;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
@@ -30,6 +31,7 @@ import com.epam.ta.reportportal.ws.model.*;
 import com.google.common.collect.Lists;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -53,12 +55,15 @@ public class DeleteUserHandlerImpl implements DeleteUserHandler {
 
 	private final ShareableObjectsHandler shareableObjectsHandler;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public DeleteUserHandlerImpl(UserRepository userRepository, DeleteProjectHandler deleteProjectHandler,
-			ShareableObjectsHandler shareableObjectsHandler) {
+			ShareableObjectsHandler shareableObjectsHandler, ApplicationEventPublisher eventPublisher) {
 		this.userRepository = userRepository;
 		this.deleteProjectHandler = deleteProjectHandler;
 		this.shareableObjectsHandler = shareableObjectsHandler;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -82,6 +87,7 @@ public class DeleteUserHandlerImpl implements DeleteUserHandler {
 		});
 
 		userRepository.delete(user);
+		eventPublisher.publishEvent(new UserAccessChangedEvent(user.getLogin()));
 		if (CollectionUtils.isNotEmpty(projectIdsToDelete)) {
 			deleteProjectHandler.deleteProjects(new DeleteBulkRQ(projectIdsToDelete));
 		}
@@ -16,10 +16,12 @@
 
 package com.epam.ta.reportportal.core.user.impl;
 
+import com.epam.ta.reportportal.auth.event.UserAccessChangedEvent;
 import com.epam.ta.reportportal.binary.UserBinaryDataService;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.core.events.attachment.UserPhotoChangedEvent;
 import com.epam.ta.reportportal.core.user.EditUserHandler;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
@@ -40,6 +42,7 @@ import org.apache.tika.metadata.Metadata;
 import org.apache.tika.mime.MediaType;
 import org.apache.tika.parser.AutoDetectParser;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -72,12 +75,15 @@ public class EditUserHandlerImpl implements EditUserHandler {
 
 	private final UserBinaryDataService userBinaryDataService;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public EditUserHandlerImpl(UserRepository userRepository, ProjectRepository projectRepository,
-			UserBinaryDataService userBinaryDataService) {
+			UserBinaryDataService userBinaryDataService, ApplicationEventPublisher eventPublisher) {
 		this.userRepository = userRepository;
 		this.projectRepository = projectRepository;
 		this.userBinaryDataService = userBinaryDataService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -95,6 +101,7 @@ public class EditUserHandlerImpl implements EditUserHandler {
 			UserRole newRole = UserRole.findByName(editUserRQ.getRole())
 					.orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, "Incorrect specified Account Role parameter."));
 			user.setRole(newRole);
+			eventPublisher.publishEvent(new UserAccessChangedEvent(user.getLogin()));
 		}
 
 		if (null != editUserRQ.getEmail() && !editUserRQ.getEmail().equals(user.getEmail())) {
@@ -134,7 +141,9 @@ public class EditUserHandlerImpl implements EditUserHandler {
 		User user = userRepository.findByLogin(username).orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, username));
 		try {
 			validatePhoto(file);
+			UserPhotoChangedEvent event = new UserPhotoChangedEvent(user.getAttachment(), user.getAttachmentThumbnail());
 			userBinaryDataService.saveUserPhoto(user, file);
+			eventPublisher.publishEvent(event);
 		} catch (IOException e) {
 			fail().withError(BINARY_DATA_CANNOT_BE_SAVED);
 		}
@@ -145,7 +154,9 @@ public class EditUserHandlerImpl implements EditUserHandler {
 	public OperationCompletionRS deletePhoto(String login) {
 		User user = userRepository.findByLogin(login).orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, login));
 		expect(user.getUserType(), equalTo(INTERNAL)).verify(ACCESS_DENIED, "Unable to change photo for external user");
+		UserPhotoChangedEvent event = new UserPhotoChangedEvent(user.getAttachment(), user.getAttachmentThumbnail());
 		userBinaryDataService.deleteUserPhoto(user);
+		eventPublisher.publishEvent(event);
 		return new OperationCompletionRS("Profile photo has been deleted successfully");
 	}
 
@@ -16,13 +16,17 @@
 
 package com.epam.ta.reportportal.core.user.impl;
 
+import com.epam.ta.reportportal.auth.event.UserAccessChangedEvent;
 import com.epam.ta.reportportal.commons.EntityUtils;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Condition;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.core.export.TabularFormat;
+import com.epam.ta.reportportal.core.export.TabularReportExporter;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
+import com.epam.ta.reportportal.core.jasper.constants.UserReportConstants;
 import com.epam.ta.reportportal.core.user.GetUserHandler;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserCreationBidRepository;
@@ -50,8 +54,10 @@ import org.apache.commons.collections.CollectionUtils;
 import org.jooq.Operator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.io.OutputStream;
@@ -60,6 +66,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_PROJECT_ID;
 import static com.epam.ta.reportportal.commons.querygen.constant.UserCriteriaConstant.*;
 import static java.util.Optional.ofNullable;
@@ -83,15 +90,22 @@ public class GetUserHandlerImpl implements GetUserHandler {
 
 	private final GetJasperReportHandler<User> jasperReportHandler;
 
+	private final TabularReportExporter tabularReportExporter;
+
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public GetUserHandlerImpl(UserRepository userRepo, UserCreationBidRepository userCreationBidRepository,
 			ProjectRepository projectRepository, PersonalProjectService personalProjectService,
-			@Qualifier("userJasperReportHandler") GetJasperReportHandler<User> jasperReportHandler) {
+			@Qualifier("userJasperReportHandler") GetJasperReportHandler<User> jasperReportHandler,
+			TabularReportExporter tabularReportExporter, ApplicationEventPublisher eventPublisher) {
 		this.userRepository = Preconditions.checkNotNull(userRepo);
 		this.userCreationBidRepository = Preconditions.checkNotNull(userCreationBidRepository);
 		this.projectRepository = projectRepository;
 		this.personalProjectService = personalProjectService;
 		this.jasperReportHandler = jasperReportHandler;
+		this.tabularReportExporter = tabularReportExporter;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -110,6 +124,7 @@ public class GetUserHandlerImpl implements GetUserHandler {
 		if (user.getUserType() != UserType.UPSA && CollectionUtils.isEmpty(user.getProjects())) {
 			Project personalProject = projectRepository.save(personalProjectService.generatePersonalProject(user));
 			personalProject.getUsers().stream().findFirst().ifPresent(projectUser -> user.getProjects().add(projectUser));
+			eventPublisher.publishEvent(new UserAccessChangedEvent(user.getLogin()));
 		}
 
 		return UserConverter.TO_RESOURCE.apply(user);
@@ -180,6 +195,18 @@ public class GetUserHandlerImpl implements GetUserHandler {
 	@Override
 	public void exportUsers(ReportFormat reportFormat, OutputStream outputStream, Queryable filter) {
 
+		Optional<TabularFormat> tabularFormat = TabularFormat.of(reportFormat);
+		if (tabularFormat.isPresent()) {
+			tabularReportExporter.export(tabularFormat.get(),
+					outputStream,
+					UserReportConstants.COLUMNS,
+					Sort.by(Sort.Direction.ASC, CRITERIA_ID),
+					pageable -> userRepository.findByFilter(filter, pageable),
+					jasperReportHandler::convertParams
+			);
+			return;
+		}
+
 		final List<User> users = userRepository.findByFilter(filter);
 
 		List<? extends Map<String, ?>> data = users.stream().map(jasperReportHandler::convertParams).collect(Collectors.toList());
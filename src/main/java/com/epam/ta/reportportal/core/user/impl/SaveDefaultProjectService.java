@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.user.impl;
 
 import com.epam.ta.reportportal.auth.acl.ShareableObjectsHandler;
+import com.epam.ta.reportportal.auth.event.UserAccessChangedEvent;
 import com.epam.ta.reportportal.commons.EntityUtils;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
@@ -37,6 +38,7 @@ import com.google.common.collect.Sets;
 import org.apache.commons.lang3.tuple.Pair;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.acls.domain.BasePermission;
 import org.springframework.security.acls.model.Acl;
@@ -74,16 +76,19 @@ public class SaveDefaultProjectService {
 
 	private final ThreadPoolTaskExecutor emailExecutorService;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public SaveDefaultProjectService(ProjectRepository projectRepository, UserRepository userRepository,
 			PersonalProjectService personalProjectService, MailServiceFactory emailServiceFactory, ShareableObjectsHandler aclHandler,
-			ThreadPoolTaskExecutor emailExecutorService) {
+			ThreadPoolTaskExecutor emailExecutorService, ApplicationEventPublisher eventPublisher) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.personalProjectService = personalProjectService;
 		this.emailServiceFactory = emailServiceFactory;
 		this.aclHandler = aclHandler;
 		this.emailExecutorService = emailExecutorService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Transactional
@@ -120,6 +125,7 @@ public class SaveDefaultProjectService {
 							.findFirst()
 							.orElseThrow(() -> new ReportPortalException(PROJECT_NOT_FOUND, personalProject.getName())));
 			userRepository.save(user);
+			eventPublisher.publishEvent(new UserAccessChangedEvent(user.getLogin()));
 			ofNullable(basicUrl).ifPresent(url -> emailExecutorService.execute(() -> emailServiceFactory.getDefaultEmailService(true)
 					.sendCreateUserConfirmationEmail(request, url)));
 		} catch (PersistenceException pe) {
@@ -20,10 +20,10 @@ import com.epam.ta.reportportal.commons.querygen.Condition;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.core.launch.index.LatestLaunchIndex;
 import com.epam.ta.reportportal.core.widget.content.LoadContentStrategy;
 import com.epam.ta.reportportal.core.widget.content.loader.util.FilterUtils;
 import com.epam.ta.reportportal.core.widget.util.WidgetOptionUtil;
-import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.WidgetContentRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
@@ -65,12 +65,12 @@ public class MostTimeConsumingContentLoader implements LoadContentStrategy {
 
 	public static final int MOST_TIME_CONSUMING_CASES_COUNT = 20;
 
-	private final LaunchRepository launchRepository;
+	private final LatestLaunchIndex latestLaunchIndex;
 	private final WidgetContentRepository widgetContentRepository;
 
 	@Autowired
-	public MostTimeConsumingContentLoader(LaunchRepository launchRepository, WidgetContentRepository widgetContentRepository) {
-		this.launchRepository = launchRepository;
+	public MostTimeConsumingContentLoader(LatestLaunchIndex latestLaunchIndex, WidgetContentRepository widgetContentRepository) {
+		this.latestLaunchIndex = latestLaunchIndex;
 		this.widgetContentRepository = widgetContentRepository;
 	}
 
@@ -83,7 +83,7 @@ public class MostTimeConsumingContentLoader implements LoadContentStrategy {
 		Filter filter = GROUP_FILTERS.apply(filterSortMap.keySet());
 
 		String launchName = WidgetOptionUtil.getValueByKey(LAUNCH_NAME_FIELD, widgetOptions);
-		Launch latestLaunch = launchRepository.findLatestByFilter(FilterUtils.buildLatestLaunchFilter(filter, launchName))
+		Launch latestLaunch = latestLaunchIndex.findLatest(FilterUtils.extractProjectId(filter), launchName)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, "No launch with name: " + launchName));
 
 		filter = updateFilter(filter, latestLaunch.getId(), widgetOptions, contentFields);
@@ -47,18 +47,17 @@ public final class FilterUtils {
 	}
 
 	public static Filter buildLatestLaunchFilter(Filter filter, String launchName) {
-		return buildLatestLaunchFilter(
-				filter.getFilterConditions()
-						.stream()
-						.map(ConvertibleCondition::getAllConditions)
-						.flatMap(Collection::stream)
-						.filter(condition -> CRITERIA_PROJECT_ID.equalsIgnoreCase(condition.getSearchCriteria()))
-						.map(condition -> Long.parseLong(condition.getValue()))
-						.findAny()
-						.orElseThrow(() -> new ReportPortalException(ErrorType.INCORRECT_FILTER_PARAMETERS,
-								"Project id should be specified."
-						)),
-				launchName
-		);
+		return buildLatestLaunchFilter(extractProjectId(filter), launchName);
+	}
+
+	public static Long extractProjectId(Filter filter) {
+		return filter.getFilterConditions()
+				.stream()
+				.map(ConvertibleCondition::getAllConditions)
+				.flatMap(Collection::stream)
+				.filter(condition -> CRITERIA_PROJECT_ID.equalsIgnoreCase(condition.getSearchCriteria()))
+				.map(condition -> Long.parseLong(condition.getValue()))
+				.findAny()
+				.orElseThrow(() -> new ReportPortalException(ErrorType.INCORRECT_FILTER_PARAMETERS, "Project id should be specified."));
 	}
 }
@@ -36,6 +36,8 @@ import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.widget.WidgetPreviewRQ;
 import com.epam.ta.reportportal.ws.model.widget.WidgetResource;
 import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.collections.CollectionUtils;
 import org.jooq.Operator;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,11 +51,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_NAME;
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_OWNER;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
+import static com.epam.ta.reportportal.core.configs.MetricsConfiguration.*;
 
 /**
  * @author Pavel Bortnik
@@ -78,6 +82,9 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 	@Autowired
 	private GetUserFilterHandler getUserFilterHandler;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Autowired
 	@Qualifier("buildFilterStrategy")
 	public void setBuildFilterStrategy(Map<WidgetType, BuildFilterStrategy> buildFilterStrategyMapping) {
@@ -120,11 +127,12 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		if (!unfilteredWidgetTypes.contains(widgetType) && CollectionUtils.isEmpty(widget.getFilters())) {
 			content = Collections.emptyMap();
 		} else {
-			content = loadContentStrategy.get(widgetType).loadContent(Lists.newArrayList(widget.getContentFields()),
-					buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget),
-					widget.getWidgetOptions(),
-					widget.getItemsCount()
-			);
+			content = timed(widgetType, projectDetails, () -> loadContentStrategy.get(widgetType)
+					.loadContent(Lists.newArrayList(widget.getContentFields()),
+							buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget),
+							widget.getWidgetOptions(),
+							widget.getItemsCount()
+					));
 		}
 
 		WidgetResource resource = WidgetConverter.TO_WIDGET_RESOURCE.apply(widget);
@@ -150,13 +158,14 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		if (!unfilteredWidgetTypes.contains(widgetType) && CollectionUtils.isEmpty(widget.getFilters())) {
 			content = Collections.emptyMap();
 		} else {
-			content = multilevelLoadContentStrategy.get(widgetType).loadContent(Lists.newArrayList(widget.getContentFields()),
-					buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget),
-					widget.getWidgetOptions(),
-					attributes,
-					params,
-					widget.getItemsCount()
-			);
+			content = timed(widgetType, projectDetails, () -> multilevelLoadContentStrategy.get(widgetType)
+					.loadContent(Lists.newArrayList(widget.getContentFields()),
+							buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget),
+							widget.getWidgetOptions(),
+							attributes,
+							params,
+							widget.getItemsCount()
+					));
 		}
 
 		WidgetResource resource = WidgetConverter.TO_WIDGET_RESOURCE.apply(widget);
@@ -188,19 +197,21 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 				.get();
 
 		if (widgetType.isSupportMultilevelStructure()) {
-			return multilevelLoadContentStrategy.get(widgetType).loadContent(Lists.newArrayList(widget.getContentFields()),
-					buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget),
-					widget.getWidgetOptions(),
-					null,
-					null,
-					widget.getItemsCount()
-			);
+			return timed(widgetType, projectDetails, () -> multilevelLoadContentStrategy.get(widgetType)
+					.loadContent(Lists.newArrayList(widget.getContentFields()),
+							buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget),
+							widget.getWidgetOptions(),
+							null,
+							null,
+							widget.getItemsCount()
+					));
 		} else {
-			return loadContentStrategy.get(widgetType).loadContent(Lists.newArrayList(widget.getContentFields()),
-					buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget),
-					widget.getWidgetOptions(),
-					widget.getItemsCount()
-			);
+			return timed(widgetType, projectDetails, () -> loadContentStrategy.get(widgetType)
+					.loadContent(Lists.newArrayList(widget.getContentFields()),
+							buildFilterStrategyMapping.get(widgetType).buildFilter(projectDetails, widget),
+							widget.getWidgetOptions(),
+							widget.getItemsCount()
+					));
 		}
 	}
 
@@ -234,4 +245,24 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		), pageable, user.getUsername());
 		return PagedResourcesAssembler.pageConverter(WidgetConverter.TO_WIDGET_RESOURCE).apply(shared);
 	}
+
+	/**
+	 * Records load time of the widget content per widget type
+	 */
+	private <T> T timed(WidgetType widgetType, ReportPortalUser.ProjectDetails projectDetails, Supplier<T> loader) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = FAILURE;
+		try {
+			T content = loader.get();
+			outcome = SUCCESS;
+			return content;
+		} finally {
+			sample.stop(Timer.builder("rp.widget.load")
+					.description("Load time of the widget content")
+					.tag("type", widgetType.getType())
+					.tag(OUTCOME_TAG, outcome)
+					.tag(PROJECT_TAG, String.valueOf(projectDetails.getProjectId()))
+					.register(meterRegistry));
+		}
+	}
 }
@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.job;
 import com.epam.ta.reportportal.commons.querygen.Condition;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -31,6 +32,7 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -63,13 +65,16 @@ public class InterruptBrokenLaunchesJob implements Job {
 
 	private final ProjectRepository projectRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public InterruptBrokenLaunchesJob(LaunchRepository launchRepository, TestItemRepository testItemRepository, LogRepository logRepository,
-			ProjectRepository projectRepository) {
+			ProjectRepository projectRepository, ApplicationEventPublisher eventPublisher) {
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.logRepository = logRepository;
 		this.projectRepository = projectRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -117,13 +122,13 @@ public class InterruptBrokenLaunchesJob implements Job {
 											 * something)
 											 */
 											if (!logRepository.hasLogsAddedLately(maxDuration, launchId, StatusEnum.IN_PROGRESS)) {
-												interruptItems(launchId);
+												interruptItems(project.getId(), launchId);
 											}
 										} else {
 											/*
 											 * If not just INTERRUPT all found items and launch
 											 */
-											interruptItems(launchId);
+											interruptItems(project.getId(), launchId);
 										}
 									}
 								}
@@ -156,8 +161,9 @@ public class InterruptBrokenLaunchesJob implements Job {
 		});
 	}
 
-	private void interruptItems(Long launchId) {
+	private void interruptItems(Long projectId, Long launchId) {
 		testItemRepository.interruptInProgressItems(launchId);
+		eventPublisher.publishEvent(ItemHistoryRemovedEvent.ofProject(projectId));
 		launchRepository.findById(launchId).ifPresent(l -> {
 			l.setStatus(StatusEnum.INTERRUPTED);
 			l.setEndTime(LocalDateTime.now(ZoneOffset.UTC));
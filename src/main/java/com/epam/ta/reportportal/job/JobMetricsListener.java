@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.ta.reportportal.core.configs.MetricsConfiguration.*;
+
+/**
+ * Records run time of the Quartz jobs
+ */
+@Component
+public class JobMetricsListener implements JobListener {
+
+	private final MeterRegistry meterRegistry;
+
+	@Autowired
+	public JobMetricsListener(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public String getName() {
+		return JobMetricsListener.class.getSimpleName();
+	}
+
+	@Override
+	public void jobToBeExecuted(JobExecutionContext context) {
+	}
+
+	@Override
+	public void jobExecutionVetoed(JobExecutionContext context) {
+	}
+
+	@Override
+	public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+		Timer.builder("rp.job.execution")
+				.description("Run time of the scheduled jobs")
+				.tag("job", context.getJobDetail().getJobClass().getSimpleName())
+				.tag(OUTCOME_TAG, jobException == null ? SUCCESS : FAILURE)
+				.register(meterRegistry)
+				.record(context.getJobRunTime(), TimeUnit.MILLISECONDS);
+	}
+}
@@ -16,10 +16,12 @@
 
 package com.epam.ta.reportportal.job;
 
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
 import com.epam.ta.reportportal.dao.ActivityRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.entity.project.Project;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,18 +42,26 @@ public class LaunchCleanerServiceImpl implements LaunchCleanerService {
 
 	private final ActivityRepository activityRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
-	public LaunchCleanerServiceImpl(LaunchRepository launchRepository, ActivityRepository activityRepository) {
+	public LaunchCleanerServiceImpl(LaunchRepository launchRepository, ActivityRepository activityRepository,
+			ApplicationEventPublisher eventPublisher) {
 		this.launchRepository = launchRepository;
 		this.activityRepository = activityRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
 	@Transactional
 	public void cleanOutdatedLaunches(Project project, Duration period, AtomicLong launchesRemoved) {
 		activityRepository.deleteModifiedLaterAgo(project.getId(), period);
-		launchesRemoved.addAndGet(launchRepository.deleteLaunchesByProjectIdModifiedBefore(project.getId(),
+		int removed = launchRepository.deleteLaunchesByProjectIdModifiedBefore(project.getId(),
 				TO_LOCAL_DATE_TIME.apply(Date.from(Instant.now().minusSeconds(period.getSeconds())))
-		));
+		);
+		if (removed > 0) {
+			eventPublisher.publishEvent(ItemHistoryRemovedEvent.ofProject(project.getId()));
+		}
+		launchesRemoved.addAndGet(removed);
 	}
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Util class. Contains methods for parsing {@link com.epam.ta.reportportal.entity.item.TestItem#getPath()}
+ */
+public final class ItemPathUtils {
+
+	private ItemPathUtils() {
+		//static only
+	}
+
+	/**
+	 * @param path Item path in 'ltree' format, e.g. '1.5.42'
+	 * @return Ids of the item ancestors ordered from the root, without the item itself
+	 */
+	public static List<Long> parseAncestors(String path) {
+		if (path == null || path.isEmpty()) {
+			return Collections.emptyList();
+		}
+		String[] ids = path.split("\\.");
+		List<Long> result = new ArrayList<>(ids.length - 1);
+		for (int i = 0; i < ids.length - 1; i++) {
+			result.add(Long.valueOf(ids[i]));
+		}
+		return result;
+	}
+}
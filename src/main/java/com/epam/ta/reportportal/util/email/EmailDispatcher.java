@@ -0,0 +1,187 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.ta.reportportal.util.email;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Component;
+
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Sends emails outside of the caller thread and transaction. Messages queued for the same
+ * integration are sent in one {@link EmailService#send(MimeMessage...)} call, which reuses
+ * a single SMTP connection. Failed messages are retried with an exponential backoff.
+ */
+@Component
+public class EmailDispatcher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EmailDispatcher.class);
+
+	private final TaskExecutor executor;
+
+	private final int attempts;
+
+	private final long backoff;
+
+	private final int capacity;
+
+	private final Object lock = new Object();
+
+	/**
+	 * Integration id - messages waiting to be sent
+	 */
+	private final Map<Long, Batch> pending = new HashMap<>();
+
+	private int size;
+
+	@Autowired
+	public EmailDispatcher(@Qualifier("emailSenderTaskExecutor") TaskExecutor executor, @Value("${rp.email.send.attempts:3}") int attempts,
+			@Value("${rp.email.send.backoff:1000}") long backoff, @Value("${rp.email.queue.capacity:1000}") int capacity) {
+		this.executor = executor;
+		this.attempts = attempts;
+		this.backoff = backoff;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Queues messages to be sent
+	 *
+	 * @param integrationId Id of the email integration, messages are grouped by it
+	 * @param emailService  {@link EmailService} configured by the integration
+	 * @param messages      Messages to send
+	 */
+	public void send(Long integrationId, EmailService emailService, List<MimeMessage> messages) {
+		if (messages.isEmpty()) {
+			return;
+		}
+		boolean schedule;
+		synchronized (lock) {
+			if (size + messages.size() > capacity) {
+				LOGGER.error("Unable to send {} emails. Email queue is full", messages.size());
+				return;
+			}
+			Batch batch = pending.get(integrationId);
+			schedule = batch == null;
+			if (schedule) {
+				batch = new Batch(emailService);
+				pending.put(integrationId, batch);
+			}
+			batch.messages.addAll(messages);
+			size += messages.size();
+		}
+		if (schedule) {
+			try {
+				executor.execute(() -> dispatch(integrationId));
+			} catch (TaskRejectedException e) {
+				drop(integrationId);
+			}
+		}
+	}
+
+	public int size() {
+		synchronized (lock) {
+			return size;
+		}
+	}
+
+	private void dispatch(Long integrationId) {
+		Batch batch;
+		synchronized (lock) {
+			batch = pending.remove(integrationId);
+			if (batch == null) {
+				return;
+			}
+			size -= batch.messages.size();
+		}
+		sendWithRetry(batch.emailService, batch.messages);
+	}
+
+	/**
+	 * Drops the batch that could not be scheduled, so it isn't sent on the caller thread
+	 */
+	private void drop(Long integrationId) {
+		Batch batch;
+		synchronized (lock) {
+			batch = pending.remove(integrationId);
+			if (batch == null) {
+				return;
+			}
+			size -= batch.messages.size();
+		}
+		LOGGER.error("Unable to send {} emails of the integration with id = '{}'. Email sender is busy",
+				batch.messages.size(),
+				integrationId
+		);
+	}
+
+	private void sendWithRetry(EmailService emailService, List<MimeMessage> messages) {
+		List<MimeMessage> toSend = messages;
+		for (int attempt = 1; ; attempt++) {
+			try {
+				emailService.send(toSend.toArray(new MimeMessage[0]));
+				return;
+			} catch (MailSendException e) {
+				if (!e.getFailedMessages().isEmpty()) {
+					toSend = e.getFailedMessages()
+							.keySet()
+							.stream()
+							.filter(MimeMessage.class::isInstance)
+							.map(MimeMessage.class::cast)
+							.collect(Collectors.toCollection(ArrayList::new));
+				}
+				if (attempt >= attempts || toSend.isEmpty()) {
+					LOGGER.error("Unable to send {} emails", toSend.size(), e);
+					return;
+				}
+			} catch (MailException e) {
+				if (attempt >= attempts) {
+					LOGGER.error("Unable to send {} emails", toSend.size(), e);
+					return;
+				}
+			}
+			try {
+				Thread.sleep(backoff << (attempt - 1));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private static final class Batch {
+
+		private final EmailService emailService;
+
+		private final List<MimeMessage> messages = new ArrayList<>();
+
+		private Batch(EmailService emailService) {
+			this.emailService = emailService;
+		}
+	}
+}
@@ -24,7 +24,6 @@ import com.epam.ta.reportportal.entity.statistics.Statistics;
 import com.epam.ta.reportportal.util.UserUtils;
 import com.epam.ta.reportportal.util.email.constant.IssueRegexConstant;
 import com.epam.ta.reportportal.ws.model.user.CreateUserRQFull;
-import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.core.io.ClassPathResource;
@@ -36,6 +35,7 @@ import org.springframework.mail.javamail.MimeMessagePreparator;
 import javax.mail.MessagingException;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
 import java.io.UnsupportedEncodingException;
 import java.util.*;
 import java.util.regex.Pattern;
@@ -102,23 +102,47 @@ public class EmailService extends JavaMailSenderImpl {
 	 * @param launch     Launch
 	 */
 	public void sendLaunchFinishNotification(final String[] recipients, final String url, final Project project, final Launch launch) {
-		String subject = format(FINISH_LAUNCH_EMAIL_SUBJECT, project.getName().toUpperCase(), launch.getName(), launch.getNumber());
-		MimeMessagePreparator preparator = mimeMessage -> {
-			MimeMessageHelper message = new MimeMessageHelper(mimeMessage, true, "utf-8");
-			message.setSubject(subject);
-			message.setTo(recipients);
-			setFrom(message);
+		String text = mergeFinishLaunchText(url, launch, project.getProjectIssueTypes());
+		MimeMessagePreparator preparator = mimeMessage -> prepareLaunchFinishNotification(mimeMessage,
+				recipients,
+				getLaunchFinishSubject(project, launch),
+				text
+		);
+		this.send(preparator);
+	}
 
-			String text = mergeFinishLaunchText(url, launch, project.getProjectIssueTypes());
-			message.setText(text, true);
+	/**
+	 * Creates finish launch notification from the already merged text, so that the same text can be sent
+	 * to several groups of recipients and the messages can be sent later through a single connection
+	 * with {@link #send(MimeMessage...)}
+	 *
+	 * @param recipients List of recipients
+	 * @param subject    Letter's subject
+	 * @param text       Merged text of the letter
+	 * @return {@link MimeMessage}
+	 */
+	public MimeMessage createLaunchFinishNotification(final String[] recipients, final String subject, final String text)
+			throws MessagingException, UnsupportedEncodingException {
+		MimeMessage mimeMessage = createMimeMessage();
+		prepareLaunchFinishNotification(mimeMessage, recipients, subject, text);
+		return mimeMessage;
+	}
 
-			attachSocialImages(message);
-		};
-		this.send(preparator);
+	public String getLaunchFinishSubject(Project project, Launch launch) {
+		return format(FINISH_LAUNCH_EMAIL_SUBJECT, project.getName().toUpperCase(), launch.getName(), launch.getNumber());
+	}
+
+	private void prepareLaunchFinishNotification(MimeMessage mimeMessage, String[] recipients, String subject, String text)
+			throws MessagingException, UnsupportedEncodingException {
+		MimeMessageHelper message = new MimeMessageHelper(mimeMessage, true, "utf-8");
+		message.setSubject(subject);
+		message.setTo(recipients);
+		setFrom(message);
+		message.setText(text, true);
+		attachSocialImages(message);
 	}
 
-	@VisibleForTesting
-	String mergeFinishLaunchText(String url, Launch launch, Set<ProjectIssueType> projectIssueTypes) {
+	public String mergeFinishLaunchText(String url, Launch launch, Set<ProjectIssueType> projectIssueTypes) {
 		Map<String, Object> email = new HashMap<>();
 		/* Email fields values */
 		String basicUrl = format(URL_FORMAT, url);
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.controller;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.deletion.DeletionJobRS;
+import com.epam.ta.reportportal.core.deletion.DeletionJobService;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Progress of the deletions submitted with '.../job' endpoints of the launch and project controllers
+ */
+@RestController
+@RequestMapping("/v1/deletion")
+public class DeletionJobController {
+
+	private final DeletionJobService deletionJobService;
+
+	@Autowired
+	public DeletionJobController(DeletionJobService deletionJobService) {
+		this.deletionJobService = deletionJobService;
+	}
+
+	@GetMapping("/{jobId}")
+	@ResponseStatus(OK)
+	@ApiOperation("Get progress of the deletion job")
+	public DeletionJobRS getDeletionJob(@PathVariable String jobId, @AuthenticationPrincipal ReportPortalUser user) {
+		return DeletionJobRS.of(deletionJobService.getJob(user, jobId));
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.controller;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.export.ExportJob;
+import com.epam.ta.reportportal.core.export.ExportJobRS;
+import com.epam.ta.reportportal.core.export.ExportJobService;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.util.Optional.ofNullable;
+import static org.springframework.http.HttpStatus.OK;
+
+/**
+ * Status and results of the exports submitted with '.../job' endpoints of the launch, project and user controllers
+ */
+@RestController
+@RequestMapping("/v1/export")
+public class ExportJobController {
+
+	private final ExportJobService exportJobService;
+
+	@Autowired
+	public ExportJobController(ExportJobService exportJobService) {
+		this.exportJobService = exportJobService;
+	}
+
+	@GetMapping("/{jobId}")
+	@ResponseStatus(OK)
+	@ApiOperation("Get status of the export job")
+	public ExportJobRS getExportJob(@PathVariable String jobId, @AuthenticationPrincipal ReportPortalUser user) {
+		return ExportJobRS.of(exportJobService.getJob(user, jobId));
+	}
+
+	@GetMapping("/{jobId}/file")
+	@ResponseStatus(OK)
+	@ApiOperation(value = "Download result of the export job", notes = "Available only for finished jobs")
+	public void getExportJobResult(@PathVariable String jobId, @AuthenticationPrincipal ReportPortalUser user,
+			HttpServletResponse response) {
+		ExportJob job = exportJobService.getJob(user, jobId);
+		response.setContentType(job.getContentType());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=%s", job.getFileName()));
+
+		try (OutputStream outputStream = response.getOutputStream()) {
+			exportJobService.writeResult(job, outputStream);
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Unable to write data to the response.");
+		}
+	}
+
+	/**
+	 * Identical requests (path and query) share a single export job
+	 */
+	static String requestKey(HttpServletRequest request) {
+		return request.getRequestURI() + ofNullable(request.getQueryString()).map(query -> "?" + query).orElse("");
+	}
+}
@@ -19,27 +19,43 @@ package com.epam.ta.reportportal.ws.controller;
 import com.epam.ta.reportportal.commons.EntityUtils;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.file.GetFileHandler;
+import com.epam.ta.reportportal.core.file.impl.AttachmentFileResolver;
+import com.epam.ta.reportportal.core.file.impl.BinaryDataCache;
 import com.epam.ta.reportportal.core.user.EditUserHandler;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.epam.ta.reportportal.entity.attachment.BinaryData;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import io.swagger.annotations.ApiOperation;
 import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
 
 import static com.epam.ta.reportportal.auth.permissions.Permissions.ASSIGNED_TO_PROJECT;
 import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
+import static java.util.Optional.ofNullable;
 
 /**
  * @author Dzianis_Shybeka
@@ -48,22 +64,61 @@ import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetai
 @RequestMapping("/v1/data")
 public class FileStorageController {
 
+	private static final String ATTACHMENT_CACHE_CONTROL = "private, max-age=31536000, immutable";
+	private static final String PHOTO_CACHE_CONTROL = "private, no-cache";
+
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
 	private final EditUserHandler editUserHandler;
 
 	private final GetFileHandler getFileHandler;
 
+	private final AttachmentFileResolver attachmentFileResolver;
+
 	@Autowired
-	public FileStorageController(EditUserHandler editUserHandler, GetFileHandler getFileHandler) {
+	public FileStorageController(EditUserHandler editUserHandler, GetFileHandler getFileHandler,
+			AttachmentFileResolver attachmentFileResolver) {
 		this.editUserHandler = editUserHandler;
 		this.getFileHandler = getFileHandler;
+		this.attachmentFileResolver = attachmentFileResolver;
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Attachments are immutable, so the file id is used as the entity tag and the response may be cached by the browser.
+	 * The content is streamed without a transaction. Files of the file system data store support byte ranges.
+	 */
 	@PreAuthorize(ASSIGNED_TO_PROJECT)
 	@GetMapping(value = "/{projectName}/{dataId}")
-	public void getFile(@PathVariable String projectName, @PathVariable("dataId") Long dataId, HttpServletResponse response,
-			@AuthenticationPrincipal ReportPortalUser user) {
-		toResponse(response, getFileHandler.loadFileById(dataId, extractProjectDetails(user, projectName)));
+	public void getFile(@PathVariable String projectName, @PathVariable("dataId") Long dataId,
+			@RequestParam(value = "loadThumbnail", required = false) boolean loadThumbnail, HttpServletRequest request,
+			HttpServletResponse response, @AuthenticationPrincipal ReportPortalUser user) {
+		Attachment attachment = getFileHandler.getAttachment(dataId, extractProjectDetails(user, projectName));
+		response.setHeader(HttpHeaders.CACHE_CONTROL, ATTACHMENT_CACHE_CONTROL);
+		if (loadThumbnail && attachment.getThumbnailId() != null) {
+			if (!new ServletWebRequest(request, response).checkNotModified("\"" + attachment.getThumbnailId() + "\"")) {
+				toResponse(response, getFileHandler.loadThumbnail(attachment));
+			}
+			return;
+		}
+		if (new ServletWebRequest(request, response).checkNotModified("\"" + attachment.getFileId() + "\"")) {
+			return;
+		}
+		ofNullable(attachment.getContentType()).ifPresent(response::setContentType);
+		try {
+			Optional<Path> file = attachmentFileResolver.resolveLocalFile(attachment.getFileId());
+			if (file.isPresent()) {
+				writeFile(file.get(), request, response);
+			} else {
+				try (InputStream inputStream = attachmentFileResolver.load(attachment.getFileId())) {
+					IOUtils.copy(inputStream, response.getOutputStream());
+				}
+			}
+		} catch (IOException e) {
+			throw new ReportPortalException("Unable to retrieve binary data from data storage", e);
+		}
 	}
 
 	/**
@@ -72,9 +127,9 @@ public class FileStorageController {
 	@Transactional(readOnly = true)
 	@GetMapping(value = "/photo")
 	@ApiOperation("Get photo of current user")
-	public void getMyPhoto(@AuthenticationPrincipal ReportPortalUser user, HttpServletResponse response,
+	public void getMyPhoto(@AuthenticationPrincipal ReportPortalUser user, HttpServletRequest request, HttpServletResponse response,
 			@RequestParam(value = "loadThumbnail", required = false) boolean loadThumbnail) {
-		toResponse(response, getFileHandler.getUserPhoto(user, loadThumbnail));
+		toPhotoResponse(request, response, getFileHandler.getUserPhoto(user, loadThumbnail));
 	}
 
 	/**
@@ -85,10 +140,10 @@ public class FileStorageController {
 	@GetMapping(value = "/{projectName}/userphoto")
 	@ApiOperation("Get user's photo")
 	public void getUserPhoto(@PathVariable String projectName, @RequestParam(value = "id") String username,
-			@RequestParam(value = "loadThumbnail", required = false) boolean loadThumbnail, HttpServletResponse response,
-			@AuthenticationPrincipal ReportPortalUser user) {
+			@RequestParam(value = "loadThumbnail", required = false) boolean loadThumbnail, HttpServletRequest request,
+			HttpServletResponse response, @AuthenticationPrincipal ReportPortalUser user) {
 		BinaryData userPhoto = getFileHandler.getUserPhoto(EntityUtils.normalizeId(username), user, projectName, loadThumbnail);
-		toResponse(response, userPhoto);
+		toPhotoResponse(request, response, userPhoto);
 	}
 
 	@Transactional
@@ -105,6 +160,23 @@ public class FileStorageController {
 		return editUserHandler.deletePhoto(EntityUtils.normalizeId(user.getUsername()));
 	}
 
+	/**
+	 * Photo of the user may be replaced, so the cached photo is revalidated with the entity tag on every request
+	 *
+	 * @param request    Request
+	 * @param response   Response
+	 * @param binaryData Stored data
+	 */
+	private void toPhotoResponse(HttpServletRequest request, HttpServletResponse response, BinaryData binaryData) {
+		if (binaryData instanceof BinaryDataCache.CachedBinaryData) {
+			response.setHeader(HttpHeaders.CACHE_CONTROL, PHOTO_CACHE_CONTROL);
+			if (new ServletWebRequest(request, response).checkNotModified(((BinaryDataCache.CachedBinaryData) binaryData).getETag())) {
+				return;
+			}
+		}
+		toResponse(response, binaryData);
+	}
+
 	/**
 	 * Copies data from provided {@link InputStream} to Response
 	 *
@@ -123,4 +195,53 @@ public class FileStorageController {
 			response.setStatus(HttpStatus.NO_CONTENT.value());
 		}
 	}
+
+	/**
+	 * Writes the file or the requested byte range of it. The servlet container sends the file
+	 * directly from the file system when it supports that, otherwise the file channel is transferred
+	 * to the response.
+	 *
+	 * @param file     File of the data store
+	 * @param request  Request
+	 * @param response Response
+	 */
+	private void writeFile(Path file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		long length = Files.size(file);
+		long start = 0;
+		long end = length - 1;
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+		String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+		if (rangeHeader != null) {
+			try {
+				List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+				if (ranges.size() == 1) {
+					start = ranges.get(0).getRangeStart(length);
+					end = ranges.get(0).getRangeEnd(length);
+					response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+				}
+			} catch (IllegalArgumentException e) {
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+				response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+				return;
+			}
+		}
+		long count = end - start + 1;
+		response.setContentLengthLong(count);
+
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, file.toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, end + 1);
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+			long position = start;
+			while (position <= end) {
+				position += channel.transferTo(position, end + 1 - position, target);
+			}
+		}
+	}
 }
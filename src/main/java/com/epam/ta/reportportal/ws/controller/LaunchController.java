@@ -17,8 +17,14 @@ package com.epam.ta.reportportal.ws.controller;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.core.deletion.DeletionJobRS;
+import com.epam.ta.reportportal.core.export.ExportJobRS;
+import com.epam.ta.reportportal.core.export.ExportJobService;
+import com.epam.ta.reportportal.core.export.TabularFormat;
 import com.epam.ta.reportportal.core.imprt.ImportLaunchHandler;
+import com.epam.ta.reportportal.core.imprt.ImportProgressRS;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
+import com.epam.ta.reportportal.core.jasper.constants.LaunchReportConstants;
 import com.epam.ta.reportportal.core.launch.*;
 import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -48,6 +54,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static com.epam.ta.reportportal.auth.permissions.Permissions.ALLOWED_TO_REPORT;
 import static com.epam.ta.reportportal.auth.permissions.Permissions.PROJECT_MANAGER_OR_ADMIN;
@@ -82,11 +89,12 @@ public class LaunchController {
 	private final MergeLaunchHandler mergeLaunchesHandler;
 	private final ImportLaunchHandler importLaunchHandler;
 	private final GetJasperReportHandler<Launch> getJasperHandler;
+	private final ExportJobService exportJobService;
 
 	public LaunchController(StartLaunchHandler startLaunchHandler, FinishLaunchHandler finishLaunchHandler,
 			StopLaunchHandler stopLaunchHandler, DeleteLaunchHandler deleteLaunchMessageHandler, GetLaunchHandler getLaunchMessageHandler,
 			UpdateLaunchHandler updateLaunchHandler, MergeLaunchHandler mergeLaunchesHandler, ImportLaunchHandler importLaunchHandler,
-			@Qualifier("launchJasperReportHandler") GetJasperReportHandler<Launch> getJasperHandler) {
+			@Qualifier("launchJasperReportHandler") GetJasperReportHandler<Launch> getJasperHandler, ExportJobService exportJobService) {
 		this.startLaunchHandler = startLaunchHandler;
 		this.finishLaunchHandler = finishLaunchHandler;
 		this.stopLaunchHandler = stopLaunchHandler;
@@ -96,6 +104,7 @@ public class LaunchController {
 		this.mergeLaunchesHandler = mergeLaunchesHandler;
 		this.importLaunchHandler = importLaunchHandler;
 		this.getJasperHandler = getJasperHandler;
+		this.exportJobService = exportJobService;
 	}
 
 	/* Report client API */
@@ -312,19 +321,22 @@ public class LaunchController {
 		return getLaunchMessageHandler.getStatuses(extractProjectDetails(user, normalizeId(projectName)), ids);
 	}
 
-	@Transactional(readOnly = true)
 	@GetMapping(value = "/{launchId}/report")
 	@ResponseStatus(OK)
-	@ApiOperation(value = "Export specified launch", notes = "Only following formats are supported: pdf (by default), xls, html.")
+	@ApiOperation(value = "Export specified launch", notes = "Only following formats are supported: pdf (by default), xls, html, csv.")
 	public void getLaunchReport(@PathVariable String projectName, @PathVariable Long launchId,
-			@ApiParam(allowableValues = "pdf, xls, html") @RequestParam(value = "view", required = false, defaultValue = "pdf") String view,
+			@ApiParam(allowableValues = "pdf, xls, html, csv") @RequestParam(value = "view", required = false, defaultValue = "pdf") String view,
 			@AuthenticationPrincipal ReportPortalUser user, HttpServletResponse response) {
 
 		ReportFormat format = getJasperHandler.getReportFormat(view);
-		response.setContentType(format.getContentType());
+		Optional<TabularFormat> tabularFormat = TabularFormat.of(format).filter(LaunchReportConstants.TABULAR_FORMATS::contains);
+		response.setContentType(tabularFormat.map(TabularFormat::getContentType).orElse(format.getContentType()));
 
 		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
-				String.format("attachment; filename=RP_LAUNCH_%s_Report.%s", format.name(), format.getValue())
+				String.format("attachment; filename=RP_LAUNCH_%s_Report.%s",
+						format.name(),
+						tabularFormat.map(TabularFormat::getExtension).orElse(format.getValue())
+				)
 		);
 
 		try (OutputStream outputStream = response.getOutputStream()) {
@@ -334,6 +346,28 @@ public class LaunchController {
 		}
 	}
 
+	@PostMapping(value = "/{launchId}/report/job")
+	@ResponseStatus(OK)
+	@ApiOperation(value = "Submit export of specified launch", notes = "Only following formats are supported: pdf (by default), xls, html, csv. "
+			+ "Status and result of the export are available by '/v1/export/{jobId}'")
+	public ExportJobRS submitLaunchReport(@PathVariable String projectName, @PathVariable Long launchId,
+			@ApiParam(allowableValues = "pdf, xls, html, csv") @RequestParam(value = "view", required = false, defaultValue = "pdf") String view,
+			@AuthenticationPrincipal ReportPortalUser user, HttpServletRequest request) {
+
+		ReportFormat format = getJasperHandler.getReportFormat(view);
+		Optional<TabularFormat> tabularFormat = TabularFormat.of(format).filter(LaunchReportConstants.TABULAR_FORMATS::contains);
+
+		return ExportJobRS.of(exportJobService.submit(user,
+				ExportJobController.requestKey(request),
+				String.format("RP_LAUNCH_%s_Report.%s",
+						format.name(),
+						tabularFormat.map(TabularFormat::getExtension).orElse(format.getValue())
+				),
+				tabularFormat.map(TabularFormat::getContentType).orElse(format.getContentType()),
+				outputStream -> getLaunchMessageHandler.exportLaunch(launchId, format, outputStream, user)
+		));
+	}
+
 	@Transactional
 	@DeleteMapping
 	@PreAuthorize(ALLOWED_TO_REPORT)
@@ -344,6 +378,16 @@ public class LaunchController {
 		return deleteLaunchMessageHandler.deleteLaunches(deleteBulkRQ, extractProjectDetails(user, normalizeId(projectName)), user);
 	}
 
+	@DeleteMapping("/job")
+	@PreAuthorize(ALLOWED_TO_REPORT)
+	@ResponseStatus(OK)
+	@ApiOperation(value = "Delete specified launches by ids in background",
+			notes = "Progress of the deletion is available by '/v1/deletion/{jobId}'")
+	public DeletionJobRS deleteLaunchesAsync(@PathVariable String projectName, @RequestBody @Valid DeleteBulkRQ deleteBulkRQ,
+			@AuthenticationPrincipal ReportPortalUser user) {
+		return deleteLaunchMessageHandler.deleteLaunchesAsync(deleteBulkRQ, extractProjectDetails(user, normalizeId(projectName)), user);
+	}
+
 	@PostMapping(value = "/import", consumes = { MediaType.MULTIPART_FORM_DATA_VALUE })
 	@ResponseStatus(OK)
 	@ApiOperation(value = "Import junit xml report", notes = "Only following formats are supported: zip.")
@@ -356,4 +400,20 @@ public class LaunchController {
 				composeBaseUrl(request.getScheme(), request.getHeader("host"))
 		);
 	}
+
+	@GetMapping(value = "/import")
+	@ResponseStatus(OK)
+	@ApiOperation("Get progress of the imports running in the project")
+	public List<ImportProgressRS> getImports(@PathVariable String projectName, @AuthenticationPrincipal ReportPortalUser user) {
+		return importLaunchHandler.getImports(extractProjectDetails(user, normalizeId(projectName)));
+	}
+
+	@DeleteMapping(value = "/import/{importId}")
+	@PreAuthorize(ALLOWED_TO_REPORT)
+	@ResponseStatus(OK)
+	@ApiOperation("Cancel running import")
+	public OperationCompletionRS cancelImport(@PathVariable String projectName, @PathVariable String importId,
+			@AuthenticationPrincipal ReportPortalUser user) {
+		return importLaunchHandler.cancelImport(extractProjectDetails(user, normalizeId(projectName)), user, importId);
+	}
 }
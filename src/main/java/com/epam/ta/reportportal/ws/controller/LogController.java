@@ -25,6 +25,7 @@ import com.epam.ta.reportportal.core.analyzer.auto.SearchLogService;
 import com.epam.ta.reportportal.core.log.CreateLogHandler;
 import com.epam.ta.reportportal.core.log.DeleteLogHandler;
 import com.epam.ta.reportportal.core.log.GetLogHandler;
+import com.epam.ta.reportportal.core.log.NestedItemsSliceRS;
 import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.log.LogResource;
@@ -203,6 +204,16 @@ public class LogController {
 		return getLogHandler.getNestedItems(parentId, extractProjectDetails(user, projectName), params, filter, pageable);
 	}
 
+	@GetMapping(value = "/nested/{parentId}/slice")
+	@ApiOperation("Get nested steps with logs for the parent Test Item starting after the cursor of the previous slice")
+	@Transactional(readOnly = true)
+	public NestedItemsSliceRS getNestedItemsSlice(@PathVariable String projectName, @PathVariable Long parentId,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@ApiParam(required = false) @RequestParam Map<String, String> params, @FilterFor(Log.class) Filter filter,
+			@SortFor(Log.class) Pageable pageable, @AuthenticationPrincipal ReportPortalUser user) {
+		return getLogHandler.getNestedItemsSlice(parentId, extractProjectDetails(user, projectName), params, cursor, filter, pageable);
+	}
+
 	@PostMapping("search/{itemId}")
 	@ResponseStatus(OK)
 	@ApiOperation("Search test items with similar error logs")
@@ -21,6 +21,10 @@ import com.epam.ta.reportportal.commons.querygen.CompositeFilter;
 import com.epam.ta.reportportal.commons.querygen.Condition;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.core.deletion.DeletionJobRS;
+import com.epam.ta.reportportal.core.export.ExportJobRS;
+import com.epam.ta.reportportal.core.export.ExportJobService;
+import com.epam.ta.reportportal.core.export.TabularFormat;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
 import com.epam.ta.reportportal.core.preference.GetPreferenceHandler;
 import com.epam.ta.reportportal.core.preference.UpdatePreferenceHandler;
@@ -52,6 +56,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import java.io.IOException;
@@ -59,6 +64,7 @@ import java.io.OutputStream;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static com.epam.ta.reportportal.auth.permissions.Permissions.*;
 import static com.epam.ta.reportportal.commons.EntityUtils.normalizeId;
@@ -82,12 +88,14 @@ public class ProjectController {
 	private final GetPreferenceHandler getPreference;
 	private final UpdatePreferenceHandler updatePreference;
 	private final GetJasperReportHandler<ProjectInfo> jasperReportHandler;
+	private final ExportJobService exportJobService;
 
 	@Autowired
 	public ProjectController(GetProjectHandler getProjectHandler, GetProjectInfoHandler projectInfoHandler,
 			CreateProjectHandler createProjectHandler, UpdateProjectHandler updateProjectHandler, DeleteProjectHandler deleteProjectHandler,
 			GetUserHandler getUserHandler, GetPreferenceHandler getPreference, UpdatePreferenceHandler updatePreference,
-			@Qualifier("projectJasperReportHandler") GetJasperReportHandler<ProjectInfo> jasperReportHandler) {
+			@Qualifier("projectJasperReportHandler") GetJasperReportHandler<ProjectInfo> jasperReportHandler,
+			ExportJobService exportJobService) {
 		this.getProjectHandler = getProjectHandler;
 		this.projectInfoHandler = projectInfoHandler;
 		this.createProjectHandler = createProjectHandler;
@@ -97,6 +105,7 @@ public class ProjectController {
 		this.getPreference = getPreference;
 		this.updatePreference = updatePreference;
 		this.jasperReportHandler = jasperReportHandler;
+		this.exportJobService = exportJobService;
 	}
 
 	@Transactional
@@ -139,6 +148,16 @@ public class ProjectController {
 		return deleteProjectHandler.deleteProjects(deleteBulkRQ);
 	}
 
+	@DeleteMapping("/job")
+	@ResponseStatus(OK)
+	@PreAuthorize(ADMIN_ONLY)
+	@ApiOperation(value = "Delete multiple projects in background", notes = "Could be deleted only by users with administrator role. "
+			+ "Progress of the deletion is available by '/v1/deletion/{jobId}'")
+	public DeletionJobRS deleteProjectsAsync(@RequestBody @Valid DeleteBulkRQ deleteBulkRQ,
+			@AuthenticationPrincipal ReportPortalUser user) {
+		return deleteProjectHandler.deleteProjectsAsync(deleteBulkRQ, user);
+	}
+
 	@Transactional
 	@DeleteMapping("/{projectId}")
 	@ResponseStatus(OK)
@@ -278,15 +297,19 @@ public class ProjectController {
 	@ResponseStatus(HttpStatus.OK)
 	@ApiOperation(value = "Exports information about all projects", notes = "Allowable only for users with administrator role")
 	public void exportProjects(
-			@ApiParam(allowableValues = "csv") @RequestParam(value = "view", required = false, defaultValue = "csv") String view,
+			@ApiParam(allowableValues = "csv, xls") @RequestParam(value = "view", required = false, defaultValue = "csv") String view,
 			@FilterFor(ProjectInfo.class) Filter filter, @FilterFor(ProjectInfo.class) Queryable predefinedFilter,
 			@AuthenticationPrincipal ReportPortalUser user, HttpServletResponse response) {
 
 		ReportFormat format = jasperReportHandler.getReportFormat(view);
-		response.setContentType(format.getContentType());
+		Optional<TabularFormat> tabularFormat = TabularFormat.of(format);
+		response.setContentType(tabularFormat.map(TabularFormat::getContentType).orElse(format.getContentType()));
 
 		response.setHeader(CONTENT_DISPOSITION,
-				String.format("attachment; filename=RP_PROJECTS_%s_Report.%s", format.name(), format.getValue())
+				String.format("attachment; filename=RP_PROJECTS_%s_Report.%s",
+						format.name(),
+						tabularFormat.map(TabularFormat::getExtension).orElse(format.getValue())
+				)
 		);
 
 		try (OutputStream outputStream = response.getOutputStream()) {
@@ -297,6 +320,31 @@ public class ProjectController {
 
 	}
 
+	@PreAuthorize(ADMIN_ONLY)
+	@PostMapping(value = "/export/job")
+	@ResponseStatus(HttpStatus.OK)
+	@ApiOperation(value = "Submit export of information about all projects", notes = "Allowable only for users with administrator role. "
+			+ "Status and result of the export are available by '/v1/export/{jobId}'")
+	public ExportJobRS submitExportProjects(
+			@ApiParam(allowableValues = "csv, xls") @RequestParam(value = "view", required = false, defaultValue = "csv") String view,
+			@FilterFor(ProjectInfo.class) Filter filter, @FilterFor(ProjectInfo.class) Queryable predefinedFilter,
+			@AuthenticationPrincipal ReportPortalUser user, HttpServletRequest request) {
+
+		ReportFormat format = jasperReportHandler.getReportFormat(view);
+		Optional<TabularFormat> tabularFormat = TabularFormat.of(format);
+		CompositeFilter compositeFilter = new CompositeFilter(Operator.AND, filter, predefinedFilter);
+
+		return ExportJobRS.of(exportJobService.submit(user,
+				ExportJobController.requestKey(request),
+				String.format("RP_PROJECTS_%s_Report.%s",
+						format.name(),
+						tabularFormat.map(TabularFormat::getExtension).orElse(format.getValue())
+				),
+				tabularFormat.map(TabularFormat::getContentType).orElse(format.getContentType()),
+				outputStream -> getProjectHandler.exportProjects(format, compositeFilter, outputStream)
+		));
+	}
+
 	@Transactional(readOnly = true)
 	@PreAuthorize(ASSIGNED_TO_PROJECT)
 	@GetMapping("/list/{projectName}")
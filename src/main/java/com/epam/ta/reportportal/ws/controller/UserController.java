@@ -21,6 +21,9 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.CompositeFilter;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.core.export.ExportJobRS;
+import com.epam.ta.reportportal.core.export.ExportJobService;
+import com.epam.ta.reportportal.core.export.TabularFormat;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
 import com.epam.ta.reportportal.core.user.CreateUserHandler;
 import com.epam.ta.reportportal.core.user.DeleteUserHandler;
@@ -57,6 +60,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.util.Map;
+import java.util.Optional;
 
 import static com.epam.ta.reportportal.auth.permissions.Permissions.*;
 import static org.springframework.http.HttpStatus.CREATED;
@@ -76,15 +80,18 @@ public class UserController {
 
 	private final GetJasperReportHandler<User> jasperReportHandler;
 
+	private final ExportJobService exportJobService;
+
 	@Autowired
 	public UserController(CreateUserHandler createUserMessageHandler, EditUserHandler editUserMessageHandler,
 			DeleteUserHandler deleteUserHandler, GetUserHandler getUserHandler,
-			@Qualifier("userJasperReportHandler") GetJasperReportHandler<User> jasperReportHandler) {
+			@Qualifier("userJasperReportHandler") GetJasperReportHandler<User> jasperReportHandler, ExportJobService exportJobService) {
 		this.createUserMessageHandler = createUserMessageHandler;
 		this.editUserMessageHandler = editUserMessageHandler;
 		this.deleteUserHandler = deleteUserHandler;
 		this.getUserHandler = getUserHandler;
 		this.jasperReportHandler = jasperReportHandler;
+		this.exportJobService = exportJobService;
 	}
 
 	@PostMapping
@@ -255,16 +262,20 @@ public class UserController {
 	@GetMapping(value = "/export")
 	@PreAuthorize(ADMIN_ONLY)
 	@ApiOperation(value = "Exports information about all users", notes = "Allowable only for users with administrator role")
-	public void export(@ApiParam(allowableValues = "csv") @RequestParam(value = "view", required = false, defaultValue = "csv") String view,
+	public void export(@ApiParam(allowableValues = "csv, xls") @RequestParam(value = "view", required = false, defaultValue = "csv") String view,
 			@FilterFor(User.class) Filter filter, @FilterFor(User.class) Queryable queryable,
 			@AuthenticationPrincipal ReportPortalUser currentUser, HttpServletResponse response) {
 
 		ReportFormat format = jasperReportHandler.getReportFormat(view);
-		response.setContentType(format.getContentType());
+		Optional<TabularFormat> tabularFormat = TabularFormat.of(format);
+		response.setContentType(tabularFormat.map(TabularFormat::getContentType).orElse(format.getContentType()));
 
 		response.setHeader(
 				com.google.common.net.HttpHeaders.CONTENT_DISPOSITION,
-				String.format("attachment; filename=RP_USERS_%s_Report.%s", format.name(), format.getValue())
+				String.format("attachment; filename=RP_USERS_%s_Report.%s",
+						format.name(),
+						tabularFormat.map(TabularFormat::getExtension).orElse(format.getValue())
+				)
 		);
 
 		try (OutputStream outputStream = response.getOutputStream()) {
@@ -274,4 +285,25 @@ public class UserController {
 		}
 	}
 
+	@PostMapping(value = "/export/job")
+	@PreAuthorize(ADMIN_ONLY)
+	@ApiOperation(value = "Submit export of information about all users", notes = "Allowable only for users with administrator role. "
+			+ "Status and result of the export are available by '/v1/export/{jobId}'")
+	public ExportJobRS submitExport(
+			@ApiParam(allowableValues = "csv, xls") @RequestParam(value = "view", required = false, defaultValue = "csv") String view,
+			@FilterFor(User.class) Filter filter, @FilterFor(User.class) Queryable queryable,
+			@AuthenticationPrincipal ReportPortalUser currentUser, HttpServletRequest request) {
+
+		ReportFormat format = jasperReportHandler.getReportFormat(view);
+		Optional<TabularFormat> tabularFormat = TabularFormat.of(format);
+		CompositeFilter compositeFilter = new CompositeFilter(Operator.AND, filter, queryable);
+
+		return ExportJobRS.of(exportJobService.submit(currentUser,
+				ExportJobController.requestKey(request),
+				String.format("RP_USERS_%s_Report.%s", format.name(), tabularFormat.map(TabularFormat::getExtension).orElse(format.getValue())),
+				tabularFormat.map(TabularFormat::getContentType).orElse(format.getContentType()),
+				outputStream -> getUserHandler.exportUsers(format, outputStream, compositeFilter)
+		));
+	}
+
 }
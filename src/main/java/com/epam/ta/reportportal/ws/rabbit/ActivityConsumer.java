@@ -16,32 +16,106 @@
 
 package com.epam.ta.reportportal.ws.rabbit;
 
-import com.epam.ta.reportportal.dao.ActivityRepository;
 import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
+ * Consumes activities in batches and persists every batch with a single JDBC batch insert.
+ * If the batch insert fails, activities are inserted one by one, each in its own transaction,
+ * so only the activities that can't be saved are dropped and the rest of the batch is kept.
+ *
  * @author Andrei Varabyeu
  */
 @Component
-@Transactional
 public class ActivityConsumer {
 
-	private final ActivityRepository activityRepository;
+	private static final Logger LOGGER = LoggerFactory.getLogger(ActivityConsumer.class);
+
+	private static final String INSERT_ACTIVITY = "INSERT INTO activity (user_id, username, project_id, entity, action, details, creation_date, object_id) "
+			+ "VALUES (:userId, :username, :projectId, :entity, :action, CAST(:details AS JSONB), :createdAt, :objectId)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ObjectMapper objectMapper;
 
 	@Autowired
-	public ActivityConsumer(ActivityRepository activityRepository) {
-		this.activityRepository = activityRepository;
+	public ActivityConsumer(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+			ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.objectMapper = objectMapper;
+	}
+
+	@RabbitListener(queues = "#{ @activityQueue.name }", containerFactory = "activityListenerContainerFactory")
+	public void onEvent(@Payload List<Activity> activities) {
+		List<Activity> batch = activities.stream().filter(Objects::nonNull).collect(Collectors.toList());
+		if (batch.isEmpty()) {
+			return;
+		}
+		try {
+			transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT_ACTIVITY,
+					batch.stream().map(this::toParameters).toArray(MapSqlParameterSource[]::new)
+			));
+		} catch (DataAccessException | ReportPortalException e) {
+			LOGGER.warn("Unable to save batch of {} activities, saving them one by one", batch.size(), e);
+			batch.forEach(this::saveSingle);
+		}
+	}
+
+	private void saveSingle(Activity activity) {
+		try {
+			transactionTemplate.execute(status -> jdbcTemplate.update(INSERT_ACTIVITY, toParameters(activity)));
+		} catch (DataAccessException | ReportPortalException e) {
+			LOGGER.error("Dropping activity '{}' of {} with id '{}' in project '{}'",
+					activity.getAction(),
+					activity.getActivityEntityType(),
+					activity.getObjectId(),
+					activity.getProjectId(),
+					e
+			);
+		}
+	}
+
+	private MapSqlParameterSource toParameters(Activity activity) {
+		return new MapSqlParameterSource().addValue("userId", activity.getUserId())
+				.addValue("username", activity.getUsername())
+				.addValue("projectId", activity.getProjectId())
+				.addValue("entity", activity.getActivityEntityType())
+				.addValue("action", activity.getAction())
+				.addValue("details", toJson(activity))
+				.addValue("createdAt", Optional.ofNullable(activity.getCreatedAt()).map(Timestamp::valueOf).orElse(null))
+				.addValue("objectId", activity.getObjectId());
 	}
 
-	@RabbitListener(queues = "#{ @activityQueue.name }", containerFactory = "rabbitListenerContainerFactory")
-	public void onEvent(@Payload Activity rq) {
-		Optional.ofNullable(rq).ifPresent(activityRepository::save);
+	private String toJson(Activity activity) {
+		if (activity.getDetails() == null) {
+			return null;
+		}
+		try {
+			return objectMapper.writeValueAsString(activity.getDetails());
+		} catch (JsonProcessingException e) {
+			throw new ReportPortalException("Unable to serialize details of the activity", e);
+		}
 	}
 }
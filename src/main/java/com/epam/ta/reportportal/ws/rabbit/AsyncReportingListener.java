@@ -44,6 +44,8 @@ import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import com.google.common.base.Strings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,12 +59,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static com.epam.ta.reportportal.commons.EntityUtils.normalizeId;
+import static com.epam.ta.reportportal.core.configs.MetricsConfiguration.*;
 import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.*;
 
 /**
@@ -71,6 +72,12 @@ import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguratio
 public class AsyncReportingListener implements MessageListener {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AsyncReportingListener.class);
 
+	/**
+	 * Outcomes of the messages that were not processed: dropped after the retries or of the unsupported type
+	 */
+	private static final String DROPPED = "dropped";
+	private static final String UNKNOWN_TYPE = "unknown_type";
+
 	@Autowired
 	private MessageConverter messageConverter;
 
@@ -108,12 +115,19 @@ public class AsyncReportingListener implements MessageListener {
 	@Autowired
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Override
 	@RabbitMessageLogging
 	public void onMessage(Message message) {
 
+		long start = System.nanoTime();
+		recordQueueLag(message);
+
 		try {
 			if (breakRetrying(message)) {
+				recordProcessing(message, DROPPED, start);
 				return;
 			}
 
@@ -158,9 +172,12 @@ public class AsyncReportingListener implements MessageListener {
 					break;
 				default:
 					LOGGER.error("Unknown message type");
-					break;
+					recordProcessing(message, UNKNOWN_TYPE, start);
+					return;
 			}
+			recordProcessing(message, SUCCESS, start);
 		} catch (Throwable e) {
+			recordProcessing(message, FAILURE, start);
 			if (e instanceof ReportPortalException && e.getMessage().startsWith("Test Item ")) {
 				LOGGER.debug("exception : {}, message : {},  cause : {}",
 						e.getClass().getName(),
@@ -328,6 +345,31 @@ public class AsyncReportingListener implements MessageListener {
 		}
 	}
 
+	/**
+	 * Records time between publishing of the message and its delivery, per reporting queue
+	 */
+	private void recordQueueLag(Message message) {
+		Date timestamp = message.getMessageProperties().getTimestamp();
+		if (timestamp != null) {
+			Timer.builder("rp.reporting.queue.lag")
+					.description("Time spent by the reporting messages in the queue")
+					.tag("queue", String.valueOf(message.getMessageProperties().getConsumerQueue()))
+					.register(meterRegistry)
+					.record(Math.max(0, System.currentTimeMillis() - timestamp.getTime()), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void recordProcessing(Message message, String outcome, long start) {
+		Map<String, Object> headers = message.getMessageProperties().getHeaders();
+		Timer.builder("rp.reporting.message")
+				.description("Processing time of the reporting messages")
+				.tag("type", String.valueOf(headers.get(MessageHeaders.REQUEST_TYPE)))
+				.tag(OUTCOME_TAG, outcome)
+				.tag(PROJECT_TAG, String.valueOf(headers.get(MessageHeaders.PROJECT_ID)))
+				.register(meterRegistry)
+				.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
 	private RequestType getRequestType(Message message) {
 		return RequestType.valueOf((String) message.getMessageProperties().getHeaders().get(MessageHeaders.REQUEST_TYPE));
 	}
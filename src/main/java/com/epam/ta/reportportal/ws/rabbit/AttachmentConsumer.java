@@ -16,22 +16,23 @@
 
 package com.epam.ta.reportportal.ws.rabbit;
 
-import com.epam.ta.reportportal.binary.DataStoreService;
-import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
+import com.epam.ta.reportportal.core.file.impl.FileDeletionService;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
-import static java.util.Optional.ofNullable;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -41,30 +42,74 @@ public class AttachmentConsumer {
 
 	public static final Logger LOGGER = LoggerFactory.getLogger(AttachmentConsumer.class);
 
-	private final DataStoreService dataStoreService;
+	private static final int BATCH_SIZE = 1000;
+
+	private final FileDeletionService fileDeletionService;
 
 	private final AttachmentRepository attachmentRepository;
 
+	private final MessageBus messageBus;
+
+	private final int rounds;
+
 	@Autowired
-	public AttachmentConsumer(@Qualifier("attachmentDataStoreService") DataStoreService dataStoreService,
-			AttachmentRepository attachmentRepository) {
-		this.dataStoreService = dataStoreService;
+	public AttachmentConsumer(FileDeletionService fileDeletionService, AttachmentRepository attachmentRepository, MessageBus messageBus,
+			@Value("${rp.attachment.deletion.rounds:5}") int rounds) {
+		this.fileDeletionService = fileDeletionService;
 		this.attachmentRepository = attachmentRepository;
+		this.messageBus = messageBus;
+		this.rounds = rounds;
 	}
 
+	/**
+	 * Deletes files of the attachments from the data store and then the attachments themselves.
+	 * An attachment is removed only when all its files are deleted, otherwise it is kept in the database
+	 * and its id is published to the retry queue, so a file is never left without a reference to it.
+	 * Ids failed on the last round are parked in the dead letter queue.
+	 *
+	 * @param event {@link DeleteAttachmentEvent}
+	 */
 	@RabbitListener(queues = "#{ @deleteAttachmentQueue.name }")
 	public void onEvent(@Payload DeleteAttachmentEvent event) {
+		List<Long> notDeleted = new ArrayList<>();
+		Lists.partition(event.getIds(), BATCH_SIZE).forEach(ids -> notDeleted.addAll(delete(ids)));
+		if (notDeleted.isEmpty()) {
+			return;
+		}
+		int round = event.getRound() + 1;
+		if (round < rounds) {
+			messageBus.publishDeleteAttachmentRetry(new DeleteAttachmentEvent(notDeleted, round));
+		} else {
+			LOGGER.error("Unable to delete files of {} attachments after {} retries. Attachments are moved to the dead letter queue",
+					notDeleted.size(),
+					rounds
+			);
+			messageBus.publishFailedAttachmentDeletion(new DeleteAttachmentEvent(notDeleted, round));
+		}
+	}
 
-		List<Long> ids = Lists.newArrayListWithExpectedSize(event.getIds().size());
-		event.getIds().forEach(id -> attachmentRepository.findById(id).ifPresent(a -> {
-			try {
-				ofNullable(a.getFileId()).ifPresent(dataStoreService::delete);
-				ofNullable(a.getThumbnailId()).ifPresent(dataStoreService::delete);
-				ids.add(id);
-			} catch (Exception e) {
-				LOGGER.error(Suppliers.formattedSupplier("Error during removing attachment with id = {}", id).get());
-			}
-		}));
-		attachmentRepository.deleteAllByIds(ids);
+	/**
+	 * @param ids Ids of the attachments to delete
+	 * @return Ids of the attachments that were not deleted because some of their files were not deleted
+	 */
+	private Set<Long> delete(List<Long> ids) {
+		List<Attachment> attachments = attachmentRepository.findAllById(ids);
+		List<String> fileIds = attachments.stream()
+				.flatMap(it -> Stream.of(it.getFileId(), it.getThumbnailId()))
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		Set<String> notDeletedFiles = fileDeletionService.delete(fileIds);
+		Map<Boolean, List<Long>> deleted = attachments.stream()
+				.collect(Collectors.partitioningBy(
+						it -> !notDeletedFiles.contains(it.getFileId()) && !notDeletedFiles.contains(it.getThumbnailId()),
+						Collectors.mapping(Attachment::getId, Collectors.toList())
+				));
+		if (!deleted.get(true).isEmpty()) {
+			attachmentRepository.deleteAllByIds(deleted.get(true));
+		}
+		if (!deleted.get(false).isEmpty()) {
+			LOGGER.warn("{} of {} attachments are not deleted", deleted.get(false).size(), attachments.size());
+		}
+		return new HashSet<>(deleted.get(false));
 	}
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.auth;
+
+import com.epam.ta.reportportal.auth.TokenAuthenticationCache.CachedToken;
+import com.epam.ta.reportportal.auth.event.UserAccessChangedEvent;
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import java.util.Collections;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenAuthenticationCacheTest {
+
+	private final TokenAuthenticationCache cache = new TokenAuthenticationCache(100, 60);
+
+	@Test
+	void newAuthenticationOnEveryRead() {
+		cache.put("token", cachedToken("token", "user"), cache.version());
+
+		OAuth2Authentication first = cache.get("token").getAuthentication();
+		first.setDetails("request details");
+		OAuth2Authentication second = cache.get("token").getAuthentication();
+
+		assertNotSame(first, second);
+		assertNull(second.getDetails());
+		assertSame(first.getPrincipal(), second.getPrincipal());
+		assertEquals("token", cache.get("token").getAccessToken().getValue());
+	}
+
+	@Test
+	void evictOnUserAccessChanged() {
+		cache.put("first", cachedToken("first", "user"), cache.version());
+		cache.put("second", cachedToken("second", "user"), cache.version());
+		cache.put("third", cachedToken("third", "another"), cache.version());
+
+		cache.onUserAccessChanged(new UserAccessChangedEvent("USER"));
+
+		assertNull(cache.get("first"));
+		assertNull(cache.get("second"));
+		assertNotNull(cache.get("third"));
+	}
+
+	@Test
+	void evictToken() {
+		cache.put("token", cachedToken("token", "user"), cache.version());
+
+		cache.evict("token");
+
+		assertNull(cache.get("token"));
+	}
+
+	@Test
+	void tokenLoadedBeforeEvictionIsNotCached() {
+		long loadVersion = cache.version();
+
+		cache.onUserAccessChanged(new UserAccessChangedEvent("user"));
+		cache.put("token", cachedToken("token", "user"), loadVersion);
+
+		assertNull(cache.get("token"));
+
+		cache.put("token", cachedToken("token", "user"), cache.version());
+
+		assertNotNull(cache.get("token"));
+	}
+
+	private static CachedToken cachedToken(String token, String login) {
+		ReportPortalUser user = getRpUser(login, UserRole.USER, ProjectRole.MEMBER, 1L);
+		OAuth2Request request = new OAuth2Request(Collections.emptyMap(),
+				"api",
+				user.getAuthorities(),
+				true,
+				Collections.singleton("api"),
+				Collections.emptySet(),
+				null,
+				Collections.emptySet(),
+				Collections.emptyMap()
+		);
+		OAuth2Authentication authentication = new OAuth2Authentication(request,
+				new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())
+		);
+		return new CachedToken(new DefaultOAuth2AccessToken(token), authentication);
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.auth;
+
+import com.epam.ta.reportportal.auth.TokenAuthenticationCache.CachedToken;
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.common.util.SerializationUtils;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.TEST_PROJECT_NAME;
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenSnapshotCodecTest {
+
+	@Test
+	void legacyTokenToSnapshot() {
+		ReportPortalUser user = getRpUser("default", UserRole.USER, ProjectRole.PROJECT_MANAGER, 2L);
+		DefaultOAuth2AccessToken accessToken = accessToken();
+		OAuth2Authentication authentication = authentication(user);
+
+		byte[] legacy = SerializationUtils.serialize(authentication);
+		byte[] snapshot = TokenSnapshotCodec.encode(TokenSnapshotCodec.toSnapshot(accessToken, authentication));
+		assertFalse(TokenSnapshotCodec.isSnapshot(legacy));
+		assertTrue(TokenSnapshotCodec.isSnapshot(snapshot));
+		assertTrue(snapshot.length < legacy.length);
+
+		ReportPortalUser actual = getRpUser("default", UserRole.ADMINISTRATOR, ProjectRole.MEMBER, 3L);
+		CachedToken token = TokenSnapshotCodec.toCachedToken("token", TokenSnapshotCodec.decode(snapshot), actual);
+
+		assertEquals(accessToken, token.getAccessToken());
+		assertEquals(accessToken.getExpiration(), token.getAccessToken().getExpiration());
+		assertEquals(accessToken.getScope(), token.getAccessToken().getScope());
+
+		OAuth2Authentication restored = token.getAuthentication();
+		assertEquals("api", restored.getOAuth2Request().getClientId());
+		assertEquals(Collections.singleton("api"), restored.getOAuth2Request().getScope());
+		assertEquals(new HashSet<>(actual.getAuthorities()), new HashSet<>(restored.getAuthorities()));
+
+		ReportPortalUser principal = (ReportPortalUser) restored.getPrincipal();
+		assertEquals(user.getUserId(), principal.getUserId());
+		assertEquals(user.getUsername(), principal.getUsername());
+		assertEquals(actual.getEmail(), principal.getEmail());
+		assertEquals(UserRole.ADMINISTRATOR, principal.getUserRole());
+		ReportPortalUser.ProjectDetails projectDetails = principal.getProjectDetails().get(TEST_PROJECT_NAME);
+		assertEquals(3L, (long) projectDetails.getProjectId());
+		assertEquals(TEST_PROJECT_NAME, projectDetails.getProjectName());
+		assertEquals(ProjectRole.MEMBER, projectDetails.getProjectRole());
+	}
+
+	@Test
+	void snapshotDecodesToLegacyToken() {
+		ReportPortalUser user = getRpUser("default", UserRole.USER, ProjectRole.PROJECT_MANAGER, 2L);
+		DefaultOAuth2AccessToken accessToken = accessToken();
+		OAuth2Authentication authentication = authentication(user);
+		byte[] legacy = SerializationUtils.serialize(authentication);
+		byte[] snapshot = TokenSnapshotCodec.encode(TokenSnapshotCodec.toSnapshot(accessToken, authentication));
+
+		OAuth2Authentication fromLegacy = SerializationUtils.deserialize(legacy);
+		OAuth2Authentication fromSnapshot = TokenSnapshotCodec.toCachedToken("token", TokenSnapshotCodec.decode(snapshot), user)
+				.getAuthentication();
+
+		assertEquals(fromLegacy.getOAuth2Request().getClientId(), fromSnapshot.getOAuth2Request().getClientId());
+		assertEquals(fromLegacy.getOAuth2Request().getScope(), fromSnapshot.getOAuth2Request().getScope());
+		assertEquals(new HashSet<>(fromLegacy.getAuthorities()), new HashSet<>(fromSnapshot.getAuthorities()));
+		ReportPortalUser legacyPrincipal = (ReportPortalUser) fromLegacy.getPrincipal();
+		ReportPortalUser snapshotPrincipal = (ReportPortalUser) fromSnapshot.getPrincipal();
+		assertEquals(legacyPrincipal.getUserId(), snapshotPrincipal.getUserId());
+		assertEquals(legacyPrincipal.getUsername(), snapshotPrincipal.getUsername());
+		assertEquals(legacyPrincipal.getEmail(), snapshotPrincipal.getEmail());
+		assertEquals(legacyPrincipal.getUserRole(), snapshotPrincipal.getUserRole());
+		assertEquals(legacyPrincipal.getProjectDetails().keySet(), snapshotPrincipal.getProjectDetails().keySet());
+	}
+
+	@Test
+	void accessIsNotReadFromSnapshot() {
+		ReportPortalUser user = getRpUser("default", UserRole.USER, ProjectRole.MEMBER, 2L);
+		byte[] snapshot = ("{\"v\":1,\"userId\":" + user.getUserId()
+				+ ",\"login\":\"default\",\"role\":\"ADMINISTRATOR\",\"projects\":{\"another\":{\"id\":5,\"role\":\"PROJECT_MANAGER\"}}}")
+				.getBytes(StandardCharsets.UTF_8);
+
+		ReportPortalUser principal = (ReportPortalUser) TokenSnapshotCodec.toCachedToken("token", TokenSnapshotCodec.decode(snapshot), user)
+				.getAuthentication()
+				.getPrincipal();
+
+		assertEquals(UserRole.USER, principal.getUserRole());
+		assertEquals(user.getProjectDetails().keySet(), principal.getProjectDetails().keySet());
+	}
+
+	@Test
+	void anotherOwner() {
+		TokenSnapshot snapshot = new TokenSnapshot();
+		snapshot.setUserId(100L);
+		snapshot.setLogin("default");
+
+		assertThrows(InvalidTokenException.class,
+				() -> TokenSnapshotCodec.toCachedToken("token", snapshot, getRpUser("default", UserRole.USER, ProjectRole.MEMBER, 2L))
+		);
+	}
+
+	@Test
+	void unsupportedVersion() {
+		assertThrows(InvalidTokenException.class,
+				() -> TokenSnapshotCodec.decode("{\"v\":100,\"login\":\"default\"}".getBytes(StandardCharsets.UTF_8))
+		);
+	}
+
+	@Test
+	void brokenSnapshot() {
+		assertThrows(InvalidTokenException.class, () -> TokenSnapshotCodec.decode("{\"v\":".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static DefaultOAuth2AccessToken accessToken() {
+		DefaultOAuth2AccessToken accessToken = new DefaultOAuth2AccessToken("token");
+		accessToken.setScope(Collections.singleton("api"));
+		accessToken.setExpiration(new Date(1_600_000_000_000L));
+		return accessToken;
+	}
+
+	private static OAuth2Authentication authentication(ReportPortalUser user) {
+		return new OAuth2Authentication(new OAuth2Request(Collections.emptyMap(),
+				"api",
+				user.getAuthorities(),
+				true,
+				Collections.singleton("api"),
+				Collections.emptySet(),
+				null,
+				Collections.emptySet(),
+				Collections.emptyMap()
+		), new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+	}
+}
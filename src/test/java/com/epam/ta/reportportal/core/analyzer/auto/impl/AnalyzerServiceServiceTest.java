@@ -128,7 +128,7 @@ class AnalyzerServiceServiceTest {
 		);
 		verify(analyzerServiceClient, times(1)).analyze(any());
 		verify(testItemRepository, times(itemsCount)).save(any());
-		verify(messageBus, times(4)).publishActivity(any());
+		verify(messageBus, times(1)).publishActivities(argThat(activities -> activities.size() == 4));
 	}
 
 	private AnalyzerConfig analyzerConfig() {
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.impl;
+
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.project.config.ProjectConfig;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigProvider;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ItemIndexingQueueTest {
+
+	private final ProjectConfigProvider projectConfigProvider = mock(ProjectConfigProvider.class);
+
+	private final LogIndexer logIndexer = mock(LogIndexer.class);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final ItemIndexingQueue itemIndexingQueue = new ItemIndexingQueue(projectConfigProvider,
+			logIndexer,
+			mock(PlatformTransactionManager.class),
+			meterRegistry,
+			3,
+			5
+	);
+
+	@Test
+	void itemsAreIndexedByLaunchOnFlush() {
+		when(projectConfigProvider.get(1L)).thenReturn(ProjectConfig.of(Collections.emptyMap()));
+
+		itemIndexingQueue.add(1L, 10L, 100L);
+		itemIndexingQueue.add(1L, 10L, 100L);
+		itemIndexingQueue.add(1L, 10L, 101L);
+		itemIndexingQueue.add(1L, 20L, 200L);
+		verifyNoMoreInteractions(logIndexer);
+		assertEquals(3, itemIndexingQueue.size());
+
+		itemIndexingQueue.flush();
+
+		verify(logIndexer).indexItemsLogs(eq(1L), eq(10L), eq(Arrays.asList(100L, 101L)), any());
+		verify(logIndexer).indexItemsLogs(eq(1L), eq(20L), eq(Collections.singletonList(200L)), any());
+		verify(projectConfigProvider, times(2)).get(1L);
+		assertEquals(0, itemIndexingQueue.size());
+		assertEquals(2, meterRegistry.get("rp.analyzer.index.batch.size").summary().count());
+	}
+
+	@Test
+	void fullBatchIsIndexedImmediately() {
+		when(projectConfigProvider.get(1L)).thenReturn(ProjectConfig.of(Collections.emptyMap()));
+
+		itemIndexingQueue.add(1L, 10L, 100L);
+		itemIndexingQueue.add(1L, 10L, 101L);
+		itemIndexingQueue.add(1L, 10L, 102L);
+
+		verify(logIndexer).indexItemsLogs(eq(1L), eq(10L), eq(Arrays.asList(100L, 101L, 102L)), any());
+		assertEquals(0, itemIndexingQueue.size());
+	}
+
+	@Test
+	void queueIsFlushedWhenCapacityIsExceeded() {
+		when(projectConfigProvider.get(1L)).thenReturn(ProjectConfig.of(Collections.emptyMap()));
+
+		for (long launchId = 1; launchId <= 6; launchId++) {
+			itemIndexingQueue.add(1L, launchId, launchId * 100);
+		}
+
+		verify(logIndexer, times(6)).indexItemsLogs(eq(1L), anyLong(), anyList(), any());
+		assertEquals(0, itemIndexingQueue.size());
+	}
+
+	@Test
+	void failedBatchIsDropped() {
+		when(projectConfigProvider.get(1L)).thenThrow(new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, 1L));
+
+		itemIndexingQueue.add(1L, 10L, 100L);
+		itemIndexingQueue.flush();
+
+		verifyNoMoreInteractions(logIndexer);
+		assertEquals(0, itemIndexingQueue.size());
+		assertEquals(1.0, meterRegistry.get("rp.analyzer.index.batch.failures").counter().count());
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.deletion;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.store.InMemoryDataStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class DeletionJobServiceTest {
+
+	private final ReportPortalUser user = getRpUser("admin", UserRole.ADMINISTRATOR, ProjectRole.PROJECT_MANAGER, 1L);
+
+	private ThreadPoolTaskExecutor executor;
+
+	private final InMemoryDataStore dataStore = new InMemoryDataStore();
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	private DeletionJobService deletionJobService;
+
+	@BeforeEach
+	void setUp() {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.initialize();
+		deletionJobService = newService(10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void entitiesArePendingUntilDeleted() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Long> deleted = new CopyOnWriteArrayList<>();
+
+		DeletionJob job = deletionJobService.submit(user, DeletionJob.Target.LAUNCH, Arrays.asList(1L, 2L, 1L), (id, deletionJob) -> {
+			started.countDown();
+			await(release);
+			deletionJob.addDeletedItems(10);
+			deletionJob.addDeletedLogs(100);
+		}, deleted::add);
+
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertEquals(Arrays.asList(1L, 2L), job.getEntityIds());
+		assertTrue(deletionJobService.isPending(DeletionJob.Target.LAUNCH, 2L));
+		assertFalse(deletionJobService.isPending(DeletionJob.Target.PROJECT, 2L));
+
+		DeletionJob duplicate = deletionJobService.submit(user,
+				DeletionJob.Target.LAUNCH,
+				Collections.singletonList(2L),
+				(id, deletionJob) -> {
+				},
+				deleted::add
+		);
+		assertTrue(duplicate.getEntityIds().isEmpty());
+		assertEquals(DeletionJob.Status.FINISHED, duplicate.getStatus());
+
+		release.countDown();
+		waitFor(job);
+
+		assertEquals(DeletionJob.Status.FINISHED, job.getStatus());
+		assertEquals(Arrays.asList(1L, 2L), deleted);
+		assertEquals(2, job.getDeletedEntities());
+		assertEquals(20, job.getDeletedItems());
+		assertEquals(200, job.getDeletedLogs());
+		assertFalse(deletionJobService.isPending(DeletionJob.Target.LAUNCH, 1L));
+		assertFalse(deletionJobService.isPending(DeletionJob.Target.LAUNCH, 2L));
+	}
+
+	@Test
+	void failedEntityDoesNotStopJob() throws Exception {
+		List<Long> deleted = new CopyOnWriteArrayList<>();
+		DeletionJob job = deletionJobService.submit(user, DeletionJob.Target.PROJECT, Arrays.asList(1L, 2L), (id, deletionJob) -> {
+			if (id == 1L) {
+				throw new IllegalStateException("Deletion error");
+			}
+		}, deleted::add);
+		waitFor(job);
+
+		assertEquals(DeletionJob.Status.FAILED, job.getStatus());
+		assertEquals(Collections.singletonMap(1L, "Deletion error"), job.getFailed());
+		assertEquals(Collections.singletonList(2L), deleted);
+		assertEquals(1, job.getDeletedEntities());
+		assertFalse(deletionJobService.isPending(DeletionJob.Target.PROJECT, 1L));
+	}
+
+	@Test
+	void jobIsNotAvailableForOtherUsers() {
+		DeletionJob job = deletionJobService.submit(user, DeletionJob.Target.LAUNCH, Collections.emptyList(), (id, deletionJob) -> {
+		}, id -> {
+		});
+		ReportPortalUser other = ReportPortalUser.userBuilder()
+				.withUserName("other")
+				.withPassword("test")
+				.withAuthorities(user.getAuthorities())
+				.withUserId(2L)
+				.withEmail("other@email.com")
+				.withUserRole(UserRole.USER)
+				.withProjectDetails(user.getProjectDetails())
+				.build();
+
+		assertSame(job, deletionJobService.getJob(user, job.getId()));
+		assertThrows(ReportPortalException.class, () -> deletionJobService.getJob(other, job.getId()));
+		assertThrows(ReportPortalException.class, () -> deletionJobService.getJob(user, "unknown"));
+	}
+
+	@Test
+	void jobIsAvailableOnOtherNode() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		DeletionJob job = deletionJobService.submit(user, DeletionJob.Target.PROJECT, Arrays.asList(1L, 2L), (id, deletionJob) -> {
+			started.countDown();
+			await(release);
+			deletionJob.addDeletedItems(10);
+		}, id -> {
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		DeletionJobService otherNode = newService(10);
+		assertTrue(otherNode.isPending(DeletionJob.Target.PROJECT, 1L));
+		assertEquals(DeletionJob.Status.IN_PROGRESS, otherNode.getJob(user, job.getId()).getStatus());
+
+		release.countDown();
+		waitFor(job);
+
+		DeletionJob stored = otherNode.getJob(user, job.getId());
+		assertEquals(DeletionJob.Status.FINISHED, stored.getStatus());
+		assertEquals(Arrays.asList(1L, 2L), stored.getEntityIds());
+		assertEquals(2, stored.getDeletedEntities());
+		assertEquals(20, stored.getDeletedItems());
+		assertFalse(otherNode.isPending(DeletionJob.Target.PROJECT, 1L));
+		assertFalse(otherNode.isPending(DeletionJob.Target.PROJECT, 2L));
+	}
+
+	@Test
+	void jobOfStoppedNodeIsAbandoned() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		DeletionJob job = deletionJobService.submit(user, DeletionJob.Target.PROJECT, Collections.singletonList(1L), (id, deletionJob) -> {
+			started.countDown();
+			await(release);
+		}, id -> {
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		DeletionJobService otherNode = newService(0);
+		assertFalse(otherNode.isPending(DeletionJob.Target.PROJECT, 1L));
+		assertEquals(DeletionJob.Status.FAILED, otherNode.getJob(user, job.getId()).getStatus());
+
+		release.countDown();
+		waitFor(job);
+	}
+
+	private DeletionJobService newService(long leaseMinutes) {
+		return new DeletionJobService(executor, mock(PlatformTransactionManager.class), dataStore, objectMapper, 60, leaseMinutes);
+	}
+
+	/**
+	 * The executor has the only thread, so the task submitted after the job is completed right after the job
+	 */
+	private void waitFor(DeletionJob job) throws Exception {
+		executor.submit(() -> {
+		}).get(5, TimeUnit.SECONDS);
+		assertNotEquals(DeletionJob.Status.IN_PROGRESS, job.getStatus());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
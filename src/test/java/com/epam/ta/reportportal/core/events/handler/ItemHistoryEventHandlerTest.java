@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.handler;
+
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
+import com.epam.ta.reportportal.core.events.item.ItemRetryEvent;
+import com.epam.ta.reportportal.core.item.impl.history.index.TestItemHistoryIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class ItemHistoryEventHandlerTest {
+
+	private final TestItemHistoryIndex historyIndex = mock(TestItemHistoryIndex.class);
+
+	private final ItemHistoryEventHandler handler = new ItemHistoryEventHandler(historyIndex);
+
+	@Test
+	void launchOfRetriedItemIsInvalidated() {
+		handler.onItemRetry(new ItemRetryEvent(1L, 10L, 100L));
+
+		verify(historyIndex, times(1)).invalidateLaunches(Collections.singletonList(10L));
+	}
+
+	@Test
+	void launchesOfDeletedItemsAreInvalidated() {
+		handler.onItemsRemoved(ItemHistoryRemovedEvent.ofLaunches(1L, Arrays.asList(10L, 20L)));
+
+		verify(historyIndex, times(1)).invalidateLaunches(argThat(ids -> ids.size() == 2 && ids.containsAll(Arrays.asList(10L, 20L))));
+		verify(historyIndex, never()).invalidateProject(any());
+	}
+
+	@Test
+	void projectHistoryIsInvalidated() {
+		handler.onItemsRemoved(ItemHistoryRemovedEvent.ofProject(1L));
+
+		verify(historyIndex, times(1)).invalidateProject(1L);
+		verify(historyIndex, never()).invalidateLaunches(any());
+	}
+}
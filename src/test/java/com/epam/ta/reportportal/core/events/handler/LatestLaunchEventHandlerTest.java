@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.handler;
+
+import com.epam.ta.reportportal.core.events.launch.LatestLaunchAddedEvent;
+import com.epam.ta.reportportal.core.events.launch.LaunchesDeletedEvent;
+import com.epam.ta.reportportal.core.events.launch.LaunchesMergedEvent;
+import com.epam.ta.reportportal.core.launch.index.LatestLaunchIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class LatestLaunchEventHandlerTest {
+
+	private final LatestLaunchIndex latestLaunchIndex = mock(LatestLaunchIndex.class);
+
+	private final LatestLaunchEventHandler handler = new LatestLaunchEventHandler(latestLaunchIndex);
+
+	@Test
+	void startedLaunchIsAdded() {
+		handler.onLaunchAdded(new LatestLaunchAddedEvent(1L, "launch", 10L, 2L));
+
+		verify(latestLaunchIndex, times(1)).addLaunch(1L, "launch", 10L, 2L);
+	}
+
+	@Test
+	void namesOfDeletedLaunchesAreInvalidated() {
+		handler.onLaunchesDeleted(new LaunchesDeletedEvent(1L, Collections.singletonList("launch")));
+
+		verify(latestLaunchIndex, times(1)).invalidateNames(eq(1L), argThat(names -> names.contains("launch") && names.size() == 1));
+	}
+
+	@Test
+	void namesOfMergedLaunchesAreInvalidated() {
+		handler.onLaunchesMerged(new LaunchesMergedEvent(1L, Arrays.asList("first", "merged")));
+
+		verify(latestLaunchIndex, times(1)).invalidateNames(eq(1L),
+				argThat(names -> names.size() == 2 && names.containsAll(Arrays.asList("first", "merged")))
+		);
+	}
+}
@@ -17,26 +17,15 @@
 package com.epam.ta.reportportal.core.events.handler;
 
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
-import com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriber;
-import com.epam.ta.reportportal.core.events.handler.subscriber.impl.LaunchAutoAnalysisSubscriber;
-import com.epam.ta.reportportal.core.events.handler.subscriber.impl.LaunchNotificationSubscriber;
-import com.epam.ta.reportportal.core.events.handler.subscriber.impl.LaunchPatternAnalysisSubscriber;
-import com.epam.ta.reportportal.core.events.handler.util.LaunchFinishedTestUtils;
+import com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriberExecutor;
 import com.epam.ta.reportportal.core.launch.impl.LaunchTestUtil;
 import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
-import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.ws.model.activity.LaunchActivityResource;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -46,24 +35,12 @@ import static org.mockito.Mockito.*;
  */
 class LaunchFinishedEventHandlerTest {
 
-	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
-
 	private final LaunchRepository launchRepository = mock(LaunchRepository.class);
 
-	private final LaunchAutoAnalysisSubscriber autoAnalysisSubscriber = mock(LaunchAutoAnalysisSubscriber.class);
-
-	private final LaunchNotificationSubscriber notificationSubscriber = mock(LaunchNotificationSubscriber.class);
+	private final LaunchFinishedEventSubscriberExecutor subscriberExecutor = mock(LaunchFinishedEventSubscriberExecutor.class);
 
-	private final LaunchPatternAnalysisSubscriber patternAnalysisSubscriber = mock(LaunchPatternAnalysisSubscriber.class);
-
-	private List<LaunchFinishedEventSubscriber> launchFinishedEventSubscribers = Lists.newArrayList(autoAnalysisSubscriber,
-			notificationSubscriber,
-			patternAnalysisSubscriber
-	);
-
-	private final LaunchFinishedEventHandler launchFinishedEventHandler = new LaunchFinishedEventHandler(projectRepository,
-			launchRepository,
-			launchFinishedEventSubscribers
+	private final LaunchFinishedEventHandler launchFinishedEventHandler = new LaunchFinishedEventHandler(launchRepository,
+			subscriberExecutor
 	);
 
 	@Test
@@ -82,11 +59,11 @@ class LaunchFinishedEventHandlerTest {
 
 		launchFinishedEventHandler.onApplicationEvent(event);
 
-		verify(projectRepository, times(0)).findById(launch.get().getId());
+		verify(subscriberExecutor, times(0)).execute(any(), any(), any());
 	}
 
 	@Test
-	void shouldSendWhenAutoAnalyzedDisabledEnabled() {
+	void shouldExecuteSubscribers() {
 
 		LaunchActivityResource resource = new LaunchActivityResource();
 		resource.setId(1L);
@@ -96,24 +73,12 @@ class LaunchFinishedEventHandlerTest {
 		LaunchFinishedEvent event = new LaunchFinishedEvent(resource, 1L, "user");
 
 		Launch launch = LaunchTestUtil.getLaunch(StatusEnum.FAILED, LaunchModeEnum.DEFAULT).get();
-		launch.setName("name1");
-
-		Map<ProjectAttributeEnum, String> mapping = ImmutableMap.<ProjectAttributeEnum, String>builder().put(ProjectAttributeEnum.NOTIFICATIONS_ENABLED,
-				"true"
-		).put(ProjectAttributeEnum.AUTO_ANALYZER_ENABLED, "false").build();
-
-		Project project = new Project();
-		project.setId(1L);
-		project.setProjectAttributes(LaunchFinishedTestUtils.getProjectAttributes(mapping));
-		project.setSenderCases(LaunchFinishedTestUtils.getSenderCases());
 
-		when(launchRepository.findById(event.getLaunchActivityResource().getId())).thenReturn(Optional.ofNullable(launch));
-		when(projectRepository.findById(resource.getProjectId())).thenReturn(Optional.ofNullable(project));
+		when(launchRepository.findById(event.getLaunchActivityResource().getId())).thenReturn(Optional.of(launch));
 
 		launchFinishedEventHandler.onApplicationEvent(event);
-		verify(autoAnalysisSubscriber, times(1)).handleEvent(event, project, launch);
-		verify(notificationSubscriber, times(1)).handleEvent(event, project, launch);
+		verify(subscriberExecutor, times(1)).execute(event, launch.getId(), launch.getProjectId());
 
 	}
 
-}
\ No newline at end of file
+}
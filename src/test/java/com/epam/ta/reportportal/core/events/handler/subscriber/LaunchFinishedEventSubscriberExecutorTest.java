@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.handler.subscriber;
+
+import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.core.project.config.ProjectConfig;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigProvider;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LaunchFinishedEventSubscriberExecutorTest {
+
+	private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+
+	private final ProjectConfigProvider projectConfigProvider = mock(ProjectConfigProvider.class);
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final List<String> executed = new CopyOnWriteArrayList<>();
+
+	private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+	private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+	@BeforeEach
+	void setUp() {
+		executor.setCorePoolSize(3);
+		executor.initialize();
+		scheduler.initialize();
+		when(launchRepository.findById(any())).thenReturn(Optional.of(new Launch()));
+		when(projectConfigProvider.get(any())).thenReturn(ProjectConfig.of(Collections.emptyMap()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+		scheduler.shutdown();
+	}
+
+	@Test
+	void dependentRunsAfterFailedDependency() throws Exception {
+		CountDownLatch independentStarted = new CountDownLatch(1);
+		TestSubscriber first = new TestSubscriber("first", 1, () -> {
+			assertTrue(independentStarted.await(5, TimeUnit.SECONDS));
+			throw new IllegalStateException("failed");
+		});
+		TestSubscriber independent = new TestSubscriber("independent", 3, independentStarted::countDown);
+		TestSubscriber dependent = new DependentSubscriber("dependent", 2, () -> {
+		});
+
+		createExecutor(Lists.newArrayList(dependent, independent, first), 5000).execute(event(), 1L, 1L).get(10, TimeUnit.SECONDS);
+
+		assertEquals(3, executed.size());
+		assertTrue(executed.indexOf("first") < executed.indexOf("dependent"));
+		assertEquals(1, meterRegistry.get("rp.launch.finished.subscriber").tag("outcome", "failure").timer().count());
+		assertEquals(2, meterRegistry.get("rp.launch.finished.subscriber").tag("outcome", "success").timers().size());
+	}
+
+	@Test
+	void timedOutSubscriberDoesNotBlockDependents() throws Exception {
+		TestSubscriber first = new TestSubscriber("first", 1, () -> Thread.sleep(10000));
+		TestSubscriber dependent = new DependentSubscriber("dependent", 2, () -> {
+		});
+
+		createExecutor(Lists.newArrayList(first, dependent), 100).execute(event(), 1L, 1L).get(5, TimeUnit.SECONDS);
+
+		assertTrue(executed.contains("dependent"));
+		assertEquals(1, meterRegistry.get("rp.launch.finished.subscriber").tag("outcome", "timeout").timer().count());
+	}
+
+	@Test
+	void cyclicDependenciesAreRejected() {
+		TestSubscriber first = new DependentSubscriber("first", 1, () -> {
+		}) {
+			@Override
+			public Set<Class<? extends LaunchFinishedEventSubscriber>> getDependencies() {
+				return Collections.singleton(DependentSubscriber.class);
+			}
+		};
+		assertThrows(IllegalStateException.class, () -> createExecutor(Lists.newArrayList(first, new DependentSubscriber("second", 2, () -> {
+		})), 100));
+	}
+
+	private LaunchFinishedEventSubscriberExecutor createExecutor(List<LaunchFinishedEventSubscriber> subscribers, long timeout) {
+		return new LaunchFinishedEventSubscriberExecutor(executor,
+				scheduler,
+				mock(PlatformTransactionManager.class),
+				projectConfigProvider,
+				launchRepository,
+				meterRegistry,
+				subscribers,
+				timeout
+		);
+	}
+
+	private static LaunchFinishedEvent event() {
+		return new LaunchFinishedEvent();
+	}
+
+	private interface Action {
+		void run() throws Exception;
+	}
+
+	private class TestSubscriber implements LaunchFinishedEventSubscriber {
+
+		private final String name;
+
+		private final int order;
+
+		private final Action action;
+
+		TestSubscriber(String name, int order, Action action) {
+			this.name = name;
+			this.order = order;
+			this.action = action;
+		}
+
+		@Override
+		public void handleEvent(LaunchFinishedEvent launchFinishedEvent, ProjectConfig projectConfig, Launch launch) {
+			try {
+				action.run();
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			} finally {
+				executed.add(name);
+			}
+		}
+
+		@Override
+		public int getOrder() {
+			return order;
+		}
+	}
+
+	private class DependentSubscriber extends TestSubscriber {
+
+		DependentSubscriber(String name, int order, Action action) {
+			super(name, order, action);
+		}
+
+		@Override
+		public Set<Class<? extends LaunchFinishedEventSubscriber>> getDependencies() {
+			return Collections.singleton(TestSubscriber.class);
+		}
+	}
+}
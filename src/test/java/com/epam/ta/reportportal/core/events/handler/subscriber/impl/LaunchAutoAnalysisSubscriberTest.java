@@ -24,6 +24,7 @@ import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeItems
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.util.LaunchFinishedTestUtils;
 import com.epam.ta.reportportal.core.launch.impl.LaunchTestUtil;
+import com.epam.ta.reportportal.core.project.config.ProjectConfig;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
 import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -50,7 +51,6 @@ class LaunchAutoAnalysisSubscriberTest {
 	private final AnalyzeCollectorFactory analyzeCollectorFactory = mock(AnalyzeCollectorFactory.class);
 	private final AnalyzeItemsCollector analyzeItemsCollector = mock(AnalyzeItemsCollector.class);
 	private final LogIndexer logIndexer = mock(LogIndexer.class);
-
 	private CompletableFuture<Long> indexed = mock(CompletableFuture.class);
 	private CompletableFuture<Void> analyzed = mock(CompletableFuture.class);
 
@@ -94,7 +94,7 @@ class LaunchAutoAnalysisSubscriberTest {
 		when(analyzeItemsCollector.collectItems(any(), any(), any())).thenReturn(Lists.newArrayList(1L, 2L));
 		when(logIndexer.indexLaunchLogs(any(), any(), any())).thenReturn(indexed);
 		when(analyzerServiceAsync.analyze(any(), any(), any())).thenReturn(analyzed);
-		autoAnalysisSubscriber.handleEvent(event, project, launch.get());
+		autoAnalysisSubscriber.handleEvent(event, ProjectConfig.of(project), launch.get());
 
 		verify(logIndexer, times(1)).indexLaunchLogs(any(), any(), any());
 		verify(analyzerServiceAsync, times(1)).analyze(any(), any(), any());
@@ -120,7 +120,7 @@ class LaunchAutoAnalysisSubscriberTest {
 		project.setId(1L);
 		project.setProjectAttributes(LaunchFinishedTestUtils.getProjectAttributes(mapping));
 
-		autoAnalysisSubscriber.handleEvent(event, project, launch.get());
+		autoAnalysisSubscriber.handleEvent(event, ProjectConfig.of(project), launch.get());
 
 		verify(analyzerServiceAsync, times(0)).analyze(any(), any(), any());
 		verify(logIndexer, times(1)).indexLaunchLogs(any(), any(), any());
@@ -20,7 +20,9 @@ import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.util.LaunchFinishedTestUtils;
 import com.epam.ta.reportportal.core.integration.GetIntegrationHandler;
 import com.epam.ta.reportportal.core.launch.impl.LaunchTestUtil;
+import com.epam.ta.reportportal.core.project.config.ProjectConfig;
 import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
 import com.epam.ta.reportportal.entity.enums.IntegrationGroupEnum;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
@@ -29,12 +31,16 @@ import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.integration.Integration;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.util.email.EmailDispatcher;
 import com.epam.ta.reportportal.util.email.EmailService;
 import com.epam.ta.reportportal.util.email.MailServiceFactory;
 import com.epam.ta.reportportal.ws.model.activity.LaunchActivityResource;
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
+import javax.mail.internet.MimeMessage;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -49,6 +55,9 @@ class LaunchNotificationSubscriberTest {
 	private final MailServiceFactory mailServiceFactory = mock(MailServiceFactory.class);
 	private final LaunchRepository launchRepository = mock(LaunchRepository.class);
 	private final UserRepository userRepository = mock(UserRepository.class);
+	private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+	private final EmailDispatcher emailDispatcher = mock(EmailDispatcher.class);
+	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
 
 	private Integration emailIntegration = mock(Integration.class);
 
@@ -57,7 +66,10 @@ class LaunchNotificationSubscriberTest {
 	private final LaunchNotificationSubscriber launchNotificationSubscriber = new LaunchNotificationSubscriber(getIntegrationHandler,
 			mailServiceFactory,
 			launchRepository,
-			userRepository
+			userRepository,
+			jdbcTemplate,
+			emailDispatcher,
+			projectRepository
 	);
 
 	@Test
@@ -80,7 +92,7 @@ class LaunchNotificationSubscriberTest {
 		project.setId(1L);
 		project.setProjectAttributes(LaunchFinishedTestUtils.getProjectAttributes(mapping));
 
-		launchNotificationSubscriber.handleEvent(event, project, launch.get());
+		launchNotificationSubscriber.handleEvent(event, ProjectConfig.of(project), launch.get());
 
 		verify(getIntegrationHandler, times(0)).getEnabledByProjectIdOrGlobalAndIntegrationGroup(project.getId(),
 				IntegrationGroupEnum.NOTIFICATION
@@ -89,7 +101,7 @@ class LaunchNotificationSubscriberTest {
 	}
 
 	@Test
-	void shouldSendWhenNotificationsEnabled() {
+	void shouldSendWhenNotificationsEnabled() throws Exception {
 
 		LaunchActivityResource resource = new LaunchActivityResource();
 		resource.setId(1L);
@@ -109,6 +121,7 @@ class LaunchNotificationSubscriberTest {
 		project.setId(1L);
 		project.setProjectAttributes(LaunchFinishedTestUtils.getProjectAttributes(mapping));
 		project.setSenderCases(LaunchFinishedTestUtils.getSenderCases());
+		when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
 
 		when(getIntegrationHandler.getEnabledByProjectIdOrGlobalAndIntegrationGroup(project.getId(),
 				IntegrationGroupEnum.NOTIFICATION
@@ -116,9 +129,13 @@ class LaunchNotificationSubscriberTest {
 
 		when(userRepository.findLoginById(any())).thenReturn(Optional.of("owner"));
 		when(mailServiceFactory.getDefaultEmailService(emailIntegration)).thenReturn(Optional.ofNullable(emailService));
+		when(emailIntegration.getId()).thenReturn(1L);
+		when(emailService.createLaunchFinishNotification(any(), any(), any())).thenReturn(mock(MimeMessage.class));
 
-		launchNotificationSubscriber.handleEvent(event, project, launch.get());
-		verify(emailService, times(2)).sendLaunchFinishNotification(any(), any(), any(), any());
+		launchNotificationSubscriber.handleEvent(event, ProjectConfig.of(project), launch.get());
+		verify(emailService, times(1)).mergeFinishLaunchText(any(), any(), any());
+		verify(emailService, times(2)).createLaunchFinishNotification(any(), any(), any());
+		verify(emailDispatcher, times(1)).send(eq(1L), eq(emailService), argThat((List<MimeMessage> messages) -> messages.size() == 2));
 
 	}
 
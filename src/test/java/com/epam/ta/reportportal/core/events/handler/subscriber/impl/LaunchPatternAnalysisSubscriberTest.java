@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.core.analyzer.pattern.PatternAnalyzer;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.util.LaunchFinishedTestUtils;
 import com.epam.ta.reportportal.core.launch.impl.LaunchTestUtil;
+import com.epam.ta.reportportal.core.project.config.ProjectConfig;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
 import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -65,7 +66,7 @@ class LaunchPatternAnalysisSubscriberTest {
 		project.setId(1L);
 		project.setProjectAttributes(LaunchFinishedTestUtils.getProjectAttributes(mapping));
 
-		patternAnalysisSubscriber.handleEvent(event, project, launch.get());
+		patternAnalysisSubscriber.handleEvent(event, ProjectConfig.of(project), launch.get());
 
 		verify(patternAnalyzer, times(1)).analyzeTestItems(launch.get(), Collections.singleton(AnalyzeItemsMode.TO_INVESTIGATE));
 
@@ -90,7 +91,7 @@ class LaunchPatternAnalysisSubscriberTest {
 		project.setId(1L);
 		project.setProjectAttributes(LaunchFinishedTestUtils.getProjectAttributes(mapping));
 
-		patternAnalysisSubscriber.handleEvent(event, project, launch.get());
+		patternAnalysisSubscriber.handleEvent(event, ProjectConfig.of(project), launch.get());
 
 		verify(patternAnalyzer, times(0)).analyzeTestItems(launch.get(), Sets.newHashSet());
 
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.export;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.filesystem.DataStore;
+import com.epam.ta.reportportal.store.InMemoryDataStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExportJobServiceTest {
+
+	private final ReportPortalUser user = getRpUser("admin", UserRole.ADMINISTRATOR, ProjectRole.PROJECT_MANAGER, 1L);
+
+	private ThreadPoolTaskExecutor executor;
+
+	private final DataStore dataStore = new InMemoryDataStore();
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	private Path directory;
+
+	private ExportJobService exportJobService;
+
+	@BeforeEach
+	void setUp(@TempDir Path directory) throws IOException {
+		this.directory = directory;
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(10);
+		executor.initialize();
+		exportJobService = new ExportJobService(executor, entityManagerFactory(), dataStore, objectMapper, directory.toString(), 60);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void identicalRequestsShareJob() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger renders = new AtomicInteger();
+
+		ExportJob job = exportJobService.submit(user, "/v1/user/export?view=csv", "users.csv", "text/csv", outputStream -> {
+			renders.incrementAndGet();
+			started.countDown();
+			await(release);
+			write(outputStream, "report");
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		ExportJob duplicate = exportJobService.submit(user, "/v1/user/export?view=csv", "users.csv", "text/csv", outputStream -> {
+			renders.incrementAndGet();
+		});
+		assertSame(job, duplicate);
+		assertEquals(ExportJob.Status.IN_PROGRESS, exportJobService.getJob(user, job.getId()).getStatus());
+
+		release.countDown();
+		waitFor(job);
+
+		assertEquals(ExportJob.Status.FINISHED, job.getStatus());
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		exportJobService.writeResult(exportJobService.getJob(user, job.getId()), result);
+		assertEquals("report", new String(result.toByteArray(), StandardCharsets.UTF_8));
+		assertEquals(1, renders.get());
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	@Test
+	void finishedJobIsNotReused() throws Exception {
+		ExportJob finished = exportJobService.submit(user, "key", "users.csv", "text/csv", outputStream -> write(outputStream, "first"));
+		waitFor(finished);
+
+		ExportJob resubmitted = exportJobService.submit(user,
+				"key",
+				"users.csv",
+				"text/csv",
+				outputStream -> write(outputStream, "second")
+		);
+		assertNotEquals(finished.getId(), resubmitted.getId());
+		waitFor(resubmitted);
+
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		exportJobService.writeResult(exportJobService.getJob(user, resubmitted.getId()), result);
+		assertEquals("second", new String(result.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void jobIsAvailableOnOtherNode() throws Exception {
+		ExportJob job = exportJobService.submit(user, "key", "users.csv", "text/csv", outputStream -> write(outputStream, "report"));
+		waitFor(job);
+
+		ExportJobService otherNode = new ExportJobService(executor,
+				entityManagerFactory(),
+				dataStore,
+				objectMapper,
+				directory.toString(),
+				60
+		);
+		ExportJob stored = otherNode.getJob(user, job.getId());
+		assertEquals(ExportJob.Status.FINISHED, stored.getStatus());
+		assertEquals("users.csv", stored.getFileName());
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		otherNode.writeResult(stored, result);
+		assertEquals("report", new String(result.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void failedJobIsResubmitted() throws Exception {
+		ExportJob failed = exportJobService.submit(user, "key", "users.csv", "text/csv", outputStream -> {
+			throw new IllegalStateException("Rendering error");
+		});
+		waitFor(failed);
+		assertEquals(ExportJob.Status.FAILED, failed.getStatus());
+		assertEquals("Rendering error", failed.getMessage());
+		assertThrows(ReportPortalException.class, () -> exportJobService.writeResult(failed, new ByteArrayOutputStream()));
+
+		ExportJob resubmitted = exportJobService.submit(user,
+				"key",
+				"users.csv",
+				"text/csv",
+				outputStream -> write(outputStream, "report")
+		);
+		assertNotSame(failed, resubmitted);
+		waitFor(resubmitted);
+		assertEquals(ExportJob.Status.FINISHED, resubmitted.getStatus());
+	}
+
+	@Test
+	void jobIsNotAvailableForOtherUsers() {
+		ExportJob job = exportJobService.submit(user, "key", "users.csv", "text/csv", outputStream -> write(outputStream, "report"));
+		ReportPortalUser other = ReportPortalUser.userBuilder()
+				.withUserName("other")
+				.withPassword("test")
+				.withAuthorities(user.getAuthorities())
+				.withUserId(2L)
+				.withEmail("other@email.com")
+				.withUserRole(UserRole.USER)
+				.withProjectDetails(user.getProjectDetails())
+				.build();
+
+		assertThrows(ReportPortalException.class, () -> exportJobService.getJob(other, job.getId()));
+		ReportPortalException exception = assertThrows(ReportPortalException.class, () -> exportJobService.getJob(user, "unknown"));
+		assertEquals("Attachment 'unknown' not found", exception.getMessage());
+		assertThrows(ReportPortalException.class, () -> exportJobService.getJob(user, "../" + job.getId()));
+	}
+
+	private static EntityManagerFactory entityManagerFactory() {
+		EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+		when(entityManagerFactory.createEntityManager()).thenAnswer(invocation -> mock(EntityManager.class));
+		return entityManagerFactory;
+	}
+
+	/**
+	 * The executor has the only thread, so the task submitted after the job is completed right after the job
+	 */
+	private void waitFor(ExportJob job) throws Exception {
+		executor.submit(() -> {
+		}).get(5, TimeUnit.SECONDS);
+		assertNotEquals(ExportJob.Status.IN_PROGRESS, job.getStatus(), "Export job isn't finished in time");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void write(OutputStream outputStream, String content) {
+		try {
+			outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.export;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class XlsxReportWriterTest {
+
+	@Test
+	void writeRows() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (TabularReportWriter writer = new XlsxReportWriter(outputStream)) {
+			writer.writeRow(Arrays.asList("Project name", "Organization", "Launches"));
+			for (int i = 0; i < 1000; i++) {
+				writer.writeRow(Arrays.asList("project_" + i, null, i));
+			}
+		}
+
+		try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+			Sheet sheet = workbook.getSheetAt(0);
+			assertEquals(1000, sheet.getLastRowNum());
+			assertEquals("Launches", sheet.getRow(0).getCell(2).getStringCellValue());
+			Row last = sheet.getRow(1000);
+			assertEquals("project_999", last.getCell(0).getStringCellValue());
+			assertNull(last.getCell(1));
+			assertEquals(999, last.getCell(2).getNumericCellValue());
+		}
+	}
+}
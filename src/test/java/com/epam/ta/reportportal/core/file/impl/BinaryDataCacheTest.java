@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.core.events.attachment.UserPhotoChangedEvent;
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryDataCacheTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final BinaryDataCache binaryDataCache = new BinaryDataCache(meterRegistry, 1024, 16, 60);
+
+	@Test
+	void smallFileIsCached() throws IOException {
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<BinaryData> loader = () -> {
+			loads.incrementAndGet();
+			return new BinaryData("image/png", null, new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+		};
+
+		BinaryData first = binaryDataCache.get("fileId", loader);
+		BinaryData second = binaryDataCache.get("fileId", loader);
+
+		assertEquals(1, loads.get());
+		assertTrue(second instanceof BinaryDataCache.CachedBinaryData);
+		String eTag = "\"" + Hashing.sha256().hashBytes(new byte[] { 1, 2, 3 }) + "\"";
+		assertEquals(eTag, ((BinaryDataCache.CachedBinaryData) second).getETag());
+		assertEquals("image/png", second.getContentType());
+		assertArrayEquals(new byte[] { 1, 2, 3 }, IOUtils.toByteArray(first.getInputStream()));
+		assertArrayEquals(new byte[] { 1, 2, 3 }, IOUtils.toByteArray(second.getInputStream()));
+		assertEquals(3.0, meterRegistry.get("rp.binarystore.cache.bytes").gauge().value());
+
+		binaryDataCache.onUserPhotoChanged(new UserPhotoChangedEvent("fileId", null));
+		binaryDataCache.get("fileId", loader);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void largeFileIsNotCached() throws IOException {
+		byte[] content = new byte[100];
+		content[99] = 7;
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<BinaryData> loader = () -> {
+			loads.incrementAndGet();
+			return new BinaryData("image/png", 100L, new ByteArrayInputStream(content));
+		};
+
+		BinaryData first = binaryDataCache.get("fileId", loader);
+		assertFalse(first instanceof BinaryDataCache.CachedBinaryData);
+		assertArrayEquals(content, IOUtils.toByteArray(first.getInputStream()));
+
+		binaryDataCache.get("fileId", loader);
+		assertEquals(2, loads.get());
+		assertEquals(0.0, meterRegistry.get("rp.binarystore.cache.bytes").gauge().value());
+	}
+}
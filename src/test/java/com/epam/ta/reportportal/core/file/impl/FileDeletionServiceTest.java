@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.binary.DataStoreService;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class FileDeletionServiceTest {
+
+	private final DataStoreService dataStoreService = mock(DataStoreService.class);
+
+	private final FileDeletionService fileDeletionService = new FileDeletionService(dataStoreService, new SyncTaskExecutor(), 3, 0);
+
+	@Test
+	void deleteRetriesFailedFiles() {
+		doThrow(new RuntimeException("Unavailable")).doNothing().when(dataStoreService).delete("first");
+
+		Set<String> failed = fileDeletionService.delete(Arrays.asList("first", "second", "second"));
+
+		assertTrue(failed.isEmpty());
+		verify(dataStoreService, times(2)).delete("first");
+		verify(dataStoreService, times(1)).delete("second");
+	}
+
+	@Test
+	void notDeletedFilesAreReturned() {
+		doThrow(new RuntimeException("Unavailable")).when(dataStoreService).delete("first");
+
+		Set<String> failed = fileDeletionService.delete(Arrays.asList("first", "second"));
+
+		assertEquals(Collections.singleton("first"), failed);
+		verify(dataStoreService, times(3)).delete("first");
+		verify(dataStoreService, times(1)).delete("second");
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.imprt.impl;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportSchedulerTest {
+
+	private ThreadPoolTaskExecutor executor;
+
+	private ImportScheduler scheduler;
+
+	private final ReportPortalUser user = getRpUser("test", UserRole.USER, ProjectRole.MEMBER, 1L);
+
+	@BeforeEach
+	void setUp() {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.initialize();
+		scheduler = new ImportScheduler(executor, new SimpleMeterRegistry(), 1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void importsShareExecutor() throws Exception {
+		List<String> order = new CopyOnWriteArrayList<>();
+		CountDownLatch blocker = new CountDownLatch(1);
+
+		ImportJob first = scheduler.register(projectDetails(1L), user, "first.zip");
+		ImportJob second = scheduler.register(projectDetails(2L), user, "second.zip");
+
+		CompletableFuture<ParseResults> blocking = scheduler.submit(first, () -> {
+			await(blocker);
+			order.add("first-1");
+			return results(2);
+		});
+		CompletableFuture<ParseResults> firstQueued = scheduler.submit(first, task(order, "first-2"));
+		CompletableFuture<ParseResults> secondQueued = scheduler.submit(second, task(order, "second-1"));
+
+		assertEquals(2, scheduler.getQueueDepth());
+		assertEquals(1, scheduler.getRunningTasks());
+		blocker.countDown();
+		CompletableFuture.allOf(blocking, firstQueued, secondQueued).get(5, TimeUnit.SECONDS);
+
+		assertEquals("first-1", order.get(0));
+		assertEquals("second-1", order.get(1));
+		assertEquals("first-2", order.get(2));
+		assertEquals(2, first.getFilesParsed());
+		assertEquals(2, first.getFilesTotal());
+		assertEquals(3, first.getItemsCreated());
+		assertEquals(0, scheduler.getQueueDepth());
+	}
+
+	@Test
+	void cancelImport() throws Exception {
+		CountDownLatch blocker = new CountDownLatch(1);
+		ImportJob job = scheduler.register(projectDetails(1L), user, "import.zip");
+
+		CompletableFuture<ParseResults> running = scheduler.submit(job, () -> {
+			await(blocker);
+			return results(1);
+		});
+		CompletableFuture<ParseResults> queued = scheduler.submit(job, () -> results(1));
+
+		assertEquals(1, scheduler.getProjectImports(1L).size());
+		scheduler.cancel(job);
+		blocker.countDown();
+
+		assertTrue(job.isCancelled());
+		assertNotNull(running.get(5, TimeUnit.SECONDS));
+		assertThrows(CancellationException.class, queued::join);
+		assertEquals(1, job.getFilesParsed());
+		assertEquals(0, scheduler.getQueueDepth());
+
+		scheduler.complete(job);
+		assertTrue(scheduler.getProjectImports(1L).isEmpty());
+		assertFalse(scheduler.getImport(job.getId()).isPresent());
+	}
+
+	private static ReportPortalUser.ProjectDetails projectDetails(Long projectId) {
+		return new ReportPortalUser.ProjectDetails(projectId, "project_" + projectId, ProjectRole.MEMBER);
+	}
+
+	private static Supplier<ParseResults> task(List<String> order, String name) {
+		return () -> {
+			order.add(name);
+			return results(1);
+		};
+	}
+
+	private static ParseResults results(long items) {
+		return new ParseResults(LocalDateTime.now(), 0, items);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.imprt.impl.junit;
+
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XunitStaxParserTest {
+
+	private static final String REPORT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+			+ "<testsuite name=\"suite\" timestamp=\"2019-10-10T10:00:00\">\n"
+			+ "  <testsuite name=\"nested\">\n"
+			+ "    <testcase name=\"passed\" time=\"1.5\"/>\n"
+			+ "    <testcase name=\"failed\" time=\"0.5\">\n"
+			+ "      <failure message=\"oops\">stacktrace</failure>\n"
+			+ "      <system-out><![CDATA[output]]></system-out>\n"
+			+ "    </testcase>\n"
+			+ "  </testsuite>\n"
+			+ "  <testcase name=\"skipped\" time=\"0\"><skipped/></testcase>\n"
+			+ "</testsuite>";
+
+	@Test
+	void parseItemsTree() {
+		XunitStaxParser parser = new XunitStaxParser();
+		List<XunitItem> roots = parser.parse(new ByteArrayInputStream(REPORT.getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(1, roots.size());
+		assertEquals(5, parser.getItemsCount());
+		assertEquals(2000, parser.getCommonDuration());
+		assertEquals(LocalDateTime.of(2019, 10, 10, 10, 0), parser.getStartSuiteTime());
+
+		XunitItem suite = roots.get(0);
+		assertEquals("suite", suite.getName());
+		assertEquals(TestItemTypeEnum.TEST, suite.getType());
+		assertEquals(2, suite.getChildren().size());
+
+		XunitItem nested = suite.getChildren().get(0);
+		XunitItem passed = nested.getChildren().get(0);
+		XunitItem failed = nested.getChildren().get(1);
+		assertEquals(TestItemTypeEnum.STEP, passed.getType());
+		assertEquals(StatusEnum.PASSED, passed.getStatus());
+		assertEquals(passed.getStartTime().plusNanos(1_500_000_000L), passed.getEndTime());
+		assertEquals(StatusEnum.FAILED, failed.getStatus());
+		assertEquals(2, failed.getLogs().size());
+		assertEquals(LogLevel.ERROR, failed.getLogs().get(0).getLevel());
+		assertEquals("stacktrace", failed.getLogs().get(0).getMessage());
+		assertEquals(LogLevel.INFO, failed.getLogs().get(1).getLevel());
+		assertEquals("output", failed.getLogs().get(1).getMessage());
+
+		XunitItem skipped = suite.getChildren().get(1);
+		assertEquals(StatusEnum.SKIPPED, skipped.getStatus());
+		assertTrue(skipped.getLogs().isEmpty());
+
+		assertNull(suite.getStatus());
+		assertEquals(StatusEnum.FAILED, suite.resolveStatus());
+		assertEquals(StatusEnum.FAILED, nested.getStatus());
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import com.epam.ta.reportportal.dao.TicketRepository;
+import com.epam.ta.reportportal.entity.bts.Ticket;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalTicketHandlerTest {
+
+	@Mock
+	private TicketRepository ticketRepository;
+
+	@InjectMocks
+	private ExternalTicketHandler externalTicketHandler;
+
+	@Test
+	void resolveTicketsWithSingleQuery() {
+		Ticket existing = mock(Ticket.class);
+		when(existing.getTicketId()).thenReturn("EPMRPP-1");
+		when(existing.getId()).thenReturn(1L);
+		when(ticketRepository.findByTicketIdIn(Arrays.asList("EPMRPP-1", "EPMRPP-2"))).thenReturn(Collections.singletonList(existing));
+
+		Set<Ticket> tickets = externalTicketHandler.resolveTickets(Arrays.asList(externalIssue("EPMRPP-1"),
+				externalIssue("EPMRPP-2"),
+				externalIssue("EPMRPP-2")
+		), "user");
+
+		assertEquals(2, tickets.size());
+		assertTrue(tickets.contains(existing));
+		verify(existing, never()).setSubmitter(any());
+		verify(existing, never()).setUrl(any());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Ticket>> captor = ArgumentCaptor.forClass(List.class);
+		verify(ticketRepository, times(1)).findByTicketIdIn(any());
+		verify(ticketRepository, times(1)).saveAll(captor.capture());
+		assertEquals(Collections.singletonList("EPMRPP-2"),
+				captor.getValue().stream().map(Ticket::getTicketId).collect(Collectors.toList())
+		);
+	}
+
+	@Test
+	void resolveExistingTickets() {
+		Ticket existing = new Ticket();
+		existing.setTicketId("EPMRPP-1");
+		existing.setId(1L);
+		existing.setSubmitter("submitter");
+		existing.setUrl("http://old/EPMRPP-1");
+		when(ticketRepository.findByTicketIdIn(Collections.singletonList("EPMRPP-1"))).thenReturn(Collections.singletonList(existing));
+
+		Set<Ticket> tickets = externalTicketHandler.resolveTickets(Collections.singletonList(externalIssue("EPMRPP-1")), "user");
+
+		assertEquals(Collections.singleton(existing), tickets);
+		assertEquals("submitter", existing.getSubmitter());
+		assertEquals("http://old/EPMRPP-1", existing.getUrl());
+		verify(ticketRepository, never()).saveAll(any());
+	}
+
+	@Test
+	void newTicketIsSubmittedByUser() {
+		when(ticketRepository.findByTicketIdIn(Collections.singletonList("EPMRPP-1"))).thenReturn(Collections.emptyList());
+
+		Ticket ticket = externalTicketHandler.resolveTickets(Collections.singletonList(externalIssue("EPMRPP-1")), "user")
+				.iterator()
+				.next();
+
+		assertEquals("user", ticket.getSubmitter());
+		assertEquals("http://bts/EPMRPP-1", ticket.getUrl());
+		assertEquals("project", ticket.getBtsProject());
+		assertEquals("http://bts", ticket.getBtsUrl());
+		assertNotNull(ticket.getSubmitDate());
+	}
+
+	@Test
+	void resolveEmptyTickets() {
+		assertTrue(externalTicketHandler.resolveTickets(Collections.emptyList(), "user").isEmpty());
+		verifyNoInteractions(ticketRepository);
+	}
+
+	private static Issue.ExternalSystemIssue externalIssue(String ticketId) {
+		Issue.ExternalSystemIssue issue = new Issue.ExternalSystemIssue();
+		issue.setTicketId(ticketId);
+		issue.setUrl("http://bts/" + ticketId);
+		issue.setBtsProject("project");
+		issue.setBtsUrl("http://bts");
+		issue.setSubmitDate(1L);
+		return issue;
+	}
+}
@@ -27,7 +27,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -81,4 +84,30 @@ class TestItemUniqueIdGeneratorTest {
 		assertNotNull(generated);
 		assertTrue(generated.startsWith("auto:"));
 	}
-}
\ No newline at end of file
+
+	@Test
+	void generateWithResolvedPathNamesTest() {
+		Launch launch = new Launch();
+		launch.setProjectId(1L);
+		launch.setName("launchName");
+
+		TestItem testItem = new TestItem();
+		testItem.setName("itemName");
+		testItem.setPath("1.2.3");
+
+		LinkedHashMap<Long, String> pathNamesMap = new LinkedHashMap<>();
+		pathNamesMap.put(1L, "first");
+		pathNamesMap.put(2L, "second");
+
+		Parameter parameter = new Parameter();
+		parameter.setKey("key");
+		parameter.setValue("val");
+		testItem.setParameters(Sets.newHashSet(parameter));
+
+		when(testItemRepository.selectPathNames(testItem.getPath())).thenReturn(pathNamesMap);
+
+		assertEquals(uniqueIdGenerator.generate("itemName", Arrays.asList("first", "second"), Collections.singletonList(parameter), launch),
+				uniqueIdGenerator.generate(testItem, launch)
+		);
+	}
+}
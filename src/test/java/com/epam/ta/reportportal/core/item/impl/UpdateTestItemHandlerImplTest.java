@@ -17,22 +17,30 @@
 package com.epam.ta.reportportal.core.item.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
-import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.ProjectRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.ItemAttribute;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.enums.TestItemIssueGroup;
 import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.item.TestItemResults;
+import com.epam.ta.reportportal.entity.item.issue.IssueEntity;
+import com.epam.ta.reportportal.entity.item.issue.IssueGroup;
+import com.epam.ta.reportportal.entity.item.issue.IssueType;
 import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.entity.project.ProjectRole;
 import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.issue.DefineIssueRQ;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import com.epam.ta.reportportal.ws.model.issue.IssueDefinition;
 import com.epam.ta.reportportal.ws.model.item.UpdateTestItemRQ;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,15 +48,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
 import static com.epam.ta.reportportal.core.item.impl.UpdateTestItemHandlerImpl.INITIAL_STATUS_ATTRIBUTE_KEY;
 import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -71,6 +81,24 @@ class UpdateTestItemHandlerImplTest {
 	@Mock
 	private LaunchRepository launchRepository;
 
+	@Mock
+	private IssueTypeHandler issueTypeHandler;
+
+	@Mock
+	private IssueEntityRepository issueEntityRepository;
+
+	@Mock
+	private LogRepository logRepository;
+
+	@Mock
+	private ExternalTicketHandler externalTicketHandler;
+
+	@Mock
+	private LogIndexer logIndexer;
+
+	@Mock
+	private MessageBus messageBus;
+
 	@InjectMocks
 	private UpdateTestItemHandlerImpl handler;
 
@@ -242,4 +270,75 @@ class UpdateTestItemHandlerImplTest {
 				.anyMatch(attribute -> INITIAL_STATUS_ATTRIBUTE_KEY.equalsIgnoreCase(attribute.getKey())
 						&& StatusEnum.PASSED.getExecutionCounterField().equalsIgnoreCase("passed")));
 	}
-}
\ No newline at end of file
+
+	@Test
+	void defineIssuesInBulk() {
+		ReportPortalUser user = getRpUser("user", UserRole.ADMINISTRATOR, ProjectRole.PROJECT_MANAGER, 1L);
+		int itemsCount = 5000;
+
+		Project project = new Project();
+		project.setId(1L);
+		project.setProjectAttributes(Sets.newHashSet());
+
+		IssueType toInvestigate = issueType(TestItemIssueGroup.TO_INVESTIGATE);
+		IssueType productBug = issueType(TestItemIssueGroup.PRODUCT_BUG);
+
+		List<TestItem> items = LongStream.rangeClosed(1, itemsCount).mapToObj(id -> {
+			TestItem item = new TestItem();
+			item.setItemId(id);
+			item.setLaunchId(id % 2 + 1);
+			item.setHasChildren(false);
+			item.setType(TestItemTypeEnum.STEP);
+			TestItemResults itemResults = new TestItemResults();
+			itemResults.setStatus(StatusEnum.FAILED);
+			IssueEntity issueEntity = new IssueEntity();
+			issueEntity.setIssueType(toInvestigate);
+			issueEntity.setIgnoreAnalyzer(false);
+			issueEntity.setAutoAnalyzed(false);
+			itemResults.setIssue(issueEntity);
+			item.setItemResults(itemResults);
+			return item;
+		}).collect(Collectors.toList());
+
+		DefineIssueRQ rq = new DefineIssueRQ();
+		rq.setIssues(items.stream().map(item -> {
+			Issue issue = new Issue();
+			issue.setIssueType(TestItemIssueGroup.PRODUCT_BUG.getLocator());
+			issue.setIgnoreAnalyzer(item.getItemId() % 10 == 0);
+			issue.setAutoAnalyzed(false);
+			IssueDefinition issueDefinition = new IssueDefinition();
+			issueDefinition.setId(item.getItemId());
+			issueDefinition.setIssue(issue);
+			return issueDefinition;
+		}).collect(Collectors.toList()));
+
+		when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+		when(itemRepository.findAllById(anyIterable())).thenReturn(items);
+		when(issueTypeHandler.defineIssueType(1L, TestItemIssueGroup.PRODUCT_BUG.getLocator())).thenReturn(productBug);
+		when(logRepository.findIdsByTestItemIds(anyList())).thenReturn(Lists.newArrayList(1L, 2L));
+
+		List<Issue> updated = handler.defineTestItemsIssues(extractProjectDetails(user, "test_project"), rq, user);
+
+		assertEquals(itemsCount, updated.size());
+		assertTrue(items.stream().allMatch(it -> productBug.equals(it.getItemResults().getIssue().getIssueType())));
+
+		verify(itemRepository, times(1)).findAllById(anyIterable());
+		verify(itemRepository, never()).findById(anyLong());
+		verify(issueTypeHandler, times(1)).defineIssueType(anyLong(), any());
+		verify(issueEntityRepository, times(1)).saveAll(anyCollection());
+		verify(itemRepository, times(1)).saveAll(anyCollection());
+		verify(logIndexer, times(2)).indexItemsLogs(eq(1L), anyLong(), anyList(), any());
+		verify(logRepository, times(1)).findIdsByTestItemIds(anyList());
+		verify(logIndexer, times(1)).cleanIndex(eq(1L), anyList());
+		verify(messageBus, times(1)).publishActivities(anyCollection());
+		verify(externalTicketHandler, times(1)).findTickets(anyCollection());
+	}
+
+	private static IssueType issueType(TestItemIssueGroup group) {
+		IssueType issueType = new IssueType();
+		issueType.setLocator(group.getLocator());
+		issueType.setLongName(group.getValue());
+		issueType.setIssueGroup(new IssueGroup(group));
+		return issueType;
+	}
+}
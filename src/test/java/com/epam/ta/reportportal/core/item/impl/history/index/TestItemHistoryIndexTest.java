@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.history.index;
+
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TestItemHistoryIndexTest {
+
+	private static final Long PROJECT_ID = 1L;
+	private static final Integer HASH = 123;
+	private static final LocalDateTime NOW = LocalDateTime.now();
+
+	private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+
+	private TestItemHistoryIndex historyIndex;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		historyIndex = new TestItemHistoryIndex(mock(TestItemRepository.class), jdbcTemplate, 1000, 10, 60);
+		ResultSet newest = historyRow(3L, 30L, NOW.minusMinutes(1));
+		ResultSet oldest = historyRow(1L, 10L, NOW.minusMinutes(10));
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(2);
+			handler.processRow(newest);
+			handler.processRow(oldest);
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void historyIsLoadedOnce() {
+		Map<Integer, List<Long>> history = historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+		assertEquals(Arrays.asList(3L, 1L), history.get(HASH));
+
+		history = historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 1);
+		assertEquals(Collections.singletonList(3L), history.get(HASH));
+
+		verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void lineHistoryIsIndexedSeparately() {
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+		historyIndex.getHistory(PROJECT_ID, "launch", Collections.singletonList(HASH), 5);
+
+		verify(jdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void finishedItemIsAddedInOrder() {
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+
+		historyIndex.addItem(PROJECT_ID, "launch", 40L, HASH, 4L, NOW);
+		historyIndex.addItem(PROJECT_ID, "launch", 20L, HASH, 2L, NOW.minusMinutes(5));
+		historyIndex.addItem(PROJECT_ID, "launch", 20L, HASH, 2L, NOW.minusMinutes(5));
+
+		assertEquals(Arrays.asList(4L, 3L, 2L, 1L), historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5).get(HASH));
+		verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void historyIsLimitedByCapacity() {
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+		for (long i = 0; i < TestItemHistoryIndex.CAPACITY; i++) {
+			historyIndex.addItem(PROJECT_ID, "launch", 100L, HASH, 100L + i, NOW.plusMinutes(i));
+		}
+
+		List<Long> history = historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), TestItemHistoryIndex.CAPACITY)
+				.get(HASH);
+		assertEquals(TestItemHistoryIndex.CAPACITY, history.size());
+		assertEquals(Long.valueOf(100L + TestItemHistoryIndex.CAPACITY - 1), history.get(0));
+	}
+
+	@Test
+	void historyOfDeletedLaunchIsReloaded() {
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+
+		historyIndex.invalidateLaunches(Collections.singletonList(50L));
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+		verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+		historyIndex.invalidateLaunches(Collections.singletonList(10L));
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+		verify(jdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+		historyIndex.invalidateProject(PROJECT_ID);
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+		verify(jdbcTemplate, times(3)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void historyOfAddedItemLaunchIsReloaded() {
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+		historyIndex.addItem(PROJECT_ID, "launch", 40L, HASH, 4L, NOW);
+
+		historyIndex.invalidateLaunches(Collections.singletonList(40L));
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+		verify(jdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void historyLoadedConcurrentlyWithInvalidationIsNotKept() throws SQLException {
+		ResultSet row = historyRow(1L, 10L, NOW);
+		doAnswer(invocation -> {
+			historyIndex.invalidateLaunches(Collections.singletonList(10L));
+			RowCallbackHandler handler = invocation.getArgument(2);
+			handler.processRow(row);
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+		Map<Integer, List<Long>> history = historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+		assertEquals(Collections.singletonList(1L), history.get(HASH));
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+		verify(jdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void itemFinishedWhileHistoryIsLoadedIsKept() throws SQLException {
+		ResultSet row = historyRow(1L, 10L, NOW.minusMinutes(10));
+		doAnswer(invocation -> {
+			historyIndex.addItem(PROJECT_ID, "launch", 40L, HASH, 4L, NOW);
+			RowCallbackHandler handler = invocation.getArgument(2);
+			handler.processRow(row);
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+		historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5);
+
+		assertEquals(Arrays.asList(4L, 1L), historyIndex.getHistory(PROJECT_ID, null, Collections.singletonList(HASH), 5).get(HASH));
+		verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	private static ResultSet historyRow(Long itemId, Long launchId, LocalDateTime startTime) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getInt("test_case_hash")).thenReturn(HASH);
+		when(rs.getLong("item_id")).thenReturn(itemId);
+		when(rs.getLong("launch_id")).thenReturn(launchId);
+		when(rs.getTimestamp("start_time")).thenReturn(Timestamp.valueOf(startTime));
+		return rs;
+	}
+}
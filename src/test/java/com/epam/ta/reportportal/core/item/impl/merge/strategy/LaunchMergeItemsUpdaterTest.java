@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.merge.strategy;
+
+import com.epam.ta.reportportal.core.item.impl.TestItemUniqueIdGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LaunchMergeItemsUpdaterTest {
+
+	private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+
+	private final LaunchMergeItemsUpdater updater = new LaunchMergeItemsUpdater(jdbcTemplate, mock(TestItemUniqueIdGenerator.class));
+
+	@Test
+	void moveItemsWithSingleStatement() {
+		when(jdbcTemplate.update(anyString(), any(MapSqlParameterSource.class))).thenReturn(10);
+
+		assertEquals(10, updater.moveItems(Arrays.asList(1L, 2L), 3L));
+		verify(jdbcTemplate, times(1)).update(anyString(), any(MapSqlParameterSource.class));
+	}
+
+	@Test
+	void regenerateUniqueIdsOfEmptyLaunch() {
+		when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class))).thenReturn(Collections.emptyList());
+
+		assertEquals(0, updater.regenerateUniqueIds(1L, null));
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+	}
+}
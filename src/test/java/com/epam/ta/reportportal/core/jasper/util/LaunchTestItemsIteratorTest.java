@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.jasper.util;
+
+import com.epam.ta.reportportal.core.jasper.TestItemPojo;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.EXECUTIONS_TOTAL;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LaunchTestItemsIteratorTest {
+
+	private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void itemsAreLoadedByChunks() throws SQLException {
+		List<ResultSet> firstChunk = Arrays.asList(itemRow(2L, "1.2", 1), itemRow(3L, "1.2.3", 2));
+		List<ResultSet> secondChunk = Collections.singletonList(itemRow(4L, "1.4", 3));
+		when(jdbcTemplate.query(startsWith("SELECT ti.item_id"), any(SqlParameterSource.class), any(RowMapper.class))).thenAnswer(
+				invocation -> map(invocation.getArgument(2), firstChunk))
+				.thenAnswer(invocation -> map(invocation.getArgument(2), secondChunk));
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(2);
+			handler.processRow(nameRow(1L, "suite"));
+			handler.processRow(nameRow(2L, "test"));
+			return null;
+		}).when(jdbcTemplate).query(startsWith("SELECT item_id, name"), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(2);
+			handler.processRow(statisticsRow(3L, EXECUTIONS_TOTAL, 1));
+			return null;
+		}).when(jdbcTemplate).query(startsWith("SELECT s.item_id"), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+		LaunchTestItemsIterator iterator = new LaunchTestItemsIterator(jdbcTemplate, 1L, Collections.singletonMap(10L, "Product Bug"), 2);
+		List<TestItemPojo> items = new ArrayList<>();
+		iterator.forEachRemaining(items::add);
+
+		assertEquals(3, items.size());
+		assertEquals("suite", items.get(0).getPath());
+		assertEquals("suite / test", items.get(1).getPath());
+		assertEquals("item3", items.get(1).getItemName());
+		assertEquals(Integer.valueOf(1), items.get(1).getTotal());
+		assertEquals(Integer.valueOf(0), items.get(0).getTotal());
+		assertEquals("Product Bug", items.get(1).getDefectType());
+		assertEquals(Double.valueOf(1.5), items.get(1).getDuration());
+
+		verify(jdbcTemplate, times(2)).query(startsWith("SELECT ti.item_id"), any(SqlParameterSource.class), any(RowMapper.class));
+		verify(jdbcTemplate).query(contains("> (:startTime, :itemId)"), any(SqlParameterSource.class), any(RowMapper.class));
+		verify(jdbcTemplate, times(2)).query(startsWith("SELECT s.item_id"), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	private static List<Object> map(RowMapper<?> mapper, List<ResultSet> rows) throws SQLException {
+		List<Object> result = new ArrayList<>();
+		for (int i = 0; i < rows.size(); i++) {
+			result.add(mapper.mapRow(rows.get(i), i));
+		}
+		return result;
+	}
+
+	private static ResultSet itemRow(Long id, String path, int startSecond) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getLong("item_id")).thenReturn(id);
+		when(rs.getString("name")).thenReturn("item" + id);
+		when(rs.getString("type")).thenReturn("STEP");
+		when(rs.getString("path")).thenReturn(path);
+		when(rs.getTimestamp("start_time")).thenReturn(new Timestamp(startSecond * 1000L));
+		when(rs.getTimestamp("end_time")).thenReturn(new Timestamp(startSecond * 1000L + 1500));
+		when(rs.getString("status")).thenReturn("FAILED");
+		when(rs.getLong("issue_type")).thenReturn(id == 3L ? 10L : 0L);
+		when(rs.wasNull()).thenReturn(id != 3L);
+		return rs;
+	}
+
+	private static ResultSet nameRow(Long id, String name) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getLong("item_id")).thenReturn(id);
+		when(rs.getString("name")).thenReturn(name);
+		return rs;
+	}
+
+	private static ResultSet statisticsRow(Long id, String field, int counter) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getLong("item_id")).thenReturn(id);
+		when(rs.getString("name")).thenReturn(field);
+		when(rs.getInt("s_counter")).thenReturn(counter);
+		return rs;
+	}
+}
@@ -17,6 +17,9 @@
 package com.epam.ta.reportportal.core.launch.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.deletion.DeletionJob;
+import com.epam.ta.reportportal.core.deletion.DeletionJobService;
+import com.epam.ta.reportportal.core.deletion.LaunchContentDeleter;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -34,7 +37,8 @@ import static com.epam.ta.reportportal.core.launch.impl.LaunchTestUtil.getLaunch
 import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -45,6 +49,12 @@ class DeleteLaunchHandlerImplTest {
 	@Mock
 	private LaunchRepository launchRepository;
 
+	@Mock
+	private DeletionJobService deletionJobService;
+
+	@Mock
+	private LaunchContentDeleter launchContentDeleter;
+
 	@InjectMocks
 	private DeleteLaunchHandlerImpl handler;
 
@@ -80,4 +90,29 @@ class DeleteLaunchHandlerImplTest {
 		assertThrows(ReportPortalException.class, () -> handler.deleteLaunch(1L, extractProjectDetails(rpUser, "test_project"), rpUser));
 	}
 
-}
\ No newline at end of file
+
+	@Test
+	void deleteLaunchPendingDeletion() {
+		final ReportPortalUser rpUser = getRpUser("test", UserRole.USER, ProjectRole.PROJECT_MANAGER, 1L);
+		when(launchRepository.findById(1L)).thenReturn(getLaunch(StatusEnum.PASSED, LaunchModeEnum.DEFAULT));
+		when(deletionJobService.isPending(DeletionJob.Target.LAUNCH, 1L)).thenReturn(true);
+
+		final ReportPortalException exception = assertThrows(ReportPortalException.class,
+				() -> handler.deleteLaunch(1L, extractProjectDetails(rpUser, "test_project"), rpUser)
+		);
+		assertEquals("Forbidden operation. Launch '1' is already being deleted", exception.getMessage());
+	}
+
+	@Test
+	void deleteLaunchContentDeletionPending() {
+		final ReportPortalUser rpUser = getRpUser("test", UserRole.USER, ProjectRole.PROJECT_MANAGER, 1L);
+		when(launchRepository.findById(1L)).thenReturn(getLaunch(StatusEnum.PASSED, LaunchModeEnum.DEFAULT));
+		when(launchContentDeleter.isPending(1L)).thenReturn(true);
+
+		final ReportPortalException exception = assertThrows(ReportPortalException.class,
+				() -> handler.deleteLaunch(1L, extractProjectDetails(rpUser, "test_project"), rpUser)
+		);
+		assertEquals("Forbidden operation. Launch '1' is already being deleted", exception.getMessage());
+		verify(launchRepository, never()).delete(any());
+	}
+}
@@ -28,8 +28,10 @@ import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.converter.converters.LaunchConverter;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
@@ -48,7 +50,7 @@ import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetai
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -235,6 +237,27 @@ class GetLaunchHandlerImplTest {
 		assertEquals("User '1' not found.", exception.getMessage());
 	}
 
+	@Test
+	void exportXlsOverRowLimit() {
+		long launchId = 1L;
+		ReportPortalUser user = getRpUser("user", UserRole.USER, ProjectRole.MEMBER, 1L);
+
+		Launch launch = new Launch();
+		launch.setId(launchId);
+		launch.setStatus(StatusEnum.FAILED);
+		User owner = new User();
+		owner.setFullName("User");
+		when(launchRepository.findById(launchId)).thenReturn(Optional.of(launch));
+		when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+		when(jasperDataProvider.countTestItemsOfLaunch(launch)).thenReturn(100_000L);
+
+		ReportPortalException exception = assertThrows(ReportPortalException.class,
+				() -> handler.exportLaunch(launchId, ReportFormat.XLS, null, user)
+		);
+		assertEquals(ErrorType.BAD_REQUEST_ERROR, exception.getErrorType());
+		verify(getJasperReportHandler, never()).getJasperPrint(any(), any());
+	}
+
 	@Test
 	void getLaunchInDebugModeByCustomer() {
 		long projectId = 1L;
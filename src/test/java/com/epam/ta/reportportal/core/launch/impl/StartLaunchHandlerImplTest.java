@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.launch.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.launch.LatestLaunchAddedEvent;
 import com.epam.ta.reportportal.core.launch.rerun.RerunHandler;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
@@ -33,6 +34,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Date;
 import java.util.Optional;
@@ -60,6 +62,9 @@ class StartLaunchHandlerImplTest {
 	@Mock
 	private RerunHandler rerunHandler;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private StartLaunchHandlerImpl startLaunchHandlerImpl;
 
@@ -79,6 +84,7 @@ class StartLaunchHandlerImplTest {
 
 		verify(launchRepository, times(1)).save(any(Launch.class));
 		verify(launchRepository, times(1)).refresh(any(Launch.class));
+		verify(eventPublisher, times(1)).publishEvent(any(LatestLaunchAddedEvent.class));
 		assertNotNull(startLaunchRS);
 	}
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.index;
+
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LatestLaunchIndexTest {
+
+	private static final Long PROJECT_ID = 1L;
+	private static final String LAUNCH_NAME = "launch";
+
+	private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+
+	private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+
+	private LatestLaunchIndex latestLaunchIndex;
+
+	@BeforeEach
+	void setUp() {
+		latestLaunchIndex = new LatestLaunchIndex(launchRepository, jdbcTemplate, 1000, 10);
+		doAnswer(invocation -> {
+			RowMapper<?> mapper = invocation.getArgument(2);
+			return Collections.singletonList(mapper.mapRow(launchRow(10L, 5L), 0));
+		}).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void latestLaunchIsLoadedOnce() {
+		assertEquals(Optional.of(10L), latestLaunchIndex.getLatestId(PROJECT_ID, LAUNCH_NAME));
+		assertEquals(Optional.of(10L), latestLaunchIndex.getLatestId(PROJECT_ID, LAUNCH_NAME));
+
+		verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void startedLaunchReplacesLatest() {
+		latestLaunchIndex.getLatestId(PROJECT_ID, LAUNCH_NAME);
+
+		latestLaunchIndex.addLaunch(PROJECT_ID, LAUNCH_NAME, 12L, 7L);
+		latestLaunchIndex.addLaunch(PROJECT_ID, LAUNCH_NAME, 11L, 6L);
+		latestLaunchIndex.addLaunch(PROJECT_ID, "other", 13L, 1L);
+
+		assertEquals(Optional.of(12L), latestLaunchIndex.getLatestId(PROJECT_ID, LAUNCH_NAME));
+		assertEquals(Optional.of(13L), latestLaunchIndex.getLatestId(PROJECT_ID, "other"));
+		verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void latestLaunchIsReloadedAfterDeletion() {
+		latestLaunchIndex.getLatestId(PROJECT_ID, LAUNCH_NAME);
+
+		latestLaunchIndex.invalidateNames(PROJECT_ID, Collections.singletonList("other"));
+		latestLaunchIndex.invalidateNames(2L, Collections.singletonList(LAUNCH_NAME));
+		latestLaunchIndex.getLatestId(PROJECT_ID, LAUNCH_NAME);
+		verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+
+		latestLaunchIndex.invalidateNames(PROJECT_ID, Collections.singletonList(LAUNCH_NAME));
+		latestLaunchIndex.getLatestId(PROJECT_ID, LAUNCH_NAME);
+		verify(jdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void launchDeletedOnOtherNodeIsReloaded() {
+		Launch launch = new Launch();
+		launch.setId(10L);
+		when(launchRepository.findById(12L)).thenReturn(Optional.empty());
+		when(launchRepository.findById(10L)).thenReturn(Optional.of(launch));
+		latestLaunchIndex.addLaunch(PROJECT_ID, LAUNCH_NAME, 12L, 7L);
+
+		assertEquals(Optional.of(launch), latestLaunchIndex.findLatest(PROJECT_ID, LAUNCH_NAME));
+		assertEquals(Optional.of(10L), latestLaunchIndex.getLatestId(PROJECT_ID, LAUNCH_NAME));
+		verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void missingLaunchIsNotIndexed() {
+		when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(Collections.emptyList());
+
+		assertFalse(latestLaunchIndex.getLatestId(PROJECT_ID, LAUNCH_NAME).isPresent());
+		latestLaunchIndex.addLaunch(PROJECT_ID, LAUNCH_NAME, 1L, 1L);
+		assertEquals(Optional.of(1L), latestLaunchIndex.getLatestId(PROJECT_ID, LAUNCH_NAME));
+	}
+
+	private static ResultSet launchRow(Long id, Long number) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getLong("id")).thenReturn(id);
+		when(rs.getLong("number")).thenReturn(number);
+		return rs;
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.impl;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.commons.querygen.Condition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.core.item.TestItemService;
+import com.epam.ta.reportportal.core.log.NestedItemsSliceRS;
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.dao.constant.LogRepositoryConstants;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.item.TestItemResults;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.log.Log;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Optional;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static com.epam.ta.reportportal.commons.querygen.constant.LogCriteriaConstant.CRITERIA_LOG_LEVEL;
+import static com.epam.ta.reportportal.commons.querygen.constant.LogCriteriaConstant.CRITERIA_LOG_MESSAGE;
+import static com.epam.ta.reportportal.commons.querygen.constant.LogCriteriaConstant.CRITERIA_LOG_TIME;
+import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetLogHandlerImplTest {
+
+	private static final long PROJECT_ID = 1L;
+
+	private static final long PARENT_ID = 10L;
+
+	@Mock
+	private LogRepository logRepository;
+
+	@Mock
+	private TestItemRepository testItemRepository;
+
+	@Mock
+	private TestItemService testItemService;
+
+	@Mock
+	private NestedItemsKeysetLoader nestedItemsKeysetLoader;
+
+	private GetLogHandlerImpl handler;
+
+	private ReportPortalUser.ProjectDetails projectDetails;
+
+	@BeforeEach
+	void setUp() {
+		handler = new GetLogHandlerImpl(logRepository, testItemRepository, testItemService, nestedItemsKeysetLoader, 100, 60);
+		projectDetails = extractProjectDetails(getRpUser("user", UserRole.USER, ProjectRole.MEMBER, PROJECT_ID), "test_project");
+	}
+
+	@Test
+	void pageNumberIsCached() {
+		Filter filter = logFilter();
+		PageRequest pageable = PageRequest.of(0, 50);
+		when(logRepository.getPageNumber(1L, filter, pageable)).thenReturn(3);
+
+		assertEquals(3L, handler.getPageNumber(1L, projectDetails, filter, pageable));
+		assertEquals(3L, handler.getPageNumber(1L, projectDetails, logFilter(), PageRequest.of(0, 50)));
+		verify(logRepository, times(1)).getPageNumber(anyLong(), any(Filter.class), any());
+
+		when(logRepository.getPageNumber(1L, filter, PageRequest.of(0, 100))).thenReturn(2);
+		assertEquals(2L, handler.getPageNumber(1L, projectDetails, filter, PageRequest.of(0, 100)));
+	}
+
+	@Test
+	void sliceWithNextCursor() {
+		mockParent();
+		NestedItemPosition first = position(1L);
+		NestedItemPosition second = position(2L);
+		when(nestedItemsKeysetLoader.load(eq(PARENT_ID), eq(false), eq(false), isNull(), isNull(), eq(false), eq(3))).thenReturn(
+				Lists.newArrayList(first, second, position(3L)));
+		when(logRepository.findAllById(any())).thenReturn(Collections.emptyList());
+
+		NestedItemsSliceRS slice = handler.getNestedItemsSlice(PARENT_ID,
+				projectDetails,
+				Collections.emptyMap(),
+				null,
+				new Filter(Log.class, Lists.newArrayList()),
+				PageRequest.of(0, 2)
+		);
+
+		assertEquals(second, NestedItemPosition.decode(slice.getNextCursor()));
+		verify(logRepository).findAllById(Sets.newHashSet(1L, 2L));
+	}
+
+	@Test
+	void lastSliceStartsAfterCursor() {
+		mockParent();
+		NestedItemPosition after = position(2L);
+		when(nestedItemsKeysetLoader.load(PARENT_ID, false, false, LogLevel.ERROR_INT, after, true, 3)).thenReturn(Collections.singletonList(
+				position(1L)));
+		when(logRepository.findAllById(any())).thenReturn(Collections.emptyList());
+
+		Filter filter = new Filter(Log.class, Lists.newArrayList());
+		filter.withCondition(new FilterCondition(Condition.GREATER_THAN_OR_EQUALS, false, LogLevel.ERROR.name(), CRITERIA_LOG_LEVEL));
+		NestedItemsSliceRS slice = handler.getNestedItemsSlice(PARENT_ID,
+				projectDetails,
+				Collections.emptyMap(),
+				after.encode(),
+				filter,
+				PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, CRITERIA_LOG_TIME))
+		);
+
+		assertNull(slice.getNextCursor());
+	}
+
+	@Test
+	void sliceWithUnsupportedFilter() {
+		mockParent();
+		Filter filter = logFilter();
+		filter.withCondition(new FilterCondition(Condition.CONTAINS, false, "error", CRITERIA_LOG_MESSAGE));
+
+		assertThrows(ReportPortalException.class,
+				() -> handler.getNestedItemsSlice(PARENT_ID, projectDetails, Collections.emptyMap(), null, filter, PageRequest.of(0, 2))
+		);
+		verifyNoInteractions(nestedItemsKeysetLoader);
+	}
+
+	@Test
+	void invalidCursor() {
+		assertThrows(ReportPortalException.class, () -> NestedItemPosition.decode("not a cursor"));
+	}
+
+	private void mockParent() {
+		TestItem parent = new TestItem();
+		parent.setItemId(PARENT_ID);
+		TestItemResults results = new TestItemResults();
+		results.setStatus(StatusEnum.FAILED);
+		parent.setItemResults(results);
+		Launch launch = new Launch();
+		launch.setId(2L);
+		launch.setProjectId(PROJECT_ID);
+		when(testItemRepository.findById(PARENT_ID)).thenReturn(Optional.of(parent));
+		when(testItemService.getEffectiveLaunch(parent)).thenReturn(launch);
+	}
+
+	private static Filter logFilter() {
+		return Filter.builder()
+				.withTarget(Log.class)
+				.withCondition(new FilterCondition(Condition.EQUALS, false, String.valueOf(PARENT_ID), "item"))
+				.build();
+	}
+
+	private static NestedItemPosition position(Long id) {
+		Timestamp time = new Timestamp(1_570_000_000_000L + id);
+		time.setNanos(time.getNanos() + 123);
+		return new NestedItemPosition(time, LogRepositoryConstants.LOG, id);
+	}
+}
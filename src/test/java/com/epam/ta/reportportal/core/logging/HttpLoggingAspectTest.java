@@ -19,29 +19,35 @@ package com.epam.ta.reportportal.core.logging;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.Appender;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static com.epam.ta.reportportal.core.logging.HelperUtil.checkLoggingRecords;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class HttpLoggingAspectTest {
@@ -69,13 +75,9 @@ class HttpLoggingAspectTest {
 
 	@BeforeAll
 	static void beforeAll() {
-		aspect = new HttpLoggingAspect();
-		ReflectionTestUtils.setField(aspect, "objectMapper", new ObjectMapper());
+		aspect = new HttpLoggingAspect(new ObjectMapper(), Runnable::run, 1.0, 4096);
 
-		HelperController controller = new HelperController();
-		AspectJProxyFactory factory = new AspectJProxyFactory(controller);
-		factory.addAspect(aspect);
-		proxy = factory.getProxy();
+		proxy = createProxy(aspect);
 
 		request = new MockHttpServletRequest("GET", "/request/path/is/here");
 		request.setQueryString("ddd=qwerty");
@@ -109,8 +111,13 @@ class HttpLoggingAspectTest {
 
 		long count = COUNT.incrementAndGet();
 		ResponseEntity<Map<String, Object>> response = proxy.logFull(payload);
-		formatRequestResponseAndPrint(count, "logFull", request, response);
+		formatRequestResponse(count, "logFull", request, response);
 
+		assertTrue(requestLog.contains(" GET /request/path/is/here"));
+		assertTrue(requestLog.contains(" Host: localhost"));
+		assertTrue(requestLog.contains("\"key1\":\"one\""));
+		assertTrue(responseLog.contains(" Server: Apache"));
+		assertTrue(responseLog.contains("\"key2\":\"two\""));
 		checkLoggingRecords(appender, 2, new Level[] { Level.DEBUG, Level.DEBUG }, requestLog, responseLog);
 	}
 
@@ -124,8 +131,12 @@ class HttpLoggingAspectTest {
 
 		long count = COUNT.incrementAndGet();
 		ResponseEntity<Map<String, Object>> response = proxy.logWithoutHeaders(payload);
-		formatRequestResponseAndPrint(count, "logWithoutHeaders", request, response);
+		formatRequestResponse(count, "logWithoutHeaders", request, response);
 
+		assertFalse(requestLog.contains("Host:"));
+		assertFalse(responseLog.contains("Server:"));
+		assertTrue(requestLog.contains("\"key1\":\"one\""));
+		assertTrue(responseLog.contains("\"key2\":\"two\""));
 		checkLoggingRecords(appender, 2, new Level[] { Level.DEBUG, Level.DEBUG }, requestLog, responseLog);
 	}
 
@@ -139,17 +150,61 @@ class HttpLoggingAspectTest {
 
 		long count = COUNT.incrementAndGet();
 		ResponseEntity<Map<String, Object>> response = proxy.logWithoutBody(payload);
-		formatRequestResponseAndPrint(count, "logWithoutBody", request, response);
+		formatRequestResponse(count, "logWithoutBody", request, response);
 
+		assertTrue(requestLog.contains(" Host: localhost"));
+		assertFalse(requestLog.contains("-- Body --"));
+		assertFalse(responseLog.contains("-- Body --"));
 		checkLoggingRecords(appender, 2, new Level[] { Level.DEBUG, Level.DEBUG }, requestLog, responseLog);
 	}
 
-	private void formatRequestResponseAndPrint(long count, String prefix, HttpServletRequest request, ResponseEntity response)
-			throws Exception {
+	@Test
+	void testNotSampled() {
+		HelperController notSampled = createProxy(new HttpLoggingAspect(new ObjectMapper(), Runnable::run, 0.0, 4096));
+
+		notSampled.logFull(payload);
+
+		verify(appender, never()).doAppend(any());
+	}
+
+	@Test
+	void testTruncatedBody() {
+		HelperController truncated = createProxy(new HttpLoggingAspect(new ObjectMapper(), Runnable::run, 1.0, 10));
+
+		truncated.logFull(payload);
+
+		ArgumentCaptor<LoggingEvent> argument = ArgumentCaptor.forClass(LoggingEvent.class);
+		verify(appender, times(2)).doAppend(argument.capture());
+		argument.getAllValues().forEach(event -> assertTrue(event.getMessage().endsWith(" <truncated>")));
+	}
+
+	@Test
+	void testBodySerializedInRequestThread() {
+		List<Runnable> tasks = new ArrayList<>();
+		HelperController deferred = createProxy(new HttpLoggingAspect(new ObjectMapper(), tasks::add, 1.0, 4096));
+		Map<Object, Object> body = new HashMap<>(payload);
+
+		deferred.logFull(body);
+		body.put("key1", "changed");
+		tasks.forEach(Runnable::run);
+
+		ArgumentCaptor<LoggingEvent> argument = ArgumentCaptor.forClass(LoggingEvent.class);
+		verify(appender, times(2)).doAppend(argument.capture());
+		argument.getAllValues().forEach(event -> {
+			assertTrue(event.getMessage().contains("\"key1\":\"one\""));
+			assertFalse(event.getMessage().contains("changed"));
+		});
+	}
+
+	private static HelperController createProxy(HttpLoggingAspect httpLoggingAspect) {
+		AspectJProxyFactory factory = new AspectJProxyFactory(new HelperController());
+		factory.addAspect(httpLoggingAspect);
+		return factory.getProxy();
+	}
+
+	private void formatRequestResponse(long count, String prefix, HttpServletRequest request, ResponseEntity response) throws Exception {
 		requestLog = aspect.formatRequestRecord(count, prefix, request, payload, annotation);
 		responseLog = aspect.formatResponseRecord(count, prefix, response, annotation, 0L);
-		System.out.println(requestLog);
-		System.out.println(responseLog);
 	}
 
 }
\ No newline at end of file
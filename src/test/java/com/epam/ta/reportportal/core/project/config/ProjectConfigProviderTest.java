@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.config;
+
+import com.epam.ta.reportportal.core.events.project.ProjectConfigChangedEvent;
+import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ProjectConfigProviderTest {
+
+	private static final Long PROJECT_ID = 1L;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+
+	private final ProjectConfigProvider projectConfigProvider = new ProjectConfigProvider(jdbcTemplate, 100, 10);
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		ResultSet autoAnalyzer = attributeRow(ProjectAttributeEnum.AUTO_ANALYZER_ENABLED.getAttribute(), "true");
+		ResultSet notifications = attributeRow(ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getAttribute(), "false");
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(2);
+			handler.processRow(autoAnalyzer);
+			handler.processRow(notifications);
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void configIsLoadedOnce() {
+		ProjectConfig config = projectConfigProvider.get(PROJECT_ID);
+
+		assertTrue(config.isEnabled(ProjectAttributeEnum.AUTO_ANALYZER_ENABLED));
+		assertFalse(config.isEnabled(ProjectAttributeEnum.NOTIFICATIONS_ENABLED));
+		assertTrue(config.getAnalyzerConfig().getIsAutoAnalyzerEnabled());
+		assertEquals(Integer.valueOf(ProjectAttributeEnum.NUMBER_OF_LOG_LINES.getDefaultValue()),
+				config.getAnalyzerConfig().getNumberOfLogLines()
+		);
+
+		assertSame(config, projectConfigProvider.get(PROJECT_ID));
+		verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void analyzerConfigIsCopied() {
+		ProjectConfig config = projectConfigProvider.get(PROJECT_ID);
+		AnalyzerConfig analyzerConfig = config.getAnalyzerConfig();
+		analyzerConfig.setIsAutoAnalyzerEnabled(false);
+
+		assertTrue(config.getAnalyzerConfig().getIsAutoAnalyzerEnabled());
+	}
+
+	@Test
+	void configIsReloadedWhenChanged() {
+		projectConfigProvider.get(PROJECT_ID);
+
+		projectConfigProvider.onConfigChanged(new ProjectConfigChangedEvent(2L));
+		projectConfigProvider.get(PROJECT_ID);
+		verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+		projectConfigProvider.onConfigChanged(new ProjectConfigChangedEvent(PROJECT_ID));
+		projectConfigProvider.get(PROJECT_ID);
+		verify(jdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void configInvalidatedDuringLoadIsNotCached() throws SQLException {
+		ResultSet notifications = attributeRow(ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getAttribute(), "false");
+		doAnswer(invocation -> {
+			projectConfigProvider.invalidate(PROJECT_ID);
+			((RowCallbackHandler) invocation.getArgument(2)).processRow(notifications);
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+		assertFalse(projectConfigProvider.get(PROJECT_ID).isEnabled(ProjectAttributeEnum.NOTIFICATIONS_ENABLED));
+		projectConfigProvider.get(PROJECT_ID);
+		verify(jdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	@Test
+	void missingProjectIsNotCached() {
+		doNothing().when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+		assertThrows(ReportPortalException.class, () -> projectConfigProvider.get(PROJECT_ID));
+		assertThrows(ReportPortalException.class, () -> projectConfigProvider.get(PROJECT_ID));
+		verify(jdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+	}
+
+	private static ResultSet attributeRow(String name, String value) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getString("name")).thenReturn(name);
+		when(rs.getString("value")).thenReturn(value);
+		return rs;
+	}
+}
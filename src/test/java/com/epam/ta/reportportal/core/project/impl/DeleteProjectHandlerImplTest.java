@@ -19,6 +19,8 @@ package com.epam.ta.reportportal.core.project.impl;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.ta.reportportal.core.deletion.DeletionJob;
+import com.epam.ta.reportportal.core.deletion.DeletionJobService;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.ProjectIndexEvent;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -68,6 +70,9 @@ class DeleteProjectHandlerImplTest {
 	@Mock
 	private MessageBus messageBus;
 
+	@Mock
+	private DeletionJobService deletionJobService;
+
 	@InjectMocks
 	private DeleteProjectHandlerImpl handler;
 
@@ -81,6 +86,18 @@ class DeleteProjectHandlerImplTest {
 		assertEquals("Project '1' not found. Did you use correct project name?", exception.getMessage());
 	}
 
+	@Test
+	void deleteProjectPendingDeletion() {
+		Long projectId = 1L;
+		when(projectRepository.findById(projectId)).thenReturn(Optional.of(new Project()));
+		when(deletionJobService.isPending(DeletionJob.Target.PROJECT, projectId)).thenReturn(true);
+
+		ReportPortalException exception = assertThrows(ReportPortalException.class, () -> handler.deleteProject(projectId));
+
+		assertEquals("Forbidden operation. Project with id = '1' is already being deleted", exception.getMessage());
+		verify(projectRepository, never()).delete(any(Project.class));
+	}
+
 	@Test
 	void deleteIndexOnNotExistProject() {
 		String projectName = "notExist";
@@ -30,10 +30,7 @@ import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.IsoFields;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -156,6 +153,41 @@ class ProjectInfoWidgetDataConverterTest {
 		assertEquals("7", launchesIssues.get(thisWeekFormattedDate).get(0).getValues().get("automationBug"));
 	}
 
+	@Test
+	void getProjectInfoFromAggregatedStatistics() {
+		Map<LocalDate, LaunchGroupStatistics> periods = new LinkedHashMap<>();
+		periods.put(yesterday.minusDays(1), new LaunchGroupStatistics(1, 2, 3, 3, 4, 18, 18, 18));
+		periods.put(today, new LaunchGroupStatistics(2, 1, 4, 3, 5, 18, 21, 19.5));
+		Map<String, LaunchGroupStatistics> grouped = ProjectInfoWidgetDataConverter.withEmptyPeriods(periods,
+				ProjectInfoWidgetDataConverter.ProjectInfoGroup.BY_DAY
+		);
+
+		assertEquals(Arrays.asList(yesterday.minusDays(1).toString(), yesterdayString, todayString), new ArrayList<>(grouped.keySet()));
+
+		Map<String, List<ChartObject>> launchesQuantity = converter.getLaunchesQuantity(grouped, InfoInterval.ONE_MONTH);
+		assertEquals("0", launchesQuantity.get(yesterdayString).get(0).getValues().get("count"));
+		assertEquals("2", launchesQuantity.get(todayString).get(0).getValues().get("count"));
+
+		Map<String, List<ChartObject>> investigatedProjectInfo = converter.getInvestigatedProjectInfo(grouped);
+		assertEquals("0", investigatedProjectInfo.get(yesterdayString).get(0).getValues().get("investigated"));
+		assertEquals("38.46", investigatedProjectInfo.get(todayString).get(0).getValues().get("toInvestigate"));
+
+		Map<String, List<ChartObject>> launchesIssues = converter.getLaunchesIssues(grouped);
+		assertEquals("4", launchesIssues.get(todayString).get(0).getValues().get("automationBug"));
+	}
+
+	@Test
+	void getTestCasesStatisticsFromAggregatedStatistics() {
+		Map<String, List<ChartObject>> testCasesStatisticsProjectInfo = converter.getTestCasesStatisticsProjectInfo(Collections.singletonMap(
+				"test_launch",
+				new LaunchGroupStatistics(2, 0, 0, 0, 0, 18, 21, 19.5)
+		));
+
+		assertEquals("18.0", testCasesStatisticsProjectInfo.get("test_launch").get(0).getValues().get("min"));
+		assertEquals("19.5", testCasesStatisticsProjectInfo.get("test_launch").get(0).getValues().get("avg"));
+		assertEquals("21.0", testCasesStatisticsProjectInfo.get("test_launch").get(0).getValues().get("max"));
+	}
+
 	private List<Launch> getTestData() {
 		Launch launch1 = new Launch();
 		launch1.setName("test_launch");
@@ -16,6 +16,7 @@
 
 package com.epam.ta.reportportal.core.user.impl;
 
+import com.epam.ta.reportportal.auth.event.UserAccessChangedEvent;
 import com.epam.ta.reportportal.dao.UserRepository;
 import com.epam.ta.reportportal.entity.project.ProjectRole;
 import com.epam.ta.reportportal.entity.user.User;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -45,6 +47,9 @@ class DeleteUserHandlerImplTest {
 	@Mock
 	private UserRepository repository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private DeleteUserHandlerImpl handler;
 
@@ -58,7 +63,7 @@ class DeleteUserHandlerImplTest {
 		handler.deleteUser(2L, getRpUser("test", UserRole.USER, ProjectRole.PROJECT_MANAGER, 1L));
 
 		verify(repository, times(1)).findById(2L);
-
+		verify(eventPublisher, times(1)).publishEvent(any(UserAccessChangedEvent.class));
 	}
 
 	@Test
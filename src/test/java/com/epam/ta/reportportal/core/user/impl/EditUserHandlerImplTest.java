@@ -16,6 +16,8 @@
 
 package com.epam.ta.reportportal.core.user.impl;
 
+import com.epam.ta.reportportal.binary.UserBinaryDataService;
+import com.epam.ta.reportportal.core.events.attachment.UserPhotoChangedEvent;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
 import com.epam.ta.reportportal.entity.project.ProjectRole;
@@ -27,16 +29,21 @@ import com.epam.ta.reportportal.ws.model.user.ChangePasswordRQ;
 import com.epam.ta.reportportal.ws.model.user.EditUserRQ;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.when;
 
 /**
@@ -51,6 +58,12 @@ class EditUserHandlerImplTest {
 	@Mock
 	private ProjectRepository projectRepository;
 
+	@Mock
+	private UserBinaryDataService userBinaryDataService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private EditUserHandlerImpl handler;
 
@@ -93,6 +106,24 @@ class EditUserHandlerImplTest {
 		assertEquals("You do not have enough permissions. Unable to change photo for external user", exception.getMessage());
 	}
 
+	@Test
+	void deletePhotoInvalidatesPreviousFilesAfterDeletion() {
+		User user = new User();
+		user.setLogin("test");
+		user.setUserType(UserType.INTERNAL);
+		user.setAttachment("photo");
+		user.setAttachmentThumbnail("thumbnail");
+		when(userRepository.findByLogin("test")).thenReturn(Optional.of(user));
+
+		handler.deletePhoto("test");
+
+		InOrder inOrder = inOrder(userBinaryDataService, eventPublisher);
+		inOrder.verify(userBinaryDataService).deleteUserPhoto(user);
+		ArgumentCaptor<UserPhotoChangedEvent> captor = ArgumentCaptor.forClass(UserPhotoChangedEvent.class);
+		inOrder.verify(eventPublisher).publishEvent(captor.capture());
+		assertEquals(Arrays.asList("photo", "thumbnail"), captor.getValue().getFileIds());
+	}
+
 	@Test
 	void changeNotExistUserPassword() {
 		when(userRepository.findByLogin("not_exist")).thenReturn(Optional.empty());
@@ -31,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 
 import java.util.Collections;
@@ -58,6 +59,9 @@ class InterruptBrokenLaunchesJobTest {
 	@Mock
 	private ProjectRepository projectRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private InterruptBrokenLaunchesJob interruptBrokenLaunchesJob;
 
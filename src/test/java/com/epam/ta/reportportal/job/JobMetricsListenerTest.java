@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobMetricsListenerTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final JobMetricsListener jobMetricsListener = new JobMetricsListener(meterRegistry);
+
+	@Test
+	void recordJobRunTime() {
+		JobExecutionContext context = mock(JobExecutionContext.class);
+		when(context.getJobDetail()).thenReturn(JobBuilder.newJob(CleanLogsJob.class).build());
+		when(context.getJobRunTime()).thenReturn(1500L);
+
+		jobMetricsListener.jobWasExecuted(context, null);
+		jobMetricsListener.jobWasExecuted(context, new JobExecutionException());
+
+		Timer success = meterRegistry.get("rp.job.execution").tag("job", "CleanLogsJob").tag("outcome", "success").timer();
+		assertEquals(1, success.count());
+		assertEquals(1500, success.totalTime(TimeUnit.MILLISECONDS));
+		assertEquals(1, meterRegistry.get("rp.job.execution").tag("outcome", "failure").timer().count());
+	}
+}
@@ -16,6 +16,7 @@
 
 package com.epam.ta.reportportal.job;
 
+import com.epam.ta.reportportal.core.events.item.ItemHistoryRemovedEvent;
 import com.epam.ta.reportportal.dao.ActivityRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.entity.enums.KeepLaunchDelay;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -47,6 +49,9 @@ class LaunchCleanerServiceImplTest {
 	@Mock
 	private ActivityRepository activityRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private LaunchCleanerServiceImpl launchCleanerService;
 
@@ -65,5 +70,6 @@ class LaunchCleanerServiceImplTest {
 		assertEquals(removedLaunchesCount, launchesRemoved.get());
 		verify(activityRepository, times(1)).deleteModifiedLaterAgo(project.getId(), period);
 		verify(launchRepository, times(1)).deleteLaunchesByProjectIdModifiedBefore(eq(project.getId()), any(LocalDateTime.class));
+		verify(eventPublisher, times(1)).publishEvent(any(ItemHistoryRemovedEvent.class));
 	}
 }
\ No newline at end of file
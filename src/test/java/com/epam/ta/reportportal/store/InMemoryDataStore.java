@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.store;
+
+import com.epam.ta.reportportal.filesystem.DataStore;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link DataStore} keeping files in memory
+ */
+public class InMemoryDataStore implements DataStore {
+
+	private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+
+	@Override
+	public String save(String fileName, InputStream inputStream) {
+		try {
+			files.put(fileName, StreamUtils.copyToByteArray(inputStream));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return fileName;
+	}
+
+	@Override
+	public InputStream load(String filePath) {
+		return new ByteArrayInputStream(files.get(filePath));
+	}
+
+	@Override
+	public boolean exists(String filePath) {
+		return files.containsKey(filePath);
+	}
+
+	@Override
+	public void delete(String filePath) {
+		files.remove(filePath);
+	}
+
+	@Override
+	public void deleteAll(List<String> filePaths, String bucketName) {
+		filePaths.forEach(files::remove);
+	}
+
+	@Override
+	public void deleteContainer(String bucketName) {
+	}
+}
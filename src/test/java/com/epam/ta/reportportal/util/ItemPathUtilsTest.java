@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemPathUtilsTest {
+
+	@Test
+	void parseAncestorsOfNestedItem() {
+		assertEquals(Arrays.asList(1L, 5L), ItemPathUtils.parseAncestors("1.5.42"));
+	}
+
+	@Test
+	void parseAncestorsOfRootItem() {
+		assertTrue(ItemPathUtils.parseAncestors("1").isEmpty());
+	}
+
+	@Test
+	void parseAncestorsOfMissingPath() {
+		assertTrue(ItemPathUtils.parseAncestors(null).isEmpty());
+		assertTrue(ItemPathUtils.parseAncestors("").isEmpty());
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util.email;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mail.MailSendException;
+
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EmailDispatcherTest {
+
+	private final EmailService emailService = mock(EmailService.class);
+
+	private final EmailDispatcher emailDispatcher = new EmailDispatcher(new SyncTaskExecutor(), 3, 1, 10);
+
+	@Test
+	void sendInSingleCall() {
+		MimeMessage first = mock(MimeMessage.class);
+		MimeMessage second = mock(MimeMessage.class);
+
+		emailDispatcher.send(1L, emailService, Lists.newArrayList(first, second));
+
+		verify(emailService, times(1)).send(first, second);
+		assertEquals(0, emailDispatcher.size());
+	}
+
+	@Test
+	void retryFailedMessagesOnly() {
+		MimeMessage first = mock(MimeMessage.class);
+		MimeMessage second = mock(MimeMessage.class);
+		List<Integer> sizes = new ArrayList<>();
+		doAnswer(invocation -> {
+			sizes.add(invocation.getArguments().length);
+			if (sizes.size() == 1) {
+				throw new MailSendException(ImmutableMap.of(second, new RuntimeException("failed")));
+			}
+			return null;
+		}).when(emailService).send(any(MimeMessage[].class));
+
+		emailDispatcher.send(1L, emailService, Lists.newArrayList(first, second));
+
+		assertEquals(Lists.newArrayList(2, 1), sizes);
+	}
+
+	@Test
+	void dropWhenQueueIsFull() {
+		List<MimeMessage> messages = new ArrayList<>();
+		for (int i = 0; i < 11; i++) {
+			messages.add(mock(MimeMessage.class));
+		}
+
+		emailDispatcher.send(1L, emailService, messages);
+
+		verify(emailService, never()).send(any(MimeMessage[].class));
+	}
+
+	@Test
+	void dropWhenSenderIsBusy() {
+		EmailDispatcher busyDispatcher = new EmailDispatcher(task -> {
+			throw new TaskRejectedException("Sender is busy");
+		}, 3, 1, 10);
+
+		busyDispatcher.send(1L, emailService, Lists.newArrayList(mock(MimeMessage.class)));
+
+		verify(emailService, never()).send(any(MimeMessage[].class));
+		assertEquals(0, busyDispatcher.size());
+	}
+}
@@ -25,6 +25,7 @@ import com.epam.ta.reportportal.ws.BaseMvcTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.jdbc.Sql;
@@ -38,6 +39,7 @@ import static com.epam.ta.reportportal.util.MultipartFileUtils.getMultipartFile;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -106,8 +108,19 @@ class FileStorageControllerTest extends BaseMvcTest {
 
 		assertTrue(attachment.isPresent());
 
+		String etag = "\"" + attachment.get().getFileId() + "\"";
 		mockMvc.perform(get("/v1/data/superadmin_personal/" + attachment.get().getId()).with(token(oAuthHelper.getSuperadminToken())))
-				.andExpect(status().isOk());
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, etag))
+				.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"));
+
+		mockMvc.perform(get("/v1/data/superadmin_personal/" + attachment.get().getId()).header(HttpHeaders.RANGE, "bytes=0-9")
+				.with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "10"));
+
+		mockMvc.perform(get("/v1/data/superadmin_personal/" + attachment.get().getId()).header(HttpHeaders.IF_NONE_MATCH, etag)
+				.with(token(oAuthHelper.getSuperadminToken()))).andExpect(status().isNotModified());
 	}
 
 	@Test
@@ -342,6 +342,15 @@ class ProjectControllerTest extends BaseMvcTest {
 		assertEquals("text/csv", resultActions.andReturn().getResponse().getContentType());
 	}
 
+	@Test
+	void exportXls() throws Exception {
+		final ResultActions resultActions = mockMvc.perform(get("/v1/project/export?view=xls").with(token(oAuthHelper.getSuperadminToken())));
+		resultActions.andExpect(status().isOk());
+		assertEquals("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+				resultActions.andReturn().getResponse().getContentType()
+		);
+	}
+
 	@Test
 	void getInvestigatedProjectWidget() throws Exception {
 		mockMvc.perform(get("/v1/project/test_project/widget/investigated").with(token(oAuthHelper.getSuperadminToken())))
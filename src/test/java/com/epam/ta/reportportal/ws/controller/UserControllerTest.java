@@ -49,6 +49,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -342,4 +343,11 @@ class UserControllerTest extends BaseMvcTest {
 	void exportUsers() throws Exception {
 		mockMvc.perform(get("/v1/user/export").with(token(oAuthHelper.getSuperadminToken()))).andExpect(status().isOk());
 	}
+
+	@Test
+	void exportUsersXls() throws Exception {
+		mockMvc.perform(get("/v1/user/export?view=xls").with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+	}
 }
\ No newline at end of file
@@ -17,14 +17,28 @@
 package com.epam.ta.reportportal.ws.rabbit;
 
 import com.epam.ta.reportportal.core.events.ActivityEvent;
-import com.epam.ta.reportportal.dao.ActivityRepository;
 import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.activity.ActivityDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,11 +48,18 @@ import static org.mockito.Mockito.*;
 class ActivityConsumerTest {
 
 	@Mock
-	private ActivityRepository activityRepository;
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
 
-	@InjectMocks
 	private ActivityConsumer activityConsumer;
 
+	@BeforeEach
+	void setUp() {
+		activityConsumer = new ActivityConsumer(jdbcTemplate, transactionManager, new ObjectMapper());
+	}
+
 	private static class EmptyActivity implements ActivityEvent {
 
 		@Override
@@ -49,8 +70,8 @@ class ActivityConsumerTest {
 
 	@Test
 	void nullTest() {
-		activityConsumer.onEvent(new EmptyActivity().toActivity());
-		verifyNoInteractions(activityRepository);
+		activityConsumer.onEvent(Collections.singletonList(new EmptyActivity().toActivity()));
+		verifyNoInteractions(jdbcTemplate);
 	}
 
 	private static class NotEmptyActivity implements ActivityEvent {
@@ -74,16 +95,56 @@ class ActivityConsumerTest {
 			activity.setProjectId(projectId);
 			activity.setUsername(username);
 			activity.setObjectId(objectId);
+			activity.setActivityEntityType("launch");
+			activity.setAction("startLaunch");
+			activity.setCreatedAt(LocalDateTime.now());
+			ActivityDetails details = new ActivityDetails();
+			details.setObjectName("name");
+			activity.setDetails(details);
 			return activity;
 		}
 	}
 
 	@Test
 	void consume() {
-		NotEmptyActivity notEmptyActivity = new NotEmptyActivity(1L, 2L, "username", 3L);
-
-		activityConsumer.onEvent(notEmptyActivity.toActivity());
+		NotEmptyActivity first = new NotEmptyActivity(1L, 2L, "username", 3L);
+		NotEmptyActivity second = new NotEmptyActivity(1L, 2L, "username", 4L);
+
+		activityConsumer.onEvent(Arrays.asList(first.toActivity(), null, second.toActivity()));
+
+		ArgumentCaptor<MapSqlParameterSource[]> captor = ArgumentCaptor.forClass(MapSqlParameterSource[].class);
+		verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+		MapSqlParameterSource[] batch = captor.getValue();
+		assertEquals(2, batch.length);
+		assertEquals(3L, batch[0].getValue("objectId"));
+		assertEquals(4L, batch[1].getValue("objectId"));
+		assertEquals("launch", batch[0].getValue("entity"));
+	}
 
-		verify(activityRepository, times(1)).save(any());
+	@Test
+	void fallbackToSingleInsertsOnBatchFailure() {
+		NotEmptyActivity first = new NotEmptyActivity(1L, 2L, "username", 3L);
+		NotEmptyActivity second = new NotEmptyActivity(1L, 2L, "username", 4L);
+		NotEmptyActivity third = new NotEmptyActivity(1L, 2L, "username", 5L);
+
+		when(jdbcTemplate.batchUpdate(anyString(), any(MapSqlParameterSource[].class))).thenThrow(
+				new DataIntegrityViolationException("bad row"));
+		when(jdbcTemplate.update(anyString(), any(MapSqlParameterSource.class))).thenAnswer(invocation -> {
+			MapSqlParameterSource source = invocation.getArgument(1);
+			if (Long.valueOf(4L).equals(source.getValue("objectId"))) {
+				throw new DataIntegrityViolationException("bad row");
+			}
+			return 1;
+		});
+
+		activityConsumer.onEvent(Arrays.asList(first.toActivity(), second.toActivity(), third.toActivity()));
+
+		ArgumentCaptor<MapSqlParameterSource> captor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+		verify(jdbcTemplate, times(3)).update(anyString(), captor.capture());
+		assertEquals(Arrays.asList(3L, 4L, 5L),
+				captor.getAllValues().stream().map(source -> source.getValue("objectId")).collect(Collectors.toList())
+		);
+		verify(transactionManager, times(2)).commit(any());
+		verify(transactionManager, times(2)).rollback(any());
 	}
 }
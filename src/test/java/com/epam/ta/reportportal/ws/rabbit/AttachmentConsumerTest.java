@@ -16,20 +16,23 @@
 
 package com.epam.ta.reportportal.ws.rabbit;
 
-import com.epam.ta.reportportal.binary.DataStoreService;
+import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
+import com.epam.ta.reportportal.core.file.impl.FileDeletionService;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
-import java.util.Optional;
+import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 /**
@@ -39,29 +42,75 @@ import static org.mockito.Mockito.*;
 class AttachmentConsumerTest {
 
 	@Mock
-	private DataStoreService dataStoreService;
+	private FileDeletionService fileDeletionService;
 
 	@Mock
 	private AttachmentRepository attachmentRepository;
 
-	@InjectMocks
+	@Mock
+	private MessageBus messageBus;
+
 	private AttachmentConsumer attachmentConsumer;
 
+	@BeforeEach
+	void setUp() {
+		attachmentConsumer = new AttachmentConsumer(fileDeletionService, attachmentRepository, messageBus, 2);
+	}
+
 	@Test
 	void consume() {
 		ArrayList<Long> ids = Lists.newArrayList(1L);
 		DeleteAttachmentEvent event = new DeleteAttachmentEvent(ids);
 
-		Attachment attachment = new Attachment();
-		attachment.setFileId("fileId");
-		attachment.setThumbnailId("thimbnailId");
-		attachment.setId(1L);
-		when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+		Attachment attachment = attachment(1L, "fileId", "thumbnailId");
+		when(attachmentRepository.findAllById(ids)).thenReturn(Lists.newArrayList(attachment));
+		when(fileDeletionService.delete(any())).thenReturn(Collections.emptySet());
 
 		attachmentConsumer.onEvent(event);
 
-		verify(attachmentRepository, times(1)).deleteAllByIds(any());
-		verify(dataStoreService, times(1)).delete(attachment.getFileId());
-		verify(dataStoreService, times(1)).delete(attachment.getThumbnailId());
+		verify(fileDeletionService, times(1)).delete(Lists.newArrayList(attachment.getFileId(), attachment.getThumbnailId()));
+		verify(attachmentRepository, times(1)).deleteAllByIds(Lists.newArrayList(1L));
+		verifyNoInteractions(messageBus);
+	}
+
+	@Test
+	void attachmentIsKeptUntilFilesAreDeleted() {
+		ArrayList<Long> ids = Lists.newArrayList(1L, 2L);
+		Attachment first = attachment(1L, "firstFile", null);
+		Attachment second = attachment(2L, "secondFile", "secondThumbnail");
+		when(attachmentRepository.findAllById(any())).thenReturn(Lists.newArrayList(first, second));
+		when(fileDeletionService.delete(any())).thenReturn(Collections.singleton("secondThumbnail"));
+
+		attachmentConsumer.onEvent(new DeleteAttachmentEvent(ids));
+
+		verify(attachmentRepository, times(1)).deleteAllByIds(Lists.newArrayList(1L));
+		ArgumentCaptor<DeleteAttachmentEvent> captor = ArgumentCaptor.forClass(DeleteAttachmentEvent.class);
+		verify(messageBus, times(1)).publishDeleteAttachmentRetry(captor.capture());
+		assertEquals(Collections.singletonList(2L), captor.getValue().getIds());
+		assertEquals(1, captor.getValue().getRound());
+		verify(messageBus, never()).publishFailedAttachmentDeletion(any());
+	}
+
+	@Test
+	void attachmentIsMovedToDeadLetterQueueAfterLastRound() {
+		Attachment attachment = attachment(1L, "fileId", null);
+		when(attachmentRepository.findAllById(any())).thenReturn(Lists.newArrayList(attachment));
+		when(fileDeletionService.delete(any())).thenReturn(Collections.singleton("fileId"));
+
+		attachmentConsumer.onEvent(new DeleteAttachmentEvent(Lists.newArrayList(1L), 1));
+
+		ArgumentCaptor<DeleteAttachmentEvent> captor = ArgumentCaptor.forClass(DeleteAttachmentEvent.class);
+		verify(messageBus, times(1)).publishFailedAttachmentDeletion(captor.capture());
+		assertEquals(Collections.singletonList(1L), captor.getValue().getIds());
+		verify(messageBus, never()).publishDeleteAttachmentRetry(any());
+		verify(attachmentRepository, never()).deleteAllByIds(any());
+	}
+
+	private static Attachment attachment(Long id, String fileId, String thumbnailId) {
+		Attachment attachment = new Attachment();
+		attachment.setId(id);
+		attachment.setFileId(fileId);
+		attachment.setThumbnailId(thumbnailId);
+		return attachment;
 	}
-}
\ No newline at end of file
+}